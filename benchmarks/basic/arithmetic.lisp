@@ -0,0 +1,10 @@
+(print (+ (* 3 (- 10 4)) (- (* 7 8) (+ 2 3))))
+(print (- (* (+ 1 2 3 4) (- 20 5)) (* 6 (+ 7 8))))
+(print (% (* 123 457) 1000))
+(print (+ (* (+ (* 2 3) (- 9 4)) (- (* 5 5) (+ 6 7))) (% (* 17 19) 23)))
+(print (- (+ (* 11 13) (* 17 19) (* 23 29)) (* (+ 1 2) (+ 3 4) (+ 5 6))))
+(print (* (- (* 12 12) (* 11 11)) (+ (- 100 (* 9 9)) (% 1000 7))))
+(print (/ (* (+ 10 20 30) (- 50 20)) (+ (* 2 5) (- 10 5))))
+(print (+ (% (+ (* 31 37) (* 41 43)) 97) (% (- (* 53 59) (* 61 67)) 101)))
+(print (- (* (+ 1 (* 2 (+ 3 (* 4 (+ 5 (* 6 7)))))) 3) (+ 8 (* 9 (- 10 (* 11 0))))))
+(print (+ (* (- 7 2) (- 9 3) (- 11 4)) (/ (* 144 12) (* 6 8)) (% 12345 67)))
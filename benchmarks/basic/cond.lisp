@@ -0,0 +1,10 @@
+(print (if (> 1 2) 10 (cond (< 1 2) 20)))
+(print (if (> 1 2) 10 (if (= 2 3) 20 (cond (< 4 5) (* 6 7)))))
+(print (cond (and? (< 1 2) (> 5 (- 3 1))) (+ 1 (* 2 3))))
+(print (if (not (= 1 1)) 1 (if (or? (> 1 2) (= 3 3)) 99 0)))
+(print (cond (< 1 2) (cond (> 3 2) (if (= 1 2) 0 5))))
+(print (if (< (* 6 7) 40) 1 (if (< (* 6 7) 45) (cond (= (% 42 6) 0) (+ 42 (* 2 3))) 3)))
+(print (if (and? (> 10 5) (or? (< 3 1) (= (+ 2 2) 4))) (cond (not (> 1 2)) (- 100 (* 3 3))) 0))
+(print (if (= (% 91 7) 0) (if (= (% 91 13) 0) (cond (> 91 90) (* 7 13)) 2) 3))
+(print (+ (if (> 4 3) 1 0) (if (> 3 4) 10 0) (if (= 5 5) 100 0) (cond (< 0 1) 1000)))
+(print (if (or? (and? (< 1 2) (> 1 2)) (and? (> 2 1) (< 2 3))) (if (not (= 0 1)) (cond (< 2 3) 77) 1) 2))
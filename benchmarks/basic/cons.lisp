@@ -0,0 +1,8 @@
+(print (car (cons 1 (cons 2 (cons 3 (cons 4 (cons 5 nil)))))))
+(print (cdr (cons 6 7)))
+(print (car (cons 8 (cons 9 (cons 10 (cons 11 (cons 12 (cons 13 (cons 14 (cons 15 nil))))))))))
+(print (car (cons -3 nil)))
+(print (car (cons 16 (cons 17 (cons 18 (cons 19 (cons 20 (cons 21 (cons 22 (cons 23 (cons 24 (cons 25 nil))))))))))))
+(print (cdr (cons 26 27)))
+(print (car (cons 28 (cons 29 (cons 30 (cons 31 nil))))))
+(print (car (cons 32 (cons 33 (cons 34 (cons 35 (cons 36 (cons 37 (cons 38 (cons 39 (cons 40 (cons 41 (cons 42 (cons 43 nil))))))))))))))
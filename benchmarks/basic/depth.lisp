@@ -0,0 +1,4 @@
+(define sum-to (n) (if (= n 0) 0 (+ n (sum-to (- n 1)))))
+(print (sum-to 300))
+(define count (n acc) (if (= n 0) acc (count (- n 1) (+ acc 1))))
+(print (count 500 0))
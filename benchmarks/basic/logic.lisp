@@ -0,0 +1,5 @@
+(define sign (n) (cond (< n 0) -1 (= n 0) 0 else 1))
+(define classify (n) (if (and? (> n 10) (< n 100)) 2 (if (or? (< n -10) (> n 1000)) 3 (sign n))))
+(define sum (n acc) (if (= n -200) acc (sum (- n 1) (+ acc (classify n)))))
+(print (sum 200 0))
+(print (not (= 1 2)))
@@ -0,0 +1,27 @@
+(define classify (n)
+  (cond (< n 10) 1
+        (< n 20) 2
+        (< n 30) 3
+        (< n 40) 4
+        (< n 50) 5
+        (< n 60) 6
+        (< n 70) 7
+        (< n 80) 8
+        (< n 90) 9
+        (< n 100) 10
+        (and? (>= n 100) (< n 200)) 11
+        (and? (>= n 200) (< n 300)) 12
+        (and? (>= n 300) (< n 400)) 13
+        (and? (>= n 400) (< n 500)) 14
+        (or? (= (% n 7) 0) (= (% n 11) 0)) 15
+        (or? (= (% n 13) 0) (= (% n 17) 0)) 16
+        else 17))
+(define nested (n)
+  (cond (< n 500)
+          (cond (< n 250) (cond (< n 125) 1 else 2)
+                else (cond (< n 375) 3 else 4))
+        else
+          (cond (< n 750) (cond (< n 625) 5 else 6)
+                else (cond (< n 875) 7 else 8))))
+(define loop (i acc) (if (= i 0) acc (loop (- i 1) (+ acc (classify (% i 1000)) (nested (% i 1000))))))
+(print (loop 50000 0))
@@ -0,0 +1,17 @@
+(define build (n acc) (if (= n 0) acc (build (- n 1) (cons n acc))))
+(define reverse (l acc) (if (= l ()) acc (reverse (cdr l) (cons (car l) acc))))
+(define squares (l acc) (if (= l ()) (reverse acc ()) (squares (cdr l) (cons (* (car l) (car l)) acc))))
+(define evens (l acc) (if (= l ()) (reverse acc ()) (evens (cdr l) (if (= (% (car l) 2) 0) (cons (car l) acc) acc))))
+(define sum (l acc) (if (= l ()) acc (sum (cdr l) (+ acc (car l)))))
+(define len (l n) (if (= l ()) n (len (cdr l) (+ n 1))))
+(define take (l n) (if (= n 0) () (cons (car l) (take (cdr l) (- n 1)))))
+(set xs (build 20000 ()))
+(print (len xs 0))
+(print (sum (squares xs ()) 0))
+(print (len (evens xs ()) 0))
+(print (take (reverse xs ()) 10))
+(print (= (reverse (reverse xs ()) ()) xs))
+(set v (vector 1 2 3 4 5 6 7 8 9 10))
+(define vsum (i acc) (if (= i 10) acc (vsum (+ i 1) (+ acc (vector-ref v i)))))
+(define vloop (n acc) (if (= n 0) acc (vloop (- n 1) (+ acc (vsum 0 0)))))
+(print (vloop 2000 0))
@@ -0,0 +1,12 @@
+(define greet (n)
+  (print "the quick brown fox jumps over the lazy dog" n)
+  (if (= n 0) nil (greet (- n 1))))
+(define lines (n)
+  (print (quote (alpha "beta" (gamma 3.25) delta)) (cons n (cons "tail" ())))
+  (if (= n 0) nil (lines (- n 1))))
+(define maps (n)
+  (print (hash-map "name" "lisp" "count" n) (vector "a" "b" n))
+  (if (= n 0) nil (maps (- n 1))))
+(greet 3000)
+(lines 3000)
+(maps 1000)
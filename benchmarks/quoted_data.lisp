@@ -0,0 +1,962 @@
+(set records (quote (
+  0 "ada-0" 0.0 1 "alan-1" 37.1 2 "grace-2" 74.2 3 "edsger-3" 111.3 4 "barbara-4" 148.4 5 "donald-5" 185.5
+  6 "john-6" 222.6 7 "ken-7" 259.7 8 "dennis-8" 296.8 9 "niklaus-9" 333.9 10 "ada-10" 370.0 11 "alan-11" 407.1
+  12 "grace-12" 444.2 13 "edsger-13" 481.3 14 "barbara-14" 518.4 15 "donald-15" 555.5 16 "john-16" 592.6 17 "ken-17" 629.7
+  18 "dennis-18" 666.8 19 "niklaus-19" 703.9 20 "ada-20" 740.0 21 "alan-21" 777.1 22 "grace-22" 814.2 23 "edsger-23" 851.3
+  24 "barbara-24" 888.4 25 "donald-25" 925.5 26 "john-26" 962.6 27 "ken-27" 999.7 28 "dennis-28" 36.8 29 "niklaus-29" 73.9
+  30 "ada-30" 110.0 31 "alan-31" 147.1 32 "grace-32" 184.2 33 "edsger-33" 221.3 34 "barbara-34" 258.4 35 "donald-35" 295.5
+  36 "john-36" 332.6 37 "ken-37" 369.7 38 "dennis-38" 406.8 39 "niklaus-39" 443.9 40 "ada-40" 480.0 41 "alan-41" 517.1
+  42 "grace-42" 554.2 43 "edsger-43" 591.3 44 "barbara-44" 628.4 45 "donald-45" 665.5 46 "john-46" 702.6 47 "ken-47" 739.7
+  48 "dennis-48" 776.8 49 "niklaus-49" 813.9 50 "ada-50" 850.0 51 "alan-51" 887.1 52 "grace-52" 924.2 53 "edsger-53" 961.3
+  54 "barbara-54" 998.4 55 "donald-55" 35.5 56 "john-56" 72.6 57 "ken-57" 109.7 58 "dennis-58" 146.8 59 "niklaus-59" 183.9
+  60 "ada-60" 220.0 61 "alan-61" 257.1 62 "grace-62" 294.2 63 "edsger-63" 331.3 64 "barbara-64" 368.4 65 "donald-65" 405.5
+  66 "john-66" 442.6 67 "ken-67" 479.7 68 "dennis-68" 516.8 69 "niklaus-69" 553.9 70 "ada-70" 590.0 71 "alan-71" 627.1
+  72 "grace-72" 664.2 73 "edsger-73" 701.3 74 "barbara-74" 738.4 75 "donald-75" 775.5 76 "john-76" 812.6 77 "ken-77" 849.7
+  78 "dennis-78" 886.8 79 "niklaus-79" 923.9 80 "ada-80" 960.0 81 "alan-81" 997.1 82 "grace-82" 34.2 83 "edsger-83" 71.3
+  84 "barbara-84" 108.4 85 "donald-85" 145.5 86 "john-86" 182.6 87 "ken-87" 219.7 88 "dennis-88" 256.8 89 "niklaus-89" 293.9
+  90 "ada-90" 330.0 91 "alan-91" 367.1 92 "grace-92" 404.2 93 "edsger-93" 441.3 94 "barbara-94" 478.4 95 "donald-95" 515.5
+  96 "john-96" 552.6 97 "ken-97" 589.7 98 "dennis-98" 626.8 99 "niklaus-99" 663.9 100 "ada-100" 700.0 101 "alan-101" 737.1
+  102 "grace-102" 774.2 103 "edsger-103" 811.3 104 "barbara-104" 848.4 105 "donald-105" 885.5 106 "john-106" 922.6 107 "ken-107" 959.7
+  108 "dennis-108" 996.8 109 "niklaus-109" 33.9 110 "ada-110" 70.0 111 "alan-111" 107.1 112 "grace-112" 144.2 113 "edsger-113" 181.3
+  114 "barbara-114" 218.4 115 "donald-115" 255.5 116 "john-116" 292.6 117 "ken-117" 329.7 118 "dennis-118" 366.8 119 "niklaus-119" 403.9
+  120 "ada-120" 440.0 121 "alan-121" 477.1 122 "grace-122" 514.2 123 "edsger-123" 551.3 124 "barbara-124" 588.4 125 "donald-125" 625.5
+  126 "john-126" 662.6 127 "ken-127" 699.7 128 "dennis-128" 736.8 129 "niklaus-129" 773.9 130 "ada-130" 810.0 131 "alan-131" 847.1
+  132 "grace-132" 884.2 133 "edsger-133" 921.3 134 "barbara-134" 958.4 135 "donald-135" 995.5 136 "john-136" 32.6 137 "ken-137" 69.7
+  138 "dennis-138" 106.8 139 "niklaus-139" 143.9 140 "ada-140" 180.0 141 "alan-141" 217.1 142 "grace-142" 254.2 143 "edsger-143" 291.3
+  144 "barbara-144" 328.4 145 "donald-145" 365.5 146 "john-146" 402.6 147 "ken-147" 439.7 148 "dennis-148" 476.8 149 "niklaus-149" 513.9
+  150 "ada-150" 550.0 151 "alan-151" 587.1 152 "grace-152" 624.2 153 "edsger-153" 661.3 154 "barbara-154" 698.4 155 "donald-155" 735.5
+  156 "john-156" 772.6 157 "ken-157" 809.7 158 "dennis-158" 846.8 159 "niklaus-159" 883.9 160 "ada-160" 920.0 161 "alan-161" 957.1
+  162 "grace-162" 994.2 163 "edsger-163" 31.3 164 "barbara-164" 68.4 165 "donald-165" 105.5 166 "john-166" 142.6 167 "ken-167" 179.7
+  168 "dennis-168" 216.8 169 "niklaus-169" 253.9 170 "ada-170" 290.0 171 "alan-171" 327.1 172 "grace-172" 364.2 173 "edsger-173" 401.3
+  174 "barbara-174" 438.4 175 "donald-175" 475.5 176 "john-176" 512.6 177 "ken-177" 549.7 178 "dennis-178" 586.8 179 "niklaus-179" 623.9
+  180 "ada-180" 660.0 181 "alan-181" 697.1 182 "grace-182" 734.2 183 "edsger-183" 771.3 184 "barbara-184" 808.4 185 "donald-185" 845.5
+  186 "john-186" 882.6 187 "ken-187" 919.7 188 "dennis-188" 956.8 189 "niklaus-189" 993.9 190 "ada-190" 30.0 191 "alan-191" 67.1
+  192 "grace-192" 104.2 193 "edsger-193" 141.3 194 "barbara-194" 178.4 195 "donald-195" 215.5 196 "john-196" 252.6 197 "ken-197" 289.7
+  198 "dennis-198" 326.8 199 "niklaus-199" 363.9 200 "ada-200" 400.0 201 "alan-201" 437.1 202 "grace-202" 474.2 203 "edsger-203" 511.3
+  204 "barbara-204" 548.4 205 "donald-205" 585.5 206 "john-206" 622.6 207 "ken-207" 659.7 208 "dennis-208" 696.8 209 "niklaus-209" 733.9
+  210 "ada-210" 770.0 211 "alan-211" 807.1 212 "grace-212" 844.2 213 "edsger-213" 881.3 214 "barbara-214" 918.4 215 "donald-215" 955.5
+  216 "john-216" 992.6 217 "ken-217" 29.7 218 "dennis-218" 66.8 219 "niklaus-219" 103.9 220 "ada-220" 140.0 221 "alan-221" 177.1
+  222 "grace-222" 214.2 223 "edsger-223" 251.3 224 "barbara-224" 288.4 225 "donald-225" 325.5 226 "john-226" 362.6 227 "ken-227" 399.7
+  228 "dennis-228" 436.8 229 "niklaus-229" 473.9 230 "ada-230" 510.0 231 "alan-231" 547.1 232 "grace-232" 584.2 233 "edsger-233" 621.3
+  234 "barbara-234" 658.4 235 "donald-235" 695.5 236 "john-236" 732.6 237 "ken-237" 769.7 238 "dennis-238" 806.8 239 "niklaus-239" 843.9
+  240 "ada-240" 880.0 241 "alan-241" 917.1 242 "grace-242" 954.2 243 "edsger-243" 991.3 244 "barbara-244" 28.4 245 "donald-245" 65.5
+  246 "john-246" 102.6 247 "ken-247" 139.7 248 "dennis-248" 176.8 249 "niklaus-249" 213.9 250 "ada-250" 250.0 251 "alan-251" 287.1
+  252 "grace-252" 324.2 253 "edsger-253" 361.3 254 "barbara-254" 398.4 255 "donald-255" 435.5 256 "john-256" 472.6 257 "ken-257" 509.7
+  258 "dennis-258" 546.8 259 "niklaus-259" 583.9 260 "ada-260" 620.0 261 "alan-261" 657.1 262 "grace-262" 694.2 263 "edsger-263" 731.3
+  264 "barbara-264" 768.4 265 "donald-265" 805.5 266 "john-266" 842.6 267 "ken-267" 879.7 268 "dennis-268" 916.8 269 "niklaus-269" 953.9
+  270 "ada-270" 990.0 271 "alan-271" 27.1 272 "grace-272" 64.2 273 "edsger-273" 101.3 274 "barbara-274" 138.4 275 "donald-275" 175.5
+  276 "john-276" 212.6 277 "ken-277" 249.7 278 "dennis-278" 286.8 279 "niklaus-279" 323.9 280 "ada-280" 360.0 281 "alan-281" 397.1
+  282 "grace-282" 434.2 283 "edsger-283" 471.3 284 "barbara-284" 508.4 285 "donald-285" 545.5 286 "john-286" 582.6 287 "ken-287" 619.7
+  288 "dennis-288" 656.8 289 "niklaus-289" 693.9 290 "ada-290" 730.0 291 "alan-291" 767.1 292 "grace-292" 804.2 293 "edsger-293" 841.3
+  294 "barbara-294" 878.4 295 "donald-295" 915.5 296 "john-296" 952.6 297 "ken-297" 989.7 298 "dennis-298" 26.8 299 "niklaus-299" 63.9
+  300 "ada-300" 100.0 301 "alan-301" 137.1 302 "grace-302" 174.2 303 "edsger-303" 211.3 304 "barbara-304" 248.4 305 "donald-305" 285.5
+  306 "john-306" 322.6 307 "ken-307" 359.7 308 "dennis-308" 396.8 309 "niklaus-309" 433.9 310 "ada-310" 470.0 311 "alan-311" 507.1
+  312 "grace-312" 544.2 313 "edsger-313" 581.3 314 "barbara-314" 618.4 315 "donald-315" 655.5 316 "john-316" 692.6 317 "ken-317" 729.7
+  318 "dennis-318" 766.8 319 "niklaus-319" 803.9 320 "ada-320" 840.0 321 "alan-321" 877.1 322 "grace-322" 914.2 323 "edsger-323" 951.3
+  324 "barbara-324" 988.4 325 "donald-325" 25.5 326 "john-326" 62.6 327 "ken-327" 99.7 328 "dennis-328" 136.8 329 "niklaus-329" 173.9
+  330 "ada-330" 210.0 331 "alan-331" 247.1 332 "grace-332" 284.2 333 "edsger-333" 321.3 334 "barbara-334" 358.4 335 "donald-335" 395.5
+  336 "john-336" 432.6 337 "ken-337" 469.7 338 "dennis-338" 506.8 339 "niklaus-339" 543.9 340 "ada-340" 580.0 341 "alan-341" 617.1
+  342 "grace-342" 654.2 343 "edsger-343" 691.3 344 "barbara-344" 728.4 345 "donald-345" 765.5 346 "john-346" 802.6 347 "ken-347" 839.7
+  348 "dennis-348" 876.8 349 "niklaus-349" 913.9 350 "ada-350" 950.0 351 "alan-351" 987.1 352 "grace-352" 24.2 353 "edsger-353" 61.3
+  354 "barbara-354" 98.4 355 "donald-355" 135.5 356 "john-356" 172.6 357 "ken-357" 209.7 358 "dennis-358" 246.8 359 "niklaus-359" 283.9
+  360 "ada-360" 320.0 361 "alan-361" 357.1 362 "grace-362" 394.2 363 "edsger-363" 431.3 364 "barbara-364" 468.4 365 "donald-365" 505.5
+  366 "john-366" 542.6 367 "ken-367" 579.7 368 "dennis-368" 616.8 369 "niklaus-369" 653.9 370 "ada-370" 690.0 371 "alan-371" 727.1
+  372 "grace-372" 764.2 373 "edsger-373" 801.3 374 "barbara-374" 838.4 375 "donald-375" 875.5 376 "john-376" 912.6 377 "ken-377" 949.7
+  378 "dennis-378" 986.8 379 "niklaus-379" 23.9 380 "ada-380" 60.0 381 "alan-381" 97.1 382 "grace-382" 134.2 383 "edsger-383" 171.3
+  384 "barbara-384" 208.4 385 "donald-385" 245.5 386 "john-386" 282.6 387 "ken-387" 319.7 388 "dennis-388" 356.8 389 "niklaus-389" 393.9
+  390 "ada-390" 430.0 391 "alan-391" 467.1 392 "grace-392" 504.2 393 "edsger-393" 541.3 394 "barbara-394" 578.4 395 "donald-395" 615.5
+  396 "john-396" 652.6 397 "ken-397" 689.7 398 "dennis-398" 726.8 399 "niklaus-399" 763.9 400 "ada-400" 800.0 401 "alan-401" 837.1
+  402 "grace-402" 874.2 403 "edsger-403" 911.3 404 "barbara-404" 948.4 405 "donald-405" 985.5 406 "john-406" 22.6 407 "ken-407" 59.7
+  408 "dennis-408" 96.8 409 "niklaus-409" 133.9 410 "ada-410" 170.0 411 "alan-411" 207.1 412 "grace-412" 244.2 413 "edsger-413" 281.3
+  414 "barbara-414" 318.4 415 "donald-415" 355.5 416 "john-416" 392.6 417 "ken-417" 429.7 418 "dennis-418" 466.8 419 "niklaus-419" 503.9
+  420 "ada-420" 540.0 421 "alan-421" 577.1 422 "grace-422" 614.2 423 "edsger-423" 651.3 424 "barbara-424" 688.4 425 "donald-425" 725.5
+  426 "john-426" 762.6 427 "ken-427" 799.7 428 "dennis-428" 836.8 429 "niklaus-429" 873.9 430 "ada-430" 910.0 431 "alan-431" 947.1
+  432 "grace-432" 984.2 433 "edsger-433" 21.3 434 "barbara-434" 58.4 435 "donald-435" 95.5 436 "john-436" 132.6 437 "ken-437" 169.7
+  438 "dennis-438" 206.8 439 "niklaus-439" 243.9 440 "ada-440" 280.0 441 "alan-441" 317.1 442 "grace-442" 354.2 443 "edsger-443" 391.3
+  444 "barbara-444" 428.4 445 "donald-445" 465.5 446 "john-446" 502.6 447 "ken-447" 539.7 448 "dennis-448" 576.8 449 "niklaus-449" 613.9
+  450 "ada-450" 650.0 451 "alan-451" 687.1 452 "grace-452" 724.2 453 "edsger-453" 761.3 454 "barbara-454" 798.4 455 "donald-455" 835.5
+  456 "john-456" 872.6 457 "ken-457" 909.7 458 "dennis-458" 946.8 459 "niklaus-459" 983.9 460 "ada-460" 20.0 461 "alan-461" 57.1
+  462 "grace-462" 94.2 463 "edsger-463" 131.3 464 "barbara-464" 168.4 465 "donald-465" 205.5 466 "john-466" 242.6 467 "ken-467" 279.7
+  468 "dennis-468" 316.8 469 "niklaus-469" 353.9 470 "ada-470" 390.0 471 "alan-471" 427.1 472 "grace-472" 464.2 473 "edsger-473" 501.3
+  474 "barbara-474" 538.4 475 "donald-475" 575.5 476 "john-476" 612.6 477 "ken-477" 649.7 478 "dennis-478" 686.8 479 "niklaus-479" 723.9
+  480 "ada-480" 760.0 481 "alan-481" 797.1 482 "grace-482" 834.2 483 "edsger-483" 871.3 484 "barbara-484" 908.4 485 "donald-485" 945.5
+  486 "john-486" 982.6 487 "ken-487" 19.7 488 "dennis-488" 56.8 489 "niklaus-489" 93.9 490 "ada-490" 130.0 491 "alan-491" 167.1
+  492 "grace-492" 204.2 493 "edsger-493" 241.3 494 "barbara-494" 278.4 495 "donald-495" 315.5 496 "john-496" 352.6 497 "ken-497" 389.7
+  498 "dennis-498" 426.8 499 "niklaus-499" 463.9 500 "ada-500" 500.0 501 "alan-501" 537.1 502 "grace-502" 574.2 503 "edsger-503" 611.3
+  504 "barbara-504" 648.4 505 "donald-505" 685.5 506 "john-506" 722.6 507 "ken-507" 759.7 508 "dennis-508" 796.8 509 "niklaus-509" 833.9
+  510 "ada-510" 870.0 511 "alan-511" 907.1 512 "grace-512" 944.2 513 "edsger-513" 981.3 514 "barbara-514" 18.4 515 "donald-515" 55.5
+  516 "john-516" 92.6 517 "ken-517" 129.7 518 "dennis-518" 166.8 519 "niklaus-519" 203.9 520 "ada-520" 240.0 521 "alan-521" 277.1
+  522 "grace-522" 314.2 523 "edsger-523" 351.3 524 "barbara-524" 388.4 525 "donald-525" 425.5 526 "john-526" 462.6 527 "ken-527" 499.7
+  528 "dennis-528" 536.8 529 "niklaus-529" 573.9 530 "ada-530" 610.0 531 "alan-531" 647.1 532 "grace-532" 684.2 533 "edsger-533" 721.3
+  534 "barbara-534" 758.4 535 "donald-535" 795.5 536 "john-536" 832.6 537 "ken-537" 869.7 538 "dennis-538" 906.8 539 "niklaus-539" 943.9
+  540 "ada-540" 980.0 541 "alan-541" 17.1 542 "grace-542" 54.2 543 "edsger-543" 91.3 544 "barbara-544" 128.4 545 "donald-545" 165.5
+  546 "john-546" 202.6 547 "ken-547" 239.7 548 "dennis-548" 276.8 549 "niklaus-549" 313.9 550 "ada-550" 350.0 551 "alan-551" 387.1
+  552 "grace-552" 424.2 553 "edsger-553" 461.3 554 "barbara-554" 498.4 555 "donald-555" 535.5 556 "john-556" 572.6 557 "ken-557" 609.7
+  558 "dennis-558" 646.8 559 "niklaus-559" 683.9 560 "ada-560" 720.0 561 "alan-561" 757.1 562 "grace-562" 794.2 563 "edsger-563" 831.3
+  564 "barbara-564" 868.4 565 "donald-565" 905.5 566 "john-566" 942.6 567 "ken-567" 979.7 568 "dennis-568" 16.8 569 "niklaus-569" 53.9
+  570 "ada-570" 90.0 571 "alan-571" 127.1 572 "grace-572" 164.2 573 "edsger-573" 201.3 574 "barbara-574" 238.4 575 "donald-575" 275.5
+  576 "john-576" 312.6 577 "ken-577" 349.7 578 "dennis-578" 386.8 579 "niklaus-579" 423.9 580 "ada-580" 460.0 581 "alan-581" 497.1
+  582 "grace-582" 534.2 583 "edsger-583" 571.3 584 "barbara-584" 608.4 585 "donald-585" 645.5 586 "john-586" 682.6 587 "ken-587" 719.7
+  588 "dennis-588" 756.8 589 "niklaus-589" 793.9 590 "ada-590" 830.0 591 "alan-591" 867.1 592 "grace-592" 904.2 593 "edsger-593" 941.3
+  594 "barbara-594" 978.4 595 "donald-595" 15.5 596 "john-596" 52.6 597 "ken-597" 89.7 598 "dennis-598" 126.8 599 "niklaus-599" 163.9
+  600 "ada-600" 200.0 601 "alan-601" 237.1 602 "grace-602" 274.2 603 "edsger-603" 311.3 604 "barbara-604" 348.4 605 "donald-605" 385.5
+  606 "john-606" 422.6 607 "ken-607" 459.7 608 "dennis-608" 496.8 609 "niklaus-609" 533.9 610 "ada-610" 570.0 611 "alan-611" 607.1
+  612 "grace-612" 644.2 613 "edsger-613" 681.3 614 "barbara-614" 718.4 615 "donald-615" 755.5 616 "john-616" 792.6 617 "ken-617" 829.7
+  618 "dennis-618" 866.8 619 "niklaus-619" 903.9 620 "ada-620" 940.0 621 "alan-621" 977.1 622 "grace-622" 14.2 623 "edsger-623" 51.3
+  624 "barbara-624" 88.4 625 "donald-625" 125.5 626 "john-626" 162.6 627 "ken-627" 199.7 628 "dennis-628" 236.8 629 "niklaus-629" 273.9
+  630 "ada-630" 310.0 631 "alan-631" 347.1 632 "grace-632" 384.2 633 "edsger-633" 421.3 634 "barbara-634" 458.4 635 "donald-635" 495.5
+  636 "john-636" 532.6 637 "ken-637" 569.7 638 "dennis-638" 606.8 639 "niklaus-639" 643.9 640 "ada-640" 680.0 641 "alan-641" 717.1
+  642 "grace-642" 754.2 643 "edsger-643" 791.3 644 "barbara-644" 828.4 645 "donald-645" 865.5 646 "john-646" 902.6 647 "ken-647" 939.7
+  648 "dennis-648" 976.8 649 "niklaus-649" 13.9 650 "ada-650" 50.0 651 "alan-651" 87.1 652 "grace-652" 124.2 653 "edsger-653" 161.3
+  654 "barbara-654" 198.4 655 "donald-655" 235.5 656 "john-656" 272.6 657 "ken-657" 309.7 658 "dennis-658" 346.8 659 "niklaus-659" 383.9
+  660 "ada-660" 420.0 661 "alan-661" 457.1 662 "grace-662" 494.2 663 "edsger-663" 531.3 664 "barbara-664" 568.4 665 "donald-665" 605.5
+  666 "john-666" 642.6 667 "ken-667" 679.7 668 "dennis-668" 716.8 669 "niklaus-669" 753.9 670 "ada-670" 790.0 671 "alan-671" 827.1
+  672 "grace-672" 864.2 673 "edsger-673" 901.3 674 "barbara-674" 938.4 675 "donald-675" 975.5 676 "john-676" 12.6 677 "ken-677" 49.7
+  678 "dennis-678" 86.8 679 "niklaus-679" 123.9 680 "ada-680" 160.0 681 "alan-681" 197.1 682 "grace-682" 234.2 683 "edsger-683" 271.3
+  684 "barbara-684" 308.4 685 "donald-685" 345.5 686 "john-686" 382.6 687 "ken-687" 419.7 688 "dennis-688" 456.8 689 "niklaus-689" 493.9
+  690 "ada-690" 530.0 691 "alan-691" 567.1 692 "grace-692" 604.2 693 "edsger-693" 641.3 694 "barbara-694" 678.4 695 "donald-695" 715.5
+  696 "john-696" 752.6 697 "ken-697" 789.7 698 "dennis-698" 826.8 699 "niklaus-699" 863.9 700 "ada-700" 900.0 701 "alan-701" 937.1
+  702 "grace-702" 974.2 703 "edsger-703" 11.3 704 "barbara-704" 48.4 705 "donald-705" 85.5 706 "john-706" 122.6 707 "ken-707" 159.7
+  708 "dennis-708" 196.8 709 "niklaus-709" 233.9 710 "ada-710" 270.0 711 "alan-711" 307.1 712 "grace-712" 344.2 713 "edsger-713" 381.3
+  714 "barbara-714" 418.4 715 "donald-715" 455.5 716 "john-716" 492.6 717 "ken-717" 529.7 718 "dennis-718" 566.8 719 "niklaus-719" 603.9
+  720 "ada-720" 640.0 721 "alan-721" 677.1 722 "grace-722" 714.2 723 "edsger-723" 751.3 724 "barbara-724" 788.4 725 "donald-725" 825.5
+  726 "john-726" 862.6 727 "ken-727" 899.7 728 "dennis-728" 936.8 729 "niklaus-729" 973.9 730 "ada-730" 10.0 731 "alan-731" 47.1
+  732 "grace-732" 84.2 733 "edsger-733" 121.3 734 "barbara-734" 158.4 735 "donald-735" 195.5 736 "john-736" 232.6 737 "ken-737" 269.7
+  738 "dennis-738" 306.8 739 "niklaus-739" 343.9 740 "ada-740" 380.0 741 "alan-741" 417.1 742 "grace-742" 454.2 743 "edsger-743" 491.3
+  744 "barbara-744" 528.4 745 "donald-745" 565.5 746 "john-746" 602.6 747 "ken-747" 639.7 748 "dennis-748" 676.8 749 "niklaus-749" 713.9
+  750 "ada-750" 750.0 751 "alan-751" 787.1 752 "grace-752" 824.2 753 "edsger-753" 861.3 754 "barbara-754" 898.4 755 "donald-755" 935.5
+  756 "john-756" 972.6 757 "ken-757" 9.7 758 "dennis-758" 46.8 759 "niklaus-759" 83.9 760 "ada-760" 120.0 761 "alan-761" 157.1
+  762 "grace-762" 194.2 763 "edsger-763" 231.3 764 "barbara-764" 268.4 765 "donald-765" 305.5 766 "john-766" 342.6 767 "ken-767" 379.7
+  768 "dennis-768" 416.8 769 "niklaus-769" 453.9 770 "ada-770" 490.0 771 "alan-771" 527.1 772 "grace-772" 564.2 773 "edsger-773" 601.3
+  774 "barbara-774" 638.4 775 "donald-775" 675.5 776 "john-776" 712.6 777 "ken-777" 749.7 778 "dennis-778" 786.8 779 "niklaus-779" 823.9
+  780 "ada-780" 860.0 781 "alan-781" 897.1 782 "grace-782" 934.2 783 "edsger-783" 971.3 784 "barbara-784" 8.4 785 "donald-785" 45.5
+  786 "john-786" 82.6 787 "ken-787" 119.7 788 "dennis-788" 156.8 789 "niklaus-789" 193.9 790 "ada-790" 230.0 791 "alan-791" 267.1
+  792 "grace-792" 304.2 793 "edsger-793" 341.3 794 "barbara-794" 378.4 795 "donald-795" 415.5 796 "john-796" 452.6 797 "ken-797" 489.7
+  798 "dennis-798" 526.8 799 "niklaus-799" 563.9 800 "ada-800" 600.0 801 "alan-801" 637.1 802 "grace-802" 674.2 803 "edsger-803" 711.3
+  804 "barbara-804" 748.4 805 "donald-805" 785.5 806 "john-806" 822.6 807 "ken-807" 859.7 808 "dennis-808" 896.8 809 "niklaus-809" 933.9
+  810 "ada-810" 970.0 811 "alan-811" 7.1 812 "grace-812" 44.2 813 "edsger-813" 81.3 814 "barbara-814" 118.4 815 "donald-815" 155.5
+  816 "john-816" 192.6 817 "ken-817" 229.7 818 "dennis-818" 266.8 819 "niklaus-819" 303.9 820 "ada-820" 340.0 821 "alan-821" 377.1
+  822 "grace-822" 414.2 823 "edsger-823" 451.3 824 "barbara-824" 488.4 825 "donald-825" 525.5 826 "john-826" 562.6 827 "ken-827" 599.7
+  828 "dennis-828" 636.8 829 "niklaus-829" 673.9 830 "ada-830" 710.0 831 "alan-831" 747.1 832 "grace-832" 784.2 833 "edsger-833" 821.3
+  834 "barbara-834" 858.4 835 "donald-835" 895.5 836 "john-836" 932.6 837 "ken-837" 969.7 838 "dennis-838" 6.8 839 "niklaus-839" 43.9
+  840 "ada-840" 80.0 841 "alan-841" 117.1 842 "grace-842" 154.2 843 "edsger-843" 191.3 844 "barbara-844" 228.4 845 "donald-845" 265.5
+  846 "john-846" 302.6 847 "ken-847" 339.7 848 "dennis-848" 376.8 849 "niklaus-849" 413.9 850 "ada-850" 450.0 851 "alan-851" 487.1
+  852 "grace-852" 524.2 853 "edsger-853" 561.3 854 "barbara-854" 598.4 855 "donald-855" 635.5 856 "john-856" 672.6 857 "ken-857" 709.7
+  858 "dennis-858" 746.8 859 "niklaus-859" 783.9 860 "ada-860" 820.0 861 "alan-861" 857.1 862 "grace-862" 894.2 863 "edsger-863" 931.3
+  864 "barbara-864" 968.4 865 "donald-865" 5.5 866 "john-866" 42.6 867 "ken-867" 79.7 868 "dennis-868" 116.8 869 "niklaus-869" 153.9
+  870 "ada-870" 190.0 871 "alan-871" 227.1 872 "grace-872" 264.2 873 "edsger-873" 301.3 874 "barbara-874" 338.4 875 "donald-875" 375.5
+  876 "john-876" 412.6 877 "ken-877" 449.7 878 "dennis-878" 486.8 879 "niklaus-879" 523.9 880 "ada-880" 560.0 881 "alan-881" 597.1
+  882 "grace-882" 634.2 883 "edsger-883" 671.3 884 "barbara-884" 708.4 885 "donald-885" 745.5 886 "john-886" 782.6 887 "ken-887" 819.7
+  888 "dennis-888" 856.8 889 "niklaus-889" 893.9 890 "ada-890" 930.0 891 "alan-891" 967.1 892 "grace-892" 4.2 893 "edsger-893" 41.3
+  894 "barbara-894" 78.4 895 "donald-895" 115.5 896 "john-896" 152.6 897 "ken-897" 189.7 898 "dennis-898" 226.8 899 "niklaus-899" 263.9
+  900 "ada-900" 300.0 901 "alan-901" 337.1 902 "grace-902" 374.2 903 "edsger-903" 411.3 904 "barbara-904" 448.4 905 "donald-905" 485.5
+  906 "john-906" 522.6 907 "ken-907" 559.7 908 "dennis-908" 596.8 909 "niklaus-909" 633.9 910 "ada-910" 670.0 911 "alan-911" 707.1
+  912 "grace-912" 744.2 913 "edsger-913" 781.3 914 "barbara-914" 818.4 915 "donald-915" 855.5 916 "john-916" 892.6 917 "ken-917" 929.7
+  918 "dennis-918" 966.8 919 "niklaus-919" 3.9 920 "ada-920" 40.0 921 "alan-921" 77.1 922 "grace-922" 114.2 923 "edsger-923" 151.3
+  924 "barbara-924" 188.4 925 "donald-925" 225.5 926 "john-926" 262.6 927 "ken-927" 299.7 928 "dennis-928" 336.8 929 "niklaus-929" 373.9
+  930 "ada-930" 410.0 931 "alan-931" 447.1 932 "grace-932" 484.2 933 "edsger-933" 521.3 934 "barbara-934" 558.4 935 "donald-935" 595.5
+  936 "john-936" 632.6 937 "ken-937" 669.7 938 "dennis-938" 706.8 939 "niklaus-939" 743.9 940 "ada-940" 780.0 941 "alan-941" 817.1
+  942 "grace-942" 854.2 943 "edsger-943" 891.3 944 "barbara-944" 928.4 945 "donald-945" 965.5 946 "john-946" 2.6 947 "ken-947" 39.7
+  948 "dennis-948" 76.8 949 "niklaus-949" 113.9 950 "ada-950" 150.0 951 "alan-951" 187.1 952 "grace-952" 224.2 953 "edsger-953" 261.3
+  954 "barbara-954" 298.4 955 "donald-955" 335.5 956 "john-956" 372.6 957 "ken-957" 409.7 958 "dennis-958" 446.8 959 "niklaus-959" 483.9
+  960 "ada-960" 520.0 961 "alan-961" 557.1 962 "grace-962" 594.2 963 "edsger-963" 631.3 964 "barbara-964" 668.4 965 "donald-965" 705.5
+  966 "john-966" 742.6 967 "ken-967" 779.7 968 "dennis-968" 816.8 969 "niklaus-969" 853.9 970 "ada-970" 890.0 971 "alan-971" 927.1
+  972 "grace-972" 964.2 973 "edsger-973" 1.3 974 "barbara-974" 38.4 975 "donald-975" 75.5 976 "john-976" 112.6 977 "ken-977" 149.7
+  978 "dennis-978" 186.8 979 "niklaus-979" 223.9 980 "ada-980" 260.0 981 "alan-981" 297.1 982 "grace-982" 334.2 983 "edsger-983" 371.3
+  984 "barbara-984" 408.4 985 "donald-985" 445.5 986 "john-986" 482.6 987 "ken-987" 519.7 988 "dennis-988" 556.8 989 "niklaus-989" 593.9
+  990 "ada-990" 630.0 991 "alan-991" 667.1 992 "grace-992" 704.2 993 "edsger-993" 741.3 994 "barbara-994" 778.4 995 "donald-995" 815.5
+  996 "john-996" 852.6 997 "ken-997" 889.7 998 "dennis-998" 926.8 999 "niklaus-999" 963.9 1000 "ada-1000" 0.0 1001 "alan-1001" 37.1
+  1002 "grace-1002" 74.2 1003 "edsger-1003" 111.3 1004 "barbara-1004" 148.4 1005 "donald-1005" 185.5 1006 "john-1006" 222.6 1007 "ken-1007" 259.7
+  1008 "dennis-1008" 296.8 1009 "niklaus-1009" 333.9 1010 "ada-1010" 370.0 1011 "alan-1011" 407.1 1012 "grace-1012" 444.2 1013 "edsger-1013" 481.3
+  1014 "barbara-1014" 518.4 1015 "donald-1015" 555.5 1016 "john-1016" 592.6 1017 "ken-1017" 629.7 1018 "dennis-1018" 666.8 1019 "niklaus-1019" 703.9
+  1020 "ada-1020" 740.0 1021 "alan-1021" 777.1 1022 "grace-1022" 814.2 1023 "edsger-1023" 851.3 1024 "barbara-1024" 888.4 1025 "donald-1025" 925.5
+  1026 "john-1026" 962.6 1027 "ken-1027" 999.7 1028 "dennis-1028" 36.8 1029 "niklaus-1029" 73.9 1030 "ada-1030" 110.0 1031 "alan-1031" 147.1
+  1032 "grace-1032" 184.2 1033 "edsger-1033" 221.3 1034 "barbara-1034" 258.4 1035 "donald-1035" 295.5 1036 "john-1036" 332.6 1037 "ken-1037" 369.7
+  1038 "dennis-1038" 406.8 1039 "niklaus-1039" 443.9 1040 "ada-1040" 480.0 1041 "alan-1041" 517.1 1042 "grace-1042" 554.2 1043 "edsger-1043" 591.3
+  1044 "barbara-1044" 628.4 1045 "donald-1045" 665.5 1046 "john-1046" 702.6 1047 "ken-1047" 739.7 1048 "dennis-1048" 776.8 1049 "niklaus-1049" 813.9
+  1050 "ada-1050" 850.0 1051 "alan-1051" 887.1 1052 "grace-1052" 924.2 1053 "edsger-1053" 961.3 1054 "barbara-1054" 998.4 1055 "donald-1055" 35.5
+  1056 "john-1056" 72.6 1057 "ken-1057" 109.7 1058 "dennis-1058" 146.8 1059 "niklaus-1059" 183.9 1060 "ada-1060" 220.0 1061 "alan-1061" 257.1
+  1062 "grace-1062" 294.2 1063 "edsger-1063" 331.3 1064 "barbara-1064" 368.4 1065 "donald-1065" 405.5 1066 "john-1066" 442.6 1067 "ken-1067" 479.7
+  1068 "dennis-1068" 516.8 1069 "niklaus-1069" 553.9 1070 "ada-1070" 590.0 1071 "alan-1071" 627.1 1072 "grace-1072" 664.2 1073 "edsger-1073" 701.3
+  1074 "barbara-1074" 738.4 1075 "donald-1075" 775.5 1076 "john-1076" 812.6 1077 "ken-1077" 849.7 1078 "dennis-1078" 886.8 1079 "niklaus-1079" 923.9
+  1080 "ada-1080" 960.0 1081 "alan-1081" 997.1 1082 "grace-1082" 34.2 1083 "edsger-1083" 71.3 1084 "barbara-1084" 108.4 1085 "donald-1085" 145.5
+  1086 "john-1086" 182.6 1087 "ken-1087" 219.7 1088 "dennis-1088" 256.8 1089 "niklaus-1089" 293.9 1090 "ada-1090" 330.0 1091 "alan-1091" 367.1
+  1092 "grace-1092" 404.2 1093 "edsger-1093" 441.3 1094 "barbara-1094" 478.4 1095 "donald-1095" 515.5 1096 "john-1096" 552.6 1097 "ken-1097" 589.7
+  1098 "dennis-1098" 626.8 1099 "niklaus-1099" 663.9 1100 "ada-1100" 700.0 1101 "alan-1101" 737.1 1102 "grace-1102" 774.2 1103 "edsger-1103" 811.3
+  1104 "barbara-1104" 848.4 1105 "donald-1105" 885.5 1106 "john-1106" 922.6 1107 "ken-1107" 959.7 1108 "dennis-1108" 996.8 1109 "niklaus-1109" 33.9
+  1110 "ada-1110" 70.0 1111 "alan-1111" 107.1 1112 "grace-1112" 144.2 1113 "edsger-1113" 181.3 1114 "barbara-1114" 218.4 1115 "donald-1115" 255.5
+  1116 "john-1116" 292.6 1117 "ken-1117" 329.7 1118 "dennis-1118" 366.8 1119 "niklaus-1119" 403.9 1120 "ada-1120" 440.0 1121 "alan-1121" 477.1
+  1122 "grace-1122" 514.2 1123 "edsger-1123" 551.3 1124 "barbara-1124" 588.4 1125 "donald-1125" 625.5 1126 "john-1126" 662.6 1127 "ken-1127" 699.7
+  1128 "dennis-1128" 736.8 1129 "niklaus-1129" 773.9 1130 "ada-1130" 810.0 1131 "alan-1131" 847.1 1132 "grace-1132" 884.2 1133 "edsger-1133" 921.3
+  1134 "barbara-1134" 958.4 1135 "donald-1135" 995.5 1136 "john-1136" 32.6 1137 "ken-1137" 69.7 1138 "dennis-1138" 106.8 1139 "niklaus-1139" 143.9
+  1140 "ada-1140" 180.0 1141 "alan-1141" 217.1 1142 "grace-1142" 254.2 1143 "edsger-1143" 291.3 1144 "barbara-1144" 328.4 1145 "donald-1145" 365.5
+  1146 "john-1146" 402.6 1147 "ken-1147" 439.7 1148 "dennis-1148" 476.8 1149 "niklaus-1149" 513.9 1150 "ada-1150" 550.0 1151 "alan-1151" 587.1
+  1152 "grace-1152" 624.2 1153 "edsger-1153" 661.3 1154 "barbara-1154" 698.4 1155 "donald-1155" 735.5 1156 "john-1156" 772.6 1157 "ken-1157" 809.7
+  1158 "dennis-1158" 846.8 1159 "niklaus-1159" 883.9 1160 "ada-1160" 920.0 1161 "alan-1161" 957.1 1162 "grace-1162" 994.2 1163 "edsger-1163" 31.3
+  1164 "barbara-1164" 68.4 1165 "donald-1165" 105.5 1166 "john-1166" 142.6 1167 "ken-1167" 179.7 1168 "dennis-1168" 216.8 1169 "niklaus-1169" 253.9
+  1170 "ada-1170" 290.0 1171 "alan-1171" 327.1 1172 "grace-1172" 364.2 1173 "edsger-1173" 401.3 1174 "barbara-1174" 438.4 1175 "donald-1175" 475.5
+  1176 "john-1176" 512.6 1177 "ken-1177" 549.7 1178 "dennis-1178" 586.8 1179 "niklaus-1179" 623.9 1180 "ada-1180" 660.0 1181 "alan-1181" 697.1
+  1182 "grace-1182" 734.2 1183 "edsger-1183" 771.3 1184 "barbara-1184" 808.4 1185 "donald-1185" 845.5 1186 "john-1186" 882.6 1187 "ken-1187" 919.7
+  1188 "dennis-1188" 956.8 1189 "niklaus-1189" 993.9 1190 "ada-1190" 30.0 1191 "alan-1191" 67.1 1192 "grace-1192" 104.2 1193 "edsger-1193" 141.3
+  1194 "barbara-1194" 178.4 1195 "donald-1195" 215.5 1196 "john-1196" 252.6 1197 "ken-1197" 289.7 1198 "dennis-1198" 326.8 1199 "niklaus-1199" 363.9
+  1200 "ada-1200" 400.0 1201 "alan-1201" 437.1 1202 "grace-1202" 474.2 1203 "edsger-1203" 511.3 1204 "barbara-1204" 548.4 1205 "donald-1205" 585.5
+  1206 "john-1206" 622.6 1207 "ken-1207" 659.7 1208 "dennis-1208" 696.8 1209 "niklaus-1209" 733.9 1210 "ada-1210" 770.0 1211 "alan-1211" 807.1
+  1212 "grace-1212" 844.2 1213 "edsger-1213" 881.3 1214 "barbara-1214" 918.4 1215 "donald-1215" 955.5 1216 "john-1216" 992.6 1217 "ken-1217" 29.7
+  1218 "dennis-1218" 66.8 1219 "niklaus-1219" 103.9 1220 "ada-1220" 140.0 1221 "alan-1221" 177.1 1222 "grace-1222" 214.2 1223 "edsger-1223" 251.3
+  1224 "barbara-1224" 288.4 1225 "donald-1225" 325.5 1226 "john-1226" 362.6 1227 "ken-1227" 399.7 1228 "dennis-1228" 436.8 1229 "niklaus-1229" 473.9
+  1230 "ada-1230" 510.0 1231 "alan-1231" 547.1 1232 "grace-1232" 584.2 1233 "edsger-1233" 621.3 1234 "barbara-1234" 658.4 1235 "donald-1235" 695.5
+  1236 "john-1236" 732.6 1237 "ken-1237" 769.7 1238 "dennis-1238" 806.8 1239 "niklaus-1239" 843.9 1240 "ada-1240" 880.0 1241 "alan-1241" 917.1
+  1242 "grace-1242" 954.2 1243 "edsger-1243" 991.3 1244 "barbara-1244" 28.4 1245 "donald-1245" 65.5 1246 "john-1246" 102.6 1247 "ken-1247" 139.7
+  1248 "dennis-1248" 176.8 1249 "niklaus-1249" 213.9 1250 "ada-1250" 250.0 1251 "alan-1251" 287.1 1252 "grace-1252" 324.2 1253 "edsger-1253" 361.3
+  1254 "barbara-1254" 398.4 1255 "donald-1255" 435.5 1256 "john-1256" 472.6 1257 "ken-1257" 509.7 1258 "dennis-1258" 546.8 1259 "niklaus-1259" 583.9
+  1260 "ada-1260" 620.0 1261 "alan-1261" 657.1 1262 "grace-1262" 694.2 1263 "edsger-1263" 731.3 1264 "barbara-1264" 768.4 1265 "donald-1265" 805.5
+  1266 "john-1266" 842.6 1267 "ken-1267" 879.7 1268 "dennis-1268" 916.8 1269 "niklaus-1269" 953.9 1270 "ada-1270" 990.0 1271 "alan-1271" 27.1
+  1272 "grace-1272" 64.2 1273 "edsger-1273" 101.3 1274 "barbara-1274" 138.4 1275 "donald-1275" 175.5 1276 "john-1276" 212.6 1277 "ken-1277" 249.7
+  1278 "dennis-1278" 286.8 1279 "niklaus-1279" 323.9 1280 "ada-1280" 360.0 1281 "alan-1281" 397.1 1282 "grace-1282" 434.2 1283 "edsger-1283" 471.3
+  1284 "barbara-1284" 508.4 1285 "donald-1285" 545.5 1286 "john-1286" 582.6 1287 "ken-1287" 619.7 1288 "dennis-1288" 656.8 1289 "niklaus-1289" 693.9
+  1290 "ada-1290" 730.0 1291 "alan-1291" 767.1 1292 "grace-1292" 804.2 1293 "edsger-1293" 841.3 1294 "barbara-1294" 878.4 1295 "donald-1295" 915.5
+  1296 "john-1296" 952.6 1297 "ken-1297" 989.7 1298 "dennis-1298" 26.8 1299 "niklaus-1299" 63.9 1300 "ada-1300" 100.0 1301 "alan-1301" 137.1
+  1302 "grace-1302" 174.2 1303 "edsger-1303" 211.3 1304 "barbara-1304" 248.4 1305 "donald-1305" 285.5 1306 "john-1306" 322.6 1307 "ken-1307" 359.7
+  1308 "dennis-1308" 396.8 1309 "niklaus-1309" 433.9 1310 "ada-1310" 470.0 1311 "alan-1311" 507.1 1312 "grace-1312" 544.2 1313 "edsger-1313" 581.3
+  1314 "barbara-1314" 618.4 1315 "donald-1315" 655.5 1316 "john-1316" 692.6 1317 "ken-1317" 729.7 1318 "dennis-1318" 766.8 1319 "niklaus-1319" 803.9
+  1320 "ada-1320" 840.0 1321 "alan-1321" 877.1 1322 "grace-1322" 914.2 1323 "edsger-1323" 951.3 1324 "barbara-1324" 988.4 1325 "donald-1325" 25.5
+  1326 "john-1326" 62.6 1327 "ken-1327" 99.7 1328 "dennis-1328" 136.8 1329 "niklaus-1329" 173.9 1330 "ada-1330" 210.0 1331 "alan-1331" 247.1
+  1332 "grace-1332" 284.2 1333 "edsger-1333" 321.3 1334 "barbara-1334" 358.4 1335 "donald-1335" 395.5 1336 "john-1336" 432.6 1337 "ken-1337" 469.7
+  1338 "dennis-1338" 506.8 1339 "niklaus-1339" 543.9 1340 "ada-1340" 580.0 1341 "alan-1341" 617.1 1342 "grace-1342" 654.2 1343 "edsger-1343" 691.3
+  1344 "barbara-1344" 728.4 1345 "donald-1345" 765.5 1346 "john-1346" 802.6 1347 "ken-1347" 839.7 1348 "dennis-1348" 876.8 1349 "niklaus-1349" 913.9
+  1350 "ada-1350" 950.0 1351 "alan-1351" 987.1 1352 "grace-1352" 24.2 1353 "edsger-1353" 61.3 1354 "barbara-1354" 98.4 1355 "donald-1355" 135.5
+  1356 "john-1356" 172.6 1357 "ken-1357" 209.7 1358 "dennis-1358" 246.8 1359 "niklaus-1359" 283.9 1360 "ada-1360" 320.0 1361 "alan-1361" 357.1
+  1362 "grace-1362" 394.2 1363 "edsger-1363" 431.3 1364 "barbara-1364" 468.4 1365 "donald-1365" 505.5 1366 "john-1366" 542.6 1367 "ken-1367" 579.7
+  1368 "dennis-1368" 616.8 1369 "niklaus-1369" 653.9 1370 "ada-1370" 690.0 1371 "alan-1371" 727.1 1372 "grace-1372" 764.2 1373 "edsger-1373" 801.3
+  1374 "barbara-1374" 838.4 1375 "donald-1375" 875.5 1376 "john-1376" 912.6 1377 "ken-1377" 949.7 1378 "dennis-1378" 986.8 1379 "niklaus-1379" 23.9
+  1380 "ada-1380" 60.0 1381 "alan-1381" 97.1 1382 "grace-1382" 134.2 1383 "edsger-1383" 171.3 1384 "barbara-1384" 208.4 1385 "donald-1385" 245.5
+  1386 "john-1386" 282.6 1387 "ken-1387" 319.7 1388 "dennis-1388" 356.8 1389 "niklaus-1389" 393.9 1390 "ada-1390" 430.0 1391 "alan-1391" 467.1
+  1392 "grace-1392" 504.2 1393 "edsger-1393" 541.3 1394 "barbara-1394" 578.4 1395 "donald-1395" 615.5 1396 "john-1396" 652.6 1397 "ken-1397" 689.7
+  1398 "dennis-1398" 726.8 1399 "niklaus-1399" 763.9 1400 "ada-1400" 800.0 1401 "alan-1401" 837.1 1402 "grace-1402" 874.2 1403 "edsger-1403" 911.3
+  1404 "barbara-1404" 948.4 1405 "donald-1405" 985.5 1406 "john-1406" 22.6 1407 "ken-1407" 59.7 1408 "dennis-1408" 96.8 1409 "niklaus-1409" 133.9
+  1410 "ada-1410" 170.0 1411 "alan-1411" 207.1 1412 "grace-1412" 244.2 1413 "edsger-1413" 281.3 1414 "barbara-1414" 318.4 1415 "donald-1415" 355.5
+  1416 "john-1416" 392.6 1417 "ken-1417" 429.7 1418 "dennis-1418" 466.8 1419 "niklaus-1419" 503.9 1420 "ada-1420" 540.0 1421 "alan-1421" 577.1
+  1422 "grace-1422" 614.2 1423 "edsger-1423" 651.3 1424 "barbara-1424" 688.4 1425 "donald-1425" 725.5 1426 "john-1426" 762.6 1427 "ken-1427" 799.7
+  1428 "dennis-1428" 836.8 1429 "niklaus-1429" 873.9 1430 "ada-1430" 910.0 1431 "alan-1431" 947.1 1432 "grace-1432" 984.2 1433 "edsger-1433" 21.3
+  1434 "barbara-1434" 58.4 1435 "donald-1435" 95.5 1436 "john-1436" 132.6 1437 "ken-1437" 169.7 1438 "dennis-1438" 206.8 1439 "niklaus-1439" 243.9
+  1440 "ada-1440" 280.0 1441 "alan-1441" 317.1 1442 "grace-1442" 354.2 1443 "edsger-1443" 391.3 1444 "barbara-1444" 428.4 1445 "donald-1445" 465.5
+  1446 "john-1446" 502.6 1447 "ken-1447" 539.7 1448 "dennis-1448" 576.8 1449 "niklaus-1449" 613.9 1450 "ada-1450" 650.0 1451 "alan-1451" 687.1
+  1452 "grace-1452" 724.2 1453 "edsger-1453" 761.3 1454 "barbara-1454" 798.4 1455 "donald-1455" 835.5 1456 "john-1456" 872.6 1457 "ken-1457" 909.7
+  1458 "dennis-1458" 946.8 1459 "niklaus-1459" 983.9 1460 "ada-1460" 20.0 1461 "alan-1461" 57.1 1462 "grace-1462" 94.2 1463 "edsger-1463" 131.3
+  1464 "barbara-1464" 168.4 1465 "donald-1465" 205.5 1466 "john-1466" 242.6 1467 "ken-1467" 279.7 1468 "dennis-1468" 316.8 1469 "niklaus-1469" 353.9
+  1470 "ada-1470" 390.0 1471 "alan-1471" 427.1 1472 "grace-1472" 464.2 1473 "edsger-1473" 501.3 1474 "barbara-1474" 538.4 1475 "donald-1475" 575.5
+  1476 "john-1476" 612.6 1477 "ken-1477" 649.7 1478 "dennis-1478" 686.8 1479 "niklaus-1479" 723.9 1480 "ada-1480" 760.0 1481 "alan-1481" 797.1
+  1482 "grace-1482" 834.2 1483 "edsger-1483" 871.3 1484 "barbara-1484" 908.4 1485 "donald-1485" 945.5 1486 "john-1486" 982.6 1487 "ken-1487" 19.7
+  1488 "dennis-1488" 56.8 1489 "niklaus-1489" 93.9 1490 "ada-1490" 130.0 1491 "alan-1491" 167.1 1492 "grace-1492" 204.2 1493 "edsger-1493" 241.3
+  1494 "barbara-1494" 278.4 1495 "donald-1495" 315.5 1496 "john-1496" 352.6 1497 "ken-1497" 389.7 1498 "dennis-1498" 426.8 1499 "niklaus-1499" 463.9
+  1500 "ada-1500" 500.0 1501 "alan-1501" 537.1 1502 "grace-1502" 574.2 1503 "edsger-1503" 611.3 1504 "barbara-1504" 648.4 1505 "donald-1505" 685.5
+  1506 "john-1506" 722.6 1507 "ken-1507" 759.7 1508 "dennis-1508" 796.8 1509 "niklaus-1509" 833.9 1510 "ada-1510" 870.0 1511 "alan-1511" 907.1
+  1512 "grace-1512" 944.2 1513 "edsger-1513" 981.3 1514 "barbara-1514" 18.4 1515 "donald-1515" 55.5 1516 "john-1516" 92.6 1517 "ken-1517" 129.7
+  1518 "dennis-1518" 166.8 1519 "niklaus-1519" 203.9 1520 "ada-1520" 240.0 1521 "alan-1521" 277.1 1522 "grace-1522" 314.2 1523 "edsger-1523" 351.3
+  1524 "barbara-1524" 388.4 1525 "donald-1525" 425.5 1526 "john-1526" 462.6 1527 "ken-1527" 499.7 1528 "dennis-1528" 536.8 1529 "niklaus-1529" 573.9
+  1530 "ada-1530" 610.0 1531 "alan-1531" 647.1 1532 "grace-1532" 684.2 1533 "edsger-1533" 721.3 1534 "barbara-1534" 758.4 1535 "donald-1535" 795.5
+  1536 "john-1536" 832.6 1537 "ken-1537" 869.7 1538 "dennis-1538" 906.8 1539 "niklaus-1539" 943.9 1540 "ada-1540" 980.0 1541 "alan-1541" 17.1
+  1542 "grace-1542" 54.2 1543 "edsger-1543" 91.3 1544 "barbara-1544" 128.4 1545 "donald-1545" 165.5 1546 "john-1546" 202.6 1547 "ken-1547" 239.7
+  1548 "dennis-1548" 276.8 1549 "niklaus-1549" 313.9 1550 "ada-1550" 350.0 1551 "alan-1551" 387.1 1552 "grace-1552" 424.2 1553 "edsger-1553" 461.3
+  1554 "barbara-1554" 498.4 1555 "donald-1555" 535.5 1556 "john-1556" 572.6 1557 "ken-1557" 609.7 1558 "dennis-1558" 646.8 1559 "niklaus-1559" 683.9
+  1560 "ada-1560" 720.0 1561 "alan-1561" 757.1 1562 "grace-1562" 794.2 1563 "edsger-1563" 831.3 1564 "barbara-1564" 868.4 1565 "donald-1565" 905.5
+  1566 "john-1566" 942.6 1567 "ken-1567" 979.7 1568 "dennis-1568" 16.8 1569 "niklaus-1569" 53.9 1570 "ada-1570" 90.0 1571 "alan-1571" 127.1
+  1572 "grace-1572" 164.2 1573 "edsger-1573" 201.3 1574 "barbara-1574" 238.4 1575 "donald-1575" 275.5 1576 "john-1576" 312.6 1577 "ken-1577" 349.7
+  1578 "dennis-1578" 386.8 1579 "niklaus-1579" 423.9 1580 "ada-1580" 460.0 1581 "alan-1581" 497.1 1582 "grace-1582" 534.2 1583 "edsger-1583" 571.3
+  1584 "barbara-1584" 608.4 1585 "donald-1585" 645.5 1586 "john-1586" 682.6 1587 "ken-1587" 719.7 1588 "dennis-1588" 756.8 1589 "niklaus-1589" 793.9
+  1590 "ada-1590" 830.0 1591 "alan-1591" 867.1 1592 "grace-1592" 904.2 1593 "edsger-1593" 941.3 1594 "barbara-1594" 978.4 1595 "donald-1595" 15.5
+  1596 "john-1596" 52.6 1597 "ken-1597" 89.7 1598 "dennis-1598" 126.8 1599 "niklaus-1599" 163.9 1600 "ada-1600" 200.0 1601 "alan-1601" 237.1
+  1602 "grace-1602" 274.2 1603 "edsger-1603" 311.3 1604 "barbara-1604" 348.4 1605 "donald-1605" 385.5 1606 "john-1606" 422.6 1607 "ken-1607" 459.7
+  1608 "dennis-1608" 496.8 1609 "niklaus-1609" 533.9 1610 "ada-1610" 570.0 1611 "alan-1611" 607.1 1612 "grace-1612" 644.2 1613 "edsger-1613" 681.3
+  1614 "barbara-1614" 718.4 1615 "donald-1615" 755.5 1616 "john-1616" 792.6 1617 "ken-1617" 829.7 1618 "dennis-1618" 866.8 1619 "niklaus-1619" 903.9
+  1620 "ada-1620" 940.0 1621 "alan-1621" 977.1 1622 "grace-1622" 14.2 1623 "edsger-1623" 51.3 1624 "barbara-1624" 88.4 1625 "donald-1625" 125.5
+  1626 "john-1626" 162.6 1627 "ken-1627" 199.7 1628 "dennis-1628" 236.8 1629 "niklaus-1629" 273.9 1630 "ada-1630" 310.0 1631 "alan-1631" 347.1
+  1632 "grace-1632" 384.2 1633 "edsger-1633" 421.3 1634 "barbara-1634" 458.4 1635 "donald-1635" 495.5 1636 "john-1636" 532.6 1637 "ken-1637" 569.7
+  1638 "dennis-1638" 606.8 1639 "niklaus-1639" 643.9 1640 "ada-1640" 680.0 1641 "alan-1641" 717.1 1642 "grace-1642" 754.2 1643 "edsger-1643" 791.3
+  1644 "barbara-1644" 828.4 1645 "donald-1645" 865.5 1646 "john-1646" 902.6 1647 "ken-1647" 939.7 1648 "dennis-1648" 976.8 1649 "niklaus-1649" 13.9
+  1650 "ada-1650" 50.0 1651 "alan-1651" 87.1 1652 "grace-1652" 124.2 1653 "edsger-1653" 161.3 1654 "barbara-1654" 198.4 1655 "donald-1655" 235.5
+  1656 "john-1656" 272.6 1657 "ken-1657" 309.7 1658 "dennis-1658" 346.8 1659 "niklaus-1659" 383.9 1660 "ada-1660" 420.0 1661 "alan-1661" 457.1
+  1662 "grace-1662" 494.2 1663 "edsger-1663" 531.3 1664 "barbara-1664" 568.4 1665 "donald-1665" 605.5 1666 "john-1666" 642.6 1667 "ken-1667" 679.7
+  1668 "dennis-1668" 716.8 1669 "niklaus-1669" 753.9 1670 "ada-1670" 790.0 1671 "alan-1671" 827.1 1672 "grace-1672" 864.2 1673 "edsger-1673" 901.3
+  1674 "barbara-1674" 938.4 1675 "donald-1675" 975.5 1676 "john-1676" 12.6 1677 "ken-1677" 49.7 1678 "dennis-1678" 86.8 1679 "niklaus-1679" 123.9
+  1680 "ada-1680" 160.0 1681 "alan-1681" 197.1 1682 "grace-1682" 234.2 1683 "edsger-1683" 271.3 1684 "barbara-1684" 308.4 1685 "donald-1685" 345.5
+  1686 "john-1686" 382.6 1687 "ken-1687" 419.7 1688 "dennis-1688" 456.8 1689 "niklaus-1689" 493.9 1690 "ada-1690" 530.0 1691 "alan-1691" 567.1
+  1692 "grace-1692" 604.2 1693 "edsger-1693" 641.3 1694 "barbara-1694" 678.4 1695 "donald-1695" 715.5 1696 "john-1696" 752.6 1697 "ken-1697" 789.7
+  1698 "dennis-1698" 826.8 1699 "niklaus-1699" 863.9 1700 "ada-1700" 900.0 1701 "alan-1701" 937.1 1702 "grace-1702" 974.2 1703 "edsger-1703" 11.3
+  1704 "barbara-1704" 48.4 1705 "donald-1705" 85.5 1706 "john-1706" 122.6 1707 "ken-1707" 159.7 1708 "dennis-1708" 196.8 1709 "niklaus-1709" 233.9
+  1710 "ada-1710" 270.0 1711 "alan-1711" 307.1 1712 "grace-1712" 344.2 1713 "edsger-1713" 381.3 1714 "barbara-1714" 418.4 1715 "donald-1715" 455.5
+  1716 "john-1716" 492.6 1717 "ken-1717" 529.7 1718 "dennis-1718" 566.8 1719 "niklaus-1719" 603.9 1720 "ada-1720" 640.0 1721 "alan-1721" 677.1
+  1722 "grace-1722" 714.2 1723 "edsger-1723" 751.3 1724 "barbara-1724" 788.4 1725 "donald-1725" 825.5 1726 "john-1726" 862.6 1727 "ken-1727" 899.7
+  1728 "dennis-1728" 936.8 1729 "niklaus-1729" 973.9 1730 "ada-1730" 10.0 1731 "alan-1731" 47.1 1732 "grace-1732" 84.2 1733 "edsger-1733" 121.3
+  1734 "barbara-1734" 158.4 1735 "donald-1735" 195.5 1736 "john-1736" 232.6 1737 "ken-1737" 269.7 1738 "dennis-1738" 306.8 1739 "niklaus-1739" 343.9
+  1740 "ada-1740" 380.0 1741 "alan-1741" 417.1 1742 "grace-1742" 454.2 1743 "edsger-1743" 491.3 1744 "barbara-1744" 528.4 1745 "donald-1745" 565.5
+  1746 "john-1746" 602.6 1747 "ken-1747" 639.7 1748 "dennis-1748" 676.8 1749 "niklaus-1749" 713.9 1750 "ada-1750" 750.0 1751 "alan-1751" 787.1
+  1752 "grace-1752" 824.2 1753 "edsger-1753" 861.3 1754 "barbara-1754" 898.4 1755 "donald-1755" 935.5 1756 "john-1756" 972.6 1757 "ken-1757" 9.7
+  1758 "dennis-1758" 46.8 1759 "niklaus-1759" 83.9 1760 "ada-1760" 120.0 1761 "alan-1761" 157.1 1762 "grace-1762" 194.2 1763 "edsger-1763" 231.3
+  1764 "barbara-1764" 268.4 1765 "donald-1765" 305.5 1766 "john-1766" 342.6 1767 "ken-1767" 379.7 1768 "dennis-1768" 416.8 1769 "niklaus-1769" 453.9
+  1770 "ada-1770" 490.0 1771 "alan-1771" 527.1 1772 "grace-1772" 564.2 1773 "edsger-1773" 601.3 1774 "barbara-1774" 638.4 1775 "donald-1775" 675.5
+  1776 "john-1776" 712.6 1777 "ken-1777" 749.7 1778 "dennis-1778" 786.8 1779 "niklaus-1779" 823.9 1780 "ada-1780" 860.0 1781 "alan-1781" 897.1
+  1782 "grace-1782" 934.2 1783 "edsger-1783" 971.3 1784 "barbara-1784" 8.4 1785 "donald-1785" 45.5 1786 "john-1786" 82.6 1787 "ken-1787" 119.7
+  1788 "dennis-1788" 156.8 1789 "niklaus-1789" 193.9 1790 "ada-1790" 230.0 1791 "alan-1791" 267.1 1792 "grace-1792" 304.2 1793 "edsger-1793" 341.3
+  1794 "barbara-1794" 378.4 1795 "donald-1795" 415.5 1796 "john-1796" 452.6 1797 "ken-1797" 489.7 1798 "dennis-1798" 526.8 1799 "niklaus-1799" 563.9
+  1800 "ada-1800" 600.0 1801 "alan-1801" 637.1 1802 "grace-1802" 674.2 1803 "edsger-1803" 711.3 1804 "barbara-1804" 748.4 1805 "donald-1805" 785.5
+  1806 "john-1806" 822.6 1807 "ken-1807" 859.7 1808 "dennis-1808" 896.8 1809 "niklaus-1809" 933.9 1810 "ada-1810" 970.0 1811 "alan-1811" 7.1
+  1812 "grace-1812" 44.2 1813 "edsger-1813" 81.3 1814 "barbara-1814" 118.4 1815 "donald-1815" 155.5 1816 "john-1816" 192.6 1817 "ken-1817" 229.7
+  1818 "dennis-1818" 266.8 1819 "niklaus-1819" 303.9 1820 "ada-1820" 340.0 1821 "alan-1821" 377.1 1822 "grace-1822" 414.2 1823 "edsger-1823" 451.3
+  1824 "barbara-1824" 488.4 1825 "donald-1825" 525.5 1826 "john-1826" 562.6 1827 "ken-1827" 599.7 1828 "dennis-1828" 636.8 1829 "niklaus-1829" 673.9
+  1830 "ada-1830" 710.0 1831 "alan-1831" 747.1 1832 "grace-1832" 784.2 1833 "edsger-1833" 821.3 1834 "barbara-1834" 858.4 1835 "donald-1835" 895.5
+  1836 "john-1836" 932.6 1837 "ken-1837" 969.7 1838 "dennis-1838" 6.8 1839 "niklaus-1839" 43.9 1840 "ada-1840" 80.0 1841 "alan-1841" 117.1
+  1842 "grace-1842" 154.2 1843 "edsger-1843" 191.3 1844 "barbara-1844" 228.4 1845 "donald-1845" 265.5 1846 "john-1846" 302.6 1847 "ken-1847" 339.7
+  1848 "dennis-1848" 376.8 1849 "niklaus-1849" 413.9 1850 "ada-1850" 450.0 1851 "alan-1851" 487.1 1852 "grace-1852" 524.2 1853 "edsger-1853" 561.3
+  1854 "barbara-1854" 598.4 1855 "donald-1855" 635.5 1856 "john-1856" 672.6 1857 "ken-1857" 709.7 1858 "dennis-1858" 746.8 1859 "niklaus-1859" 783.9
+  1860 "ada-1860" 820.0 1861 "alan-1861" 857.1 1862 "grace-1862" 894.2 1863 "edsger-1863" 931.3 1864 "barbara-1864" 968.4 1865 "donald-1865" 5.5
+  1866 "john-1866" 42.6 1867 "ken-1867" 79.7 1868 "dennis-1868" 116.8 1869 "niklaus-1869" 153.9 1870 "ada-1870" 190.0 1871 "alan-1871" 227.1
+  1872 "grace-1872" 264.2 1873 "edsger-1873" 301.3 1874 "barbara-1874" 338.4 1875 "donald-1875" 375.5 1876 "john-1876" 412.6 1877 "ken-1877" 449.7
+  1878 "dennis-1878" 486.8 1879 "niklaus-1879" 523.9 1880 "ada-1880" 560.0 1881 "alan-1881" 597.1 1882 "grace-1882" 634.2 1883 "edsger-1883" 671.3
+  1884 "barbara-1884" 708.4 1885 "donald-1885" 745.5 1886 "john-1886" 782.6 1887 "ken-1887" 819.7 1888 "dennis-1888" 856.8 1889 "niklaus-1889" 893.9
+  1890 "ada-1890" 930.0 1891 "alan-1891" 967.1 1892 "grace-1892" 4.2 1893 "edsger-1893" 41.3 1894 "barbara-1894" 78.4 1895 "donald-1895" 115.5
+  1896 "john-1896" 152.6 1897 "ken-1897" 189.7 1898 "dennis-1898" 226.8 1899 "niklaus-1899" 263.9 1900 "ada-1900" 300.0 1901 "alan-1901" 337.1
+  1902 "grace-1902" 374.2 1903 "edsger-1903" 411.3 1904 "barbara-1904" 448.4 1905 "donald-1905" 485.5 1906 "john-1906" 522.6 1907 "ken-1907" 559.7
+  1908 "dennis-1908" 596.8 1909 "niklaus-1909" 633.9 1910 "ada-1910" 670.0 1911 "alan-1911" 707.1 1912 "grace-1912" 744.2 1913 "edsger-1913" 781.3
+  1914 "barbara-1914" 818.4 1915 "donald-1915" 855.5 1916 "john-1916" 892.6 1917 "ken-1917" 929.7 1918 "dennis-1918" 966.8 1919 "niklaus-1919" 3.9
+  1920 "ada-1920" 40.0 1921 "alan-1921" 77.1 1922 "grace-1922" 114.2 1923 "edsger-1923" 151.3 1924 "barbara-1924" 188.4 1925 "donald-1925" 225.5
+  1926 "john-1926" 262.6 1927 "ken-1927" 299.7 1928 "dennis-1928" 336.8 1929 "niklaus-1929" 373.9 1930 "ada-1930" 410.0 1931 "alan-1931" 447.1
+  1932 "grace-1932" 484.2 1933 "edsger-1933" 521.3 1934 "barbara-1934" 558.4 1935 "donald-1935" 595.5 1936 "john-1936" 632.6 1937 "ken-1937" 669.7
+  1938 "dennis-1938" 706.8 1939 "niklaus-1939" 743.9 1940 "ada-1940" 780.0 1941 "alan-1941" 817.1 1942 "grace-1942" 854.2 1943 "edsger-1943" 891.3
+  1944 "barbara-1944" 928.4 1945 "donald-1945" 965.5 1946 "john-1946" 2.6 1947 "ken-1947" 39.7 1948 "dennis-1948" 76.8 1949 "niklaus-1949" 113.9
+  1950 "ada-1950" 150.0 1951 "alan-1951" 187.1 1952 "grace-1952" 224.2 1953 "edsger-1953" 261.3 1954 "barbara-1954" 298.4 1955 "donald-1955" 335.5
+  1956 "john-1956" 372.6 1957 "ken-1957" 409.7 1958 "dennis-1958" 446.8 1959 "niklaus-1959" 483.9 1960 "ada-1960" 520.0 1961 "alan-1961" 557.1
+  1962 "grace-1962" 594.2 1963 "edsger-1963" 631.3 1964 "barbara-1964" 668.4 1965 "donald-1965" 705.5 1966 "john-1966" 742.6 1967 "ken-1967" 779.7
+  1968 "dennis-1968" 816.8 1969 "niklaus-1969" 853.9 1970 "ada-1970" 890.0 1971 "alan-1971" 927.1 1972 "grace-1972" 964.2 1973 "edsger-1973" 1.3
+  1974 "barbara-1974" 38.4 1975 "donald-1975" 75.5 1976 "john-1976" 112.6 1977 "ken-1977" 149.7 1978 "dennis-1978" 186.8 1979 "niklaus-1979" 223.9
+  1980 "ada-1980" 260.0 1981 "alan-1981" 297.1 1982 "grace-1982" 334.2 1983 "edsger-1983" 371.3 1984 "barbara-1984" 408.4 1985 "donald-1985" 445.5
+  1986 "john-1986" 482.6 1987 "ken-1987" 519.7 1988 "dennis-1988" 556.8 1989 "niklaus-1989" 593.9 1990 "ada-1990" 630.0 1991 "alan-1991" 667.1
+  1992 "grace-1992" 704.2 1993 "edsger-1993" 741.3 1994 "barbara-1994" 778.4 1995 "donald-1995" 815.5 1996 "john-1996" 852.6 1997 "ken-1997" 889.7
+  1998 "dennis-1998" 926.8 1999 "niklaus-1999" 963.9 2000 "ada-2000" 0.0 2001 "alan-2001" 37.1 2002 "grace-2002" 74.2 2003 "edsger-2003" 111.3
+  2004 "barbara-2004" 148.4 2005 "donald-2005" 185.5 2006 "john-2006" 222.6 2007 "ken-2007" 259.7 2008 "dennis-2008" 296.8 2009 "niklaus-2009" 333.9
+  2010 "ada-2010" 370.0 2011 "alan-2011" 407.1 2012 "grace-2012" 444.2 2013 "edsger-2013" 481.3 2014 "barbara-2014" 518.4 2015 "donald-2015" 555.5
+  2016 "john-2016" 592.6 2017 "ken-2017" 629.7 2018 "dennis-2018" 666.8 2019 "niklaus-2019" 703.9 2020 "ada-2020" 740.0 2021 "alan-2021" 777.1
+  2022 "grace-2022" 814.2 2023 "edsger-2023" 851.3 2024 "barbara-2024" 888.4 2025 "donald-2025" 925.5 2026 "john-2026" 962.6 2027 "ken-2027" 999.7
+  2028 "dennis-2028" 36.8 2029 "niklaus-2029" 73.9 2030 "ada-2030" 110.0 2031 "alan-2031" 147.1 2032 "grace-2032" 184.2 2033 "edsger-2033" 221.3
+  2034 "barbara-2034" 258.4 2035 "donald-2035" 295.5 2036 "john-2036" 332.6 2037 "ken-2037" 369.7 2038 "dennis-2038" 406.8 2039 "niklaus-2039" 443.9
+  2040 "ada-2040" 480.0 2041 "alan-2041" 517.1 2042 "grace-2042" 554.2 2043 "edsger-2043" 591.3 2044 "barbara-2044" 628.4 2045 "donald-2045" 665.5
+  2046 "john-2046" 702.6 2047 "ken-2047" 739.7 2048 "dennis-2048" 776.8 2049 "niklaus-2049" 813.9 2050 "ada-2050" 850.0 2051 "alan-2051" 887.1
+  2052 "grace-2052" 924.2 2053 "edsger-2053" 961.3 2054 "barbara-2054" 998.4 2055 "donald-2055" 35.5 2056 "john-2056" 72.6 2057 "ken-2057" 109.7
+  2058 "dennis-2058" 146.8 2059 "niklaus-2059" 183.9 2060 "ada-2060" 220.0 2061 "alan-2061" 257.1 2062 "grace-2062" 294.2 2063 "edsger-2063" 331.3
+  2064 "barbara-2064" 368.4 2065 "donald-2065" 405.5 2066 "john-2066" 442.6 2067 "ken-2067" 479.7 2068 "dennis-2068" 516.8 2069 "niklaus-2069" 553.9
+  2070 "ada-2070" 590.0 2071 "alan-2071" 627.1 2072 "grace-2072" 664.2 2073 "edsger-2073" 701.3 2074 "barbara-2074" 738.4 2075 "donald-2075" 775.5
+  2076 "john-2076" 812.6 2077 "ken-2077" 849.7 2078 "dennis-2078" 886.8 2079 "niklaus-2079" 923.9 2080 "ada-2080" 960.0 2081 "alan-2081" 997.1
+  2082 "grace-2082" 34.2 2083 "edsger-2083" 71.3 2084 "barbara-2084" 108.4 2085 "donald-2085" 145.5 2086 "john-2086" 182.6 2087 "ken-2087" 219.7
+  2088 "dennis-2088" 256.8 2089 "niklaus-2089" 293.9 2090 "ada-2090" 330.0 2091 "alan-2091" 367.1 2092 "grace-2092" 404.2 2093 "edsger-2093" 441.3
+  2094 "barbara-2094" 478.4 2095 "donald-2095" 515.5 2096 "john-2096" 552.6 2097 "ken-2097" 589.7 2098 "dennis-2098" 626.8 2099 "niklaus-2099" 663.9
+  2100 "ada-2100" 700.0 2101 "alan-2101" 737.1 2102 "grace-2102" 774.2 2103 "edsger-2103" 811.3 2104 "barbara-2104" 848.4 2105 "donald-2105" 885.5
+  2106 "john-2106" 922.6 2107 "ken-2107" 959.7 2108 "dennis-2108" 996.8 2109 "niklaus-2109" 33.9 2110 "ada-2110" 70.0 2111 "alan-2111" 107.1
+  2112 "grace-2112" 144.2 2113 "edsger-2113" 181.3 2114 "barbara-2114" 218.4 2115 "donald-2115" 255.5 2116 "john-2116" 292.6 2117 "ken-2117" 329.7
+  2118 "dennis-2118" 366.8 2119 "niklaus-2119" 403.9 2120 "ada-2120" 440.0 2121 "alan-2121" 477.1 2122 "grace-2122" 514.2 2123 "edsger-2123" 551.3
+  2124 "barbara-2124" 588.4 2125 "donald-2125" 625.5 2126 "john-2126" 662.6 2127 "ken-2127" 699.7 2128 "dennis-2128" 736.8 2129 "niklaus-2129" 773.9
+  2130 "ada-2130" 810.0 2131 "alan-2131" 847.1 2132 "grace-2132" 884.2 2133 "edsger-2133" 921.3 2134 "barbara-2134" 958.4 2135 "donald-2135" 995.5
+  2136 "john-2136" 32.6 2137 "ken-2137" 69.7 2138 "dennis-2138" 106.8 2139 "niklaus-2139" 143.9 2140 "ada-2140" 180.0 2141 "alan-2141" 217.1
+  2142 "grace-2142" 254.2 2143 "edsger-2143" 291.3 2144 "barbara-2144" 328.4 2145 "donald-2145" 365.5 2146 "john-2146" 402.6 2147 "ken-2147" 439.7
+  2148 "dennis-2148" 476.8 2149 "niklaus-2149" 513.9 2150 "ada-2150" 550.0 2151 "alan-2151" 587.1 2152 "grace-2152" 624.2 2153 "edsger-2153" 661.3
+  2154 "barbara-2154" 698.4 2155 "donald-2155" 735.5 2156 "john-2156" 772.6 2157 "ken-2157" 809.7 2158 "dennis-2158" 846.8 2159 "niklaus-2159" 883.9
+  2160 "ada-2160" 920.0 2161 "alan-2161" 957.1 2162 "grace-2162" 994.2 2163 "edsger-2163" 31.3 2164 "barbara-2164" 68.4 2165 "donald-2165" 105.5
+  2166 "john-2166" 142.6 2167 "ken-2167" 179.7 2168 "dennis-2168" 216.8 2169 "niklaus-2169" 253.9 2170 "ada-2170" 290.0 2171 "alan-2171" 327.1
+  2172 "grace-2172" 364.2 2173 "edsger-2173" 401.3 2174 "barbara-2174" 438.4 2175 "donald-2175" 475.5 2176 "john-2176" 512.6 2177 "ken-2177" 549.7
+  2178 "dennis-2178" 586.8 2179 "niklaus-2179" 623.9 2180 "ada-2180" 660.0 2181 "alan-2181" 697.1 2182 "grace-2182" 734.2 2183 "edsger-2183" 771.3
+  2184 "barbara-2184" 808.4 2185 "donald-2185" 845.5 2186 "john-2186" 882.6 2187 "ken-2187" 919.7 2188 "dennis-2188" 956.8 2189 "niklaus-2189" 993.9
+  2190 "ada-2190" 30.0 2191 "alan-2191" 67.1 2192 "grace-2192" 104.2 2193 "edsger-2193" 141.3 2194 "barbara-2194" 178.4 2195 "donald-2195" 215.5
+  2196 "john-2196" 252.6 2197 "ken-2197" 289.7 2198 "dennis-2198" 326.8 2199 "niklaus-2199" 363.9 2200 "ada-2200" 400.0 2201 "alan-2201" 437.1
+  2202 "grace-2202" 474.2 2203 "edsger-2203" 511.3 2204 "barbara-2204" 548.4 2205 "donald-2205" 585.5 2206 "john-2206" 622.6 2207 "ken-2207" 659.7
+  2208 "dennis-2208" 696.8 2209 "niklaus-2209" 733.9 2210 "ada-2210" 770.0 2211 "alan-2211" 807.1 2212 "grace-2212" 844.2 2213 "edsger-2213" 881.3
+  2214 "barbara-2214" 918.4 2215 "donald-2215" 955.5 2216 "john-2216" 992.6 2217 "ken-2217" 29.7 2218 "dennis-2218" 66.8 2219 "niklaus-2219" 103.9
+  2220 "ada-2220" 140.0 2221 "alan-2221" 177.1 2222 "grace-2222" 214.2 2223 "edsger-2223" 251.3 2224 "barbara-2224" 288.4 2225 "donald-2225" 325.5
+  2226 "john-2226" 362.6 2227 "ken-2227" 399.7 2228 "dennis-2228" 436.8 2229 "niklaus-2229" 473.9 2230 "ada-2230" 510.0 2231 "alan-2231" 547.1
+  2232 "grace-2232" 584.2 2233 "edsger-2233" 621.3 2234 "barbara-2234" 658.4 2235 "donald-2235" 695.5 2236 "john-2236" 732.6 2237 "ken-2237" 769.7
+  2238 "dennis-2238" 806.8 2239 "niklaus-2239" 843.9 2240 "ada-2240" 880.0 2241 "alan-2241" 917.1 2242 "grace-2242" 954.2 2243 "edsger-2243" 991.3
+  2244 "barbara-2244" 28.4 2245 "donald-2245" 65.5 2246 "john-2246" 102.6 2247 "ken-2247" 139.7 2248 "dennis-2248" 176.8 2249 "niklaus-2249" 213.9
+  2250 "ada-2250" 250.0 2251 "alan-2251" 287.1 2252 "grace-2252" 324.2 2253 "edsger-2253" 361.3 2254 "barbara-2254" 398.4 2255 "donald-2255" 435.5
+  2256 "john-2256" 472.6 2257 "ken-2257" 509.7 2258 "dennis-2258" 546.8 2259 "niklaus-2259" 583.9 2260 "ada-2260" 620.0 2261 "alan-2261" 657.1
+  2262 "grace-2262" 694.2 2263 "edsger-2263" 731.3 2264 "barbara-2264" 768.4 2265 "donald-2265" 805.5 2266 "john-2266" 842.6 2267 "ken-2267" 879.7
+  2268 "dennis-2268" 916.8 2269 "niklaus-2269" 953.9 2270 "ada-2270" 990.0 2271 "alan-2271" 27.1 2272 "grace-2272" 64.2 2273 "edsger-2273" 101.3
+  2274 "barbara-2274" 138.4 2275 "donald-2275" 175.5 2276 "john-2276" 212.6 2277 "ken-2277" 249.7 2278 "dennis-2278" 286.8 2279 "niklaus-2279" 323.9
+  2280 "ada-2280" 360.0 2281 "alan-2281" 397.1 2282 "grace-2282" 434.2 2283 "edsger-2283" 471.3 2284 "barbara-2284" 508.4 2285 "donald-2285" 545.5
+  2286 "john-2286" 582.6 2287 "ken-2287" 619.7 2288 "dennis-2288" 656.8 2289 "niklaus-2289" 693.9 2290 "ada-2290" 730.0 2291 "alan-2291" 767.1
+  2292 "grace-2292" 804.2 2293 "edsger-2293" 841.3 2294 "barbara-2294" 878.4 2295 "donald-2295" 915.5 2296 "john-2296" 952.6 2297 "ken-2297" 989.7
+  2298 "dennis-2298" 26.8 2299 "niklaus-2299" 63.9 2300 "ada-2300" 100.0 2301 "alan-2301" 137.1 2302 "grace-2302" 174.2 2303 "edsger-2303" 211.3
+  2304 "barbara-2304" 248.4 2305 "donald-2305" 285.5 2306 "john-2306" 322.6 2307 "ken-2307" 359.7 2308 "dennis-2308" 396.8 2309 "niklaus-2309" 433.9
+  2310 "ada-2310" 470.0 2311 "alan-2311" 507.1 2312 "grace-2312" 544.2 2313 "edsger-2313" 581.3 2314 "barbara-2314" 618.4 2315 "donald-2315" 655.5
+  2316 "john-2316" 692.6 2317 "ken-2317" 729.7 2318 "dennis-2318" 766.8 2319 "niklaus-2319" 803.9 2320 "ada-2320" 840.0 2321 "alan-2321" 877.1
+  2322 "grace-2322" 914.2 2323 "edsger-2323" 951.3 2324 "barbara-2324" 988.4 2325 "donald-2325" 25.5 2326 "john-2326" 62.6 2327 "ken-2327" 99.7
+  2328 "dennis-2328" 136.8 2329 "niklaus-2329" 173.9 2330 "ada-2330" 210.0 2331 "alan-2331" 247.1 2332 "grace-2332" 284.2 2333 "edsger-2333" 321.3
+  2334 "barbara-2334" 358.4 2335 "donald-2335" 395.5 2336 "john-2336" 432.6 2337 "ken-2337" 469.7 2338 "dennis-2338" 506.8 2339 "niklaus-2339" 543.9
+  2340 "ada-2340" 580.0 2341 "alan-2341" 617.1 2342 "grace-2342" 654.2 2343 "edsger-2343" 691.3 2344 "barbara-2344" 728.4 2345 "donald-2345" 765.5
+  2346 "john-2346" 802.6 2347 "ken-2347" 839.7 2348 "dennis-2348" 876.8 2349 "niklaus-2349" 913.9 2350 "ada-2350" 950.0 2351 "alan-2351" 987.1
+  2352 "grace-2352" 24.2 2353 "edsger-2353" 61.3 2354 "barbara-2354" 98.4 2355 "donald-2355" 135.5 2356 "john-2356" 172.6 2357 "ken-2357" 209.7
+  2358 "dennis-2358" 246.8 2359 "niklaus-2359" 283.9 2360 "ada-2360" 320.0 2361 "alan-2361" 357.1 2362 "grace-2362" 394.2 2363 "edsger-2363" 431.3
+  2364 "barbara-2364" 468.4 2365 "donald-2365" 505.5 2366 "john-2366" 542.6 2367 "ken-2367" 579.7 2368 "dennis-2368" 616.8 2369 "niklaus-2369" 653.9
+  2370 "ada-2370" 690.0 2371 "alan-2371" 727.1 2372 "grace-2372" 764.2 2373 "edsger-2373" 801.3 2374 "barbara-2374" 838.4 2375 "donald-2375" 875.5
+  2376 "john-2376" 912.6 2377 "ken-2377" 949.7 2378 "dennis-2378" 986.8 2379 "niklaus-2379" 23.9 2380 "ada-2380" 60.0 2381 "alan-2381" 97.1
+  2382 "grace-2382" 134.2 2383 "edsger-2383" 171.3 2384 "barbara-2384" 208.4 2385 "donald-2385" 245.5 2386 "john-2386" 282.6 2387 "ken-2387" 319.7
+  2388 "dennis-2388" 356.8 2389 "niklaus-2389" 393.9 2390 "ada-2390" 430.0 2391 "alan-2391" 467.1 2392 "grace-2392" 504.2 2393 "edsger-2393" 541.3
+  2394 "barbara-2394" 578.4 2395 "donald-2395" 615.5 2396 "john-2396" 652.6 2397 "ken-2397" 689.7 2398 "dennis-2398" 726.8 2399 "niklaus-2399" 763.9
+  2400 "ada-2400" 800.0 2401 "alan-2401" 837.1 2402 "grace-2402" 874.2 2403 "edsger-2403" 911.3 2404 "barbara-2404" 948.4 2405 "donald-2405" 985.5
+  2406 "john-2406" 22.6 2407 "ken-2407" 59.7 2408 "dennis-2408" 96.8 2409 "niklaus-2409" 133.9 2410 "ada-2410" 170.0 2411 "alan-2411" 207.1
+  2412 "grace-2412" 244.2 2413 "edsger-2413" 281.3 2414 "barbara-2414" 318.4 2415 "donald-2415" 355.5 2416 "john-2416" 392.6 2417 "ken-2417" 429.7
+  2418 "dennis-2418" 466.8 2419 "niklaus-2419" 503.9 2420 "ada-2420" 540.0 2421 "alan-2421" 577.1 2422 "grace-2422" 614.2 2423 "edsger-2423" 651.3
+  2424 "barbara-2424" 688.4 2425 "donald-2425" 725.5 2426 "john-2426" 762.6 2427 "ken-2427" 799.7 2428 "dennis-2428" 836.8 2429 "niklaus-2429" 873.9
+  2430 "ada-2430" 910.0 2431 "alan-2431" 947.1 2432 "grace-2432" 984.2 2433 "edsger-2433" 21.3 2434 "barbara-2434" 58.4 2435 "donald-2435" 95.5
+  2436 "john-2436" 132.6 2437 "ken-2437" 169.7 2438 "dennis-2438" 206.8 2439 "niklaus-2439" 243.9 2440 "ada-2440" 280.0 2441 "alan-2441" 317.1
+  2442 "grace-2442" 354.2 2443 "edsger-2443" 391.3 2444 "barbara-2444" 428.4 2445 "donald-2445" 465.5 2446 "john-2446" 502.6 2447 "ken-2447" 539.7
+  2448 "dennis-2448" 576.8 2449 "niklaus-2449" 613.9 2450 "ada-2450" 650.0 2451 "alan-2451" 687.1 2452 "grace-2452" 724.2 2453 "edsger-2453" 761.3
+  2454 "barbara-2454" 798.4 2455 "donald-2455" 835.5 2456 "john-2456" 872.6 2457 "ken-2457" 909.7 2458 "dennis-2458" 946.8 2459 "niklaus-2459" 983.9
+  2460 "ada-2460" 20.0 2461 "alan-2461" 57.1 2462 "grace-2462" 94.2 2463 "edsger-2463" 131.3 2464 "barbara-2464" 168.4 2465 "donald-2465" 205.5
+  2466 "john-2466" 242.6 2467 "ken-2467" 279.7 2468 "dennis-2468" 316.8 2469 "niklaus-2469" 353.9 2470 "ada-2470" 390.0 2471 "alan-2471" 427.1
+  2472 "grace-2472" 464.2 2473 "edsger-2473" 501.3 2474 "barbara-2474" 538.4 2475 "donald-2475" 575.5 2476 "john-2476" 612.6 2477 "ken-2477" 649.7
+  2478 "dennis-2478" 686.8 2479 "niklaus-2479" 723.9 2480 "ada-2480" 760.0 2481 "alan-2481" 797.1 2482 "grace-2482" 834.2 2483 "edsger-2483" 871.3
+  2484 "barbara-2484" 908.4 2485 "donald-2485" 945.5 2486 "john-2486" 982.6 2487 "ken-2487" 19.7 2488 "dennis-2488" 56.8 2489 "niklaus-2489" 93.9
+  2490 "ada-2490" 130.0 2491 "alan-2491" 167.1 2492 "grace-2492" 204.2 2493 "edsger-2493" 241.3 2494 "barbara-2494" 278.4 2495 "donald-2495" 315.5
+  2496 "john-2496" 352.6 2497 "ken-2497" 389.7 2498 "dennis-2498" 426.8 2499 "niklaus-2499" 463.9 2500 "ada-2500" 500.0 2501 "alan-2501" 537.1
+  2502 "grace-2502" 574.2 2503 "edsger-2503" 611.3 2504 "barbara-2504" 648.4 2505 "donald-2505" 685.5 2506 "john-2506" 722.6 2507 "ken-2507" 759.7
+  2508 "dennis-2508" 796.8 2509 "niklaus-2509" 833.9 2510 "ada-2510" 870.0 2511 "alan-2511" 907.1 2512 "grace-2512" 944.2 2513 "edsger-2513" 981.3
+  2514 "barbara-2514" 18.4 2515 "donald-2515" 55.5 2516 "john-2516" 92.6 2517 "ken-2517" 129.7 2518 "dennis-2518" 166.8 2519 "niklaus-2519" 203.9
+  2520 "ada-2520" 240.0 2521 "alan-2521" 277.1 2522 "grace-2522" 314.2 2523 "edsger-2523" 351.3 2524 "barbara-2524" 388.4 2525 "donald-2525" 425.5
+  2526 "john-2526" 462.6 2527 "ken-2527" 499.7 2528 "dennis-2528" 536.8 2529 "niklaus-2529" 573.9 2530 "ada-2530" 610.0 2531 "alan-2531" 647.1
+  2532 "grace-2532" 684.2 2533 "edsger-2533" 721.3 2534 "barbara-2534" 758.4 2535 "donald-2535" 795.5 2536 "john-2536" 832.6 2537 "ken-2537" 869.7
+  2538 "dennis-2538" 906.8 2539 "niklaus-2539" 943.9 2540 "ada-2540" 980.0 2541 "alan-2541" 17.1 2542 "grace-2542" 54.2 2543 "edsger-2543" 91.3
+  2544 "barbara-2544" 128.4 2545 "donald-2545" 165.5 2546 "john-2546" 202.6 2547 "ken-2547" 239.7 2548 "dennis-2548" 276.8 2549 "niklaus-2549" 313.9
+  2550 "ada-2550" 350.0 2551 "alan-2551" 387.1 2552 "grace-2552" 424.2 2553 "edsger-2553" 461.3 2554 "barbara-2554" 498.4 2555 "donald-2555" 535.5
+  2556 "john-2556" 572.6 2557 "ken-2557" 609.7 2558 "dennis-2558" 646.8 2559 "niklaus-2559" 683.9 2560 "ada-2560" 720.0 2561 "alan-2561" 757.1
+  2562 "grace-2562" 794.2 2563 "edsger-2563" 831.3 2564 "barbara-2564" 868.4 2565 "donald-2565" 905.5 2566 "john-2566" 942.6 2567 "ken-2567" 979.7
+  2568 "dennis-2568" 16.8 2569 "niklaus-2569" 53.9 2570 "ada-2570" 90.0 2571 "alan-2571" 127.1 2572 "grace-2572" 164.2 2573 "edsger-2573" 201.3
+  2574 "barbara-2574" 238.4 2575 "donald-2575" 275.5 2576 "john-2576" 312.6 2577 "ken-2577" 349.7 2578 "dennis-2578" 386.8 2579 "niklaus-2579" 423.9
+  2580 "ada-2580" 460.0 2581 "alan-2581" 497.1 2582 "grace-2582" 534.2 2583 "edsger-2583" 571.3 2584 "barbara-2584" 608.4 2585 "donald-2585" 645.5
+  2586 "john-2586" 682.6 2587 "ken-2587" 719.7 2588 "dennis-2588" 756.8 2589 "niklaus-2589" 793.9 2590 "ada-2590" 830.0 2591 "alan-2591" 867.1
+  2592 "grace-2592" 904.2 2593 "edsger-2593" 941.3 2594 "barbara-2594" 978.4 2595 "donald-2595" 15.5 2596 "john-2596" 52.6 2597 "ken-2597" 89.7
+  2598 "dennis-2598" 126.8 2599 "niklaus-2599" 163.9 2600 "ada-2600" 200.0 2601 "alan-2601" 237.1 2602 "grace-2602" 274.2 2603 "edsger-2603" 311.3
+  2604 "barbara-2604" 348.4 2605 "donald-2605" 385.5 2606 "john-2606" 422.6 2607 "ken-2607" 459.7 2608 "dennis-2608" 496.8 2609 "niklaus-2609" 533.9
+  2610 "ada-2610" 570.0 2611 "alan-2611" 607.1 2612 "grace-2612" 644.2 2613 "edsger-2613" 681.3 2614 "barbara-2614" 718.4 2615 "donald-2615" 755.5
+  2616 "john-2616" 792.6 2617 "ken-2617" 829.7 2618 "dennis-2618" 866.8 2619 "niklaus-2619" 903.9 2620 "ada-2620" 940.0 2621 "alan-2621" 977.1
+  2622 "grace-2622" 14.2 2623 "edsger-2623" 51.3 2624 "barbara-2624" 88.4 2625 "donald-2625" 125.5 2626 "john-2626" 162.6 2627 "ken-2627" 199.7
+  2628 "dennis-2628" 236.8 2629 "niklaus-2629" 273.9 2630 "ada-2630" 310.0 2631 "alan-2631" 347.1 2632 "grace-2632" 384.2 2633 "edsger-2633" 421.3
+  2634 "barbara-2634" 458.4 2635 "donald-2635" 495.5 2636 "john-2636" 532.6 2637 "ken-2637" 569.7 2638 "dennis-2638" 606.8 2639 "niklaus-2639" 643.9
+  2640 "ada-2640" 680.0 2641 "alan-2641" 717.1 2642 "grace-2642" 754.2 2643 "edsger-2643" 791.3 2644 "barbara-2644" 828.4 2645 "donald-2645" 865.5
+  2646 "john-2646" 902.6 2647 "ken-2647" 939.7 2648 "dennis-2648" 976.8 2649 "niklaus-2649" 13.9 2650 "ada-2650" 50.0 2651 "alan-2651" 87.1
+  2652 "grace-2652" 124.2 2653 "edsger-2653" 161.3 2654 "barbara-2654" 198.4 2655 "donald-2655" 235.5 2656 "john-2656" 272.6 2657 "ken-2657" 309.7
+  2658 "dennis-2658" 346.8 2659 "niklaus-2659" 383.9 2660 "ada-2660" 420.0 2661 "alan-2661" 457.1 2662 "grace-2662" 494.2 2663 "edsger-2663" 531.3
+  2664 "barbara-2664" 568.4 2665 "donald-2665" 605.5 2666 "john-2666" 642.6 2667 "ken-2667" 679.7 2668 "dennis-2668" 716.8 2669 "niklaus-2669" 753.9
+  2670 "ada-2670" 790.0 2671 "alan-2671" 827.1 2672 "grace-2672" 864.2 2673 "edsger-2673" 901.3 2674 "barbara-2674" 938.4 2675 "donald-2675" 975.5
+  2676 "john-2676" 12.6 2677 "ken-2677" 49.7 2678 "dennis-2678" 86.8 2679 "niklaus-2679" 123.9 2680 "ada-2680" 160.0 2681 "alan-2681" 197.1
+  2682 "grace-2682" 234.2 2683 "edsger-2683" 271.3 2684 "barbara-2684" 308.4 2685 "donald-2685" 345.5 2686 "john-2686" 382.6 2687 "ken-2687" 419.7
+  2688 "dennis-2688" 456.8 2689 "niklaus-2689" 493.9 2690 "ada-2690" 530.0 2691 "alan-2691" 567.1 2692 "grace-2692" 604.2 2693 "edsger-2693" 641.3
+  2694 "barbara-2694" 678.4 2695 "donald-2695" 715.5 2696 "john-2696" 752.6 2697 "ken-2697" 789.7 2698 "dennis-2698" 826.8 2699 "niklaus-2699" 863.9
+  2700 "ada-2700" 900.0 2701 "alan-2701" 937.1 2702 "grace-2702" 974.2 2703 "edsger-2703" 11.3 2704 "barbara-2704" 48.4 2705 "donald-2705" 85.5
+  2706 "john-2706" 122.6 2707 "ken-2707" 159.7 2708 "dennis-2708" 196.8 2709 "niklaus-2709" 233.9 2710 "ada-2710" 270.0 2711 "alan-2711" 307.1
+  2712 "grace-2712" 344.2 2713 "edsger-2713" 381.3 2714 "barbara-2714" 418.4 2715 "donald-2715" 455.5 2716 "john-2716" 492.6 2717 "ken-2717" 529.7
+  2718 "dennis-2718" 566.8 2719 "niklaus-2719" 603.9 2720 "ada-2720" 640.0 2721 "alan-2721" 677.1 2722 "grace-2722" 714.2 2723 "edsger-2723" 751.3
+  2724 "barbara-2724" 788.4 2725 "donald-2725" 825.5 2726 "john-2726" 862.6 2727 "ken-2727" 899.7 2728 "dennis-2728" 936.8 2729 "niklaus-2729" 973.9
+  2730 "ada-2730" 10.0 2731 "alan-2731" 47.1 2732 "grace-2732" 84.2 2733 "edsger-2733" 121.3 2734 "barbara-2734" 158.4 2735 "donald-2735" 195.5
+  2736 "john-2736" 232.6 2737 "ken-2737" 269.7 2738 "dennis-2738" 306.8 2739 "niklaus-2739" 343.9 2740 "ada-2740" 380.0 2741 "alan-2741" 417.1
+  2742 "grace-2742" 454.2 2743 "edsger-2743" 491.3 2744 "barbara-2744" 528.4 2745 "donald-2745" 565.5 2746 "john-2746" 602.6 2747 "ken-2747" 639.7
+  2748 "dennis-2748" 676.8 2749 "niklaus-2749" 713.9 2750 "ada-2750" 750.0 2751 "alan-2751" 787.1 2752 "grace-2752" 824.2 2753 "edsger-2753" 861.3
+  2754 "barbara-2754" 898.4 2755 "donald-2755" 935.5 2756 "john-2756" 972.6 2757 "ken-2757" 9.7 2758 "dennis-2758" 46.8 2759 "niklaus-2759" 83.9
+  2760 "ada-2760" 120.0 2761 "alan-2761" 157.1 2762 "grace-2762" 194.2 2763 "edsger-2763" 231.3 2764 "barbara-2764" 268.4 2765 "donald-2765" 305.5
+  2766 "john-2766" 342.6 2767 "ken-2767" 379.7 2768 "dennis-2768" 416.8 2769 "niklaus-2769" 453.9 2770 "ada-2770" 490.0 2771 "alan-2771" 527.1
+  2772 "grace-2772" 564.2 2773 "edsger-2773" 601.3 2774 "barbara-2774" 638.4 2775 "donald-2775" 675.5 2776 "john-2776" 712.6 2777 "ken-2777" 749.7
+  2778 "dennis-2778" 786.8 2779 "niklaus-2779" 823.9 2780 "ada-2780" 860.0 2781 "alan-2781" 897.1 2782 "grace-2782" 934.2 2783 "edsger-2783" 971.3
+  2784 "barbara-2784" 8.4 2785 "donald-2785" 45.5 2786 "john-2786" 82.6 2787 "ken-2787" 119.7 2788 "dennis-2788" 156.8 2789 "niklaus-2789" 193.9
+  2790 "ada-2790" 230.0 2791 "alan-2791" 267.1 2792 "grace-2792" 304.2 2793 "edsger-2793" 341.3 2794 "barbara-2794" 378.4 2795 "donald-2795" 415.5
+  2796 "john-2796" 452.6 2797 "ken-2797" 489.7 2798 "dennis-2798" 526.8 2799 "niklaus-2799" 563.9 2800 "ada-2800" 600.0 2801 "alan-2801" 637.1
+  2802 "grace-2802" 674.2 2803 "edsger-2803" 711.3 2804 "barbara-2804" 748.4 2805 "donald-2805" 785.5 2806 "john-2806" 822.6 2807 "ken-2807" 859.7
+  2808 "dennis-2808" 896.8 2809 "niklaus-2809" 933.9 2810 "ada-2810" 970.0 2811 "alan-2811" 7.1 2812 "grace-2812" 44.2 2813 "edsger-2813" 81.3
+  2814 "barbara-2814" 118.4 2815 "donald-2815" 155.5 2816 "john-2816" 192.6 2817 "ken-2817" 229.7 2818 "dennis-2818" 266.8 2819 "niklaus-2819" 303.9
+  2820 "ada-2820" 340.0 2821 "alan-2821" 377.1 2822 "grace-2822" 414.2 2823 "edsger-2823" 451.3 2824 "barbara-2824" 488.4 2825 "donald-2825" 525.5
+  2826 "john-2826" 562.6 2827 "ken-2827" 599.7 2828 "dennis-2828" 636.8 2829 "niklaus-2829" 673.9 2830 "ada-2830" 710.0 2831 "alan-2831" 747.1
+  2832 "grace-2832" 784.2 2833 "edsger-2833" 821.3 2834 "barbara-2834" 858.4 2835 "donald-2835" 895.5 2836 "john-2836" 932.6 2837 "ken-2837" 969.7
+  2838 "dennis-2838" 6.8 2839 "niklaus-2839" 43.9 2840 "ada-2840" 80.0 2841 "alan-2841" 117.1 2842 "grace-2842" 154.2 2843 "edsger-2843" 191.3
+  2844 "barbara-2844" 228.4 2845 "donald-2845" 265.5 2846 "john-2846" 302.6 2847 "ken-2847" 339.7 2848 "dennis-2848" 376.8 2849 "niklaus-2849" 413.9
+  2850 "ada-2850" 450.0 2851 "alan-2851" 487.1 2852 "grace-2852" 524.2 2853 "edsger-2853" 561.3 2854 "barbara-2854" 598.4 2855 "donald-2855" 635.5
+  2856 "john-2856" 672.6 2857 "ken-2857" 709.7 2858 "dennis-2858" 746.8 2859 "niklaus-2859" 783.9 2860 "ada-2860" 820.0 2861 "alan-2861" 857.1
+  2862 "grace-2862" 894.2 2863 "edsger-2863" 931.3 2864 "barbara-2864" 968.4 2865 "donald-2865" 5.5 2866 "john-2866" 42.6 2867 "ken-2867" 79.7
+  2868 "dennis-2868" 116.8 2869 "niklaus-2869" 153.9 2870 "ada-2870" 190.0 2871 "alan-2871" 227.1 2872 "grace-2872" 264.2 2873 "edsger-2873" 301.3
+  2874 "barbara-2874" 338.4 2875 "donald-2875" 375.5 2876 "john-2876" 412.6 2877 "ken-2877" 449.7 2878 "dennis-2878" 486.8 2879 "niklaus-2879" 523.9
+  2880 "ada-2880" 560.0 2881 "alan-2881" 597.1 2882 "grace-2882" 634.2 2883 "edsger-2883" 671.3 2884 "barbara-2884" 708.4 2885 "donald-2885" 745.5
+  2886 "john-2886" 782.6 2887 "ken-2887" 819.7 2888 "dennis-2888" 856.8 2889 "niklaus-2889" 893.9 2890 "ada-2890" 930.0 2891 "alan-2891" 967.1
+  2892 "grace-2892" 4.2 2893 "edsger-2893" 41.3 2894 "barbara-2894" 78.4 2895 "donald-2895" 115.5 2896 "john-2896" 152.6 2897 "ken-2897" 189.7
+  2898 "dennis-2898" 226.8 2899 "niklaus-2899" 263.9 2900 "ada-2900" 300.0 2901 "alan-2901" 337.1 2902 "grace-2902" 374.2 2903 "edsger-2903" 411.3
+  2904 "barbara-2904" 448.4 2905 "donald-2905" 485.5 2906 "john-2906" 522.6 2907 "ken-2907" 559.7 2908 "dennis-2908" 596.8 2909 "niklaus-2909" 633.9
+  2910 "ada-2910" 670.0 2911 "alan-2911" 707.1 2912 "grace-2912" 744.2 2913 "edsger-2913" 781.3 2914 "barbara-2914" 818.4 2915 "donald-2915" 855.5
+  2916 "john-2916" 892.6 2917 "ken-2917" 929.7 2918 "dennis-2918" 966.8 2919 "niklaus-2919" 3.9 2920 "ada-2920" 40.0 2921 "alan-2921" 77.1
+  2922 "grace-2922" 114.2 2923 "edsger-2923" 151.3 2924 "barbara-2924" 188.4 2925 "donald-2925" 225.5 2926 "john-2926" 262.6 2927 "ken-2927" 299.7
+  2928 "dennis-2928" 336.8 2929 "niklaus-2929" 373.9 2930 "ada-2930" 410.0 2931 "alan-2931" 447.1 2932 "grace-2932" 484.2 2933 "edsger-2933" 521.3
+  2934 "barbara-2934" 558.4 2935 "donald-2935" 595.5 2936 "john-2936" 632.6 2937 "ken-2937" 669.7 2938 "dennis-2938" 706.8 2939 "niklaus-2939" 743.9
+  2940 "ada-2940" 780.0 2941 "alan-2941" 817.1 2942 "grace-2942" 854.2 2943 "edsger-2943" 891.3 2944 "barbara-2944" 928.4 2945 "donald-2945" 965.5
+  2946 "john-2946" 2.6 2947 "ken-2947" 39.7 2948 "dennis-2948" 76.8 2949 "niklaus-2949" 113.9 2950 "ada-2950" 150.0 2951 "alan-2951" 187.1
+  2952 "grace-2952" 224.2 2953 "edsger-2953" 261.3 2954 "barbara-2954" 298.4 2955 "donald-2955" 335.5 2956 "john-2956" 372.6 2957 "ken-2957" 409.7
+  2958 "dennis-2958" 446.8 2959 "niklaus-2959" 483.9 2960 "ada-2960" 520.0 2961 "alan-2961" 557.1 2962 "grace-2962" 594.2 2963 "edsger-2963" 631.3
+  2964 "barbara-2964" 668.4 2965 "donald-2965" 705.5 2966 "john-2966" 742.6 2967 "ken-2967" 779.7 2968 "dennis-2968" 816.8 2969 "niklaus-2969" 853.9
+  2970 "ada-2970" 890.0 2971 "alan-2971" 927.1 2972 "grace-2972" 964.2 2973 "edsger-2973" 1.3 2974 "barbara-2974" 38.4 2975 "donald-2975" 75.5
+  2976 "john-2976" 112.6 2977 "ken-2977" 149.7 2978 "dennis-2978" 186.8 2979 "niklaus-2979" 223.9 2980 "ada-2980" 260.0 2981 "alan-2981" 297.1
+  2982 "grace-2982" 334.2 2983 "edsger-2983" 371.3 2984 "barbara-2984" 408.4 2985 "donald-2985" 445.5 2986 "john-2986" 482.6 2987 "ken-2987" 519.7
+  2988 "dennis-2988" 556.8 2989 "niklaus-2989" 593.9 2990 "ada-2990" 630.0 2991 "alan-2991" 667.1 2992 "grace-2992" 704.2 2993 "edsger-2993" 741.3
+  2994 "barbara-2994" 778.4 2995 "donald-2995" 815.5 2996 "john-2996" 852.6 2997 "ken-2997" 889.7 2998 "dennis-2998" 926.8 2999 "niklaus-2999" 963.9)))
+(define total (l acc) (if (= l ()) acc (total (cdr (cdr (cdr l))) (+ acc (car (cdr (cdr l)))))))
+(define count (l n) (if (= l ()) n (count (cdr l) (+ n 1))))
+(define find (l id) (cond (= l ()) nil (= (car l) id) (car (cdr l)) else (find (cdr (cdr (cdr l))) id)))
+(define weights (l acc) (if (= l ()) acc (weights (cdr l) (+ acc (car (car (cdr (cdr (cdr (car l))))))))))
+(print (total records 0))
+(print (count records 0))
+(print (find records 2999))
+(set tree (quote (
+  (0 "ada" ("lisp" "lisp") (0 0 0)) (1 "alan" ("java" "gc") (1 1 1)) (2 "grace" ("vm" "parser") (2 2 2)) (3 "edsger" ("jit" "jit") (3 3 3))
+  (4 "barbara" ("parser" "vm") (4 4 4)) (5 "donald" ("gc" "java") (5 5 5)) (6 "john" ("lisp" "lisp") (6 6 6)) (7 "ken" ("java" "gc") (0 7 7))
+  (8 "dennis" ("vm" "parser") (1 8 8)) (9 "niklaus" ("jit" "jit") (2 9 9)) (10 "ada" ("parser" "vm") (3 10 10)) (11 "alan" ("gc" "java") (4 0 11))
+  (12 "grace" ("lisp" "lisp") (5 1 12)) (13 "edsger" ("java" "gc") (6 2 0)) (14 "barbara" ("vm" "parser") (0 3 1)) (15 "donald" ("jit" "jit") (1 4 2))
+  (16 "john" ("parser" "vm") (2 5 3)) (17 "ken" ("gc" "java") (3 6 4)) (18 "dennis" ("lisp" "lisp") (4 7 5)) (19 "niklaus" ("java" "gc") (5 8 6))
+  (20 "ada" ("vm" "parser") (6 9 7)) (21 "alan" ("jit" "jit") (0 10 8)) (22 "grace" ("parser" "vm") (1 0 9)) (23 "edsger" ("gc" "java") (2 1 10))
+  (24 "barbara" ("lisp" "lisp") (3 2 11)) (25 "donald" ("java" "gc") (4 3 12)) (26 "john" ("vm" "parser") (5 4 0)) (27 "ken" ("jit" "jit") (6 5 1))
+  (28 "dennis" ("parser" "vm") (0 6 2)) (29 "niklaus" ("gc" "java") (1 7 3)) (30 "ada" ("lisp" "lisp") (2 8 4)) (31 "alan" ("java" "gc") (3 9 5))
+  (32 "grace" ("vm" "parser") (4 10 6)) (33 "edsger" ("jit" "jit") (5 0 7)) (34 "barbara" ("parser" "vm") (6 1 8)) (35 "donald" ("gc" "java") (0 2 9))
+  (36 "john" ("lisp" "lisp") (1 3 10)) (37 "ken" ("java" "gc") (2 4 11)) (38 "dennis" ("vm" "parser") (3 5 12)) (39 "niklaus" ("jit" "jit") (4 6 0))
+  (40 "ada" ("parser" "vm") (5 7 1)) (41 "alan" ("gc" "java") (6 8 2)) (42 "grace" ("lisp" "lisp") (0 9 3)) (43 "edsger" ("java" "gc") (1 10 4))
+  (44 "barbara" ("vm" "parser") (2 0 5)) (45 "donald" ("jit" "jit") (3 1 6)) (46 "john" ("parser" "vm") (4 2 7)) (47 "ken" ("gc" "java") (5 3 8))
+  (48 "dennis" ("lisp" "lisp") (6 4 9)) (49 "niklaus" ("java" "gc") (0 5 10)) (50 "ada" ("vm" "parser") (1 6 11)) (51 "alan" ("jit" "jit") (2 7 12))
+  (52 "grace" ("parser" "vm") (3 8 0)) (53 "edsger" ("gc" "java") (4 9 1)) (54 "barbara" ("lisp" "lisp") (5 10 2)) (55 "donald" ("java" "gc") (6 0 3))
+  (56 "john" ("vm" "parser") (0 1 4)) (57 "ken" ("jit" "jit") (1 2 5)) (58 "dennis" ("parser" "vm") (2 3 6)) (59 "niklaus" ("gc" "java") (3 4 7))
+  (60 "ada" ("lisp" "lisp") (4 5 8)) (61 "alan" ("java" "gc") (5 6 9)) (62 "grace" ("vm" "parser") (6 7 10)) (63 "edsger" ("jit" "jit") (0 8 11))
+  (64 "barbara" ("parser" "vm") (1 9 12)) (65 "donald" ("gc" "java") (2 10 0)) (66 "john" ("lisp" "lisp") (3 0 1)) (67 "ken" ("java" "gc") (4 1 2))
+  (68 "dennis" ("vm" "parser") (5 2 3)) (69 "niklaus" ("jit" "jit") (6 3 4)) (70 "ada" ("parser" "vm") (0 4 5)) (71 "alan" ("gc" "java") (1 5 6))
+  (72 "grace" ("lisp" "lisp") (2 6 7)) (73 "edsger" ("java" "gc") (3 7 8)) (74 "barbara" ("vm" "parser") (4 8 9)) (75 "donald" ("jit" "jit") (5 9 10))
+  (76 "john" ("parser" "vm") (6 10 11)) (77 "ken" ("gc" "java") (0 0 12)) (78 "dennis" ("lisp" "lisp") (1 1 0)) (79 "niklaus" ("java" "gc") (2 2 1))
+  (80 "ada" ("vm" "parser") (3 3 2)) (81 "alan" ("jit" "jit") (4 4 3)) (82 "grace" ("parser" "vm") (5 5 4)) (83 "edsger" ("gc" "java") (6 6 5))
+  (84 "barbara" ("lisp" "lisp") (0 7 6)) (85 "donald" ("java" "gc") (1 8 7)) (86 "john" ("vm" "parser") (2 9 8)) (87 "ken" ("jit" "jit") (3 10 9))
+  (88 "dennis" ("parser" "vm") (4 0 10)) (89 "niklaus" ("gc" "java") (5 1 11)) (90 "ada" ("lisp" "lisp") (6 2 12)) (91 "alan" ("java" "gc") (0 3 0))
+  (92 "grace" ("vm" "parser") (1 4 1)) (93 "edsger" ("jit" "jit") (2 5 2)) (94 "barbara" ("parser" "vm") (3 6 3)) (95 "donald" ("gc" "java") (4 7 4))
+  (96 "john" ("lisp" "lisp") (5 8 5)) (97 "ken" ("java" "gc") (6 9 6)) (98 "dennis" ("vm" "parser") (0 10 7)) (99 "niklaus" ("jit" "jit") (1 0 8))
+  (100 "ada" ("parser" "vm") (2 1 9)) (101 "alan" ("gc" "java") (3 2 10)) (102 "grace" ("lisp" "lisp") (4 3 11)) (103 "edsger" ("java" "gc") (5 4 12))
+  (104 "barbara" ("vm" "parser") (6 5 0)) (105 "donald" ("jit" "jit") (0 6 1)) (106 "john" ("parser" "vm") (1 7 2)) (107 "ken" ("gc" "java") (2 8 3))
+  (108 "dennis" ("lisp" "lisp") (3 9 4)) (109 "niklaus" ("java" "gc") (4 10 5)) (110 "ada" ("vm" "parser") (5 0 6)) (111 "alan" ("jit" "jit") (6 1 7))
+  (112 "grace" ("parser" "vm") (0 2 8)) (113 "edsger" ("gc" "java") (1 3 9)) (114 "barbara" ("lisp" "lisp") (2 4 10)) (115 "donald" ("java" "gc") (3 5 11))
+  (116 "john" ("vm" "parser") (4 6 12)) (117 "ken" ("jit" "jit") (5 7 0)) (118 "dennis" ("parser" "vm") (6 8 1)) (119 "niklaus" ("gc" "java") (0 9 2))
+  (120 "ada" ("lisp" "lisp") (1 10 3)) (121 "alan" ("java" "gc") (2 0 4)) (122 "grace" ("vm" "parser") (3 1 5)) (123 "edsger" ("jit" "jit") (4 2 6))
+  (124 "barbara" ("parser" "vm") (5 3 7)) (125 "donald" ("gc" "java") (6 4 8)) (126 "john" ("lisp" "lisp") (0 5 9)) (127 "ken" ("java" "gc") (1 6 10))
+  (128 "dennis" ("vm" "parser") (2 7 11)) (129 "niklaus" ("jit" "jit") (3 8 12)) (130 "ada" ("parser" "vm") (4 9 0)) (131 "alan" ("gc" "java") (5 10 1))
+  (132 "grace" ("lisp" "lisp") (6 0 2)) (133 "edsger" ("java" "gc") (0 1 3)) (134 "barbara" ("vm" "parser") (1 2 4)) (135 "donald" ("jit" "jit") (2 3 5))
+  (136 "john" ("parser" "vm") (3 4 6)) (137 "ken" ("gc" "java") (4 5 7)) (138 "dennis" ("lisp" "lisp") (5 6 8)) (139 "niklaus" ("java" "gc") (6 7 9))
+  (140 "ada" ("vm" "parser") (0 8 10)) (141 "alan" ("jit" "jit") (1 9 11)) (142 "grace" ("parser" "vm") (2 10 12)) (143 "edsger" ("gc" "java") (3 0 0))
+  (144 "barbara" ("lisp" "lisp") (4 1 1)) (145 "donald" ("java" "gc") (5 2 2)) (146 "john" ("vm" "parser") (6 3 3)) (147 "ken" ("jit" "jit") (0 4 4))
+  (148 "dennis" ("parser" "vm") (1 5 5)) (149 "niklaus" ("gc" "java") (2 6 6)) (150 "ada" ("lisp" "lisp") (3 7 7)) (151 "alan" ("java" "gc") (4 8 8))
+  (152 "grace" ("vm" "parser") (5 9 9)) (153 "edsger" ("jit" "jit") (6 10 10)) (154 "barbara" ("parser" "vm") (0 0 11)) (155 "donald" ("gc" "java") (1 1 12))
+  (156 "john" ("lisp" "lisp") (2 2 0)) (157 "ken" ("java" "gc") (3 3 1)) (158 "dennis" ("vm" "parser") (4 4 2)) (159 "niklaus" ("jit" "jit") (5 5 3))
+  (160 "ada" ("parser" "vm") (6 6 4)) (161 "alan" ("gc" "java") (0 7 5)) (162 "grace" ("lisp" "lisp") (1 8 6)) (163 "edsger" ("java" "gc") (2 9 7))
+  (164 "barbara" ("vm" "parser") (3 10 8)) (165 "donald" ("jit" "jit") (4 0 9)) (166 "john" ("parser" "vm") (5 1 10)) (167 "ken" ("gc" "java") (6 2 11))
+  (168 "dennis" ("lisp" "lisp") (0 3 12)) (169 "niklaus" ("java" "gc") (1 4 0)) (170 "ada" ("vm" "parser") (2 5 1)) (171 "alan" ("jit" "jit") (3 6 2))
+  (172 "grace" ("parser" "vm") (4 7 3)) (173 "edsger" ("gc" "java") (5 8 4)) (174 "barbara" ("lisp" "lisp") (6 9 5)) (175 "donald" ("java" "gc") (0 10 6))
+  (176 "john" ("vm" "parser") (1 0 7)) (177 "ken" ("jit" "jit") (2 1 8)) (178 "dennis" ("parser" "vm") (3 2 9)) (179 "niklaus" ("gc" "java") (4 3 10))
+  (180 "ada" ("lisp" "lisp") (5 4 11)) (181 "alan" ("java" "gc") (6 5 12)) (182 "grace" ("vm" "parser") (0 6 0)) (183 "edsger" ("jit" "jit") (1 7 1))
+  (184 "barbara" ("parser" "vm") (2 8 2)) (185 "donald" ("gc" "java") (3 9 3)) (186 "john" ("lisp" "lisp") (4 10 4)) (187 "ken" ("java" "gc") (5 0 5))
+  (188 "dennis" ("vm" "parser") (6 1 6)) (189 "niklaus" ("jit" "jit") (0 2 7)) (190 "ada" ("parser" "vm") (1 3 8)) (191 "alan" ("gc" "java") (2 4 9))
+  (192 "grace" ("lisp" "lisp") (3 5 10)) (193 "edsger" ("java" "gc") (4 6 11)) (194 "barbara" ("vm" "parser") (5 7 12)) (195 "donald" ("jit" "jit") (6 8 0))
+  (196 "john" ("parser" "vm") (0 9 1)) (197 "ken" ("gc" "java") (1 10 2)) (198 "dennis" ("lisp" "lisp") (2 0 3)) (199 "niklaus" ("java" "gc") (3 1 4))
+  (200 "ada" ("vm" "parser") (4 2 5)) (201 "alan" ("jit" "jit") (5 3 6)) (202 "grace" ("parser" "vm") (6 4 7)) (203 "edsger" ("gc" "java") (0 5 8))
+  (204 "barbara" ("lisp" "lisp") (1 6 9)) (205 "donald" ("java" "gc") (2 7 10)) (206 "john" ("vm" "parser") (3 8 11)) (207 "ken" ("jit" "jit") (4 9 12))
+  (208 "dennis" ("parser" "vm") (5 10 0)) (209 "niklaus" ("gc" "java") (6 0 1)) (210 "ada" ("lisp" "lisp") (0 1 2)) (211 "alan" ("java" "gc") (1 2 3))
+  (212 "grace" ("vm" "parser") (2 3 4)) (213 "edsger" ("jit" "jit") (3 4 5)) (214 "barbara" ("parser" "vm") (4 5 6)) (215 "donald" ("gc" "java") (5 6 7))
+  (216 "john" ("lisp" "lisp") (6 7 8)) (217 "ken" ("java" "gc") (0 8 9)) (218 "dennis" ("vm" "parser") (1 9 10)) (219 "niklaus" ("jit" "jit") (2 10 11))
+  (220 "ada" ("parser" "vm") (3 0 12)) (221 "alan" ("gc" "java") (4 1 0)) (222 "grace" ("lisp" "lisp") (5 2 1)) (223 "edsger" ("java" "gc") (6 3 2))
+  (224 "barbara" ("vm" "parser") (0 4 3)) (225 "donald" ("jit" "jit") (1 5 4)) (226 "john" ("parser" "vm") (2 6 5)) (227 "ken" ("gc" "java") (3 7 6))
+  (228 "dennis" ("lisp" "lisp") (4 8 7)) (229 "niklaus" ("java" "gc") (5 9 8)) (230 "ada" ("vm" "parser") (6 10 9)) (231 "alan" ("jit" "jit") (0 0 10))
+  (232 "grace" ("parser" "vm") (1 1 11)) (233 "edsger" ("gc" "java") (2 2 12)) (234 "barbara" ("lisp" "lisp") (3 3 0)) (235 "donald" ("java" "gc") (4 4 1))
+  (236 "john" ("vm" "parser") (5 5 2)) (237 "ken" ("jit" "jit") (6 6 3)) (238 "dennis" ("parser" "vm") (0 7 4)) (239 "niklaus" ("gc" "java") (1 8 5))
+  (240 "ada" ("lisp" "lisp") (2 9 6)) (241 "alan" ("java" "gc") (3 10 7)) (242 "grace" ("vm" "parser") (4 0 8)) (243 "edsger" ("jit" "jit") (5 1 9))
+  (244 "barbara" ("parser" "vm") (6 2 10)) (245 "donald" ("gc" "java") (0 3 11)) (246 "john" ("lisp" "lisp") (1 4 12)) (247 "ken" ("java" "gc") (2 5 0))
+  (248 "dennis" ("vm" "parser") (3 6 1)) (249 "niklaus" ("jit" "jit") (4 7 2)) (250 "ada" ("parser" "vm") (5 8 3)) (251 "alan" ("gc" "java") (6 9 4))
+  (252 "grace" ("lisp" "lisp") (0 10 5)) (253 "edsger" ("java" "gc") (1 0 6)) (254 "barbara" ("vm" "parser") (2 1 7)) (255 "donald" ("jit" "jit") (3 2 8))
+  (256 "john" ("parser" "vm") (4 3 9)) (257 "ken" ("gc" "java") (5 4 10)) (258 "dennis" ("lisp" "lisp") (6 5 11)) (259 "niklaus" ("java" "gc") (0 6 12))
+  (260 "ada" ("vm" "parser") (1 7 0)) (261 "alan" ("jit" "jit") (2 8 1)) (262 "grace" ("parser" "vm") (3 9 2)) (263 "edsger" ("gc" "java") (4 10 3))
+  (264 "barbara" ("lisp" "lisp") (5 0 4)) (265 "donald" ("java" "gc") (6 1 5)) (266 "john" ("vm" "parser") (0 2 6)) (267 "ken" ("jit" "jit") (1 3 7))
+  (268 "dennis" ("parser" "vm") (2 4 8)) (269 "niklaus" ("gc" "java") (3 5 9)) (270 "ada" ("lisp" "lisp") (4 6 10)) (271 "alan" ("java" "gc") (5 7 11))
+  (272 "grace" ("vm" "parser") (6 8 12)) (273 "edsger" ("jit" "jit") (0 9 0)) (274 "barbara" ("parser" "vm") (1 10 1)) (275 "donald" ("gc" "java") (2 0 2))
+  (276 "john" ("lisp" "lisp") (3 1 3)) (277 "ken" ("java" "gc") (4 2 4)) (278 "dennis" ("vm" "parser") (5 3 5)) (279 "niklaus" ("jit" "jit") (6 4 6))
+  (280 "ada" ("parser" "vm") (0 5 7)) (281 "alan" ("gc" "java") (1 6 8)) (282 "grace" ("lisp" "lisp") (2 7 9)) (283 "edsger" ("java" "gc") (3 8 10))
+  (284 "barbara" ("vm" "parser") (4 9 11)) (285 "donald" ("jit" "jit") (5 10 12)) (286 "john" ("parser" "vm") (6 0 0)) (287 "ken" ("gc" "java") (0 1 1))
+  (288 "dennis" ("lisp" "lisp") (1 2 2)) (289 "niklaus" ("java" "gc") (2 3 3)) (290 "ada" ("vm" "parser") (3 4 4)) (291 "alan" ("jit" "jit") (4 5 5))
+  (292 "grace" ("parser" "vm") (5 6 6)) (293 "edsger" ("gc" "java") (6 7 7)) (294 "barbara" ("lisp" "lisp") (0 8 8)) (295 "donald" ("java" "gc") (1 9 9))
+  (296 "john" ("vm" "parser") (2 10 10)) (297 "ken" ("jit" "jit") (3 0 11)) (298 "dennis" ("parser" "vm") (4 1 12)) (299 "niklaus" ("gc" "java") (5 2 0))
+  (300 "ada" ("lisp" "lisp") (6 3 1)) (301 "alan" ("java" "gc") (0 4 2)) (302 "grace" ("vm" "parser") (1 5 3)) (303 "edsger" ("jit" "jit") (2 6 4))
+  (304 "barbara" ("parser" "vm") (3 7 5)) (305 "donald" ("gc" "java") (4 8 6)) (306 "john" ("lisp" "lisp") (5 9 7)) (307 "ken" ("java" "gc") (6 10 8))
+  (308 "dennis" ("vm" "parser") (0 0 9)) (309 "niklaus" ("jit" "jit") (1 1 10)) (310 "ada" ("parser" "vm") (2 2 11)) (311 "alan" ("gc" "java") (3 3 12))
+  (312 "grace" ("lisp" "lisp") (4 4 0)) (313 "edsger" ("java" "gc") (5 5 1)) (314 "barbara" ("vm" "parser") (6 6 2)) (315 "donald" ("jit" "jit") (0 7 3))
+  (316 "john" ("parser" "vm") (1 8 4)) (317 "ken" ("gc" "java") (2 9 5)) (318 "dennis" ("lisp" "lisp") (3 10 6)) (319 "niklaus" ("java" "gc") (4 0 7))
+  (320 "ada" ("vm" "parser") (5 1 8)) (321 "alan" ("jit" "jit") (6 2 9)) (322 "grace" ("parser" "vm") (0 3 10)) (323 "edsger" ("gc" "java") (1 4 11))
+  (324 "barbara" ("lisp" "lisp") (2 5 12)) (325 "donald" ("java" "gc") (3 6 0)) (326 "john" ("vm" "parser") (4 7 1)) (327 "ken" ("jit" "jit") (5 8 2))
+  (328 "dennis" ("parser" "vm") (6 9 3)) (329 "niklaus" ("gc" "java") (0 10 4)) (330 "ada" ("lisp" "lisp") (1 0 5)) (331 "alan" ("java" "gc") (2 1 6))
+  (332 "grace" ("vm" "parser") (3 2 7)) (333 "edsger" ("jit" "jit") (4 3 8)) (334 "barbara" ("parser" "vm") (5 4 9)) (335 "donald" ("gc" "java") (6 5 10))
+  (336 "john" ("lisp" "lisp") (0 6 11)) (337 "ken" ("java" "gc") (1 7 12)) (338 "dennis" ("vm" "parser") (2 8 0)) (339 "niklaus" ("jit" "jit") (3 9 1))
+  (340 "ada" ("parser" "vm") (4 10 2)) (341 "alan" ("gc" "java") (5 0 3)) (342 "grace" ("lisp" "lisp") (6 1 4)) (343 "edsger" ("java" "gc") (0 2 5))
+  (344 "barbara" ("vm" "parser") (1 3 6)) (345 "donald" ("jit" "jit") (2 4 7)) (346 "john" ("parser" "vm") (3 5 8)) (347 "ken" ("gc" "java") (4 6 9))
+  (348 "dennis" ("lisp" "lisp") (5 7 10)) (349 "niklaus" ("java" "gc") (6 8 11)) (350 "ada" ("vm" "parser") (0 9 12)) (351 "alan" ("jit" "jit") (1 10 0))
+  (352 "grace" ("parser" "vm") (2 0 1)) (353 "edsger" ("gc" "java") (3 1 2)) (354 "barbara" ("lisp" "lisp") (4 2 3)) (355 "donald" ("java" "gc") (5 3 4))
+  (356 "john" ("vm" "parser") (6 4 5)) (357 "ken" ("jit" "jit") (0 5 6)) (358 "dennis" ("parser" "vm") (1 6 7)) (359 "niklaus" ("gc" "java") (2 7 8))
+  (360 "ada" ("lisp" "lisp") (3 8 9)) (361 "alan" ("java" "gc") (4 9 10)) (362 "grace" ("vm" "parser") (5 10 11)) (363 "edsger" ("jit" "jit") (6 0 12))
+  (364 "barbara" ("parser" "vm") (0 1 0)) (365 "donald" ("gc" "java") (1 2 1)) (366 "john" ("lisp" "lisp") (2 3 2)) (367 "ken" ("java" "gc") (3 4 3))
+  (368 "dennis" ("vm" "parser") (4 5 4)) (369 "niklaus" ("jit" "jit") (5 6 5)) (370 "ada" ("parser" "vm") (6 7 6)) (371 "alan" ("gc" "java") (0 8 7))
+  (372 "grace" ("lisp" "lisp") (1 9 8)) (373 "edsger" ("java" "gc") (2 10 9)) (374 "barbara" ("vm" "parser") (3 0 10)) (375 "donald" ("jit" "jit") (4 1 11))
+  (376 "john" ("parser" "vm") (5 2 12)) (377 "ken" ("gc" "java") (6 3 0)) (378 "dennis" ("lisp" "lisp") (0 4 1)) (379 "niklaus" ("java" "gc") (1 5 2))
+  (380 "ada" ("vm" "parser") (2 6 3)) (381 "alan" ("jit" "jit") (3 7 4)) (382 "grace" ("parser" "vm") (4 8 5)) (383 "edsger" ("gc" "java") (5 9 6))
+  (384 "barbara" ("lisp" "lisp") (6 10 7)) (385 "donald" ("java" "gc") (0 0 8)) (386 "john" ("vm" "parser") (1 1 9)) (387 "ken" ("jit" "jit") (2 2 10))
+  (388 "dennis" ("parser" "vm") (3 3 11)) (389 "niklaus" ("gc" "java") (4 4 12)) (390 "ada" ("lisp" "lisp") (5 5 0)) (391 "alan" ("java" "gc") (6 6 1))
+  (392 "grace" ("vm" "parser") (0 7 2)) (393 "edsger" ("jit" "jit") (1 8 3)) (394 "barbara" ("parser" "vm") (2 9 4)) (395 "donald" ("gc" "java") (3 10 5))
+  (396 "john" ("lisp" "lisp") (4 0 6)) (397 "ken" ("java" "gc") (5 1 7)) (398 "dennis" ("vm" "parser") (6 2 8)) (399 "niklaus" ("jit" "jit") (0 3 9))
+  (400 "ada" ("parser" "vm") (1 4 10)) (401 "alan" ("gc" "java") (2 5 11)) (402 "grace" ("lisp" "lisp") (3 6 12)) (403 "edsger" ("java" "gc") (4 7 0))
+  (404 "barbara" ("vm" "parser") (5 8 1)) (405 "donald" ("jit" "jit") (6 9 2)) (406 "john" ("parser" "vm") (0 10 3)) (407 "ken" ("gc" "java") (1 0 4))
+  (408 "dennis" ("lisp" "lisp") (2 1 5)) (409 "niklaus" ("java" "gc") (3 2 6)) (410 "ada" ("vm" "parser") (4 3 7)) (411 "alan" ("jit" "jit") (5 4 8))
+  (412 "grace" ("parser" "vm") (6 5 9)) (413 "edsger" ("gc" "java") (0 6 10)) (414 "barbara" ("lisp" "lisp") (1 7 11)) (415 "donald" ("java" "gc") (2 8 12))
+  (416 "john" ("vm" "parser") (3 9 0)) (417 "ken" ("jit" "jit") (4 10 1)) (418 "dennis" ("parser" "vm") (5 0 2)) (419 "niklaus" ("gc" "java") (6 1 3))
+  (420 "ada" ("lisp" "lisp") (0 2 4)) (421 "alan" ("java" "gc") (1 3 5)) (422 "grace" ("vm" "parser") (2 4 6)) (423 "edsger" ("jit" "jit") (3 5 7))
+  (424 "barbara" ("parser" "vm") (4 6 8)) (425 "donald" ("gc" "java") (5 7 9)) (426 "john" ("lisp" "lisp") (6 8 10)) (427 "ken" ("java" "gc") (0 9 11))
+  (428 "dennis" ("vm" "parser") (1 10 12)) (429 "niklaus" ("jit" "jit") (2 0 0)) (430 "ada" ("parser" "vm") (3 1 1)) (431 "alan" ("gc" "java") (4 2 2))
+  (432 "grace" ("lisp" "lisp") (5 3 3)) (433 "edsger" ("java" "gc") (6 4 4)) (434 "barbara" ("vm" "parser") (0 5 5)) (435 "donald" ("jit" "jit") (1 6 6))
+  (436 "john" ("parser" "vm") (2 7 7)) (437 "ken" ("gc" "java") (3 8 8)) (438 "dennis" ("lisp" "lisp") (4 9 9)) (439 "niklaus" ("java" "gc") (5 10 10))
+  (440 "ada" ("vm" "parser") (6 0 11)) (441 "alan" ("jit" "jit") (0 1 12)) (442 "grace" ("parser" "vm") (1 2 0)) (443 "edsger" ("gc" "java") (2 3 1))
+  (444 "barbara" ("lisp" "lisp") (3 4 2)) (445 "donald" ("java" "gc") (4 5 3)) (446 "john" ("vm" "parser") (5 6 4)) (447 "ken" ("jit" "jit") (6 7 5))
+  (448 "dennis" ("parser" "vm") (0 8 6)) (449 "niklaus" ("gc" "java") (1 9 7)) (450 "ada" ("lisp" "lisp") (2 10 8)) (451 "alan" ("java" "gc") (3 0 9))
+  (452 "grace" ("vm" "parser") (4 1 10)) (453 "edsger" ("jit" "jit") (5 2 11)) (454 "barbara" ("parser" "vm") (6 3 12)) (455 "donald" ("gc" "java") (0 4 0))
+  (456 "john" ("lisp" "lisp") (1 5 1)) (457 "ken" ("java" "gc") (2 6 2)) (458 "dennis" ("vm" "parser") (3 7 3)) (459 "niklaus" ("jit" "jit") (4 8 4))
+  (460 "ada" ("parser" "vm") (5 9 5)) (461 "alan" ("gc" "java") (6 10 6)) (462 "grace" ("lisp" "lisp") (0 0 7)) (463 "edsger" ("java" "gc") (1 1 8))
+  (464 "barbara" ("vm" "parser") (2 2 9)) (465 "donald" ("jit" "jit") (3 3 10)) (466 "john" ("parser" "vm") (4 4 11)) (467 "ken" ("gc" "java") (5 5 12))
+  (468 "dennis" ("lisp" "lisp") (6 6 0)) (469 "niklaus" ("java" "gc") (0 7 1)) (470 "ada" ("vm" "parser") (1 8 2)) (471 "alan" ("jit" "jit") (2 9 3))
+  (472 "grace" ("parser" "vm") (3 10 4)) (473 "edsger" ("gc" "java") (4 0 5)) (474 "barbara" ("lisp" "lisp") (5 1 6)) (475 "donald" ("java" "gc") (6 2 7))
+  (476 "john" ("vm" "parser") (0 3 8)) (477 "ken" ("jit" "jit") (1 4 9)) (478 "dennis" ("parser" "vm") (2 5 10)) (479 "niklaus" ("gc" "java") (3 6 11))
+  (480 "ada" ("lisp" "lisp") (4 7 12)) (481 "alan" ("java" "gc") (5 8 0)) (482 "grace" ("vm" "parser") (6 9 1)) (483 "edsger" ("jit" "jit") (0 10 2))
+  (484 "barbara" ("parser" "vm") (1 0 3)) (485 "donald" ("gc" "java") (2 1 4)) (486 "john" ("lisp" "lisp") (3 2 5)) (487 "ken" ("java" "gc") (4 3 6))
+  (488 "dennis" ("vm" "parser") (5 4 7)) (489 "niklaus" ("jit" "jit") (6 5 8)) (490 "ada" ("parser" "vm") (0 6 9)) (491 "alan" ("gc" "java") (1 7 10))
+  (492 "grace" ("lisp" "lisp") (2 8 11)) (493 "edsger" ("java" "gc") (3 9 12)) (494 "barbara" ("vm" "parser") (4 10 0)) (495 "donald" ("jit" "jit") (5 0 1))
+  (496 "john" ("parser" "vm") (6 1 2)) (497 "ken" ("gc" "java") (0 2 3)) (498 "dennis" ("lisp" "lisp") (1 3 4)) (499 "niklaus" ("java" "gc") (2 4 5))
+  (500 "ada" ("vm" "parser") (3 5 6)) (501 "alan" ("jit" "jit") (4 6 7)) (502 "grace" ("parser" "vm") (5 7 8)) (503 "edsger" ("gc" "java") (6 8 9))
+  (504 "barbara" ("lisp" "lisp") (0 9 10)) (505 "donald" ("java" "gc") (1 10 11)) (506 "john" ("vm" "parser") (2 0 12)) (507 "ken" ("jit" "jit") (3 1 0))
+  (508 "dennis" ("parser" "vm") (4 2 1)) (509 "niklaus" ("gc" "java") (5 3 2)) (510 "ada" ("lisp" "lisp") (6 4 3)) (511 "alan" ("java" "gc") (0 5 4))
+  (512 "grace" ("vm" "parser") (1 6 5)) (513 "edsger" ("jit" "jit") (2 7 6)) (514 "barbara" ("parser" "vm") (3 8 7)) (515 "donald" ("gc" "java") (4 9 8))
+  (516 "john" ("lisp" "lisp") (5 10 9)) (517 "ken" ("java" "gc") (6 0 10)) (518 "dennis" ("vm" "parser") (0 1 11)) (519 "niklaus" ("jit" "jit") (1 2 12))
+  (520 "ada" ("parser" "vm") (2 3 0)) (521 "alan" ("gc" "java") (3 4 1)) (522 "grace" ("lisp" "lisp") (4 5 2)) (523 "edsger" ("java" "gc") (5 6 3))
+  (524 "barbara" ("vm" "parser") (6 7 4)) (525 "donald" ("jit" "jit") (0 8 5)) (526 "john" ("parser" "vm") (1 9 6)) (527 "ken" ("gc" "java") (2 10 7))
+  (528 "dennis" ("lisp" "lisp") (3 0 8)) (529 "niklaus" ("java" "gc") (4 1 9)) (530 "ada" ("vm" "parser") (5 2 10)) (531 "alan" ("jit" "jit") (6 3 11))
+  (532 "grace" ("parser" "vm") (0 4 12)) (533 "edsger" ("gc" "java") (1 5 0)) (534 "barbara" ("lisp" "lisp") (2 6 1)) (535 "donald" ("java" "gc") (3 7 2))
+  (536 "john" ("vm" "parser") (4 8 3)) (537 "ken" ("jit" "jit") (5 9 4)) (538 "dennis" ("parser" "vm") (6 10 5)) (539 "niklaus" ("gc" "java") (0 0 6))
+  (540 "ada" ("lisp" "lisp") (1 1 7)) (541 "alan" ("java" "gc") (2 2 8)) (542 "grace" ("vm" "parser") (3 3 9)) (543 "edsger" ("jit" "jit") (4 4 10))
+  (544 "barbara" ("parser" "vm") (5 5 11)) (545 "donald" ("gc" "java") (6 6 12)) (546 "john" ("lisp" "lisp") (0 7 0)) (547 "ken" ("java" "gc") (1 8 1))
+  (548 "dennis" ("vm" "parser") (2 9 2)) (549 "niklaus" ("jit" "jit") (3 10 3)) (550 "ada" ("parser" "vm") (4 0 4)) (551 "alan" ("gc" "java") (5 1 5))
+  (552 "grace" ("lisp" "lisp") (6 2 6)) (553 "edsger" ("java" "gc") (0 3 7)) (554 "barbara" ("vm" "parser") (1 4 8)) (555 "donald" ("jit" "jit") (2 5 9))
+  (556 "john" ("parser" "vm") (3 6 10)) (557 "ken" ("gc" "java") (4 7 11)) (558 "dennis" ("lisp" "lisp") (5 8 12)) (559 "niklaus" ("java" "gc") (6 9 0))
+  (560 "ada" ("vm" "parser") (0 10 1)) (561 "alan" ("jit" "jit") (1 0 2)) (562 "grace" ("parser" "vm") (2 1 3)) (563 "edsger" ("gc" "java") (3 2 4))
+  (564 "barbara" ("lisp" "lisp") (4 3 5)) (565 "donald" ("java" "gc") (5 4 6)) (566 "john" ("vm" "parser") (6 5 7)) (567 "ken" ("jit" "jit") (0 6 8))
+  (568 "dennis" ("parser" "vm") (1 7 9)) (569 "niklaus" ("gc" "java") (2 8 10)) (570 "ada" ("lisp" "lisp") (3 9 11)) (571 "alan" ("java" "gc") (4 10 12))
+  (572 "grace" ("vm" "parser") (5 0 0)) (573 "edsger" ("jit" "jit") (6 1 1)) (574 "barbara" ("parser" "vm") (0 2 2)) (575 "donald" ("gc" "java") (1 3 3))
+  (576 "john" ("lisp" "lisp") (2 4 4)) (577 "ken" ("java" "gc") (3 5 5)) (578 "dennis" ("vm" "parser") (4 6 6)) (579 "niklaus" ("jit" "jit") (5 7 7))
+  (580 "ada" ("parser" "vm") (6 8 8)) (581 "alan" ("gc" "java") (0 9 9)) (582 "grace" ("lisp" "lisp") (1 10 10)) (583 "edsger" ("java" "gc") (2 0 11))
+  (584 "barbara" ("vm" "parser") (3 1 12)) (585 "donald" ("jit" "jit") (4 2 0)) (586 "john" ("parser" "vm") (5 3 1)) (587 "ken" ("gc" "java") (6 4 2))
+  (588 "dennis" ("lisp" "lisp") (0 5 3)) (589 "niklaus" ("java" "gc") (1 6 4)) (590 "ada" ("vm" "parser") (2 7 5)) (591 "alan" ("jit" "jit") (3 8 6))
+  (592 "grace" ("parser" "vm") (4 9 7)) (593 "edsger" ("gc" "java") (5 10 8)) (594 "barbara" ("lisp" "lisp") (6 0 9)) (595 "donald" ("java" "gc") (0 1 10))
+  (596 "john" ("vm" "parser") (1 2 11)) (597 "ken" ("jit" "jit") (2 3 12)) (598 "dennis" ("parser" "vm") (3 4 0)) (599 "niklaus" ("gc" "java") (4 5 1)))))
+(print (= (
+  (0 "ada" ("lisp" "lisp") (0 0 0)) (1 "alan" ("java" "gc") (1 1 1)) (2 "grace" ("vm" "parser") (2 2 2)) (3 "edsger" ("jit" "jit") (3 3 3))
+  (4 "barbara" ("parser" "vm") (4 4 4)) (5 "donald" ("gc" "java") (5 5 5)) (6 "john" ("lisp" "lisp") (6 6 6)) (7 "ken" ("java" "gc") (0 7 7))
+  (8 "dennis" ("vm" "parser") (1 8 8)) (9 "niklaus" ("jit" "jit") (2 9 9)) (10 "ada" ("parser" "vm") (3 10 10)) (11 "alan" ("gc" "java") (4 0 11))
+  (12 "grace" ("lisp" "lisp") (5 1 12)) (13 "edsger" ("java" "gc") (6 2 0)) (14 "barbara" ("vm" "parser") (0 3 1)) (15 "donald" ("jit" "jit") (1 4 2))
+  (16 "john" ("parser" "vm") (2 5 3)) (17 "ken" ("gc" "java") (3 6 4)) (18 "dennis" ("lisp" "lisp") (4 7 5)) (19 "niklaus" ("java" "gc") (5 8 6))
+  (20 "ada" ("vm" "parser") (6 9 7)) (21 "alan" ("jit" "jit") (0 10 8)) (22 "grace" ("parser" "vm") (1 0 9)) (23 "edsger" ("gc" "java") (2 1 10))
+  (24 "barbara" ("lisp" "lisp") (3 2 11)) (25 "donald" ("java" "gc") (4 3 12)) (26 "john" ("vm" "parser") (5 4 0)) (27 "ken" ("jit" "jit") (6 5 1))
+  (28 "dennis" ("parser" "vm") (0 6 2)) (29 "niklaus" ("gc" "java") (1 7 3)) (30 "ada" ("lisp" "lisp") (2 8 4)) (31 "alan" ("java" "gc") (3 9 5))
+  (32 "grace" ("vm" "parser") (4 10 6)) (33 "edsger" ("jit" "jit") (5 0 7)) (34 "barbara" ("parser" "vm") (6 1 8)) (35 "donald" ("gc" "java") (0 2 9))
+  (36 "john" ("lisp" "lisp") (1 3 10)) (37 "ken" ("java" "gc") (2 4 11)) (38 "dennis" ("vm" "parser") (3 5 12)) (39 "niklaus" ("jit" "jit") (4 6 0))
+  (40 "ada" ("parser" "vm") (5 7 1)) (41 "alan" ("gc" "java") (6 8 2)) (42 "grace" ("lisp" "lisp") (0 9 3)) (43 "edsger" ("java" "gc") (1 10 4))
+  (44 "barbara" ("vm" "parser") (2 0 5)) (45 "donald" ("jit" "jit") (3 1 6)) (46 "john" ("parser" "vm") (4 2 7)) (47 "ken" ("gc" "java") (5 3 8))
+  (48 "dennis" ("lisp" "lisp") (6 4 9)) (49 "niklaus" ("java" "gc") (0 5 10)) (50 "ada" ("vm" "parser") (1 6 11)) (51 "alan" ("jit" "jit") (2 7 12))
+  (52 "grace" ("parser" "vm") (3 8 0)) (53 "edsger" ("gc" "java") (4 9 1)) (54 "barbara" ("lisp" "lisp") (5 10 2)) (55 "donald" ("java" "gc") (6 0 3))
+  (56 "john" ("vm" "parser") (0 1 4)) (57 "ken" ("jit" "jit") (1 2 5)) (58 "dennis" ("parser" "vm") (2 3 6)) (59 "niklaus" ("gc" "java") (3 4 7))
+  (60 "ada" ("lisp" "lisp") (4 5 8)) (61 "alan" ("java" "gc") (5 6 9)) (62 "grace" ("vm" "parser") (6 7 10)) (63 "edsger" ("jit" "jit") (0 8 11))
+  (64 "barbara" ("parser" "vm") (1 9 12)) (65 "donald" ("gc" "java") (2 10 0)) (66 "john" ("lisp" "lisp") (3 0 1)) (67 "ken" ("java" "gc") (4 1 2))
+  (68 "dennis" ("vm" "parser") (5 2 3)) (69 "niklaus" ("jit" "jit") (6 3 4)) (70 "ada" ("parser" "vm") (0 4 5)) (71 "alan" ("gc" "java") (1 5 6))
+  (72 "grace" ("lisp" "lisp") (2 6 7)) (73 "edsger" ("java" "gc") (3 7 8)) (74 "barbara" ("vm" "parser") (4 8 9)) (75 "donald" ("jit" "jit") (5 9 10))
+  (76 "john" ("parser" "vm") (6 10 11)) (77 "ken" ("gc" "java") (0 0 12)) (78 "dennis" ("lisp" "lisp") (1 1 0)) (79 "niklaus" ("java" "gc") (2 2 1))
+  (80 "ada" ("vm" "parser") (3 3 2)) (81 "alan" ("jit" "jit") (4 4 3)) (82 "grace" ("parser" "vm") (5 5 4)) (83 "edsger" ("gc" "java") (6 6 5))
+  (84 "barbara" ("lisp" "lisp") (0 7 6)) (85 "donald" ("java" "gc") (1 8 7)) (86 "john" ("vm" "parser") (2 9 8)) (87 "ken" ("jit" "jit") (3 10 9))
+  (88 "dennis" ("parser" "vm") (4 0 10)) (89 "niklaus" ("gc" "java") (5 1 11)) (90 "ada" ("lisp" "lisp") (6 2 12)) (91 "alan" ("java" "gc") (0 3 0))
+  (92 "grace" ("vm" "parser") (1 4 1)) (93 "edsger" ("jit" "jit") (2 5 2)) (94 "barbara" ("parser" "vm") (3 6 3)) (95 "donald" ("gc" "java") (4 7 4))
+  (96 "john" ("lisp" "lisp") (5 8 5)) (97 "ken" ("java" "gc") (6 9 6)) (98 "dennis" ("vm" "parser") (0 10 7)) (99 "niklaus" ("jit" "jit") (1 0 8))
+  (100 "ada" ("parser" "vm") (2 1 9)) (101 "alan" ("gc" "java") (3 2 10)) (102 "grace" ("lisp" "lisp") (4 3 11)) (103 "edsger" ("java" "gc") (5 4 12))
+  (104 "barbara" ("vm" "parser") (6 5 0)) (105 "donald" ("jit" "jit") (0 6 1)) (106 "john" ("parser" "vm") (1 7 2)) (107 "ken" ("gc" "java") (2 8 3))
+  (108 "dennis" ("lisp" "lisp") (3 9 4)) (109 "niklaus" ("java" "gc") (4 10 5)) (110 "ada" ("vm" "parser") (5 0 6)) (111 "alan" ("jit" "jit") (6 1 7))
+  (112 "grace" ("parser" "vm") (0 2 8)) (113 "edsger" ("gc" "java") (1 3 9)) (114 "barbara" ("lisp" "lisp") (2 4 10)) (115 "donald" ("java" "gc") (3 5 11))
+  (116 "john" ("vm" "parser") (4 6 12)) (117 "ken" ("jit" "jit") (5 7 0)) (118 "dennis" ("parser" "vm") (6 8 1)) (119 "niklaus" ("gc" "java") (0 9 2))
+  (120 "ada" ("lisp" "lisp") (1 10 3)) (121 "alan" ("java" "gc") (2 0 4)) (122 "grace" ("vm" "parser") (3 1 5)) (123 "edsger" ("jit" "jit") (4 2 6))
+  (124 "barbara" ("parser" "vm") (5 3 7)) (125 "donald" ("gc" "java") (6 4 8)) (126 "john" ("lisp" "lisp") (0 5 9)) (127 "ken" ("java" "gc") (1 6 10))
+  (128 "dennis" ("vm" "parser") (2 7 11)) (129 "niklaus" ("jit" "jit") (3 8 12)) (130 "ada" ("parser" "vm") (4 9 0)) (131 "alan" ("gc" "java") (5 10 1))
+  (132 "grace" ("lisp" "lisp") (6 0 2)) (133 "edsger" ("java" "gc") (0 1 3)) (134 "barbara" ("vm" "parser") (1 2 4)) (135 "donald" ("jit" "jit") (2 3 5))
+  (136 "john" ("parser" "vm") (3 4 6)) (137 "ken" ("gc" "java") (4 5 7)) (138 "dennis" ("lisp" "lisp") (5 6 8)) (139 "niklaus" ("java" "gc") (6 7 9))
+  (140 "ada" ("vm" "parser") (0 8 10)) (141 "alan" ("jit" "jit") (1 9 11)) (142 "grace" ("parser" "vm") (2 10 12)) (143 "edsger" ("gc" "java") (3 0 0))
+  (144 "barbara" ("lisp" "lisp") (4 1 1)) (145 "donald" ("java" "gc") (5 2 2)) (146 "john" ("vm" "parser") (6 3 3)) (147 "ken" ("jit" "jit") (0 4 4))
+  (148 "dennis" ("parser" "vm") (1 5 5)) (149 "niklaus" ("gc" "java") (2 6 6)) (150 "ada" ("lisp" "lisp") (3 7 7)) (151 "alan" ("java" "gc") (4 8 8))
+  (152 "grace" ("vm" "parser") (5 9 9)) (153 "edsger" ("jit" "jit") (6 10 10)) (154 "barbara" ("parser" "vm") (0 0 11)) (155 "donald" ("gc" "java") (1 1 12))
+  (156 "john" ("lisp" "lisp") (2 2 0)) (157 "ken" ("java" "gc") (3 3 1)) (158 "dennis" ("vm" "parser") (4 4 2)) (159 "niklaus" ("jit" "jit") (5 5 3))
+  (160 "ada" ("parser" "vm") (6 6 4)) (161 "alan" ("gc" "java") (0 7 5)) (162 "grace" ("lisp" "lisp") (1 8 6)) (163 "edsger" ("java" "gc") (2 9 7))
+  (164 "barbara" ("vm" "parser") (3 10 8)) (165 "donald" ("jit" "jit") (4 0 9)) (166 "john" ("parser" "vm") (5 1 10)) (167 "ken" ("gc" "java") (6 2 11))
+  (168 "dennis" ("lisp" "lisp") (0 3 12)) (169 "niklaus" ("java" "gc") (1 4 0)) (170 "ada" ("vm" "parser") (2 5 1)) (171 "alan" ("jit" "jit") (3 6 2))
+  (172 "grace" ("parser" "vm") (4 7 3)) (173 "edsger" ("gc" "java") (5 8 4)) (174 "barbara" ("lisp" "lisp") (6 9 5)) (175 "donald" ("java" "gc") (0 10 6))
+  (176 "john" ("vm" "parser") (1 0 7)) (177 "ken" ("jit" "jit") (2 1 8)) (178 "dennis" ("parser" "vm") (3 2 9)) (179 "niklaus" ("gc" "java") (4 3 10))
+  (180 "ada" ("lisp" "lisp") (5 4 11)) (181 "alan" ("java" "gc") (6 5 12)) (182 "grace" ("vm" "parser") (0 6 0)) (183 "edsger" ("jit" "jit") (1 7 1))
+  (184 "barbara" ("parser" "vm") (2 8 2)) (185 "donald" ("gc" "java") (3 9 3)) (186 "john" ("lisp" "lisp") (4 10 4)) (187 "ken" ("java" "gc") (5 0 5))
+  (188 "dennis" ("vm" "parser") (6 1 6)) (189 "niklaus" ("jit" "jit") (0 2 7)) (190 "ada" ("parser" "vm") (1 3 8)) (191 "alan" ("gc" "java") (2 4 9))
+  (192 "grace" ("lisp" "lisp") (3 5 10)) (193 "edsger" ("java" "gc") (4 6 11)) (194 "barbara" ("vm" "parser") (5 7 12)) (195 "donald" ("jit" "jit") (6 8 0))
+  (196 "john" ("parser" "vm") (0 9 1)) (197 "ken" ("gc" "java") (1 10 2)) (198 "dennis" ("lisp" "lisp") (2 0 3)) (199 "niklaus" ("java" "gc") (3 1 4))
+  (200 "ada" ("vm" "parser") (4 2 5)) (201 "alan" ("jit" "jit") (5 3 6)) (202 "grace" ("parser" "vm") (6 4 7)) (203 "edsger" ("gc" "java") (0 5 8))
+  (204 "barbara" ("lisp" "lisp") (1 6 9)) (205 "donald" ("java" "gc") (2 7 10)) (206 "john" ("vm" "parser") (3 8 11)) (207 "ken" ("jit" "jit") (4 9 12))
+  (208 "dennis" ("parser" "vm") (5 10 0)) (209 "niklaus" ("gc" "java") (6 0 1)) (210 "ada" ("lisp" "lisp") (0 1 2)) (211 "alan" ("java" "gc") (1 2 3))
+  (212 "grace" ("vm" "parser") (2 3 4)) (213 "edsger" ("jit" "jit") (3 4 5)) (214 "barbara" ("parser" "vm") (4 5 6)) (215 "donald" ("gc" "java") (5 6 7))
+  (216 "john" ("lisp" "lisp") (6 7 8)) (217 "ken" ("java" "gc") (0 8 9)) (218 "dennis" ("vm" "parser") (1 9 10)) (219 "niklaus" ("jit" "jit") (2 10 11))
+  (220 "ada" ("parser" "vm") (3 0 12)) (221 "alan" ("gc" "java") (4 1 0)) (222 "grace" ("lisp" "lisp") (5 2 1)) (223 "edsger" ("java" "gc") (6 3 2))
+  (224 "barbara" ("vm" "parser") (0 4 3)) (225 "donald" ("jit" "jit") (1 5 4)) (226 "john" ("parser" "vm") (2 6 5)) (227 "ken" ("gc" "java") (3 7 6))
+  (228 "dennis" ("lisp" "lisp") (4 8 7)) (229 "niklaus" ("java" "gc") (5 9 8)) (230 "ada" ("vm" "parser") (6 10 9)) (231 "alan" ("jit" "jit") (0 0 10))
+  (232 "grace" ("parser" "vm") (1 1 11)) (233 "edsger" ("gc" "java") (2 2 12)) (234 "barbara" ("lisp" "lisp") (3 3 0)) (235 "donald" ("java" "gc") (4 4 1))
+  (236 "john" ("vm" "parser") (5 5 2)) (237 "ken" ("jit" "jit") (6 6 3)) (238 "dennis" ("parser" "vm") (0 7 4)) (239 "niklaus" ("gc" "java") (1 8 5))
+  (240 "ada" ("lisp" "lisp") (2 9 6)) (241 "alan" ("java" "gc") (3 10 7)) (242 "grace" ("vm" "parser") (4 0 8)) (243 "edsger" ("jit" "jit") (5 1 9))
+  (244 "barbara" ("parser" "vm") (6 2 10)) (245 "donald" ("gc" "java") (0 3 11)) (246 "john" ("lisp" "lisp") (1 4 12)) (247 "ken" ("java" "gc") (2 5 0))
+  (248 "dennis" ("vm" "parser") (3 6 1)) (249 "niklaus" ("jit" "jit") (4 7 2)) (250 "ada" ("parser" "vm") (5 8 3)) (251 "alan" ("gc" "java") (6 9 4))
+  (252 "grace" ("lisp" "lisp") (0 10 5)) (253 "edsger" ("java" "gc") (1 0 6)) (254 "barbara" ("vm" "parser") (2 1 7)) (255 "donald" ("jit" "jit") (3 2 8))
+  (256 "john" ("parser" "vm") (4 3 9)) (257 "ken" ("gc" "java") (5 4 10)) (258 "dennis" ("lisp" "lisp") (6 5 11)) (259 "niklaus" ("java" "gc") (0 6 12))
+  (260 "ada" ("vm" "parser") (1 7 0)) (261 "alan" ("jit" "jit") (2 8 1)) (262 "grace" ("parser" "vm") (3 9 2)) (263 "edsger" ("gc" "java") (4 10 3))
+  (264 "barbara" ("lisp" "lisp") (5 0 4)) (265 "donald" ("java" "gc") (6 1 5)) (266 "john" ("vm" "parser") (0 2 6)) (267 "ken" ("jit" "jit") (1 3 7))
+  (268 "dennis" ("parser" "vm") (2 4 8)) (269 "niklaus" ("gc" "java") (3 5 9)) (270 "ada" ("lisp" "lisp") (4 6 10)) (271 "alan" ("java" "gc") (5 7 11))
+  (272 "grace" ("vm" "parser") (6 8 12)) (273 "edsger" ("jit" "jit") (0 9 0)) (274 "barbara" ("parser" "vm") (1 10 1)) (275 "donald" ("gc" "java") (2 0 2))
+  (276 "john" ("lisp" "lisp") (3 1 3)) (277 "ken" ("java" "gc") (4 2 4)) (278 "dennis" ("vm" "parser") (5 3 5)) (279 "niklaus" ("jit" "jit") (6 4 6))
+  (280 "ada" ("parser" "vm") (0 5 7)) (281 "alan" ("gc" "java") (1 6 8)) (282 "grace" ("lisp" "lisp") (2 7 9)) (283 "edsger" ("java" "gc") (3 8 10))
+  (284 "barbara" ("vm" "parser") (4 9 11)) (285 "donald" ("jit" "jit") (5 10 12)) (286 "john" ("parser" "vm") (6 0 0)) (287 "ken" ("gc" "java") (0 1 1))
+  (288 "dennis" ("lisp" "lisp") (1 2 2)) (289 "niklaus" ("java" "gc") (2 3 3)) (290 "ada" ("vm" "parser") (3 4 4)) (291 "alan" ("jit" "jit") (4 5 5))
+  (292 "grace" ("parser" "vm") (5 6 6)) (293 "edsger" ("gc" "java") (6 7 7)) (294 "barbara" ("lisp" "lisp") (0 8 8)) (295 "donald" ("java" "gc") (1 9 9))
+  (296 "john" ("vm" "parser") (2 10 10)) (297 "ken" ("jit" "jit") (3 0 11)) (298 "dennis" ("parser" "vm") (4 1 12)) (299 "niklaus" ("gc" "java") (5 2 0))
+  (300 "ada" ("lisp" "lisp") (6 3 1)) (301 "alan" ("java" "gc") (0 4 2)) (302 "grace" ("vm" "parser") (1 5 3)) (303 "edsger" ("jit" "jit") (2 6 4))
+  (304 "barbara" ("parser" "vm") (3 7 5)) (305 "donald" ("gc" "java") (4 8 6)) (306 "john" ("lisp" "lisp") (5 9 7)) (307 "ken" ("java" "gc") (6 10 8))
+  (308 "dennis" ("vm" "parser") (0 0 9)) (309 "niklaus" ("jit" "jit") (1 1 10)) (310 "ada" ("parser" "vm") (2 2 11)) (311 "alan" ("gc" "java") (3 3 12))
+  (312 "grace" ("lisp" "lisp") (4 4 0)) (313 "edsger" ("java" "gc") (5 5 1)) (314 "barbara" ("vm" "parser") (6 6 2)) (315 "donald" ("jit" "jit") (0 7 3))
+  (316 "john" ("parser" "vm") (1 8 4)) (317 "ken" ("gc" "java") (2 9 5)) (318 "dennis" ("lisp" "lisp") (3 10 6)) (319 "niklaus" ("java" "gc") (4 0 7))
+  (320 "ada" ("vm" "parser") (5 1 8)) (321 "alan" ("jit" "jit") (6 2 9)) (322 "grace" ("parser" "vm") (0 3 10)) (323 "edsger" ("gc" "java") (1 4 11))
+  (324 "barbara" ("lisp" "lisp") (2 5 12)) (325 "donald" ("java" "gc") (3 6 0)) (326 "john" ("vm" "parser") (4 7 1)) (327 "ken" ("jit" "jit") (5 8 2))
+  (328 "dennis" ("parser" "vm") (6 9 3)) (329 "niklaus" ("gc" "java") (0 10 4)) (330 "ada" ("lisp" "lisp") (1 0 5)) (331 "alan" ("java" "gc") (2 1 6))
+  (332 "grace" ("vm" "parser") (3 2 7)) (333 "edsger" ("jit" "jit") (4 3 8)) (334 "barbara" ("parser" "vm") (5 4 9)) (335 "donald" ("gc" "java") (6 5 10))
+  (336 "john" ("lisp" "lisp") (0 6 11)) (337 "ken" ("java" "gc") (1 7 12)) (338 "dennis" ("vm" "parser") (2 8 0)) (339 "niklaus" ("jit" "jit") (3 9 1))
+  (340 "ada" ("parser" "vm") (4 10 2)) (341 "alan" ("gc" "java") (5 0 3)) (342 "grace" ("lisp" "lisp") (6 1 4)) (343 "edsger" ("java" "gc") (0 2 5))
+  (344 "barbara" ("vm" "parser") (1 3 6)) (345 "donald" ("jit" "jit") (2 4 7)) (346 "john" ("parser" "vm") (3 5 8)) (347 "ken" ("gc" "java") (4 6 9))
+  (348 "dennis" ("lisp" "lisp") (5 7 10)) (349 "niklaus" ("java" "gc") (6 8 11)) (350 "ada" ("vm" "parser") (0 9 12)) (351 "alan" ("jit" "jit") (1 10 0))
+  (352 "grace" ("parser" "vm") (2 0 1)) (353 "edsger" ("gc" "java") (3 1 2)) (354 "barbara" ("lisp" "lisp") (4 2 3)) (355 "donald" ("java" "gc") (5 3 4))
+  (356 "john" ("vm" "parser") (6 4 5)) (357 "ken" ("jit" "jit") (0 5 6)) (358 "dennis" ("parser" "vm") (1 6 7)) (359 "niklaus" ("gc" "java") (2 7 8))
+  (360 "ada" ("lisp" "lisp") (3 8 9)) (361 "alan" ("java" "gc") (4 9 10)) (362 "grace" ("vm" "parser") (5 10 11)) (363 "edsger" ("jit" "jit") (6 0 12))
+  (364 "barbara" ("parser" "vm") (0 1 0)) (365 "donald" ("gc" "java") (1 2 1)) (366 "john" ("lisp" "lisp") (2 3 2)) (367 "ken" ("java" "gc") (3 4 3))
+  (368 "dennis" ("vm" "parser") (4 5 4)) (369 "niklaus" ("jit" "jit") (5 6 5)) (370 "ada" ("parser" "vm") (6 7 6)) (371 "alan" ("gc" "java") (0 8 7))
+  (372 "grace" ("lisp" "lisp") (1 9 8)) (373 "edsger" ("java" "gc") (2 10 9)) (374 "barbara" ("vm" "parser") (3 0 10)) (375 "donald" ("jit" "jit") (4 1 11))
+  (376 "john" ("parser" "vm") (5 2 12)) (377 "ken" ("gc" "java") (6 3 0)) (378 "dennis" ("lisp" "lisp") (0 4 1)) (379 "niklaus" ("java" "gc") (1 5 2))
+  (380 "ada" ("vm" "parser") (2 6 3)) (381 "alan" ("jit" "jit") (3 7 4)) (382 "grace" ("parser" "vm") (4 8 5)) (383 "edsger" ("gc" "java") (5 9 6))
+  (384 "barbara" ("lisp" "lisp") (6 10 7)) (385 "donald" ("java" "gc") (0 0 8)) (386 "john" ("vm" "parser") (1 1 9)) (387 "ken" ("jit" "jit") (2 2 10))
+  (388 "dennis" ("parser" "vm") (3 3 11)) (389 "niklaus" ("gc" "java") (4 4 12)) (390 "ada" ("lisp" "lisp") (5 5 0)) (391 "alan" ("java" "gc") (6 6 1))
+  (392 "grace" ("vm" "parser") (0 7 2)) (393 "edsger" ("jit" "jit") (1 8 3)) (394 "barbara" ("parser" "vm") (2 9 4)) (395 "donald" ("gc" "java") (3 10 5))
+  (396 "john" ("lisp" "lisp") (4 0 6)) (397 "ken" ("java" "gc") (5 1 7)) (398 "dennis" ("vm" "parser") (6 2 8)) (399 "niklaus" ("jit" "jit") (0 3 9))
+  (400 "ada" ("parser" "vm") (1 4 10)) (401 "alan" ("gc" "java") (2 5 11)) (402 "grace" ("lisp" "lisp") (3 6 12)) (403 "edsger" ("java" "gc") (4 7 0))
+  (404 "barbara" ("vm" "parser") (5 8 1)) (405 "donald" ("jit" "jit") (6 9 2)) (406 "john" ("parser" "vm") (0 10 3)) (407 "ken" ("gc" "java") (1 0 4))
+  (408 "dennis" ("lisp" "lisp") (2 1 5)) (409 "niklaus" ("java" "gc") (3 2 6)) (410 "ada" ("vm" "parser") (4 3 7)) (411 "alan" ("jit" "jit") (5 4 8))
+  (412 "grace" ("parser" "vm") (6 5 9)) (413 "edsger" ("gc" "java") (0 6 10)) (414 "barbara" ("lisp" "lisp") (1 7 11)) (415 "donald" ("java" "gc") (2 8 12))
+  (416 "john" ("vm" "parser") (3 9 0)) (417 "ken" ("jit" "jit") (4 10 1)) (418 "dennis" ("parser" "vm") (5 0 2)) (419 "niklaus" ("gc" "java") (6 1 3))
+  (420 "ada" ("lisp" "lisp") (0 2 4)) (421 "alan" ("java" "gc") (1 3 5)) (422 "grace" ("vm" "parser") (2 4 6)) (423 "edsger" ("jit" "jit") (3 5 7))
+  (424 "barbara" ("parser" "vm") (4 6 8)) (425 "donald" ("gc" "java") (5 7 9)) (426 "john" ("lisp" "lisp") (6 8 10)) (427 "ken" ("java" "gc") (0 9 11))
+  (428 "dennis" ("vm" "parser") (1 10 12)) (429 "niklaus" ("jit" "jit") (2 0 0)) (430 "ada" ("parser" "vm") (3 1 1)) (431 "alan" ("gc" "java") (4 2 2))
+  (432 "grace" ("lisp" "lisp") (5 3 3)) (433 "edsger" ("java" "gc") (6 4 4)) (434 "barbara" ("vm" "parser") (0 5 5)) (435 "donald" ("jit" "jit") (1 6 6))
+  (436 "john" ("parser" "vm") (2 7 7)) (437 "ken" ("gc" "java") (3 8 8)) (438 "dennis" ("lisp" "lisp") (4 9 9)) (439 "niklaus" ("java" "gc") (5 10 10))
+  (440 "ada" ("vm" "parser") (6 0 11)) (441 "alan" ("jit" "jit") (0 1 12)) (442 "grace" ("parser" "vm") (1 2 0)) (443 "edsger" ("gc" "java") (2 3 1))
+  (444 "barbara" ("lisp" "lisp") (3 4 2)) (445 "donald" ("java" "gc") (4 5 3)) (446 "john" ("vm" "parser") (5 6 4)) (447 "ken" ("jit" "jit") (6 7 5))
+  (448 "dennis" ("parser" "vm") (0 8 6)) (449 "niklaus" ("gc" "java") (1 9 7)) (450 "ada" ("lisp" "lisp") (2 10 8)) (451 "alan" ("java" "gc") (3 0 9))
+  (452 "grace" ("vm" "parser") (4 1 10)) (453 "edsger" ("jit" "jit") (5 2 11)) (454 "barbara" ("parser" "vm") (6 3 12)) (455 "donald" ("gc" "java") (0 4 0))
+  (456 "john" ("lisp" "lisp") (1 5 1)) (457 "ken" ("java" "gc") (2 6 2)) (458 "dennis" ("vm" "parser") (3 7 3)) (459 "niklaus" ("jit" "jit") (4 8 4))
+  (460 "ada" ("parser" "vm") (5 9 5)) (461 "alan" ("gc" "java") (6 10 6)) (462 "grace" ("lisp" "lisp") (0 0 7)) (463 "edsger" ("java" "gc") (1 1 8))
+  (464 "barbara" ("vm" "parser") (2 2 9)) (465 "donald" ("jit" "jit") (3 3 10)) (466 "john" ("parser" "vm") (4 4 11)) (467 "ken" ("gc" "java") (5 5 12))
+  (468 "dennis" ("lisp" "lisp") (6 6 0)) (469 "niklaus" ("java" "gc") (0 7 1)) (470 "ada" ("vm" "parser") (1 8 2)) (471 "alan" ("jit" "jit") (2 9 3))
+  (472 "grace" ("parser" "vm") (3 10 4)) (473 "edsger" ("gc" "java") (4 0 5)) (474 "barbara" ("lisp" "lisp") (5 1 6)) (475 "donald" ("java" "gc") (6 2 7))
+  (476 "john" ("vm" "parser") (0 3 8)) (477 "ken" ("jit" "jit") (1 4 9)) (478 "dennis" ("parser" "vm") (2 5 10)) (479 "niklaus" ("gc" "java") (3 6 11))
+  (480 "ada" ("lisp" "lisp") (4 7 12)) (481 "alan" ("java" "gc") (5 8 0)) (482 "grace" ("vm" "parser") (6 9 1)) (483 "edsger" ("jit" "jit") (0 10 2))
+  (484 "barbara" ("parser" "vm") (1 0 3)) (485 "donald" ("gc" "java") (2 1 4)) (486 "john" ("lisp" "lisp") (3 2 5)) (487 "ken" ("java" "gc") (4 3 6))
+  (488 "dennis" ("vm" "parser") (5 4 7)) (489 "niklaus" ("jit" "jit") (6 5 8)) (490 "ada" ("parser" "vm") (0 6 9)) (491 "alan" ("gc" "java") (1 7 10))
+  (492 "grace" ("lisp" "lisp") (2 8 11)) (493 "edsger" ("java" "gc") (3 9 12)) (494 "barbara" ("vm" "parser") (4 10 0)) (495 "donald" ("jit" "jit") (5 0 1))
+  (496 "john" ("parser" "vm") (6 1 2)) (497 "ken" ("gc" "java") (0 2 3)) (498 "dennis" ("lisp" "lisp") (1 3 4)) (499 "niklaus" ("java" "gc") (2 4 5))
+  (500 "ada" ("vm" "parser") (3 5 6)) (501 "alan" ("jit" "jit") (4 6 7)) (502 "grace" ("parser" "vm") (5 7 8)) (503 "edsger" ("gc" "java") (6 8 9))
+  (504 "barbara" ("lisp" "lisp") (0 9 10)) (505 "donald" ("java" "gc") (1 10 11)) (506 "john" ("vm" "parser") (2 0 12)) (507 "ken" ("jit" "jit") (3 1 0))
+  (508 "dennis" ("parser" "vm") (4 2 1)) (509 "niklaus" ("gc" "java") (5 3 2)) (510 "ada" ("lisp" "lisp") (6 4 3)) (511 "alan" ("java" "gc") (0 5 4))
+  (512 "grace" ("vm" "parser") (1 6 5)) (513 "edsger" ("jit" "jit") (2 7 6)) (514 "barbara" ("parser" "vm") (3 8 7)) (515 "donald" ("gc" "java") (4 9 8))
+  (516 "john" ("lisp" "lisp") (5 10 9)) (517 "ken" ("java" "gc") (6 0 10)) (518 "dennis" ("vm" "parser") (0 1 11)) (519 "niklaus" ("jit" "jit") (1 2 12))
+  (520 "ada" ("parser" "vm") (2 3 0)) (521 "alan" ("gc" "java") (3 4 1)) (522 "grace" ("lisp" "lisp") (4 5 2)) (523 "edsger" ("java" "gc") (5 6 3))
+  (524 "barbara" ("vm" "parser") (6 7 4)) (525 "donald" ("jit" "jit") (0 8 5)) (526 "john" ("parser" "vm") (1 9 6)) (527 "ken" ("gc" "java") (2 10 7))
+  (528 "dennis" ("lisp" "lisp") (3 0 8)) (529 "niklaus" ("java" "gc") (4 1 9)) (530 "ada" ("vm" "parser") (5 2 10)) (531 "alan" ("jit" "jit") (6 3 11))
+  (532 "grace" ("parser" "vm") (0 4 12)) (533 "edsger" ("gc" "java") (1 5 0)) (534 "barbara" ("lisp" "lisp") (2 6 1)) (535 "donald" ("java" "gc") (3 7 2))
+  (536 "john" ("vm" "parser") (4 8 3)) (537 "ken" ("jit" "jit") (5 9 4)) (538 "dennis" ("parser" "vm") (6 10 5)) (539 "niklaus" ("gc" "java") (0 0 6))
+  (540 "ada" ("lisp" "lisp") (1 1 7)) (541 "alan" ("java" "gc") (2 2 8)) (542 "grace" ("vm" "parser") (3 3 9)) (543 "edsger" ("jit" "jit") (4 4 10))
+  (544 "barbara" ("parser" "vm") (5 5 11)) (545 "donald" ("gc" "java") (6 6 12)) (546 "john" ("lisp" "lisp") (0 7 0)) (547 "ken" ("java" "gc") (1 8 1))
+  (548 "dennis" ("vm" "parser") (2 9 2)) (549 "niklaus" ("jit" "jit") (3 10 3)) (550 "ada" ("parser" "vm") (4 0 4)) (551 "alan" ("gc" "java") (5 1 5))
+  (552 "grace" ("lisp" "lisp") (6 2 6)) (553 "edsger" ("java" "gc") (0 3 7)) (554 "barbara" ("vm" "parser") (1 4 8)) (555 "donald" ("jit" "jit") (2 5 9))
+  (556 "john" ("parser" "vm") (3 6 10)) (557 "ken" ("gc" "java") (4 7 11)) (558 "dennis" ("lisp" "lisp") (5 8 12)) (559 "niklaus" ("java" "gc") (6 9 0))
+  (560 "ada" ("vm" "parser") (0 10 1)) (561 "alan" ("jit" "jit") (1 0 2)) (562 "grace" ("parser" "vm") (2 1 3)) (563 "edsger" ("gc" "java") (3 2 4))
+  (564 "barbara" ("lisp" "lisp") (4 3 5)) (565 "donald" ("java" "gc") (5 4 6)) (566 "john" ("vm" "parser") (6 5 7)) (567 "ken" ("jit" "jit") (0 6 8))
+  (568 "dennis" ("parser" "vm") (1 7 9)) (569 "niklaus" ("gc" "java") (2 8 10)) (570 "ada" ("lisp" "lisp") (3 9 11)) (571 "alan" ("java" "gc") (4 10 12))
+  (572 "grace" ("vm" "parser") (5 0 0)) (573 "edsger" ("jit" "jit") (6 1 1)) (574 "barbara" ("parser" "vm") (0 2 2)) (575 "donald" ("gc" "java") (1 3 3))
+  (576 "john" ("lisp" "lisp") (2 4 4)) (577 "ken" ("java" "gc") (3 5 5)) (578 "dennis" ("vm" "parser") (4 6 6)) (579 "niklaus" ("jit" "jit") (5 7 7))
+  (580 "ada" ("parser" "vm") (6 8 8)) (581 "alan" ("gc" "java") (0 9 9)) (582 "grace" ("lisp" "lisp") (1 10 10)) (583 "edsger" ("java" "gc") (2 0 11))
+  (584 "barbara" ("vm" "parser") (3 1 12)) (585 "donald" ("jit" "jit") (4 2 0)) (586 "john" ("parser" "vm") (5 3 1)) (587 "ken" ("gc" "java") (6 4 2))
+  (588 "dennis" ("lisp" "lisp") (0 5 3)) (589 "niklaus" ("java" "gc") (1 6 4)) (590 "ada" ("vm" "parser") (2 7 5)) (591 "alan" ("jit" "jit") (3 8 6))
+  (592 "grace" ("parser" "vm") (4 9 7)) (593 "edsger" ("gc" "java") (5 10 8)) (594 "barbara" ("lisp" "lisp") (6 0 9)) (595 "donald" ("java" "gc") (0 1 10))
+  (596 "john" ("vm" "parser") (1 2 11)) (597 "ken" ("jit" "jit") (2 3 12)) (598 "dennis" ("parser" "vm") (3 4 0)) (599 "niklaus" ("gc" "java") (4 5 1)))
+(
+  (0 "ada" ("lisp" "lisp") (0 0 0)) (1 "alan" ("java" "gc") (1 1 1)) (2 "grace" ("vm" "parser") (2 2 2)) (3 "edsger" ("jit" "jit") (3 3 3))
+  (4 "barbara" ("parser" "vm") (4 4 4)) (5 "donald" ("gc" "java") (5 5 5)) (6 "john" ("lisp" "lisp") (6 6 6)) (7 "ken" ("java" "gc") (0 7 7))
+  (8 "dennis" ("vm" "parser") (1 8 8)) (9 "niklaus" ("jit" "jit") (2 9 9)) (10 "ada" ("parser" "vm") (3 10 10)) (11 "alan" ("gc" "java") (4 0 11))
+  (12 "grace" ("lisp" "lisp") (5 1 12)) (13 "edsger" ("java" "gc") (6 2 0)) (14 "barbara" ("vm" "parser") (0 3 1)) (15 "donald" ("jit" "jit") (1 4 2))
+  (16 "john" ("parser" "vm") (2 5 3)) (17 "ken" ("gc" "java") (3 6 4)) (18 "dennis" ("lisp" "lisp") (4 7 5)) (19 "niklaus" ("java" "gc") (5 8 6))
+  (20 "ada" ("vm" "parser") (6 9 7)) (21 "alan" ("jit" "jit") (0 10 8)) (22 "grace" ("parser" "vm") (1 0 9)) (23 "edsger" ("gc" "java") (2 1 10))
+  (24 "barbara" ("lisp" "lisp") (3 2 11)) (25 "donald" ("java" "gc") (4 3 12)) (26 "john" ("vm" "parser") (5 4 0)) (27 "ken" ("jit" "jit") (6 5 1))
+  (28 "dennis" ("parser" "vm") (0 6 2)) (29 "niklaus" ("gc" "java") (1 7 3)) (30 "ada" ("lisp" "lisp") (2 8 4)) (31 "alan" ("java" "gc") (3 9 5))
+  (32 "grace" ("vm" "parser") (4 10 6)) (33 "edsger" ("jit" "jit") (5 0 7)) (34 "barbara" ("parser" "vm") (6 1 8)) (35 "donald" ("gc" "java") (0 2 9))
+  (36 "john" ("lisp" "lisp") (1 3 10)) (37 "ken" ("java" "gc") (2 4 11)) (38 "dennis" ("vm" "parser") (3 5 12)) (39 "niklaus" ("jit" "jit") (4 6 0))
+  (40 "ada" ("parser" "vm") (5 7 1)) (41 "alan" ("gc" "java") (6 8 2)) (42 "grace" ("lisp" "lisp") (0 9 3)) (43 "edsger" ("java" "gc") (1 10 4))
+  (44 "barbara" ("vm" "parser") (2 0 5)) (45 "donald" ("jit" "jit") (3 1 6)) (46 "john" ("parser" "vm") (4 2 7)) (47 "ken" ("gc" "java") (5 3 8))
+  (48 "dennis" ("lisp" "lisp") (6 4 9)) (49 "niklaus" ("java" "gc") (0 5 10)) (50 "ada" ("vm" "parser") (1 6 11)) (51 "alan" ("jit" "jit") (2 7 12))
+  (52 "grace" ("parser" "vm") (3 8 0)) (53 "edsger" ("gc" "java") (4 9 1)) (54 "barbara" ("lisp" "lisp") (5 10 2)) (55 "donald" ("java" "gc") (6 0 3))
+  (56 "john" ("vm" "parser") (0 1 4)) (57 "ken" ("jit" "jit") (1 2 5)) (58 "dennis" ("parser" "vm") (2 3 6)) (59 "niklaus" ("gc" "java") (3 4 7))
+  (60 "ada" ("lisp" "lisp") (4 5 8)) (61 "alan" ("java" "gc") (5 6 9)) (62 "grace" ("vm" "parser") (6 7 10)) (63 "edsger" ("jit" "jit") (0 8 11))
+  (64 "barbara" ("parser" "vm") (1 9 12)) (65 "donald" ("gc" "java") (2 10 0)) (66 "john" ("lisp" "lisp") (3 0 1)) (67 "ken" ("java" "gc") (4 1 2))
+  (68 "dennis" ("vm" "parser") (5 2 3)) (69 "niklaus" ("jit" "jit") (6 3 4)) (70 "ada" ("parser" "vm") (0 4 5)) (71 "alan" ("gc" "java") (1 5 6))
+  (72 "grace" ("lisp" "lisp") (2 6 7)) (73 "edsger" ("java" "gc") (3 7 8)) (74 "barbara" ("vm" "parser") (4 8 9)) (75 "donald" ("jit" "jit") (5 9 10))
+  (76 "john" ("parser" "vm") (6 10 11)) (77 "ken" ("gc" "java") (0 0 12)) (78 "dennis" ("lisp" "lisp") (1 1 0)) (79 "niklaus" ("java" "gc") (2 2 1))
+  (80 "ada" ("vm" "parser") (3 3 2)) (81 "alan" ("jit" "jit") (4 4 3)) (82 "grace" ("parser" "vm") (5 5 4)) (83 "edsger" ("gc" "java") (6 6 5))
+  (84 "barbara" ("lisp" "lisp") (0 7 6)) (85 "donald" ("java" "gc") (1 8 7)) (86 "john" ("vm" "parser") (2 9 8)) (87 "ken" ("jit" "jit") (3 10 9))
+  (88 "dennis" ("parser" "vm") (4 0 10)) (89 "niklaus" ("gc" "java") (5 1 11)) (90 "ada" ("lisp" "lisp") (6 2 12)) (91 "alan" ("java" "gc") (0 3 0))
+  (92 "grace" ("vm" "parser") (1 4 1)) (93 "edsger" ("jit" "jit") (2 5 2)) (94 "barbara" ("parser" "vm") (3 6 3)) (95 "donald" ("gc" "java") (4 7 4))
+  (96 "john" ("lisp" "lisp") (5 8 5)) (97 "ken" ("java" "gc") (6 9 6)) (98 "dennis" ("vm" "parser") (0 10 7)) (99 "niklaus" ("jit" "jit") (1 0 8))
+  (100 "ada" ("parser" "vm") (2 1 9)) (101 "alan" ("gc" "java") (3 2 10)) (102 "grace" ("lisp" "lisp") (4 3 11)) (103 "edsger" ("java" "gc") (5 4 12))
+  (104 "barbara" ("vm" "parser") (6 5 0)) (105 "donald" ("jit" "jit") (0 6 1)) (106 "john" ("parser" "vm") (1 7 2)) (107 "ken" ("gc" "java") (2 8 3))
+  (108 "dennis" ("lisp" "lisp") (3 9 4)) (109 "niklaus" ("java" "gc") (4 10 5)) (110 "ada" ("vm" "parser") (5 0 6)) (111 "alan" ("jit" "jit") (6 1 7))
+  (112 "grace" ("parser" "vm") (0 2 8)) (113 "edsger" ("gc" "java") (1 3 9)) (114 "barbara" ("lisp" "lisp") (2 4 10)) (115 "donald" ("java" "gc") (3 5 11))
+  (116 "john" ("vm" "parser") (4 6 12)) (117 "ken" ("jit" "jit") (5 7 0)) (118 "dennis" ("parser" "vm") (6 8 1)) (119 "niklaus" ("gc" "java") (0 9 2))
+  (120 "ada" ("lisp" "lisp") (1 10 3)) (121 "alan" ("java" "gc") (2 0 4)) (122 "grace" ("vm" "parser") (3 1 5)) (123 "edsger" ("jit" "jit") (4 2 6))
+  (124 "barbara" ("parser" "vm") (5 3 7)) (125 "donald" ("gc" "java") (6 4 8)) (126 "john" ("lisp" "lisp") (0 5 9)) (127 "ken" ("java" "gc") (1 6 10))
+  (128 "dennis" ("vm" "parser") (2 7 11)) (129 "niklaus" ("jit" "jit") (3 8 12)) (130 "ada" ("parser" "vm") (4 9 0)) (131 "alan" ("gc" "java") (5 10 1))
+  (132 "grace" ("lisp" "lisp") (6 0 2)) (133 "edsger" ("java" "gc") (0 1 3)) (134 "barbara" ("vm" "parser") (1 2 4)) (135 "donald" ("jit" "jit") (2 3 5))
+  (136 "john" ("parser" "vm") (3 4 6)) (137 "ken" ("gc" "java") (4 5 7)) (138 "dennis" ("lisp" "lisp") (5 6 8)) (139 "niklaus" ("java" "gc") (6 7 9))
+  (140 "ada" ("vm" "parser") (0 8 10)) (141 "alan" ("jit" "jit") (1 9 11)) (142 "grace" ("parser" "vm") (2 10 12)) (143 "edsger" ("gc" "java") (3 0 0))
+  (144 "barbara" ("lisp" "lisp") (4 1 1)) (145 "donald" ("java" "gc") (5 2 2)) (146 "john" ("vm" "parser") (6 3 3)) (147 "ken" ("jit" "jit") (0 4 4))
+  (148 "dennis" ("parser" "vm") (1 5 5)) (149 "niklaus" ("gc" "java") (2 6 6)) (150 "ada" ("lisp" "lisp") (3 7 7)) (151 "alan" ("java" "gc") (4 8 8))
+  (152 "grace" ("vm" "parser") (5 9 9)) (153 "edsger" ("jit" "jit") (6 10 10)) (154 "barbara" ("parser" "vm") (0 0 11)) (155 "donald" ("gc" "java") (1 1 12))
+  (156 "john" ("lisp" "lisp") (2 2 0)) (157 "ken" ("java" "gc") (3 3 1)) (158 "dennis" ("vm" "parser") (4 4 2)) (159 "niklaus" ("jit" "jit") (5 5 3))
+  (160 "ada" ("parser" "vm") (6 6 4)) (161 "alan" ("gc" "java") (0 7 5)) (162 "grace" ("lisp" "lisp") (1 8 6)) (163 "edsger" ("java" "gc") (2 9 7))
+  (164 "barbara" ("vm" "parser") (3 10 8)) (165 "donald" ("jit" "jit") (4 0 9)) (166 "john" ("parser" "vm") (5 1 10)) (167 "ken" ("gc" "java") (6 2 11))
+  (168 "dennis" ("lisp" "lisp") (0 3 12)) (169 "niklaus" ("java" "gc") (1 4 0)) (170 "ada" ("vm" "parser") (2 5 1)) (171 "alan" ("jit" "jit") (3 6 2))
+  (172 "grace" ("parser" "vm") (4 7 3)) (173 "edsger" ("gc" "java") (5 8 4)) (174 "barbara" ("lisp" "lisp") (6 9 5)) (175 "donald" ("java" "gc") (0 10 6))
+  (176 "john" ("vm" "parser") (1 0 7)) (177 "ken" ("jit" "jit") (2 1 8)) (178 "dennis" ("parser" "vm") (3 2 9)) (179 "niklaus" ("gc" "java") (4 3 10))
+  (180 "ada" ("lisp" "lisp") (5 4 11)) (181 "alan" ("java" "gc") (6 5 12)) (182 "grace" ("vm" "parser") (0 6 0)) (183 "edsger" ("jit" "jit") (1 7 1))
+  (184 "barbara" ("parser" "vm") (2 8 2)) (185 "donald" ("gc" "java") (3 9 3)) (186 "john" ("lisp" "lisp") (4 10 4)) (187 "ken" ("java" "gc") (5 0 5))
+  (188 "dennis" ("vm" "parser") (6 1 6)) (189 "niklaus" ("jit" "jit") (0 2 7)) (190 "ada" ("parser" "vm") (1 3 8)) (191 "alan" ("gc" "java") (2 4 9))
+  (192 "grace" ("lisp" "lisp") (3 5 10)) (193 "edsger" ("java" "gc") (4 6 11)) (194 "barbara" ("vm" "parser") (5 7 12)) (195 "donald" ("jit" "jit") (6 8 0))
+  (196 "john" ("parser" "vm") (0 9 1)) (197 "ken" ("gc" "java") (1 10 2)) (198 "dennis" ("lisp" "lisp") (2 0 3)) (199 "niklaus" ("java" "gc") (3 1 4))
+  (200 "ada" ("vm" "parser") (4 2 5)) (201 "alan" ("jit" "jit") (5 3 6)) (202 "grace" ("parser" "vm") (6 4 7)) (203 "edsger" ("gc" "java") (0 5 8))
+  (204 "barbara" ("lisp" "lisp") (1 6 9)) (205 "donald" ("java" "gc") (2 7 10)) (206 "john" ("vm" "parser") (3 8 11)) (207 "ken" ("jit" "jit") (4 9 12))
+  (208 "dennis" ("parser" "vm") (5 10 0)) (209 "niklaus" ("gc" "java") (6 0 1)) (210 "ada" ("lisp" "lisp") (0 1 2)) (211 "alan" ("java" "gc") (1 2 3))
+  (212 "grace" ("vm" "parser") (2 3 4)) (213 "edsger" ("jit" "jit") (3 4 5)) (214 "barbara" ("parser" "vm") (4 5 6)) (215 "donald" ("gc" "java") (5 6 7))
+  (216 "john" ("lisp" "lisp") (6 7 8)) (217 "ken" ("java" "gc") (0 8 9)) (218 "dennis" ("vm" "parser") (1 9 10)) (219 "niklaus" ("jit" "jit") (2 10 11))
+  (220 "ada" ("parser" "vm") (3 0 12)) (221 "alan" ("gc" "java") (4 1 0)) (222 "grace" ("lisp" "lisp") (5 2 1)) (223 "edsger" ("java" "gc") (6 3 2))
+  (224 "barbara" ("vm" "parser") (0 4 3)) (225 "donald" ("jit" "jit") (1 5 4)) (226 "john" ("parser" "vm") (2 6 5)) (227 "ken" ("gc" "java") (3 7 6))
+  (228 "dennis" ("lisp" "lisp") (4 8 7)) (229 "niklaus" ("java" "gc") (5 9 8)) (230 "ada" ("vm" "parser") (6 10 9)) (231 "alan" ("jit" "jit") (0 0 10))
+  (232 "grace" ("parser" "vm") (1 1 11)) (233 "edsger" ("gc" "java") (2 2 12)) (234 "barbara" ("lisp" "lisp") (3 3 0)) (235 "donald" ("java" "gc") (4 4 1))
+  (236 "john" ("vm" "parser") (5 5 2)) (237 "ken" ("jit" "jit") (6 6 3)) (238 "dennis" ("parser" "vm") (0 7 4)) (239 "niklaus" ("gc" "java") (1 8 5))
+  (240 "ada" ("lisp" "lisp") (2 9 6)) (241 "alan" ("java" "gc") (3 10 7)) (242 "grace" ("vm" "parser") (4 0 8)) (243 "edsger" ("jit" "jit") (5 1 9))
+  (244 "barbara" ("parser" "vm") (6 2 10)) (245 "donald" ("gc" "java") (0 3 11)) (246 "john" ("lisp" "lisp") (1 4 12)) (247 "ken" ("java" "gc") (2 5 0))
+  (248 "dennis" ("vm" "parser") (3 6 1)) (249 "niklaus" ("jit" "jit") (4 7 2)) (250 "ada" ("parser" "vm") (5 8 3)) (251 "alan" ("gc" "java") (6 9 4))
+  (252 "grace" ("lisp" "lisp") (0 10 5)) (253 "edsger" ("java" "gc") (1 0 6)) (254 "barbara" ("vm" "parser") (2 1 7)) (255 "donald" ("jit" "jit") (3 2 8))
+  (256 "john" ("parser" "vm") (4 3 9)) (257 "ken" ("gc" "java") (5 4 10)) (258 "dennis" ("lisp" "lisp") (6 5 11)) (259 "niklaus" ("java" "gc") (0 6 12))
+  (260 "ada" ("vm" "parser") (1 7 0)) (261 "alan" ("jit" "jit") (2 8 1)) (262 "grace" ("parser" "vm") (3 9 2)) (263 "edsger" ("gc" "java") (4 10 3))
+  (264 "barbara" ("lisp" "lisp") (5 0 4)) (265 "donald" ("java" "gc") (6 1 5)) (266 "john" ("vm" "parser") (0 2 6)) (267 "ken" ("jit" "jit") (1 3 7))
+  (268 "dennis" ("parser" "vm") (2 4 8)) (269 "niklaus" ("gc" "java") (3 5 9)) (270 "ada" ("lisp" "lisp") (4 6 10)) (271 "alan" ("java" "gc") (5 7 11))
+  (272 "grace" ("vm" "parser") (6 8 12)) (273 "edsger" ("jit" "jit") (0 9 0)) (274 "barbara" ("parser" "vm") (1 10 1)) (275 "donald" ("gc" "java") (2 0 2))
+  (276 "john" ("lisp" "lisp") (3 1 3)) (277 "ken" ("java" "gc") (4 2 4)) (278 "dennis" ("vm" "parser") (5 3 5)) (279 "niklaus" ("jit" "jit") (6 4 6))
+  (280 "ada" ("parser" "vm") (0 5 7)) (281 "alan" ("gc" "java") (1 6 8)) (282 "grace" ("lisp" "lisp") (2 7 9)) (283 "edsger" ("java" "gc") (3 8 10))
+  (284 "barbara" ("vm" "parser") (4 9 11)) (285 "donald" ("jit" "jit") (5 10 12)) (286 "john" ("parser" "vm") (6 0 0)) (287 "ken" ("gc" "java") (0 1 1))
+  (288 "dennis" ("lisp" "lisp") (1 2 2)) (289 "niklaus" ("java" "gc") (2 3 3)) (290 "ada" ("vm" "parser") (3 4 4)) (291 "alan" ("jit" "jit") (4 5 5))
+  (292 "grace" ("parser" "vm") (5 6 6)) (293 "edsger" ("gc" "java") (6 7 7)) (294 "barbara" ("lisp" "lisp") (0 8 8)) (295 "donald" ("java" "gc") (1 9 9))
+  (296 "john" ("vm" "parser") (2 10 10)) (297 "ken" ("jit" "jit") (3 0 11)) (298 "dennis" ("parser" "vm") (4 1 12)) (299 "niklaus" ("gc" "java") (5 2 0))
+  (300 "ada" ("lisp" "lisp") (6 3 1)) (301 "alan" ("java" "gc") (0 4 2)) (302 "grace" ("vm" "parser") (1 5 3)) (303 "edsger" ("jit" "jit") (2 6 4))
+  (304 "barbara" ("parser" "vm") (3 7 5)) (305 "donald" ("gc" "java") (4 8 6)) (306 "john" ("lisp" "lisp") (5 9 7)) (307 "ken" ("java" "gc") (6 10 8))
+  (308 "dennis" ("vm" "parser") (0 0 9)) (309 "niklaus" ("jit" "jit") (1 1 10)) (310 "ada" ("parser" "vm") (2 2 11)) (311 "alan" ("gc" "java") (3 3 12))
+  (312 "grace" ("lisp" "lisp") (4 4 0)) (313 "edsger" ("java" "gc") (5 5 1)) (314 "barbara" ("vm" "parser") (6 6 2)) (315 "donald" ("jit" "jit") (0 7 3))
+  (316 "john" ("parser" "vm") (1 8 4)) (317 "ken" ("gc" "java") (2 9 5)) (318 "dennis" ("lisp" "lisp") (3 10 6)) (319 "niklaus" ("java" "gc") (4 0 7))
+  (320 "ada" ("vm" "parser") (5 1 8)) (321 "alan" ("jit" "jit") (6 2 9)) (322 "grace" ("parser" "vm") (0 3 10)) (323 "edsger" ("gc" "java") (1 4 11))
+  (324 "barbara" ("lisp" "lisp") (2 5 12)) (325 "donald" ("java" "gc") (3 6 0)) (326 "john" ("vm" "parser") (4 7 1)) (327 "ken" ("jit" "jit") (5 8 2))
+  (328 "dennis" ("parser" "vm") (6 9 3)) (329 "niklaus" ("gc" "java") (0 10 4)) (330 "ada" ("lisp" "lisp") (1 0 5)) (331 "alan" ("java" "gc") (2 1 6))
+  (332 "grace" ("vm" "parser") (3 2 7)) (333 "edsger" ("jit" "jit") (4 3 8)) (334 "barbara" ("parser" "vm") (5 4 9)) (335 "donald" ("gc" "java") (6 5 10))
+  (336 "john" ("lisp" "lisp") (0 6 11)) (337 "ken" ("java" "gc") (1 7 12)) (338 "dennis" ("vm" "parser") (2 8 0)) (339 "niklaus" ("jit" "jit") (3 9 1))
+  (340 "ada" ("parser" "vm") (4 10 2)) (341 "alan" ("gc" "java") (5 0 3)) (342 "grace" ("lisp" "lisp") (6 1 4)) (343 "edsger" ("java" "gc") (0 2 5))
+  (344 "barbara" ("vm" "parser") (1 3 6)) (345 "donald" ("jit" "jit") (2 4 7)) (346 "john" ("parser" "vm") (3 5 8)) (347 "ken" ("gc" "java") (4 6 9))
+  (348 "dennis" ("lisp" "lisp") (5 7 10)) (349 "niklaus" ("java" "gc") (6 8 11)) (350 "ada" ("vm" "parser") (0 9 12)) (351 "alan" ("jit" "jit") (1 10 0))
+  (352 "grace" ("parser" "vm") (2 0 1)) (353 "edsger" ("gc" "java") (3 1 2)) (354 "barbara" ("lisp" "lisp") (4 2 3)) (355 "donald" ("java" "gc") (5 3 4))
+  (356 "john" ("vm" "parser") (6 4 5)) (357 "ken" ("jit" "jit") (0 5 6)) (358 "dennis" ("parser" "vm") (1 6 7)) (359 "niklaus" ("gc" "java") (2 7 8))
+  (360 "ada" ("lisp" "lisp") (3 8 9)) (361 "alan" ("java" "gc") (4 9 10)) (362 "grace" ("vm" "parser") (5 10 11)) (363 "edsger" ("jit" "jit") (6 0 12))
+  (364 "barbara" ("parser" "vm") (0 1 0)) (365 "donald" ("gc" "java") (1 2 1)) (366 "john" ("lisp" "lisp") (2 3 2)) (367 "ken" ("java" "gc") (3 4 3))
+  (368 "dennis" ("vm" "parser") (4 5 4)) (369 "niklaus" ("jit" "jit") (5 6 5)) (370 "ada" ("parser" "vm") (6 7 6)) (371 "alan" ("gc" "java") (0 8 7))
+  (372 "grace" ("lisp" "lisp") (1 9 8)) (373 "edsger" ("java" "gc") (2 10 9)) (374 "barbara" ("vm" "parser") (3 0 10)) (375 "donald" ("jit" "jit") (4 1 11))
+  (376 "john" ("parser" "vm") (5 2 12)) (377 "ken" ("gc" "java") (6 3 0)) (378 "dennis" ("lisp" "lisp") (0 4 1)) (379 "niklaus" ("java" "gc") (1 5 2))
+  (380 "ada" ("vm" "parser") (2 6 3)) (381 "alan" ("jit" "jit") (3 7 4)) (382 "grace" ("parser" "vm") (4 8 5)) (383 "edsger" ("gc" "java") (5 9 6))
+  (384 "barbara" ("lisp" "lisp") (6 10 7)) (385 "donald" ("java" "gc") (0 0 8)) (386 "john" ("vm" "parser") (1 1 9)) (387 "ken" ("jit" "jit") (2 2 10))
+  (388 "dennis" ("parser" "vm") (3 3 11)) (389 "niklaus" ("gc" "java") (4 4 12)) (390 "ada" ("lisp" "lisp") (5 5 0)) (391 "alan" ("java" "gc") (6 6 1))
+  (392 "grace" ("vm" "parser") (0 7 2)) (393 "edsger" ("jit" "jit") (1 8 3)) (394 "barbara" ("parser" "vm") (2 9 4)) (395 "donald" ("gc" "java") (3 10 5))
+  (396 "john" ("lisp" "lisp") (4 0 6)) (397 "ken" ("java" "gc") (5 1 7)) (398 "dennis" ("vm" "parser") (6 2 8)) (399 "niklaus" ("jit" "jit") (0 3 9))
+  (400 "ada" ("parser" "vm") (1 4 10)) (401 "alan" ("gc" "java") (2 5 11)) (402 "grace" ("lisp" "lisp") (3 6 12)) (403 "edsger" ("java" "gc") (4 7 0))
+  (404 "barbara" ("vm" "parser") (5 8 1)) (405 "donald" ("jit" "jit") (6 9 2)) (406 "john" ("parser" "vm") (0 10 3)) (407 "ken" ("gc" "java") (1 0 4))
+  (408 "dennis" ("lisp" "lisp") (2 1 5)) (409 "niklaus" ("java" "gc") (3 2 6)) (410 "ada" ("vm" "parser") (4 3 7)) (411 "alan" ("jit" "jit") (5 4 8))
+  (412 "grace" ("parser" "vm") (6 5 9)) (413 "edsger" ("gc" "java") (0 6 10)) (414 "barbara" ("lisp" "lisp") (1 7 11)) (415 "donald" ("java" "gc") (2 8 12))
+  (416 "john" ("vm" "parser") (3 9 0)) (417 "ken" ("jit" "jit") (4 10 1)) (418 "dennis" ("parser" "vm") (5 0 2)) (419 "niklaus" ("gc" "java") (6 1 3))
+  (420 "ada" ("lisp" "lisp") (0 2 4)) (421 "alan" ("java" "gc") (1 3 5)) (422 "grace" ("vm" "parser") (2 4 6)) (423 "edsger" ("jit" "jit") (3 5 7))
+  (424 "barbara" ("parser" "vm") (4 6 8)) (425 "donald" ("gc" "java") (5 7 9)) (426 "john" ("lisp" "lisp") (6 8 10)) (427 "ken" ("java" "gc") (0 9 11))
+  (428 "dennis" ("vm" "parser") (1 10 12)) (429 "niklaus" ("jit" "jit") (2 0 0)) (430 "ada" ("parser" "vm") (3 1 1)) (431 "alan" ("gc" "java") (4 2 2))
+  (432 "grace" ("lisp" "lisp") (5 3 3)) (433 "edsger" ("java" "gc") (6 4 4)) (434 "barbara" ("vm" "parser") (0 5 5)) (435 "donald" ("jit" "jit") (1 6 6))
+  (436 "john" ("parser" "vm") (2 7 7)) (437 "ken" ("gc" "java") (3 8 8)) (438 "dennis" ("lisp" "lisp") (4 9 9)) (439 "niklaus" ("java" "gc") (5 10 10))
+  (440 "ada" ("vm" "parser") (6 0 11)) (441 "alan" ("jit" "jit") (0 1 12)) (442 "grace" ("parser" "vm") (1 2 0)) (443 "edsger" ("gc" "java") (2 3 1))
+  (444 "barbara" ("lisp" "lisp") (3 4 2)) (445 "donald" ("java" "gc") (4 5 3)) (446 "john" ("vm" "parser") (5 6 4)) (447 "ken" ("jit" "jit") (6 7 5))
+  (448 "dennis" ("parser" "vm") (0 8 6)) (449 "niklaus" ("gc" "java") (1 9 7)) (450 "ada" ("lisp" "lisp") (2 10 8)) (451 "alan" ("java" "gc") (3 0 9))
+  (452 "grace" ("vm" "parser") (4 1 10)) (453 "edsger" ("jit" "jit") (5 2 11)) (454 "barbara" ("parser" "vm") (6 3 12)) (455 "donald" ("gc" "java") (0 4 0))
+  (456 "john" ("lisp" "lisp") (1 5 1)) (457 "ken" ("java" "gc") (2 6 2)) (458 "dennis" ("vm" "parser") (3 7 3)) (459 "niklaus" ("jit" "jit") (4 8 4))
+  (460 "ada" ("parser" "vm") (5 9 5)) (461 "alan" ("gc" "java") (6 10 6)) (462 "grace" ("lisp" "lisp") (0 0 7)) (463 "edsger" ("java" "gc") (1 1 8))
+  (464 "barbara" ("vm" "parser") (2 2 9)) (465 "donald" ("jit" "jit") (3 3 10)) (466 "john" ("parser" "vm") (4 4 11)) (467 "ken" ("gc" "java") (5 5 12))
+  (468 "dennis" ("lisp" "lisp") (6 6 0)) (469 "niklaus" ("java" "gc") (0 7 1)) (470 "ada" ("vm" "parser") (1 8 2)) (471 "alan" ("jit" "jit") (2 9 3))
+  (472 "grace" ("parser" "vm") (3 10 4)) (473 "edsger" ("gc" "java") (4 0 5)) (474 "barbara" ("lisp" "lisp") (5 1 6)) (475 "donald" ("java" "gc") (6 2 7))
+  (476 "john" ("vm" "parser") (0 3 8)) (477 "ken" ("jit" "jit") (1 4 9)) (478 "dennis" ("parser" "vm") (2 5 10)) (479 "niklaus" ("gc" "java") (3 6 11))
+  (480 "ada" ("lisp" "lisp") (4 7 12)) (481 "alan" ("java" "gc") (5 8 0)) (482 "grace" ("vm" "parser") (6 9 1)) (483 "edsger" ("jit" "jit") (0 10 2))
+  (484 "barbara" ("parser" "vm") (1 0 3)) (485 "donald" ("gc" "java") (2 1 4)) (486 "john" ("lisp" "lisp") (3 2 5)) (487 "ken" ("java" "gc") (4 3 6))
+  (488 "dennis" ("vm" "parser") (5 4 7)) (489 "niklaus" ("jit" "jit") (6 5 8)) (490 "ada" ("parser" "vm") (0 6 9)) (491 "alan" ("gc" "java") (1 7 10))
+  (492 "grace" ("lisp" "lisp") (2 8 11)) (493 "edsger" ("java" "gc") (3 9 12)) (494 "barbara" ("vm" "parser") (4 10 0)) (495 "donald" ("jit" "jit") (5 0 1))
+  (496 "john" ("parser" "vm") (6 1 2)) (497 "ken" ("gc" "java") (0 2 3)) (498 "dennis" ("lisp" "lisp") (1 3 4)) (499 "niklaus" ("java" "gc") (2 4 5))
+  (500 "ada" ("vm" "parser") (3 5 6)) (501 "alan" ("jit" "jit") (4 6 7)) (502 "grace" ("parser" "vm") (5 7 8)) (503 "edsger" ("gc" "java") (6 8 9))
+  (504 "barbara" ("lisp" "lisp") (0 9 10)) (505 "donald" ("java" "gc") (1 10 11)) (506 "john" ("vm" "parser") (2 0 12)) (507 "ken" ("jit" "jit") (3 1 0))
+  (508 "dennis" ("parser" "vm") (4 2 1)) (509 "niklaus" ("gc" "java") (5 3 2)) (510 "ada" ("lisp" "lisp") (6 4 3)) (511 "alan" ("java" "gc") (0 5 4))
+  (512 "grace" ("vm" "parser") (1 6 5)) (513 "edsger" ("jit" "jit") (2 7 6)) (514 "barbara" ("parser" "vm") (3 8 7)) (515 "donald" ("gc" "java") (4 9 8))
+  (516 "john" ("lisp" "lisp") (5 10 9)) (517 "ken" ("java" "gc") (6 0 10)) (518 "dennis" ("vm" "parser") (0 1 11)) (519 "niklaus" ("jit" "jit") (1 2 12))
+  (520 "ada" ("parser" "vm") (2 3 0)) (521 "alan" ("gc" "java") (3 4 1)) (522 "grace" ("lisp" "lisp") (4 5 2)) (523 "edsger" ("java" "gc") (5 6 3))
+  (524 "barbara" ("vm" "parser") (6 7 4)) (525 "donald" ("jit" "jit") (0 8 5)) (526 "john" ("parser" "vm") (1 9 6)) (527 "ken" ("gc" "java") (2 10 7))
+  (528 "dennis" ("lisp" "lisp") (3 0 8)) (529 "niklaus" ("java" "gc") (4 1 9)) (530 "ada" ("vm" "parser") (5 2 10)) (531 "alan" ("jit" "jit") (6 3 11))
+  (532 "grace" ("parser" "vm") (0 4 12)) (533 "edsger" ("gc" "java") (1 5 0)) (534 "barbara" ("lisp" "lisp") (2 6 1)) (535 "donald" ("java" "gc") (3 7 2))
+  (536 "john" ("vm" "parser") (4 8 3)) (537 "ken" ("jit" "jit") (5 9 4)) (538 "dennis" ("parser" "vm") (6 10 5)) (539 "niklaus" ("gc" "java") (0 0 6))
+  (540 "ada" ("lisp" "lisp") (1 1 7)) (541 "alan" ("java" "gc") (2 2 8)) (542 "grace" ("vm" "parser") (3 3 9)) (543 "edsger" ("jit" "jit") (4 4 10))
+  (544 "barbara" ("parser" "vm") (5 5 11)) (545 "donald" ("gc" "java") (6 6 12)) (546 "john" ("lisp" "lisp") (0 7 0)) (547 "ken" ("java" "gc") (1 8 1))
+  (548 "dennis" ("vm" "parser") (2 9 2)) (549 "niklaus" ("jit" "jit") (3 10 3)) (550 "ada" ("parser" "vm") (4 0 4)) (551 "alan" ("gc" "java") (5 1 5))
+  (552 "grace" ("lisp" "lisp") (6 2 6)) (553 "edsger" ("java" "gc") (0 3 7)) (554 "barbara" ("vm" "parser") (1 4 8)) (555 "donald" ("jit" "jit") (2 5 9))
+  (556 "john" ("parser" "vm") (3 6 10)) (557 "ken" ("gc" "java") (4 7 11)) (558 "dennis" ("lisp" "lisp") (5 8 12)) (559 "niklaus" ("java" "gc") (6 9 0))
+  (560 "ada" ("vm" "parser") (0 10 1)) (561 "alan" ("jit" "jit") (1 0 2)) (562 "grace" ("parser" "vm") (2 1 3)) (563 "edsger" ("gc" "java") (3 2 4))
+  (564 "barbara" ("lisp" "lisp") (4 3 5)) (565 "donald" ("java" "gc") (5 4 6)) (566 "john" ("vm" "parser") (6 5 7)) (567 "ken" ("jit" "jit") (0 6 8))
+  (568 "dennis" ("parser" "vm") (1 7 9)) (569 "niklaus" ("gc" "java") (2 8 10)) (570 "ada" ("lisp" "lisp") (3 9 11)) (571 "alan" ("java" "gc") (4 10 12))
+  (572 "grace" ("vm" "parser") (5 0 0)) (573 "edsger" ("jit" "jit") (6 1 1)) (574 "barbara" ("parser" "vm") (0 2 2)) (575 "donald" ("gc" "java") (1 3 3))
+  (576 "john" ("lisp" "lisp") (2 4 4)) (577 "ken" ("java" "gc") (3 5 5)) (578 "dennis" ("vm" "parser") (4 6 6)) (579 "niklaus" ("jit" "jit") (5 7 7))
+  (580 "ada" ("parser" "vm") (6 8 8)) (581 "alan" ("gc" "java") (0 9 9)) (582 "grace" ("lisp" "lisp") (1 10 10)) (583 "edsger" ("java" "gc") (2 0 11))
+  (584 "barbara" ("vm" "parser") (3 1 12)) (585 "donald" ("jit" "jit") (4 2 0)) (586 "john" ("parser" "vm") (5 3 1)) (587 "ken" ("gc" "java") (6 4 2))
+  (588 "dennis" ("lisp" "lisp") (0 5 3)) (589 "niklaus" ("java" "gc") (1 6 4)) (590 "ada" ("vm" "parser") (2 7 5)) (591 "alan" ("jit" "jit") (3 8 6))
+  (592 "grace" ("parser" "vm") (4 9 7)) (593 "edsger" ("gc" "java") (5 10 8)) (594 "barbara" ("lisp" "lisp") (6 0 9)) (595 "donald" ("java" "gc") (0 1 10))
+  (596 "john" ("vm" "parser") (1 2 11)) (597 "ken" ("jit" "jit") (2 3 12)) (598 "dennis" ("parser" "vm") (3 4 0)) (599 "niklaus" ("gc" "java") (4 5 1)))))
+(print (weights tree 0))
@@ -0,0 +1,11 @@
+(define fib (n) (if (< n 2) n (+ (fib (- n 1)) (fib (- n 2)))))
+(define fact (n acc) (if (= n 0) acc (fact (- n 1) (* acc n))))
+(define sum-to (n acc) (if (= n 0) acc (sum-to (- n 1) (+ acc n))))
+(define gcd (a b) (if (= b 0) a (gcd b (% a b))))
+(define gcd-all (n acc) (if (= n 0) acc (gcd-all (- n 1) (+ acc (gcd (* n 7919) 104729)))))
+(print (fib 20))
+(print (fact 200 1))
+(print (sum-to 200000 0))
+(print (gcd-all 20000 0))
+(print (/ (fact 30 1) (fact 28 1)))
+(print (/ 1 3 7))
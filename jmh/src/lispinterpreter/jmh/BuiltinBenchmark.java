@@ -0,0 +1,104 @@
+package lispinterpreter.jmh;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import lispinterpreter.Interpreter;
+import lispinterpreter.SExpr;
+
+// One call of each builtin, evaluated on an interpreter where the globals it uses
+// are already set up. The JIT is off, so the functions pmap and friends call stay
+// interpreted.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(jvmArgsAppend = "-Dlisp.jit.threshold=0")
+public class BuiltinBenchmark {
+    static final String SETUP = "(define id (x) x)\n"
+            + "(define even (x) (= (% x 2) 0))\n"
+            + "(define add (a b) (+ a b))\n"
+            + "(set xs (cons 1 (cons 2 (cons 3 nil))))\n"
+            + "(set v (vector 1 2 3))\n"
+            + "(set m (hash-map \"a\" 1 \"b\" 2))\n"
+            + "(set p (promise))\n"
+            + "(deliver p 1)";
+
+    static final Map<String, String> CALLS = new HashMap<>();
+
+    static {
+        CALLS.put("+", "(+ 1 2)");
+        CALLS.put("-", "(- 3 2)");
+        CALLS.put("*", "(* 2 3)");
+        CALLS.put("/", "(/ 7 2)");
+        CALLS.put("%", "(% 7 2)");
+        CALLS.put("<", "(< 1 2)");
+        CALLS.put(">", "(> 1 2)");
+        CALLS.put("<=", "(<= 1 2)");
+        CALLS.put(">=", "(>= 1 2)");
+        CALLS.put("=", "(= \"abc\" \"abc\")");
+        CALLS.put("cons", "(cons 0 xs)");
+        CALLS.put("car", "(car xs)");
+        CALLS.put("cdr", "(cdr xs)");
+        CALLS.put("vector", "(vector 1 2 3)");
+        CALLS.put("vector-ref", "(vector-ref v 1)");
+        CALLS.put("hash-map", "(hash-map \"a\" 1 \"b\" 2)");
+        CALLS.put("assoc", "(assoc m \"c\" 3)");
+        CALLS.put("get", "(get m \"a\")");
+        CALLS.put("pmap", "(pmap id xs)");
+        CALLS.put("pfilter", "(pfilter even xs)");
+        CALLS.put("preduce", "(preduce add 0 xs)");
+        CALLS.put("future", "(deref (future 1))");
+        CALLS.put("deref", "(deref p)");
+        CALLS.put("promise", "(promise)");
+        CALLS.put("deliver", "(deliver p 2)");
+        CALLS.put("print", "(print 1)");
+        CALLS.put("quote", "(quote (1 2 3))");
+        CALLS.put("eval", "(eval (quote (+ 1 2)))");
+        CALLS.put("not", "(not (= 1 2))");
+        CALLS.put("cond", "(cond (= 1 2) 1 else 2)");
+        CALLS.put("and?", "(and? (= 1 1) (= 2 2))");
+        CALLS.put("or?", "(or? (= 1 2) (= 2 2))");
+        CALLS.put("if", "(if (= 1 1) 1 2)");
+        CALLS.put("nil?", "(nil? nil)");
+        CALLS.put("number?", "(number? 1)");
+        CALLS.put("list?", "(list? xs)");
+        CALLS.put("symbol?", "(symbol? x)");
+        CALLS.put("set", "(set x 1)");
+        CALLS.put("define", "(define f (x) x)");
+    }
+
+    @Param({"+", "-", "*", "/", "%", "<", ">", "<=", ">=", "=", "cons", "car", "cdr", "vector", "vector-ref",
+            "hash-map", "assoc", "get", "pmap", "pfilter", "preduce", "future", "deref", "promise", "deliver",
+            "print", "quote", "eval", "not", "cond", "and?", "or?", "if", "nil?", "number?", "list?", "symbol?",
+            "set", "define"})
+    public String builtin;
+
+    private Interpreter interpreter;
+    private SExpr call;
+    private final Object[] frame = new Object[0];
+
+    @Setup
+    public void setup() throws Exception {
+        interpreter = new Interpreter(Programs.parse(SETUP), Programs.discard());
+        interpreter.interpret();
+        List<SExpr> statements = Programs.parse(CALLS.get(builtin));
+        call = statements.get(0);
+    }
+
+    @Benchmark
+    public Object call() {
+        return call.accept(interpreter, frame);
+    }
+}
@@ -0,0 +1,43 @@
+package lispinterpreter.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import lispinterpreter.Interpreter;
+import lispinterpreter.SExpr;
+
+// Whole programs run by the tree-walker, including their definitions, on a fresh
+// interpreter each time. The JIT is off, so that no compilation runs in the
+// background while they are measured; JitBenchmark runs them with it on.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(jvmArgsAppend = "-Dlisp.jit.threshold=0")
+public class InterpreterBenchmark {
+    @Param({"factorial", "cons", "cond", "strings"})
+    public String program;
+
+    private List<SExpr> statements;
+
+    @Setup
+    public void setup() throws Exception {
+        statements = Programs.parse(Programs.PROGRAMS.get(program));
+    }
+
+    @Benchmark
+    public Interpreter interpret() {
+        Interpreter interpreter = new Interpreter(statements, Programs.discard());
+        interpreter.interpret();
+        return interpreter;
+    }
+}
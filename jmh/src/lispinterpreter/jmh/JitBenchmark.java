@@ -0,0 +1,10 @@
+package lispinterpreter.jmh;
+
+import org.openjdk.jmh.annotations.Fork;
+
+// The programs of InterpreterBenchmark with the JIT on at its default threshold.
+// Each fresh interpreter compiles its hot functions again, which after the first
+// iteration only takes the classes cached by body.
+@Fork(jvmArgsAppend = "-Dlisp.jit.threshold=1000")
+public class JitBenchmark extends InterpreterBenchmark {
+}
@@ -0,0 +1,37 @@
+package lispinterpreter.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import lispinterpreter.Parser;
+import lispinterpreter.SExpr;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParserBenchmark {
+    // Number of top-level forms in the input
+    @Param({"10", "10000"})
+    public int forms;
+
+    private String source;
+
+    @Setup
+    public void setup() {
+        source = Programs.source(forms);
+    }
+
+    @Benchmark
+    public List<SExpr> parse() throws Exception {
+        return new Parser(source).parse();
+    }
+}
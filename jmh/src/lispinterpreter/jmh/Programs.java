@@ -0,0 +1,51 @@
+package lispinterpreter.jmh;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+import lispinterpreter.Output;
+import lispinterpreter.Parser;
+import lispinterpreter.Resolver;
+import lispinterpreter.SExpr;
+
+// The Lisp sources the benchmarks run, and helpers to prepare them
+final class Programs {
+    static final Map<String, String> PROGRAMS = Map.of(
+            "factorial",
+            "(define fact (n) (if (= n 1) 1 (* n (fact (- n 1)))))\n"
+                    + "(define loop (i) (if (= i 0) 0 (+ (fact 20) (loop (- i 1)))))\n"
+                    + "(set result (loop 100))",
+            "cons",
+            "(define build (n acc) (if (= n 0) acc (build (- n 1) (cons n acc))))\n"
+                    + "(define len (l n) (if (= l ()) n (len (cdr l) (+ n 1))))\n"
+                    + "(set result (len (build 10000 ()) 0))",
+            "cond",
+            "(define classify (n) (cond (< n 10) 1 (< n 100) 2 (< n 1000) 3 (and? (> n 5000) (< n 6000)) 4 else 5))\n"
+                    + "(define loop (i acc) (if (= i 0) acc (loop (- i 1) (+ acc (classify i)))))\n"
+                    + "(set result (loop 10000 0))",
+            "strings",
+            "(define same (a b n acc) (if (= n 0) acc (same a b (- n 1) (if (= a b) (+ acc 1) acc))))\n"
+                    + "(set result (same \"the quick brown fox\" \"the quick brown fox\" 1000 0))");
+
+    // A program that prints nothing, to be read, for sizing the parser benchmarks
+    static String source(int forms) {
+        StringBuilder source = new StringBuilder();
+        source.append("(define f (x y) (cond (< x y) (+ x y) else (* x (- y 1))))\n");
+        for (int i = 0; i < forms; i++) {
+            source.append("(set v").append(i).append(" (f ").append(i).append(" (quote (1 2 \"three\" 4.5))))\n");
+        }
+        return source.toString();
+    }
+
+    static List<SExpr> parse(String source) throws Exception {
+        return new Resolver().resolve(new Parser(source).parse());
+    }
+
+    static Output discard() {
+        return new Output(OutputStream.nullOutputStream(), Output.Flush.BATCH);
+    }
+
+    private Programs() {
+    }
+}
@@ -0,0 +1,35 @@
+package lispinterpreter;
+
+// The assoc and get builtins, which work on both vectors and hash maps. A vector
+// is keyed by index; get returns nil for a missing key or an index out of range.
+public final class Associative {
+
+    private Associative() {
+    }
+
+    public static Object assoc(Object collection, Object key, Object value) {
+        if (collection instanceof PersistentHashMap) {
+            return ((PersistentHashMap) collection).assoc(key, value);
+        } else if (collection instanceof PersistentVector) {
+            PersistentVector vector = (PersistentVector) collection;
+            if (!(key instanceof Long) || (Long) key < 0 || (Long) key > vector.size()) {
+                throw new RuntimeException("assoc index for a vector must be an integer from 0 to its length");
+            }
+            return vector.set((int) (long) (Long) key, value);
+        }
+        throw new RuntimeException("assoc function requires a vector or hash map");
+    }
+
+    public static Object get(Object collection, Object key) {
+        if (collection instanceof PersistentHashMap) {
+            return ((PersistentHashMap) collection).get(key, Cons.EMPTY);
+        } else if (collection instanceof PersistentVector) {
+            PersistentVector vector = (PersistentVector) collection;
+            if (key instanceof Long && (Long) key >= 0 && (Long) key < vector.size()) {
+                return vector.get((int) (long) (Long) key);
+            }
+            return Cons.EMPTY;
+        }
+        throw new RuntimeException("get function requires a vector or hash map");
+    }
+}
@@ -1,7 +1,5 @@
 package lispinterpreter;
 
-import java.util.Map;
-
 public class Atom extends SExpr {
     private Object value;
 
@@ -21,9 +19,6 @@ public class Atom extends SExpr {
     }
 
     public Object getValue() {
-        if (value instanceof Integer) {
-            return ((Integer) value).doubleValue();
-        }
         return value;
     }
 
@@ -52,8 +47,8 @@ public class Atom extends SExpr {
     }
 
     @Override
-    public Object accept(Interpreter visitor, Map<String, Object> localEnvironment) {
-        return visitor.visitAtom(this, localEnvironment);
+    public Object accept(Interpreter visitor, Object[] frame) {
+        return visitor.visitAtom(this, frame);
     }
 
     @Override
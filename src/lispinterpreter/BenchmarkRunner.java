@@ -0,0 +1,254 @@
+package lispinterpreter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import lispinterpreter.jit.JitCompiler;
+
+// Runs every program under ../benchmarks a number of times after a warm-up, and reports
+// the median and 99th percentile wall time and the bytes allocated per run. The
+// results are compared against a baseline saved by an earlier run: a program whose
+// median time or allocation grew by more than the tolerance counts as a regression.
+// The tree-walker's JIT changes the timings, so the interpret engine keeps a separate
+// baseline with it on and off, and measuring waits for the JIT to finish compiling
+// what the warm-up made hot.
+class BenchmarkRunner {
+    private static final String DIRECTORY = "../benchmarks";
+
+    private final FileRunner fileRunner;
+    private final Path baselinePath;
+    private final String jit;
+
+    private int warmups = 5;
+    private int runs = 20;
+    private double tolerance = 0.25;
+    private boolean save = false;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // What measuring one program produced
+    static final class Result {
+        final String name;
+        final double median;
+        final double p99;
+        final long allocated;
+
+        Result(String name, double median, double p99, long allocated) {
+            this.name = name;
+            this.median = median;
+            this.p99 = p99;
+            this.allocated = allocated;
+        }
+    }
+
+    public BenchmarkRunner(FileRunner fileRunner, String engine) {
+        this.fileRunner = fileRunner;
+        this.jit = engine.equals("interpret") ? JitCompiler.describe() : null;
+        String suffix = jit == null || jit.equals("JIT off") ? "" : "-jit";
+        this.baselinePath = Paths.get(DIRECTORY, "baseline-" + engine + suffix + ".txt");
+    }
+
+    // Reads --warmup=, --runs=, --tolerance= and --save
+    public void configure(List<String> options) {
+        for (String option : options) {
+            if (option.startsWith("--warmup=")) {
+                warmups = Integer.parseInt(option.substring("--warmup=".length()));
+            } else if (option.startsWith("--runs=")) {
+                runs = Integer.parseInt(option.substring("--runs=".length()));
+            } else if (option.startsWith("--tolerance=")) {
+                tolerance = Double.parseDouble(option.substring("--tolerance=".length()));
+            } else if (option.equals("--save")) {
+                save = true;
+            } else {
+                throw new IllegalArgumentException("unknown benchmark option '" + option + "'");
+            }
+        }
+        if (runs < 1 || warmups < 0 || tolerance < 0) {
+            throw new IllegalArgumentException("benchmark options must not be negative, and runs at least 1");
+        }
+    }
+
+    // Returns false when a program failed or regressed against the baseline
+    public boolean run() {
+        List<File> files = programs(DIRECTORY);
+        if (files.isEmpty()) {
+            System.out.println("Error: no benchmark programs found in " + DIRECTORY);
+            return false;
+        }
+
+        Map<String, Result> baseline = readBaseline();
+        System.out.println("Running " + files.size() + " benchmarks" + (jit == null ? "" : " with the " + jit) + ", "
+                + warmups + " warm-up and " + runs + " measured runs each"
+                + (baseline == null ? "" : ", tolerance " + percent(tolerance)) + "...\n");
+        System.out.println(String.format("%-18s %10s %10s %12s  %s", "benchmark", "median ms", "p99 ms", "alloc KB", "baseline"));
+
+        boolean passed = true;
+        List<Result> results = new ArrayList<>();
+        for (File file : files) {
+            String name = name(DIRECTORY, file);
+            String error = check(file);
+            if (error != null) {
+                System.out.println(String.format("%-18s %s", name, TestHarness.RED + "FAILED" + TestHarness.RESET + " " + error));
+                passed = false;
+                continue;
+            }
+            Result result = measure(name, file);
+            results.add(result);
+            String comparison = "";
+            if (baseline != null) {
+                comparison = compare(result, baseline.get(name));
+                passed &= !comparison.contains("REGRESSED");
+            }
+            System.out.println(String.format(Locale.ROOT, "%-18s %10.2f %10.2f %12d  %s",
+                    name, result.median, result.p99, result.allocated / 1024, comparison));
+        }
+
+        if (save) {
+            writeBaseline(results);
+        } else if (baseline == null) {
+            System.out.println("\nNo baseline at " + baselinePath + ", run with --save to record one");
+        }
+        System.out.println("\nBenchmarks completed with result: "
+                + (passed ? TestHarness.GREEN + "SUCCESS" : TestHarness.RED + "FAILURE") + TestHarness.RESET);
+        return passed;
+    }
+
+    // The .lisp files in the directory and the directories under it, in order of their paths
+    static List<File> programs(String directory) {
+        try (Stream<Path> paths = Files.walk(Paths.get(directory))) {
+            return paths.filter(path -> path.toString().endsWith(".lisp")).sorted().map(Path::toFile)
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+
+    // A program's path under the directory, without the extension, such as basic/fib
+    static String name(String directory, File file) {
+        String name = Paths.get(directory).relativize(file.toPath()).toString().replace(File.separatorChar, '/');
+        return name.substring(0, name.length() - ".lisp".length());
+    }
+
+    // Runs the program once and returns the first error it printed, if any
+    private String check(File file) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Output output = new Output(bytes, Output.Flush.BATCH);
+        fileRunner.run(file.getPath(), output);
+        output.flush();
+        for (String line : bytes.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (line.startsWith("Error")) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    private Result measure(String name, File file) {
+        Output output = new Output(OutputStream.nullOutputStream(), Output.Flush.BATCH);
+        return measure(name, () -> {
+            fileRunner.run(file.getPath(), output);
+            output.flush();
+        }, warmups, runs);
+    }
+
+    // Times the program on the calling thread, also counting the bytes allocated on it
+    static Result measure(String name, Runnable program, int warmups, int runs) {
+        for (int i = 0; i < warmups; i++) {
+            program.run();
+        }
+        try {
+            JitCompiler.awaitIdle();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long[] times = new long[runs];
+        long allocated = 0;
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < runs; i++) {
+            long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            program.run();
+            times[i] = System.nanoTime() - start;
+            allocated += THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+        }
+        Arrays.sort(times);
+        return new Result(name, times[(runs - 1) / 2] / 1e6, times[percentile(0.99, runs)] / 1e6, allocated / runs);
+    }
+
+    // The index of the nearest-rank percentile in the sorted times
+    private static int percentile(double fraction, int runs) {
+        return Math.max(0, (int) Math.ceil(fraction * runs) - 1);
+    }
+
+    private String compare(Result result, Result previous) {
+        if (previous == null) {
+            return "new";
+        }
+        double time = result.median / previous.median - 1;
+        double allocation = previous.allocated == 0 ? 0 : (double) result.allocated / previous.allocated - 1;
+        String comparison = "time " + signed(time) + ", alloc " + signed(allocation);
+        if (time > tolerance || allocation > tolerance) {
+            return TestHarness.RED + "REGRESSED" + TestHarness.RESET + " " + comparison;
+        }
+        return comparison;
+    }
+
+    // The baseline has one line per program: its name, median, p99 and bytes allocated
+    private Map<String, Result> readBaseline() {
+        if (!Files.exists(baselinePath)) {
+            return null;
+        }
+        Map<String, Result> baseline = new HashMap<>();
+        try {
+            for (String line : Files.readAllLines(baselinePath)) {
+                String[] fields = line.trim().split("\\s+");
+                if (fields.length != 4 || fields[0].startsWith("#")) {
+                    continue;
+                }
+                baseline.put(fields[0], new Result(fields[0], Double.parseDouble(fields[1]),
+                        Double.parseDouble(fields[2]), Long.parseLong(fields[3])));
+            }
+        } catch (IOException | NumberFormatException e) {
+            System.out.println("Error reading baseline " + baselinePath + ": " + e.getMessage());
+            return null;
+        }
+        return baseline;
+    }
+
+    private void writeBaseline(List<Result> results) {
+        StringBuilder text = new StringBuilder("# benchmark median-ms p99-ms allocated-bytes\n");
+        for (Result result : results) {
+            text.append(String.format(Locale.ROOT, "%s %.3f %.3f %d%n", result.name, result.median, result.p99, result.allocated));
+        }
+        try {
+            Files.writeString(baselinePath, text);
+            System.out.println("\nSaved baseline to " + baselinePath);
+        } catch (IOException e) {
+            System.out.println("Error writing baseline " + baselinePath + ": " + e.getMessage());
+        }
+    }
+
+    private static String signed(double fraction) {
+        return (fraction >= 0 ? "+" : "") + percent(fraction);
+    }
+
+    private static String percent(double fraction) {
+        return String.format(Locale.ROOT, "%.1f%%", fraction * 100);
+    }
+}
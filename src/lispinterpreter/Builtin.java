@@ -0,0 +1,73 @@
+package lispinterpreter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// The global functions. The parser resolves a builtin's name once, so the engines
+// dispatch on the constant instead of comparing strings on every call.
+public enum Builtin {
+    ADD("+"),
+    SUBTRACT("-"),
+    MULTIPLY("*"),
+    DIVIDE("/"),
+    MOD("%"),
+    LESS("<"),
+    GREATER(">"),
+    LESS_EQUAL("<="),
+    GREATER_EQUAL(">="),
+    EQUAL("=", "eq", "eq?"),
+    CONS("cons"),
+    CAR("car"),
+    CDR("cdr"),
+    VECTOR("vector"),
+    VECTOR_REF("vector-ref"),
+    HASH_MAP("hash-map"),
+    ASSOC("assoc"),
+    GET("get"),
+    PMAP("pmap"),
+    PFILTER("pfilter"),
+    PREDUCE("preduce"),
+    FUTURE("future"),
+    DEREF("deref", "await"),
+    PROMISE("promise"),
+    DELIVER("deliver"),
+    PRINT("print"),
+    QUOTE("quote", "'"),
+    EVAL("eval"),
+    NOT("not"),
+    COND("cond"),
+    AND("and?"),
+    OR("or?"),
+    IF("if"),
+    IS_NIL("nil?"),
+    IS_NUMBER("number?"),
+    IS_LIST("list?"),
+    IS_SYMBOL("symbol?"),
+    SET("set"),
+    DEFINE("define");
+
+    private static final Map<String, Builtin> BY_NAME = new HashMap<>();
+
+    static {
+        for (Builtin builtin : values()) {
+            for (String name : builtin.names) {
+                BY_NAME.put(name, builtin);
+            }
+        }
+    }
+
+    private final String[] names;
+
+    Builtin(String... names) {
+        this.names = names;
+    }
+
+    public String getName() {
+        return names[0];
+    }
+
+    // Builtin names are not case sensitive; returns null for anything else
+    public static Builtin of(String name) {
+        return BY_NAME.get(name.toLowerCase());
+    }
+}
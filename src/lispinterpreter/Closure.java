@@ -0,0 +1,84 @@
+package lispinterpreter;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class Closure {
+    private String name;
+    private String[] parameters;
+    private SExpr[] body;
+    private final AtomicInteger calls = new AtomicInteger();
+    private volatile MethodHandle compiled;
+    private Object[] constants;
+
+    public Closure(String name, String[] parameters, SExpr[] body) {
+        this.name = name;
+        this.parameters = parameters;
+        this.body = body;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String[] getParameters() {
+        return parameters;
+    }
+
+    public int getArity() {
+        return parameters.length;
+    }
+
+    public SExpr[] getBody() {
+        return body;
+    }
+
+    // Futures and parallel workers share closures, so each call gets its own count
+    // and exactly one of them sees the threshold
+    public int countCall() {
+        return calls.incrementAndGet();
+    }
+
+    // Set by the JIT to a (Object[], Interpreter, Object[]) -> Object handle running
+    // the body, called with getConstants() first. Functions with the same body share
+    // the handle, so that HotSpot only specializes it once.
+    public MethodHandle getCompiled() {
+        return compiled;
+    }
+
+    public Object[] getConstants() {
+        return constants;
+    }
+
+    // The constants are written before the handle is published, and read after it
+    public void setCompiled(MethodHandle compiled, Object[] constants) {
+        this.constants = constants;
+        this.compiled = compiled;
+    }
+
+    // The parser reads a parameter list such as (x y) as a call to x with
+    // argument y, so the names have to be collected from whichever shape it took
+    public static List<String> parameterNames(SExpr parameters) {
+        List<String> names = new ArrayList<>();
+        if (parameters instanceof Function) {
+            names.add(((Function) parameters).getValue());
+            for (SExpr parameter : ((Function) parameters).getParameters().getList()) {
+                names.add(parameter.toString());
+            }
+        } else if (parameters instanceof SExprList) {
+            for (SExpr parameter : ((SExprList) parameters).getList()) {
+                names.add(parameter.toString());
+            }
+        } else {
+            names.add(parameters.toString());
+        }
+        return names;
+    }
+
+    @Override
+    public String toString() {
+        return "<function " + name + ">";
+    }
+}
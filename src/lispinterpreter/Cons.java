@@ -1,37 +1,108 @@
 package lispinterpreter;
 
-import java.util.Map;
+import java.util.Objects;
 
-public class Cons extends SExpr {
+// An immutable pair. Lists are chains of pairs ending in EMPTY, the value nil and ()
+// evaluate to, so cons, car and cdr are constant time and lists share their tails.
+public final class Cons {
 
-    private SExpr car;
-    private SExpr cdr;
+    public static final Object EMPTY = false;
 
-    Cons(SExpr car, SExpr cdr) {
+    private final Object car;
+    private final Object cdr;
+
+    public Cons(Object car, Object cdr) {
         this.car = car;
         this.cdr = cdr;
     }
 
-    public SExpr getCar() {
+    public Object getCar() {
         return this.car;
     }
 
-    public SExpr getCdr() {
+    public Object getCdr() {
         return this.cdr;
     }
 
+    public static Object list(Object[] values) {
+        Object list = EMPTY;
+        for (int i = values.length - 1; i >= 0; i--) {
+            list = new Cons(values[i], list);
+        }
+        return list;
+    }
+
+    public static Object car(Object value) {
+        if (value instanceof Cons) {
+            return ((Cons) value).car;
+        } else if (EMPTY.equals(value)) {
+            return EMPTY;
+        }
+        throw new RuntimeException("car function requires a list");
+    }
+
+    public static Object cdr(Object value) {
+        if (value instanceof Cons) {
+            return ((Cons) value).cdr;
+        } else if (EMPTY.equals(value)) {
+            return EMPTY;
+        }
+        throw new RuntimeException("cdr function requires a list");
+    }
+
+    // True when the chain ends in EMPTY rather than some other value
+    public boolean isList() {
+        Object rest = cdr;
+        while (rest instanceof Cons) {
+            rest = ((Cons) rest).cdr;
+        }
+        return EMPTY.equals(rest);
+    }
+
     @Override
-    public Object accept(Interpreter visitor, Map<String, Object> localEnvironment) {
-        return visitor.visitCons(this, localEnvironment);
+    public boolean equals(Object other) {
+        Object left = this;
+        Object right = other;
+        while (left instanceof Cons && right instanceof Cons) {
+            if (!Objects.equals(((Cons) left).car, ((Cons) right).car)) {
+                return false;
+            }
+            left = ((Cons) left).cdr;
+            right = ((Cons) right).cdr;
+        }
+        if (left instanceof Cons || right instanceof Cons) {
+            return false;
+        }
+        return Objects.equals(left, right);
     }
 
     @Override
-    public String toString() {
-        return "(" + car + " . " + cdr + ")";
+    public int hashCode() {
+        int hash = 1;
+        Object rest = this;
+        while (rest instanceof Cons) {
+            hash = 31 * hash + Objects.hashCode(((Cons) rest).car);
+            rest = ((Cons) rest).cdr;
+        }
+        return 31 * hash + Objects.hashCode(rest);
     }
 
     @Override
-    public boolean toBoolean() {
-        return true;
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("(");
+        sb.append(Printer.formatElement(car));
+        Object rest = cdr;
+        while (rest instanceof Cons) {
+            sb.append(" ");
+            sb.append(Printer.formatElement(((Cons) rest).car));
+            rest = ((Cons) rest).cdr;
+        }
+        if (!EMPTY.equals(rest)) {
+            sb.append(" . ");
+            sb.append(Printer.formatElement(rest));
+        }
+        sb.append(")");
+        return sb.toString();
     }
 }
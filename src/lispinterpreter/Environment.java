@@ -0,0 +1,115 @@
+package lispinterpreter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+// Global variables and functions. Each symbol that has been bound or referred to
+// gets a Cell holding its value, and the cells are kept in an array indexed by
+// symbol id, so a lookup is an array load instead of hashing the name. Code that
+// is compiled ahead of running can look its cells up once and keep them, so that
+// reading a global is a single field load.
+//
+// Cells are read and written with acquire/release ordering, so a value set on one
+// thread is seen whole by another without locking. Only creating a cell takes a
+// lock; the array of cells is replaced, never changed in place once published.
+public final class Environment {
+    public static final Object UNBOUND = new Object();
+
+    public static final class Cell {
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Cell.class, "value", Object.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final int id;
+        private Object value;
+
+        Cell(int id, Object value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public Object get() {
+            return VALUE.getAcquire(this);
+        }
+
+        public void set(Object value) {
+            VALUE.setRelease(this, value);
+        }
+    }
+
+    private volatile Cell[] cells;
+
+    public Environment() {
+        cells = new Cell[0];
+    }
+
+    // Starts out with the same bindings as the given environment; later changes to
+    // either one are not seen by the other
+    public Environment(Environment base) {
+        Cell[] baseCells = base.cells;
+        Cell[] copy = new Cell[baseCells.length];
+        for (int i = 0; i < copy.length; i++) {
+            if (baseCells[i] != null) {
+                copy[i] = new Cell(i, baseCells[i].get());
+            }
+        }
+        cells = copy;
+    }
+
+    public Object get(int id) {
+        Cell[] cells = this.cells;
+        if (id >= cells.length || cells[id] == null) {
+            return UNBOUND;
+        }
+        return cells[id].get();
+    }
+
+    public void set(int id, Object value) {
+        cell(id).set(value);
+    }
+
+    // The cell for a symbol, created unbound if the symbol has none yet
+    public Cell cell(int id) {
+        Cell[] cells = this.cells;
+        if (id < cells.length && cells[id] != null) {
+            return cells[id];
+        }
+        return createCell(id);
+    }
+
+    private synchronized Cell createCell(int id) {
+        Cell[] cells = this.cells;
+        if (id < cells.length && cells[id] != null) {
+            return cells[id];
+        }
+        Cell[] grown = Arrays.copyOf(cells, Math.max(id + 1, cells.length * 2));
+        Cell cell = new Cell(id, UNBOUND);
+        grown[id] = cell;
+        this.cells = grown;
+        return cell;
+    }
+
+    // Calls the action with every bound value
+    public void forEach(Consumer<Object> action) {
+        for (Cell cell : cells) {
+            if (cell != null) {
+                Object value = cell.get();
+                if (value != UNBOUND) {
+                    action.accept(value);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package lispinterpreter;
+
+@FunctionalInterface
+interface FileRunner {
+    void run(String filePath, Output output);
+}
@@ -1,7 +1,5 @@
 package lispinterpreter;
 
-import java.util.Map;
-
 public class Function extends Symbol {
     private SExprList parameters;
 
@@ -14,8 +12,8 @@ public class Function extends Symbol {
         return parameters;
     }
 
-    public Object accept(Interpreter interpreter, Map<String, Object> localEnvironment) {
-        return interpreter.visitFunction(this, localEnvironment);
+    public Object accept(Interpreter interpreter, Object[] frame) {
+        return interpreter.visitFunction(this, frame);
     }
 
     @Override
@@ -1,14 +1,47 @@
 package lispinterpreter;
 
-import java.util.Map;
+import java.util.List;
 
 public class GlobalFunction extends Function {
+    private final Builtin builtin;
+    private List<String> scope = List.of();
+    private Object quoted;
+
     public GlobalFunction(String value, SExprList parameters) {
         super(value, parameters);
+        this.builtin = Builtin.of(value);
+    }
+
+    public Builtin getBuiltin() {
+        return builtin;
+    }
+
+    // The names of the parameters in scope where the call appears, set by the
+    // resolver for eval, which resolves the code it runs against them
+    public List<String> getScope() {
+        return scope;
+    }
+
+    void setScope(List<String> scope) {
+        this.scope = scope;
+    }
+
+    // The value of a quote, converted from the quoted code by the resolver
+    public Object getQuoted() {
+        return quoted;
+    }
+
+    void setQuoted(Object quoted) {
+        this.quoted = quoted;
+    }
+
+    // The lower-case name, as used in error messages
+    public String getName() {
+        return getValue().toLowerCase();
     }
 
     @Override
-    public Object accept(Interpreter interpreter, Map<String, Object> localEnvironment) {
-        return interpreter.visitGlobalFunction(this, localEnvironment);
+    public Object accept(Interpreter interpreter, Object[] frame) {
+        return interpreter.visitGlobalFunction(this, frame);
     }
-}
\ No newline at end of file
+}
@@ -1,101 +1,272 @@
 package lispinterpreter;
 
-import java.util.List;
-import java.util.Map;
-import java.rmi.RMISecurityException;
+import java.lang.invoke.MethodHandle;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.List;
+
+import lispinterpreter.jit.JitCompiler;
 
 public class Interpreter {
 
+    private static final Object[] EMPTY_FRAME = new Object[0];
+    private static final Object TAIL_CALL = new Object();
+    private static final int ELSE = Symbol.intern("else").getId();
+    private static final Resolver RESOLVER = new Resolver();
+    private static final int DEADLINE_INTERVAL = 1024;
+
     List<SExpr> statements;
-    Map<String, Object> environment = new HashMap<>();
+    Environment environment;
+    Output output;
+    Profiler profiler;
+
+    private Closure pendingClosure;
+    private Function pendingCall;
+    private Object[] pendingArguments;
+
+    private boolean hasDeadline;
+    private long deadline;
+    private int callsUntilDeadline = DEADLINE_INTERVAL;
 
     public Interpreter(List<SExpr> statements) {
+        this(statements, Output.standard(Output.Flush.LINE));
+    }
+
+    public Interpreter(List<SExpr> statements, Output output) {
+        this(statements, output, new Environment());
+    }
+
+    public Interpreter(List<SExpr> statements, Output output, Environment environment) {
+        this(statements, output, environment, null);
+    }
+
+    // With a profiler, every call to a user function or builtin is recorded in it,
+    // and no function is handed to the JIT, since compiled code makes calls the
+    // profiler cannot see
+    public Interpreter(List<SExpr> statements, Output output, Environment environment, Profiler profiler) {
         this.statements = statements;
+        this.output = output;
+        this.environment = environment;
+        this.profiler = profiler;
+    }
+
+    // Makes calls fail once System.nanoTime() has passed the deadline. Every loop
+    // and recursion goes through call(), which looks at the clock every
+    // DEADLINE_INTERVAL calls; the interpreters running futures and parallel
+    // chunks for this one get the same deadline.
+    public void setDeadline(long deadline) {
+        this.hasDeadline = true;
+        this.deadline = deadline;
     }
 
     public void interpret() {
         int lineNumber = 1;
         try {
             for (SExpr statement : statements) {
-                statement.accept(this, new HashMap<String, Object>());
+                execute(statement);
                 lineNumber++;
             }
         } catch (Exception e) {
-            System.out.println("Error on line " + lineNumber + ": " + e.getMessage());
+            output.println("Error on line " + lineNumber + ": " + e.getMessage());
         }
     }
 
+    // Runs a single top-level statement
+    public void execute(SExpr statement) {
+        statement.accept(this, EMPTY_FRAME);
+    }
+
     public Object visitDefine(List<SExpr> parameters) {
         if (parameters.size() < 3) {
             throw new RuntimeException("define function must have at least three parameters");
         }
         String name = parameters.get(0).toString();
-        SExprList following = new SExprList();
-        following.add(parameters.get(1));
-        SExprList body = new SExprList();
-        for (int i = 2; i < parameters.size(); i++) {
-            body.add(parameters.get(i));
-        }
-        following.add(body);
-        Function func = new Function(name, following);
-        environment.put(name, func);
+        String[] names = Closure.parameterNames(parameters.get(1)).toArray(new String[0]);
+        SExpr[] body = parameters.subList(2, parameters.size()).toArray(new SExpr[0]);
+        environment.set(Symbol.intern(name).getId(), new Closure(name, names, body));
         return null;
     }
 
-    public Object visitFunction(Function function, Map<String, Object> prevEnv) {
-        if (!environment.containsKey(function.getValue())) {
-            throw new RuntimeException("called undefined function '" + function.getValue() + "'");
+    public Object visitFunction(Function function, Object[] callerFrame) {
+        List<SExpr> arguments = function.getParameters().getList();
+        Closure closure = lookupFunction(function.getId(), arguments.size());
+        Object[] frame = new Object[closure.getArity()];
+        for (int i = 0; i < frame.length; i++) {
+            frame[i] = arguments.get(i).accept(this, callerFrame);
         }
-        Function definition = (Function) environment.get(function.getValue());
-        SExprList param = definition.getParameters();
-        String variable = param.getList().get(0).toString();
+        return call(closure, frame);
+    }
 
-        String stripped = variable.replaceAll("[()]", "");
-        String[] split = stripped.trim().split("\\s+");
-        List<String> listVar = Arrays.asList(split);
+    public Closure lookupFunction(int id, int argumentCount) {
+        Object definition = environment.get(id);
+        if (!(definition instanceof Closure)) {
+            throw new RuntimeException("called undefined function '" + Symbol.nameOf(id) + "'");
+        }
+        Closure closure = (Closure) definition;
+        if (closure.getArity() != argumentCount) {
+            throw new RuntimeException("function '" + Symbol.nameOf(id) + "' expects " + closure.getArity()
+                    + " parameters, but " + argumentCount + " were given");
+        }
+        return closure;
+    }
 
-        List<SExpr> listIn = function.getParameters().getList();
+    // Calls in tail position do not recurse: the body returns TAIL_CALL with the
+    // callee recorded in the pending fields, and this loop switches to it. When
+    // the callee was called by a tail call, its caller's frame is reused for the
+    // next one, so a tail-recursive loop allocates no frames after the first two.
+    public Object call(Closure closure, Object[] frame) {
+        Object[] spare = null;
+        while (true) {
+            if (hasDeadline && --callsUntilDeadline == 0) {
+                checkDeadline();
+            }
+            Object result = profiler == null ? invoke(closure, frame) : profile(closure, frame);
+            if (result != TAIL_CALL) {
+                return result;
+            }
+            Closure next = pendingClosure;
+            Object[] arguments = pendingArguments;
+            if (arguments == null) {
+                arguments = evaluateArguments(pendingCall, frame, spare);
+            }
+            spare = frame;
+            frame = arguments;
+            closure = next;
+        }
+    }
 
-        Map<String, Object> localEnvironment = new HashMap<>();
-        if (listVar.size() != listIn.size()) {
-            throw new RuntimeException("function '" + function.getValue() + "' expects " + listVar.size()
-                    + " parameters, but " + listIn.size() + " were given");
-        } 
-        for (int i = 0; i < listVar.size(); i++) {
-            localEnvironment.put(listVar.get(i), listIn.get(i).accept(this, prevEnv));
+    private void checkDeadline() {
+        callsUntilDeadline = DEADLINE_INTERVAL;
+        if (System.nanoTime() - deadline > 0) {
+            throw new RuntimeException("ran out of time");
         }
+    }
 
-        List<SExpr> body = param.getList().subList(1, param.getList().size());
-        List<SExpr> list = ((SExprList) body.get(0)).getList();
-        Object result = null;
-        for (SExpr statement : list) {
-            result = statement.accept(this, localEnvironment);
+    // An interpreter for another thread, sharing this one's globals and deadline
+    private Interpreter worker() {
+        Interpreter worker = new Interpreter(List.of(), output, environment);
+        worker.hasDeadline = hasDeadline;
+        worker.deadline = deadline;
+        return worker;
+    }
+
+    // The arguments of a pending tail call are evaluated before the function making
+    // it is left, so that the time they take is charged to that function rather
+    // than to whatever called it
+    private Object profile(Closure closure, Object[] frame) {
+        profiler.enter(closure.getName());
+        try {
+            Object result = invoke(closure, frame);
+            if (result == TAIL_CALL && pendingArguments == null) {
+                // The arguments may make calls of their own, which reuse the pending fields
+                Closure next = pendingClosure;
+                Object[] arguments = evaluateArguments(pendingCall, frame, null);
+                pendingClosure = next;
+                pendingArguments = arguments;
+            }
+            return result;
+        } finally {
+            profiler.exit();
         }
-        return result;
     }
 
-    public Object visitSExprList(SExprList list, Map<String, Object> localEnvironment) {
-        return list.getList().stream().map(expr -> expr.accept(this, localEnvironment)).toList();
+    // Evaluates the arguments of a call in the caller's frame, into the spare array
+    // when it has the right length
+    private Object[] evaluateArguments(Function call, Object[] frame, Object[] spare) {
+        List<SExpr> expressions = call.getParameters().getList();
+        Object[] arguments = spare != null && spare.length == expressions.size() ? spare
+                : new Object[expressions.size()];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = expressions.get(i).accept(this, frame);
+        }
+        return arguments;
     }
 
-    public Object visitSymbol(Symbol symbol, Map<String, Object> localEnvironment) {
-        if (localEnvironment.containsKey(symbol.getValue())) {
-            Object value = localEnvironment.get(symbol.getValue());
-            if (value instanceof SExpr) {
-                return ((SExpr) value).accept(this, localEnvironment);
+    // Used by compiled code to hand a call in tail position back to call()
+    public Object tailCall(Closure closure, Object[] arguments) {
+        pendingClosure = closure;
+        pendingCall = null;
+        pendingArguments = arguments;
+        return TAIL_CALL;
+    }
+
+    // Runs the generated code once the function has been compiled, and counts
+    // interpreted calls so that hot functions get handed to the compiler
+    private Object invoke(Closure closure, Object[] frame) {
+        MethodHandle compiled = closure.getCompiled();
+        if (compiled != null) {
+            try {
+                return (Object) compiled.invokeExact(closure.getConstants(), this, frame);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
             }
-            return value;
         }
-        if (environment.containsKey(symbol.getValue())) {
-            Object value = environment.get(symbol.getValue());
-            if (value instanceof SExpr) {
-                return ((SExpr) value).accept(this, localEnvironment);
+        if (closure.countCall() == JitCompiler.THRESHOLD && profiler == null) {
+            JitCompiler.compile(closure);
+        }
+        SExpr[] body = closure.getBody();
+        for (int i = 0; i < body.length - 1; i++) {
+            body[i].accept(this, frame);
+        }
+        return evaluateTail(body[body.length - 1], frame);
+    }
+
+    // Evaluates an expression in tail position, looking through if and cond to
+    // the branch taken; a user function call found there becomes a pending call
+    private Object evaluateTail(SExpr expr, Object[] frame) {
+        while (expr instanceof GlobalFunction) {
+            List<SExpr> parameters = ((GlobalFunction) expr).getParameters().getList();
+            Builtin builtin = ((GlobalFunction) expr).getBuiltin();
+            if (builtin == Builtin.IF) {
+                expr = selectIfBranch(parameters, frame);
+            } else if (builtin == Builtin.COND) {
+                expr = selectCondBranch(parameters, frame);
+                if (expr == null) {
+                    return Nil.INSTANCE;
+                }
+            } else {
+                return expr.accept(this, frame);
             }
-            return value;
         }
-        return symbol.getValue();
+        if (expr instanceof Function) {
+            Function function = (Function) expr;
+            pendingClosure = lookupFunction(function.getId(), function.getParameters().getList().size());
+            pendingCall = function;
+            pendingArguments = null;
+            return TAIL_CALL;
+        }
+        return expr.accept(this, frame);
+    }
+
+    public Object visitSExprList(SExprList list, Object[] frame) {
+        return Cons.list(evaluateAll(list.getList(), frame));
+    }
+
+    private Object[] evaluateAll(List<SExpr> expressions, Object[] frame) {
+        Object[] values = new Object[expressions.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = expressions.get(i).accept(this, frame);
+        }
+        return values;
+    }
+
+    public Object visitLocalSymbol(LocalSymbol symbol, Object[] frame) {
+        Object value = frame[symbol.getSlot()];
+        if (value instanceof SExpr) {
+            return ((SExpr) value).accept(this, frame);
+        }
+        return value;
+    }
+
+    public Object visitSymbol(Symbol symbol, Object[] frame) {
+        Object value = environment.get(symbol.getId());
+        if (value == Environment.UNBOUND) {
+            return symbol.getValue();
+        } else if (value instanceof SExpr) {
+            return ((SExpr) value).accept(this, frame);
+        }
+        return value;
     }
 
     public Object visitNil() {
@@ -106,203 +277,295 @@ public class Interpreter {
         return true;
     }
 
-    public Object visitCons(Cons cons, Map<String, Object> localEnvironment) {
-        return cons;
-    }
-
-    public Object visitAtom(Atom atom, Map<String, Object> localEnvironment) {
+    public Object visitAtom(Atom atom, Object[] frame) {
         if (atom.getType().equals("symbol")) {
-            return visitSymbol((Symbol) atom.getValue(), localEnvironment);
+            return visitSymbol((Symbol) atom.getValue(), frame);
         }
         return atom.getValue();
     }
 
-    public Object visitGlobalFunction(GlobalFunction globalFunction, Map<String, Object> localEnvironment) {
+    public Object visitGlobalFunction(GlobalFunction globalFunction, Object[] frame) {
+        if (profiler == null) {
+            return applyBuiltin(globalFunction, frame);
+        }
+        profiler.enter(globalFunction.getBuiltin().getName());
+        try {
+            return applyBuiltin(globalFunction, frame);
+        } finally {
+            profiler.exit();
+        }
+    }
+
+    private Object applyBuiltin(GlobalFunction globalFunction, Object[] frame) {
         List<SExpr> parameters = globalFunction.getParameters().getList();
-        String functionName = globalFunction.getValue().toLowerCase();
-        switch (functionName) {
-            case "+":
-            case "-":
-            case "*":
-            case "/":
-            case "%":
-            case "<":
-            case ">":
-            case "<=":
-            case ">=":
-                return visitArithmeticOperation(functionName, parameters, localEnvironment);
-            case "nil?":
-            case "number?":
-            case "list?":
-            case "symbol?":
-                return visitTypeCheckingFunction(functionName, parameters);
-            case "eq?":
-            case "=":
+        Builtin builtin = globalFunction.getBuiltin();
+        switch (builtin) {
+            case ADD:
+            case SUBTRACT:
+            case MULTIPLY:
+            case DIVIDE:
+            case MOD:
+            case LESS:
+            case GREATER:
+            case LESS_EQUAL:
+            case GREATER_EQUAL:
+                return visitArithmeticOperation(builtin, parameters, frame);
+            case IS_NIL:
+            case IS_NUMBER:
+            case IS_LIST:
+            case IS_SYMBOL:
+                return visitTypeCheckingFunction(builtin, parameters);
+            case EQUAL:
+                if (parameters.size() != 2) {
+                    throw new RuntimeException(globalFunction.getName() + " function must have exactly two parameters");
+                }
+                return Numbers.isEqual(parameters.get(0).accept(this, frame),
+                        parameters.get(1).accept(this, frame));
+            case CONS:
+                return visitConsStatement(parameters, frame);
+            case CAR:
+                return visitCarStatement(parameters, frame);
+            case CDR:
+                return visitCdrStatement(parameters, frame);
+            case VECTOR:
+                return PersistentVector.of(evaluateAll(parameters, frame));
+            case HASH_MAP:
+                return PersistentHashMap.of(evaluateAll(parameters, frame));
+            case VECTOR_REF:
+                if (parameters.size() != 2) {
+                    throw new RuntimeException("vector-ref function must have exactly two parameters");
+                }
+                return PersistentVector.ref(parameters.get(0).accept(this, frame),
+                        parameters.get(1).accept(this, frame));
+            case ASSOC:
+                if (parameters.size() != 3) {
+                    throw new RuntimeException("assoc function must have exactly three parameters");
+                }
+                Object[] arguments = evaluateAll(parameters, frame);
+                return Associative.assoc(arguments[0], arguments[1], arguments[2]);
+            case GET:
+                if (parameters.size() != 2) {
+                    throw new RuntimeException("get function must have exactly two parameters");
+                }
+                return Associative.get(parameters.get(0).accept(this, frame), parameters.get(1).accept(this, frame));
+            case PMAP:
+            case PFILTER:
+            case PREDUCE:
+                return visitParallelStatement(builtin, parameters, frame);
+            case FUTURE:
+                return visitFutureStatement(parameters, frame);
+            case DEREF:
+                if (parameters.size() != 1) {
+                    throw new RuntimeException(globalFunction.getName() + " function must have exactly one parameter");
+                }
+                return Promise.deref(parameters.get(0).accept(this, frame));
+            case PROMISE:
+                if (parameters.size() != 0) {
+                    throw new RuntimeException("promise function must have no parameters");
+                }
+                return Promise.promise();
+            case DELIVER:
                 if (parameters.size() != 2) {
-                    throw new RuntimeException(functionName + " function must have exactly two parameters");
+                    throw new RuntimeException("deliver function must have exactly two parameters");
                 }
-                return parameters.get(0).accept(this, localEnvironment)
-                        .equals(parameters.get(1).accept(this, localEnvironment));
-            case "cons":
-                return visitConsStatement(parameters, localEnvironment);
-            case "car":
-                return visitCarStatement(parameters);
-            case "cdr":
-                return visitCdrStatement(parameters);
-            case "print":
-                return visitPrintStatement(parameters, localEnvironment);
-            case "quote":
-            case "'":
+                return Promise.deliver(parameters.get(0).accept(this, frame), parameters.get(1).accept(this, frame));
+            case PRINT:
+                return visitPrintStatement(parameters, frame);
+            case QUOTE:
                 if (parameters.size() != 1) {
                     throw new RuntimeException("quote function must have exactly one parameter");
                 }
-                return parameters.get(0);
-            case "eval":
+                return globalFunction.getQuoted();
+            case EVAL:
                 if (parameters.size() != 1) {
                     throw new RuntimeException("eval function must have exactly one parameter");
                 }
-                Object result = parameters.get(0).accept(this, localEnvironment);
+                Object result = parameters.get(0).accept(this, frame);
+                if (result instanceof Cons) {
+                    result = Quotation.code((Cons) result);
+                }
                 while (result instanceof SExpr) {
-                    result = ((SExpr) result).accept(this, localEnvironment);
+                    result = RESOLVER.resolveCopy((SExpr) result, globalFunction.getScope()).accept(this, frame);
                 }
                 return result;
-            case "not":
-                return visitNotStatement(parameters, localEnvironment);
-            case "cond":
-                return visitCondStatement(parameters, localEnvironment);
-            case "and?":
-            case "or?":
-                return visitConditionalStatement(functionName, parameters, localEnvironment);
-            case "if":
-                return visitIfStatement(parameters, localEnvironment);
-            case "set":
-                return visitSetStatement(parameters, localEnvironment);
-            case "define":
+            case NOT:
+                return visitNotStatement(parameters, frame);
+            case COND:
+                return visitCondStatement(parameters, frame);
+            case AND:
+            case OR:
+                return visitConditionalStatement(builtin, parameters, frame);
+            case IF:
+                return visitIfStatement(parameters, frame);
+            case SET:
+                return visitSetStatement(parameters, frame);
+            case DEFINE:
                 return visitDefine(parameters);
             default:
-                throw new RuntimeException("Unknown global function: " + functionName);
+                throw new RuntimeException("Unknown global function: " + globalFunction.getName());
         }
     }
 
-    public Object visitArithmeticOperation(String operation, List<SExpr> parameters,
-            Map<String, Object> localEnvironment) {
+    // The expression runs on its own interpreter, sharing only the globals, with a
+    // copy of the frame since a tail call may reuse this one while it runs
+    private Object visitFutureStatement(List<SExpr> parameters, Object[] frame) {
+        if (parameters.size() != 1) {
+            throw new RuntimeException("future function must have exactly one parameter");
+        }
+        SExpr expr = parameters.get(0);
+        Object[] copy = frame.clone();
+        Interpreter worker = worker();
+        return Promise.future(() -> expr.accept(worker, copy));
+    }
+
+    private Object visitParallelStatement(Builtin builtin, List<SExpr> parameters, Object[] frame) {
+        if (builtin == Builtin.PREDUCE && parameters.size() != 3) {
+            throw new RuntimeException("preduce function must have exactly three parameters");
+        } else if (builtin != Builtin.PREDUCE && parameters.size() != 2) {
+            throw new RuntimeException(builtin.getName() + " function must have exactly two parameters");
+        }
+        Object[] arguments = evaluateAll(parameters, frame);
+        if (!(arguments[0] instanceof Closure)) {
+            throw new RuntimeException(builtin.getName() + " function requires a function");
+        }
+        Closure closure = (Closure) arguments[0];
+        return Parallel.apply(builtin, new Parallel.Callee(closure.getName(), closure.getArity()) {
+            @Override
+            protected boolean isPure() {
+                // A closure keeps its body to run it, so it is summarized when needed
+                return Purity.isPure(Purity.summarize(Arrays.asList(closure.getBody())), id -> {
+                    Object definition = environment.get(id);
+                    return definition instanceof Closure
+                            ? Purity.summarize(Arrays.asList(((Closure) definition).getBody())) : null;
+                }, environment::get);
+            }
+
+            // Each thread needs its own interpreter for the pending tail call state
+            @Override
+            protected Parallel.Invoker newInvoker() {
+                Interpreter worker = worker();
+                return values -> worker.call(closure, values);
+            }
+        }, arguments);
+    }
+
+    public Object visitArithmeticOperation(Builtin operation, List<SExpr> parameters, Object[] frame) {
         if (parameters.size() < 2) {
             throw new RuntimeException("Arithmetic operations must have at least two parameters");
         }
-        List<Object> results = parameters.stream().map(expr -> expr.accept(this, localEnvironment)).toList();
-        if (results.stream().anyMatch(result -> !(result instanceof Number))) {
-            throw new RuntimeException("Parameters for arithmetic operations must be numbers");
+        if (parameters.size() == 2) {
+            Object left = parameters.get(0).accept(this, frame);
+            Object right = parameters.get(1).accept(this, frame);
+            return binaryOperation(operation, left, right);
+        }
+        Object[] values = new Object[parameters.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = parameters.get(i).accept(this, frame);
         }
-        List<Double> numbers = results.stream().map(result -> ((Number) result).doubleValue()).toList();
+        Numbers.checkNumbers(values);
         switch (operation) {
-            case "+":
-                return numbers.stream().reduce(0.0, Double::sum);
-            case "-":
-                return numbers.stream().reduce((a, b) -> a - b).get();
-            case "*":
-                return numbers.stream().reduce(1.0, (a, b) -> a * b);
-            case "/":
-                return numbers.stream().reduce((a, b) -> a / b).get();
-            case "%":
-                if (numbers.size() != 2) {
-                    throw new RuntimeException("% function must have exactly two parameters");
-                }
-                return numbers.get(0) % numbers.get(1);
-            case "<":
-                if (numbers.size() != 2) {
-                    throw new RuntimeException("< function must have exactly two parameters");
-                }
-                return numbers.get(0) < numbers.get(1);
-            case ">":
-                if (numbers.size() != 2) {
-                    throw new RuntimeException("> function must have exactly two parameters");
-                }
-                return numbers.get(0) > numbers.get(1);
-            case "<=":
-                if (numbers.size() != 2) {
-                    throw new RuntimeException("<= function must have exactly two parameters");
+            case ADD:
+            case SUBTRACT:
+            case MULTIPLY:
+            case DIVIDE:
+                Object result = values[0];
+                for (int i = 1; i < values.length; i++) {
+                    result = binaryOperation(operation, result, values[i]);
                 }
-                return numbers.get(0) <= numbers.get(1);
-            case ">=":
-                if (numbers.size() != 2) {
-                    throw new RuntimeException(">= function must have exactly two parameters");
-                }
-                return numbers.get(0) >= numbers.get(1);
+                return result;
+            default:
+                throw new RuntimeException(operation.getName() + " function must have exactly two parameters");
+        }
+    }
+
+    private Object binaryOperation(Builtin operation, Object left, Object right) {
+        switch (operation) {
+            case ADD:
+                return Numbers.add(left, right);
+            case SUBTRACT:
+                return Numbers.subtract(left, right);
+            case MULTIPLY:
+                return Numbers.multiply(left, right);
+            case DIVIDE:
+                return Numbers.divide(left, right);
+            case MOD:
+                return Numbers.mod(left, right);
+            case LESS:
+                return Numbers.lessThan(left, right);
+            case GREATER:
+                return Numbers.greaterThan(left, right);
+            case LESS_EQUAL:
+                return Numbers.lessEqual(left, right);
+            case GREATER_EQUAL:
+                return Numbers.greaterEqual(left, right);
             default:
                 throw new RuntimeException("Unknown arithmetic operation: " + operation);
         }
     }
 
-    private boolean visitTypeCheckingFunction(String functionName, List<SExpr> parameters) {
+    private boolean visitTypeCheckingFunction(Builtin check, List<SExpr> parameters) {
         if (parameters.size() != 1) {
-            throw new RuntimeException(functionName + " function must have exactly one parameter");
+            throw new RuntimeException(check.getName() + " function must have exactly one parameter");
         }
         SExpr param = parameters.get(0);
-        switch (functionName) {
-            case "nil?":
+        switch (check) {
+            case IS_NIL:
                 return param instanceof Nil;
-            case "number?":
+            case IS_NUMBER:
                 return param instanceof Atom && ((Atom) param).isNumber();
-            case "list?":
+            case IS_LIST:
                 return param instanceof SExprList;
-            case "symbol?":
+            case IS_SYMBOL:
                 return param instanceof Symbol;
             default:
-                throw new RuntimeException("Unknown type checking function: " + functionName);
+                throw new RuntimeException("Unknown type checking function: " + check.getName());
         }
     }
 
-    private boolean visitNotStatement(List<SExpr> parameters, Map<String, Object> localEnvironment) {
+    private boolean visitNotStatement(List<SExpr> parameters, Object[] frame) {
         if (parameters.size() != 1) {
             throw new RuntimeException("not function must have exactly one parameter");
         }
 
         SExpr param = parameters.get(0);
-        return !paramToBoolean(param, localEnvironment);
+        return !paramToBoolean(param, frame);
     }
 
-    private Object visitPrintStatement(List<SExpr> parameters, Map<String, Object> localEnvironment) {
+    private Object visitPrintStatement(List<SExpr> parameters, Object[] frame) {
         if (parameters.size() == 0) {
             throw new RuntimeException("print function must have at least one parameter");
         }
         for (SExpr param : parameters) {
-            Object result = param.accept(this, localEnvironment);
+            Object result = param.accept(this, frame);
             if (result == null) {
                 return null;
-            } else if (result instanceof Cons) {
-                Cons cons = (Cons) result;
-                System.out.println(cons.toString());
+            }
+            output.println(Printer.format(result));
+            if (result instanceof Cons && !((Cons) result).isList()) {
                 return null;
-            } else if (result.equals(true)) {
-                System.out.println("TRUTH");
-            } else if (result.equals(false)) {
-                System.out.println("NIL");
-            } else {
-                System.out.println(result);
             }
         }
         return null;
     }
 
-    private Object visitSetStatement(List<SExpr> parameters, Map<String, Object> localEnvironment) {
+    private Object visitSetStatement(List<SExpr> parameters, Object[] frame) {
         if (parameters.size() != 2) {
             throw new RuntimeException("set function must have exactly two parameters");
         }
         if (!(parameters.get(0) instanceof Symbol)) {
             throw new RuntimeException("First parameter of set function must be a symbol");
         }
-        String variableName = ((Symbol) parameters.get(0)).getValue();
-        Object value = parameters.get(1).accept(this, localEnvironment);
-        environment.put(variableName, value);
+        Object value = parameters.get(1).accept(this, frame);
+        environment.set(((Symbol) parameters.get(0)).getId(), value);
         return null;
     }
 
-    private boolean paramToBoolean(SExpr param, Map<String, Object> localEnvironment) {
+    private boolean paramToBoolean(SExpr param, Object[] frame) {
         boolean first = false;
         if (param instanceof Atom) {
             first = ((Atom) param).toBoolean();
         } else if (param instanceof Function) {
-            Object firstValue = param.accept(this, localEnvironment);
+            Object firstValue = param.accept(this, frame);
             first = firstValue != null && firstValue.equals(true);
         } else if (param instanceof Symbol) {
             first = ((Symbol) param).toBoolean();
@@ -312,8 +575,7 @@ public class Interpreter {
         return first;
     }
 
-    private Object visitConditionalStatement(String conditional, List<SExpr> parameters,
-            Map<String, Object> localEnvironment) {
+    private Object visitConditionalStatement(Builtin conditional, List<SExpr> parameters, Object[] frame) {
         if (parameters.size() != 2) {
             throw new RuntimeException("conditional function must have exactly two parameters");
         }
@@ -321,24 +583,28 @@ public class Interpreter {
         SExpr param = parameters.get(0);
         SExpr paramSecond = parameters.get(1);
 
-        boolean first = paramToBoolean(param, localEnvironment);
+        boolean first = paramToBoolean(param, frame);
 
-        if (conditional.equals("and?") && !first) {
+        if (conditional == Builtin.AND && !first) {
             return false;
-        } else if (conditional.equals("or?") && first) {
+        } else if (conditional == Builtin.OR && first) {
             return true;
         }
         
-        boolean second = paramToBoolean(paramSecond, localEnvironment);
+        boolean second = paramToBoolean(paramSecond, frame);
 
-        if (conditional.equals("and?")) {
+        if (conditional == Builtin.AND) {
             return first && second;
         } else {
             return first || second;
         }
     }
 
-    private Object visitIfStatement(List<SExpr> parameters, Map<String, Object> localEnvironment) {
+    private Object visitIfStatement(List<SExpr> parameters, Object[] frame) {
+        return selectIfBranch(parameters, frame).accept(this, frame);
+    }
+
+    private SExpr selectIfBranch(List<SExpr> parameters, Object[] frame) {
         if (parameters.size() != 3) {
             throw new RuntimeException("if function must have exactly three parameters");
         }
@@ -347,15 +613,24 @@ public class Interpreter {
         SExpr paramSecond = parameters.get(1);
         SExpr paramThird = parameters.get(2);
 
-        boolean first = paramToBoolean(param, localEnvironment);
+        boolean first = paramToBoolean(param, frame);
 
         if (first) {
-            return paramSecond.accept(this, localEnvironment);
+            return paramSecond;
         }
-        return paramThird.accept(this, localEnvironment);
+        return paramThird;
     }
 
-    private Object visitCondStatement(List<SExpr> parameters, Map<String, Object> localEnvironment) {
+    private Object visitCondStatement(List<SExpr> parameters, Object[] frame) {
+        SExpr branch = selectCondBranch(parameters, frame);
+        if (branch == null) {
+            return Nil.INSTANCE;
+        }
+        return branch.accept(this, frame);
+    }
+
+    // Returns the result expression of the first true condition, or null if there is none
+    private SExpr selectCondBranch(List<SExpr> parameters, Object[] frame) {
         if (parameters.size() % 2 != 0) {
             throw new RuntimeException("cond statement must have an even number of parameters");
         }
@@ -364,60 +639,38 @@ public class Interpreter {
             SExpr condition = parameters.get(i);
             SExpr result = parameters.get(i + 1);
 
-            if (condition instanceof Symbol && condition.toString().equals("else")) {
-                return result.accept(this, localEnvironment);
+            if (condition instanceof Symbol && !(condition instanceof Function)
+                    && ((Symbol) condition).getId() == ELSE) {
+                return result;
             }
 
-            if (paramToBoolean(condition, localEnvironment)) {
-                return result.accept(this, localEnvironment);
+            if (paramToBoolean(condition, frame)) {
+                return result;
             }
         }
 
-        return Nil.INSTANCE;
+        return null;
     }
 
-    private Object visitConsStatement(List<SExpr> parameters, Map<String, Object> localEnvironment) {
+    private Object visitConsStatement(List<SExpr> parameters, Object[] frame) {
         if (parameters.size() != 2) {
             throw new RuntimeException("cons function must have exactly two parameters");
         }
-        SExpr first = parameters.get(0);
-        SExpr second = parameters.get(1);
-        if (second instanceof SExprList) {
-            SExprList list = (SExprList) second;
-            list.prepend(first);
-            return list.accept(this, localEnvironment);
-        }
-        return new Cons(first, second);
+        Object first = parameters.get(0).accept(this, frame);
+        return new Cons(first, parameters.get(1).accept(this, frame));
     }
 
-    private Object visitCarStatement(List<SExpr> parameters) {
-        SExpr param = parameters.get(0);
-        Object paramValue = param.accept(this, new HashMap<>());
-        if (paramValue instanceof Cons) {
-            return ((Cons) paramValue).getCar();
+    private Object visitCarStatement(List<SExpr> parameters, Object[] frame) {
+        if (parameters.size() != 1) {
+            throw new RuntimeException("car function must have exactly one parameter");
         }
-        SExprList list = (SExprList) param;
-        List<SExpr> separate = list.getList();
-        if (separate.isEmpty())
-            return Nil.INSTANCE;
-        return separate.get(0);
+        return Cons.car(parameters.get(0).accept(this, frame));
     }
 
-    private Object visitCdrStatement(List<SExpr> parameters) {
-        SExpr param = parameters.get(0);
-        Object paramValue = param.accept(this, new HashMap<>());
-        if (paramValue instanceof Cons) {
-            return ((Cons) paramValue).getCdr();
-        }
-        SExprList list = (SExprList) parameters.get(0);
-        List<SExpr> separate = list.getList();
-        SExprList newList = new SExprList();
-        for (int i = 1; i < separate.size(); i++) {
-            newList.add(separate.get(i));
-        }
-        if (newList.getList().isEmpty()) {
-            return Nil.INSTANCE;
+    private Object visitCdrStatement(List<SExpr> parameters, Object[] frame) {
+        if (parameters.size() != 1) {
+            throw new RuntimeException("cdr function must have exactly one parameter");
         }
-        return newList;
+        return Cons.cdr(parameters.get(0).accept(this, frame));
     }
-}
\ No newline at end of file
+}
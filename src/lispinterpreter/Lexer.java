@@ -0,0 +1,131 @@
+package lispinterpreter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+
+// Splits source text into tokens on demand. The lexer only moves an index through
+// the text: next() reports the kind of the following token and records where it
+// starts and ends, and text() copies it out only when the parser needs it.
+// A lexer over a Reader keeps a window of the stream instead: characters are read
+// as the scan reaches them and dropped once the tokens they belong to are consumed,
+// so only the token being read and one chunk of lookahead are held in memory.
+final class Lexer {
+    static final int END = 0;
+    static final int OPEN = 1;    // (
+    static final int CLOSE = 2;   // )
+    static final int ATOM = 3;    // a number, symbol or comma
+    static final int STRING = 4;  // a string literal; start and end exclude the quotes
+
+    private static final int CHUNK = 8192;
+
+    private final CharSequence input;
+    private Reader reader;
+    private char[] chunk;
+    private int position;
+
+    private int kind;
+    private int start;
+    private int end;
+    private boolean peeked;
+
+    Lexer(CharSequence input) {
+        this.input = input;
+    }
+
+    Lexer(Reader reader) {
+        this.input = new StringBuilder();
+        this.reader = reader;
+        this.chunk = new char[CHUNK];
+    }
+
+    int peek() {
+        if (!peeked) {
+            kind = scan();
+            peeked = true;
+        }
+        return kind;
+    }
+
+    int next() {
+        int next = peek();
+        peeked = false;
+        return next;
+    }
+
+    // The text of the token last returned by next()
+    String text() {
+        return input.subSequence(start, end).toString();
+    }
+
+    private int scan() {
+        if (reader != null && position >= CHUNK) {
+            // Everything before the position belongs to tokens already consumed
+            ((StringBuilder) input).delete(0, position);
+            position = 0;
+        }
+        while (has(position) && Character.isWhitespace(input.charAt(position))) {
+            position++;
+        }
+        start = position;
+        if (!has(position)) {
+            end = position;
+            return END;
+        }
+        char c = input.charAt(position++);
+        end = position;
+        if (c == '(') {
+            return OPEN;
+        } else if (c == ')') {
+            return CLOSE;
+        } else if (c == ',') {
+            return ATOM;
+        } else if (c == '"') {
+            while (has(position) && input.charAt(position) != '"') {
+                position++;
+            }
+            if (!has(position)) {
+                // An unterminated string is read as an atom, quote included
+                end = position;
+                return ATOM;
+            }
+            start++;
+            end = position++;
+            return STRING;
+        }
+        while (has(position) && !isDelimiter(input.charAt(position))) {
+            position++;
+        }
+        end = position;
+        return ATOM;
+    }
+
+    // True when there is a character at the index, reading more of the stream if needed
+    private boolean has(int index) {
+        while (index >= input.length()) {
+            if (reader == null) {
+                return false;
+            }
+            fill();
+        }
+        return true;
+    }
+
+    private void fill() {
+        try {
+            int read = reader.read(chunk);
+            if (read < 0) {
+                reader = null;
+                chunk = null;
+            } else {
+                ((StringBuilder) input).append(chunk, 0, read);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isDelimiter(char c) {
+        return c == '(' || c == ')' || c == ',' || c == '"' || Character.isWhitespace(c);
+    }
+}
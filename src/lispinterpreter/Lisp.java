@@ -1,64 +1,170 @@
 package lispinterpreter;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 
-@FunctionalInterface
-interface FileRunner {
-    void run(String filePath);
-}
-
 public class Lisp {
+    static final List<String> ENGINES = List.of("interpret", "compile", "vm");
+
+    private static String engine = "interpret";
+    private static boolean stream = false;
+    private static boolean map = false;
+    private static boolean profile = false;
+    private static Output.Flush flush = null;
+
     public static void main(String[] args) {
-        if (args.length > 0) {
-            String argument = args[0];
+        List<String> arguments = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--engine=")) {
+                engine = arg.substring("--engine=".length()).toLowerCase();
+            } else if (arg.equals("--stream")) {
+                stream = true;
+            } else if (arg.equals("--mmap")) {
+                map = true;
+            } else if (arg.equals("--profile")) {
+                profile = true;
+            } else if (arg.equals("--flush=line")) {
+                flush = Output.Flush.LINE;
+            } else if (arg.equals("--flush=batch")) {
+                flush = Output.Flush.BATCH;
+            } else {
+                arguments.add(arg);
+            }
+        }
+        if (!ENGINES.contains(engine)) {
+            System.out.println("Error: unknown engine '" + engine + "', expected one of " + ENGINES);
+            return;
+        }
+        if (profile && !engine.equals("interpret")) {
+            System.out.println("Error: --profile only works with the interpret engine");
+            return;
+        }
+
+        if (arguments.size() > 0) {
+            String argument = arguments.get(0);
             if (argument.equalsIgnoreCase("test")) {
                 runTests();
+            } else if (argument.equalsIgnoreCase("bench")) {
+                runBenchmarks(arguments.subList(1, arguments.size()));
+            } else if (argument.equalsIgnoreCase("compare")) {
+                runComparison(arguments.subList(1, arguments.size()));
             } else {
-                runFile(argument);
+                runFile(argument, newOutput(Output.Flush.BATCH), newProfiler());
             }
         } else {
             runPrompt();
         }
     }
 
-    private static void runFile(String filename) {
+    private static void runFile(String filename, Output output) {
+        runFile(filename, output, null);
+    }
+
+    private static void runFile(String filename, Output output, Profiler profiler) {
+        Session session = new Session(engine, output, profiler);
         try {
-            String content = Files.readString(Paths.get(filename));
-            run(content);
+            if (map) {
+                mapFile(session, filename);
+            } else if (stream) {
+                streamFile(session, filename);
+            } else {
+                session.run(Files.readString(Paths.get(filename)));
+            }
         } catch (IOException e) {
-            System.out.println("Error reading file: " + filename);
+            output.println("Error reading file: " + filename);
+        } finally {
+            session.flush();
+            report(profiler);
+        }
+    }
+
+    // Lexes the file directly from a memory mapping instead of a String copy of it
+    private static void mapFile(Session session, String filename) throws IOException {
+        Parser parser = MappedSource.parser(Paths.get(filename));
+        if (stream) {
+            session.stream(parser);
+        } else {
+            session.run(parser);
+        }
+    }
+
+    // Evaluates each top-level form as soon as it has been read, so that only one
+    // form of the file is held in memory at a time
+    private static void streamFile(Session session, String filename) throws IOException {
+        try (Reader reader = Files.newBufferedReader(Paths.get(filename))) {
+            session.stream(new Parser(reader));
+        }
+    }
+
+    // Print output is flushed line by line for the REPL and in large batches for files,
+    // unless --flush says otherwise
+    private static Output newOutput(Output.Flush defaultPolicy) {
+        return Output.standard(flush != null ? flush : defaultPolicy);
+    }
+
+    // The profile is printed to standard error, apart from the program's own output
+    private static Profiler newProfiler() {
+        return profile ? new Profiler() : null;
+    }
+
+    private static void report(Profiler profiler) {
+        if (profiler != null) {
+            profiler.report(System.err);
         }
     }
 
     private static void runPrompt() {
+        Profiler profiler = newProfiler();
+        Session session = new Session(engine, newOutput(Output.Flush.LINE), profiler);
         Scanner scanner = new Scanner(System.in);
         System.out.println("Please enter input (type 'exit' to stop):");
         System.out.print("> ");
         String userInput;
-        while (!(userInput = scanner.nextLine()).equalsIgnoreCase("exit")) {
-            run(userInput);
-            System.out.print("> ");
+        try {
+            // Input ends at exit or at the end of standard input
+            while (scanner.hasNextLine() && !(userInput = scanner.nextLine()).equalsIgnoreCase("exit")) {
+                session.run(userInput);
+                System.out.print("> ");
+            }
+        } finally {
+            // With --flush=batch, output is still buffered at this point
+            session.flush();
+            scanner.close();
         }
-        scanner.close();
+        report(profiler);
     }
 
-    private static void run(String input) {
+    private static void runTests() {
+        TestHarness testHarness = new TestHarness(Lisp::runFile);
+        testHarness.run();
+    }
+
+    private static void runBenchmarks(List<String> options) {
+        BenchmarkRunner benchmarkRunner = new BenchmarkRunner(Lisp::runFile, engine);
         try {
-            Parser parser = new Parser(input);
-            List<SExpr> statements = parser.parse();
-            Interpreter interpreter = new Interpreter(statements);
-            interpreter.interpret();
-        } catch (Exception e) {
+            benchmarkRunner.configure(options);
+        } catch (IllegalArgumentException e) {
             System.out.println("Error: " + e.getMessage());
+            System.exit(2);
+        }
+        if (!benchmarkRunner.run()) {
+            System.exit(1);
         }
     }
 
-    private static void runTests() {
-        TestHarness testHarness = new TestHarness(Lisp::runFile);
-        testHarness.run();
+    private static void runComparison(List<String> options) {
+        SprintComparison sprintComparison = new SprintComparison();
+        try {
+            sprintComparison.configure(options);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Error: " + e.getMessage());
+            System.exit(2);
+        }
+        sprintComparison.run();
     }
 }
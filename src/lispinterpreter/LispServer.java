@@ -0,0 +1,170 @@
+package lispinterpreter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import lispinterpreter.jit.JitCompiler;
+
+// Serves evaluation requests over HTTP so that scripts can run in a JVM that is
+// already warm. A request POSTs Lisp source to /eval and gets back whatever it
+// printed. Every request runs in its own session, with its own global environment
+// and interpreter, so requests cannot see each other's definitions. The prelude,
+// a file of definitions given with --prelude, is loaded once at startup and each
+// session starts from a copy of its globals; its functions are handed to the JIT
+// straight away, and are shared by every session. Requests run on virtual threads
+// when the JVM has them, and on a thread pool otherwise.
+//
+// A request that runs longer than the timeout is answered with an error, and its
+// code fails at its next check of the deadline (see Interpreter.setDeadline). The
+// symbol table lives as long as the process, so a request may only add
+// SYMBOL_LIMIT names to it.
+public class LispServer {
+    static final int SYMBOL_LIMIT = 10_000;
+
+    private static final Charset CHARSET = Charset.defaultCharset();
+    private static final long DEFAULT_TIMEOUT = 10_000;
+
+    // The status and body of the answer to a request
+    static final class Response {
+        final int status;
+        final String body;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    private final Environment prelude;
+    private final long timeoutMillis;
+    private final ExecutorService runner = Threads.newExecutor();
+
+    public LispServer(Environment prelude, long timeoutMillis) {
+        this.prelude = prelude;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = 8080;
+        long timeout = DEFAULT_TIMEOUT;
+        String preludeFile = null;
+        for (String arg : args) {
+            if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(arg.substring("--port=".length()));
+            } else if (arg.startsWith("--prelude=")) {
+                preludeFile = arg.substring("--prelude=".length());
+            } else if (arg.startsWith("--timeout=")) {
+                timeout = Long.parseLong(arg.substring("--timeout=".length()));
+            } else {
+                System.out.println("Usage: java lispinterpreter.LispServer [--port=<port>] [--prelude=<file>]"
+                        + " [--timeout=<milliseconds>]");
+                return;
+            }
+        }
+
+        Environment prelude = new Environment();
+        if (preludeFile != null) {
+            prelude = loadPrelude(Files.readString(Paths.get(preludeFile)));
+        }
+
+        HttpServer server = start(new LispServer(prelude, timeout), port);
+        System.out.println("Listening on http://localhost:" + server.getAddress().getPort() + "/eval");
+    }
+
+    // Serves /eval on localhost; port 0 picks a free port
+    static HttpServer start(LispServer lispServer, int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/eval", lispServer::handle);
+        server.setExecutor(Threads.newExecutor());
+        server.start();
+        return server;
+    }
+
+    // Runs the prelude and returns the globals it defined; errors in it are printed
+    // to standard output
+    static Environment loadPrelude(String source) {
+        Environment globals = new Environment();
+        Output output = Output.standard(Output.Flush.LINE);
+        try {
+            List<SExpr> statements = new Resolver().resolve(new Parser(source).parse());
+            new Interpreter(statements, output, globals).interpret();
+        } catch (Exception e) {
+            output.println("Error: " + e.getMessage());
+        }
+        if (JitCompiler.THRESHOLD > 0) {
+            globals.forEach(value -> {
+                if (value instanceof Closure) {
+                    JitCompiler.compile((Closure) value);
+                }
+            });
+        }
+        return globals;
+    }
+
+    // Evaluates the request body in a fresh session. The status is 200 when it ran,
+    // 400 when it does not parse, 422 when it failed while running, 500 when the
+    // interpreter itself failed, and 503 when it ran out of time.
+    Response evaluate(String source) {
+        List<SExpr> statements;
+        try {
+            statements = new Parser(source, SYMBOL_LIMIT).parse();
+        } catch (Exception e) {
+            return new Response(400, "Error: " + e.getMessage());
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        Session session = new Session(prelude, new Output(buffer, Output.Flush.BATCH), deadline);
+        Future<Boolean> run = runner.submit(() -> session.run(statements));
+        try {
+            boolean completed = run.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            // Code stopped by the deadline fails just before the wait would time out
+            if (completed || System.nanoTime() - deadline < 0) {
+                session.flush();
+                return new Response(completed ? 200 : 422, buffer.toString(CHARSET));
+            }
+        } catch (ExecutionException e) {
+            return new Response(500, "Error: " + e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            // Answered below
+        }
+        // Stops a wait on a promise, which does not look at the deadline
+        run.cancel(true);
+        return new Response(503, "Error: request ran for more than " + timeoutMillis + " ms");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            String source = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            Response response = evaluate(source);
+            byte[] body = response.body.getBytes(CHARSET);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=" + CHARSET.name());
+            exchange.sendResponseHeaders(response.status, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+}
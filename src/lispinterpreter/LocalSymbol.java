@@ -0,0 +1,19 @@
+package lispinterpreter;
+
+public class LocalSymbol extends Symbol {
+    private int slot;
+
+    public LocalSymbol(String value, int slot) {
+        super(value);
+        this.slot = slot;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    @Override
+    public Object accept(Interpreter visitor, Object[] frame) {
+        return visitor.visitLocalSymbol(this, frame);
+    }
+}
@@ -0,0 +1,108 @@
+package lispinterpreter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Source text read straight out of a memory-mapped file. An ASCII file is used as
+// it is, one byte per character, so the lexer scans the mapped pages without the
+// file ever being copied onto the heap; only the tokens it asks for become Strings.
+// Other files are decoded as UTF-8 off the mapping a chunk at a time, as the lexer
+// reads them through its sliding window, so no decoded copy of the whole file is
+// made either.
+final class MappedSource implements CharSequence {
+    private final ByteBuffer bytes;
+
+    private MappedSource(ByteBuffer bytes) {
+        this.bytes = bytes;
+    }
+
+    static Parser parser(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("file is too large to map: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (isAscii(buffer)) {
+                return new Parser(new MappedSource(buffer));
+            }
+            return new Parser(new Utf8Reader(buffer));
+        }
+    }
+
+    private static boolean isAscii(ByteBuffer buffer) {
+        for (int i = 0, length = buffer.limit(); i < length; i++) {
+            if (buffer.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int length() {
+        return bytes.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) bytes.get(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString(start, end);
+    }
+
+    private String toString(int start, int end) {
+        byte[] text = new byte[end - start];
+        bytes.get(start, text);
+        return new String(text, StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public String toString() {
+        return toString(0, length());
+    }
+
+    // Decodes the mapped bytes on demand; malformed input becomes U+FFFD, as it
+    // would when decoding the whole file at once
+    private static final class Utf8Reader extends Reader {
+        private final ByteBuffer bytes;
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private boolean flushed;  // once the decoder has written out everything
+
+        Utf8Reader(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (flushed) {
+                return -1;
+            }
+            CharBuffer out = CharBuffer.wrap(buffer, offset, length);
+            // Every byte is already there, so each call can treat the rest as the end of input
+            decoder.decode(bytes, out, true);
+            if (!bytes.hasRemaining() && !flushed) {
+                flushed = !decoder.flush(out).isOverflow();
+            }
+            int read = out.position() - offset;
+            return read == 0 && flushed ? -1 : read;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
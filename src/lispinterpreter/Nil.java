@@ -1,7 +1,5 @@
 package lispinterpreter;
 
-import java.util.Map;
-
 public class Nil extends Atom {
 
     public static final Nil INSTANCE = new Nil();
@@ -10,7 +8,7 @@ public class Nil extends Atom {
     }
 
     @Override
-    public Object accept(Interpreter visitor, Map<String, Object> localEnvironment) {
+    public Object accept(Interpreter visitor, Object[] frame) {
         return visitor.visitNil();
     }
 
@@ -0,0 +1,270 @@
+package lispinterpreter;
+
+import java.math.BigInteger;
+
+// Arithmetic on the language's numbers. The tower is Long, BigInteger, Ratio and
+// Double; an operation is carried out at the highest level of its two operands.
+// Integers stay exact: a Long result that overflows is promoted to BigInteger, a
+// quotient that is not whole becomes a Ratio, and BigInteger and Ratio results that
+// turn out to be small whole numbers are handed back as Longs. Anything involving a
+// Double is computed in double. Every operation takes two already evaluated
+// operands and rejects them only after both have been evaluated, as the
+// interpreter requires.
+public final class Numbers {
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 1024;
+    private static final Long[] CACHE = new Long[CACHE_HIGH - CACHE_LOW];
+
+    private static final int LONG = 0;
+    private static final int BIG_INTEGER = 1;
+    private static final int RATIO = 2;
+    private static final int DOUBLE = 3;
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = (long) (i + CACHE_LOW);
+        }
+    }
+
+    private Numbers() {
+    }
+
+    // Boxes integers from the cache when they are small, which loop counters usually are
+    public static Long valueOf(long value) {
+        if (value >= CACHE_LOW && value < CACHE_HIGH) {
+            return CACHE[(int) value - CACHE_LOW];
+        }
+        return value;
+    }
+
+    public static Number valueOf(BigInteger value) {
+        if (value.bitLength() < 64) {
+            return valueOf(value.longValue());
+        }
+        return value;
+    }
+
+    // Reads an integer literal of any size, or a ratio literal such as 1/3
+    public static Number parse(String token) {
+        int slash = token.indexOf('/');
+        if (slash > 0) {
+            BigInteger denominator = new BigInteger(token.substring(slash + 1));
+            if (denominator.signum() == 0) {
+                throw new NumberFormatException("zero denominator");
+            }
+            return Ratio.valueOf(new BigInteger(token.substring(0, slash)), denominator);
+        }
+        if (token.length() < 19) {
+            return valueOf(Long.parseLong(token));
+        }
+        return valueOf(new BigInteger(token));
+    }
+
+    public static BigInteger toBigInteger(Number value) {
+        if (value instanceof BigInteger) {
+            return (BigInteger) value;
+        }
+        return BigInteger.valueOf(value.longValue());
+    }
+
+    public static void checkNumbers(Object[] values) {
+        for (Object value : values) {
+            if (!(value instanceof Number)) {
+                throw new RuntimeException("Parameters for arithmetic operations must be numbers");
+            }
+        }
+    }
+
+    private static int level(Object left, Object right) {
+        if (!(left instanceof Number) || !(right instanceof Number)) {
+            throw new RuntimeException("Parameters for arithmetic operations must be numbers");
+        }
+        return Math.max(level(left), level(right));
+    }
+
+    private static int level(Object value) {
+        if (value instanceof Long || value instanceof Integer) {
+            return LONG;
+        } else if (value instanceof BigInteger) {
+            return BIG_INTEGER;
+        } else if (value instanceof Ratio) {
+            return RATIO;
+        }
+        return DOUBLE;
+    }
+
+    private static double toDouble(Object value) {
+        return ((Number) value).doubleValue();
+    }
+
+    private static BigInteger toBigInteger(Object value) {
+        return toBigInteger((Number) value);
+    }
+
+    private static Ratio toRatio(Object value) {
+        return Ratio.toRatio((Number) value);
+    }
+
+    private static boolean isZero(Object value) {
+        if (value instanceof BigInteger) {
+            return ((BigInteger) value).signum() == 0;
+        } else if (value instanceof Ratio) {
+            return false;
+        }
+        return ((Number) value).longValue() == 0;
+    }
+
+    public static Object add(Object left, Object right) {
+        if (left instanceof Long && right instanceof Long) {
+            long x = (Long) left;
+            long y = (Long) right;
+            try {
+                return valueOf(Math.addExact(x, y));
+            } catch (ArithmeticException e) {
+                return BigInteger.valueOf(x).add(BigInteger.valueOf(y));
+            }
+        }
+        switch (level(left, right)) {
+            case DOUBLE:
+                return toDouble(left) + toDouble(right);
+            case RATIO:
+                return toRatio(left).add(toRatio(right));
+            default:
+                return valueOf(toBigInteger(left).add(toBigInteger(right)));
+        }
+    }
+
+    public static Object subtract(Object left, Object right) {
+        if (left instanceof Long && right instanceof Long) {
+            long x = (Long) left;
+            long y = (Long) right;
+            try {
+                return valueOf(Math.subtractExact(x, y));
+            } catch (ArithmeticException e) {
+                return BigInteger.valueOf(x).subtract(BigInteger.valueOf(y));
+            }
+        }
+        switch (level(left, right)) {
+            case DOUBLE:
+                return toDouble(left) - toDouble(right);
+            case RATIO:
+                return toRatio(left).subtract(toRatio(right));
+            default:
+                return valueOf(toBigInteger(left).subtract(toBigInteger(right)));
+        }
+    }
+
+    public static Object multiply(Object left, Object right) {
+        if (left instanceof Long && right instanceof Long) {
+            long x = (Long) left;
+            long y = (Long) right;
+            try {
+                return valueOf(Math.multiplyExact(x, y));
+            } catch (ArithmeticException e) {
+                return BigInteger.valueOf(x).multiply(BigInteger.valueOf(y));
+            }
+        }
+        switch (level(left, right)) {
+            case DOUBLE:
+                return toDouble(left) * toDouble(right);
+            case RATIO:
+                return toRatio(left).multiply(toRatio(right));
+            default:
+                return valueOf(toBigInteger(left).multiply(toBigInteger(right)));
+        }
+    }
+
+    // Exact division by zero has no exact answer, so it is done in double and gives
+    // Infinity or NaN, as it always has
+    public static Object divide(Object left, Object right) {
+        if (left instanceof Long && right instanceof Long) {
+            long x = (Long) left;
+            long y = (Long) right;
+            if (y != 0 && x % y == 0 && !(x == Long.MIN_VALUE && y == -1)) {
+                return valueOf(x / y);
+            }
+        }
+        int level = level(left, right);
+        if (level == DOUBLE || isZero(right)) {
+            return toDouble(left) / toDouble(right);
+        }
+        return toRatio(left).divide(toRatio(right));
+    }
+
+    public static Object mod(Object left, Object right) {
+        if (left instanceof Long && right instanceof Long) {
+            long x = (Long) left;
+            long y = (Long) right;
+            if (y != 0) {
+                return valueOf(x % y);
+            }
+        }
+        int level = level(left, right);
+        if (level == DOUBLE || isZero(right)) {
+            return toDouble(left) % toDouble(right);
+        } else if (level == RATIO) {
+            return toRatio(left).remainder(toRatio(right));
+        }
+        return valueOf(toBigInteger(left).remainder(toBigInteger(right)));
+    }
+
+    public static boolean lessThan(Object left, Object right) {
+        if (left instanceof Long && right instanceof Long) {
+            return (Long) left < (Long) right;
+        }
+        if (level(left, right) == DOUBLE) {
+            return toDouble(left) < toDouble(right);
+        }
+        return compareExact(left, right) < 0;
+    }
+
+    public static boolean greaterThan(Object left, Object right) {
+        if (left instanceof Long && right instanceof Long) {
+            return (Long) left > (Long) right;
+        }
+        if (level(left, right) == DOUBLE) {
+            return toDouble(left) > toDouble(right);
+        }
+        return compareExact(left, right) > 0;
+    }
+
+    public static boolean lessEqual(Object left, Object right) {
+        if (left instanceof Long && right instanceof Long) {
+            return (Long) left <= (Long) right;
+        }
+        if (level(left, right) == DOUBLE) {
+            return toDouble(left) <= toDouble(right);
+        }
+        return compareExact(left, right) <= 0;
+    }
+
+    public static boolean greaterEqual(Object left, Object right) {
+        if (left instanceof Long && right instanceof Long) {
+            return (Long) left >= (Long) right;
+        }
+        if (level(left, right) == DOUBLE) {
+            return toDouble(left) >= toDouble(right);
+        }
+        return compareExact(left, right) >= 0;
+    }
+
+    private static int compareExact(Object left, Object right) {
+        if (level(left, right) == RATIO) {
+            return toRatio(left).compareTo(toRatio(right));
+        }
+        return toBigInteger(left).compareTo(toBigInteger(right));
+    }
+
+    // Used by = and eq?, so that 1 and 1.0 compare equal
+    public static boolean isEqual(Object left, Object right) {
+        if (left instanceof Long && right instanceof Long) {
+            return ((Long) left).longValue() == (Long) right;
+        } else if (left instanceof Number && right instanceof Number) {
+            if (level(left, right) == DOUBLE) {
+                return toDouble(left) == toDouble(right);
+            }
+            return compareExact(left, right) == 0;
+        }
+        return left.equals(right);
+    }
+}
@@ -0,0 +1,55 @@
+package lispinterpreter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+
+// Where print and error messages go. Lines are collected in a buffer and encoded
+// and written in one go when the buffer is flushed, rather than each one going
+// through a synchronized, autoflushing PrintStream. LINE flushes after every
+// line, for the REPL; BATCH flushes only when the buffer fills up or the caller
+// is done, for running files.
+public final class Output {
+    public enum Flush { LINE, BATCH }
+
+    private static final int CAPACITY = 1 << 16;
+    private static final String NEWLINE = System.lineSeparator();
+
+    private final OutputStream out;
+    private final Flush policy;
+    private final Charset charset = Charset.defaultCharset();
+    private final StringBuilder buffer = new StringBuilder(CAPACITY);
+
+    public Output(OutputStream out, Flush policy) {
+        this.out = out;
+        this.policy = policy;
+    }
+
+    // Writes to whatever System.out is at the time of the call
+    public static Output standard(Flush policy) {
+        return new Output(System.out, policy);
+    }
+
+    // Synchronized, since futures may print while the main thread does
+    public synchronized void println(String line) {
+        buffer.append(line).append(NEWLINE);
+        if (policy == Flush.LINE || buffer.length() >= CAPACITY) {
+            flush();
+        }
+    }
+
+    public synchronized void flush() {
+        if (buffer.length() == 0) {
+            return;
+        }
+        try {
+            out.write(buffer.toString().getBytes(charset));
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package lispinterpreter;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// pmap, pfilter and preduce. A list or vector with at least THRESHOLD elements is
+// split into chunks that run on the common ForkJoinPool, as long as the function
+// is pure; anything else is processed in order on the calling thread. preduce
+// requires an associative function with the initial value as its identity, such as
+// + with 0: a parallel preduce reduces each chunk on its own and then folds the
+// chunk results onto the initial value, so with any other function the answer can
+// depend on how many chunks there are.
+public final class Parallel {
+    public static final int THRESHOLD = Integer.getInteger("lisp.parallel.threshold", 1024);
+
+    private static final int PARALLELISM = ForkJoinPool.getCommonPoolParallelism();
+
+    // The function given to pmap, pfilter or preduce, as seen by one engine
+    public abstract static class Callee {
+        private final String name;
+        private final int arity;
+
+        protected Callee(String name, int arity) {
+            this.name = name;
+            this.arity = arity;
+        }
+
+        // Whether calls may run on several threads at once without a visible difference
+        protected abstract boolean isPure();
+
+        // A way to call the function, used by one thread at a time
+        protected abstract Invoker newInvoker();
+    }
+
+    @FunctionalInterface
+    public interface Invoker {
+        Object invoke(Object[] arguments);
+    }
+
+    @FunctionalInterface
+    private interface Chunk {
+        void run(Invoker invoker, int chunk, int start, int end);
+    }
+
+    private Parallel() {
+    }
+
+    // The arguments are those of the builtin, function included, already evaluated
+    public static Object apply(Builtin builtin, Callee function, Object[] arguments) {
+        int argumentCount = builtin == Builtin.PREDUCE ? 2 : 1;
+        if (function.arity != argumentCount) {
+            throw new RuntimeException("function '" + function.name + "' expects " + function.arity
+                    + " parameters, but " + argumentCount + " were given");
+        }
+        Object collection = arguments[arguments.length - 1];
+        Object[] elements = elements(builtin, collection);
+        int chunks = 1;
+        if (elements.length >= THRESHOLD && PARALLELISM > 1 && function.isPure()) {
+            chunks = Math.min(elements.length, PARALLELISM * 4);
+        }
+        switch (builtin) {
+            case PMAP:
+                return map(function, collection, elements, chunks);
+            case PFILTER:
+                return filter(function, collection, elements, chunks);
+            default:
+                return reduce(function, arguments[1], elements, chunks);
+        }
+    }
+
+    private static Object map(Callee function, Object collection, Object[] elements, int chunks) {
+        Object[] results = new Object[elements.length];
+        run(function, elements.length, chunks, (invoker, chunk, start, end) -> {
+            for (int i = start; i < end; i++) {
+                results[i] = invoker.invoke(new Object[] {elements[i]});
+            }
+        });
+        return rebuild(collection, results);
+    }
+
+    // Keeps the elements the function returns TRUTH for, as conditions do
+    private static Object filter(Callee function, Object collection, Object[] elements, int chunks) {
+        boolean[] keep = new boolean[elements.length];
+        run(function, elements.length, chunks, (invoker, chunk, start, end) -> {
+            for (int i = start; i < end; i++) {
+                Object result = invoker.invoke(new Object[] {elements[i]});
+                keep[i] = result != null && result.equals(true);
+            }
+        });
+        int count = 0;
+        for (int i = 0; i < elements.length; i++) {
+            if (keep[i]) {
+                elements[count++] = elements[i];
+            }
+        }
+        return rebuild(collection, Arrays.copyOf(elements, count));
+    }
+
+    private static Object reduce(Callee function, Object initial, Object[] elements, int chunks) {
+        if (chunks == 1) {
+            Object[] result = {initial};
+            run(function, elements.length, 1, (invoker, chunk, start, end) -> {
+                for (int i = start; i < end; i++) {
+                    result[0] = invoker.invoke(new Object[] {result[0], elements[i]});
+                }
+            });
+            return result[0];
+        }
+        // Each chunk starts from its first element rather than the initial value, so
+        // the initial value is folded in once however many chunks there are
+        Object[] partials = new Object[chunks];
+        run(function, elements.length, chunks, (invoker, chunk, start, end) -> {
+            Object partial = elements[start];
+            for (int i = start + 1; i < end; i++) {
+                partial = invoker.invoke(new Object[] {partial, elements[i]});
+            }
+            partials[chunk] = partial;
+        });
+        Invoker invoker = function.newInvoker();
+        Object result = initial;
+        for (Object partial : partials) {
+            result = invoker.invoke(new Object[] {result, partial});
+        }
+        return result;
+    }
+
+    // Splits 0..length into chunks, each run with its own invoker. When several
+    // chunks fail, the error from the earliest one is the one reported.
+    private static void run(Callee function, int length, int chunks, Chunk body) {
+        if (chunks == 1) {
+            body.run(function.newInvoker(), 0, 0, length);
+            return;
+        }
+        RuntimeException[] errors = new RuntimeException[chunks];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            try {
+                body.run(function.newInvoker(), chunk, (int) ((long) length * chunk / chunks),
+                        (int) ((long) length * (chunk + 1) / chunks));
+            } catch (RuntimeException e) {
+                errors[chunk] = e;
+            }
+        });
+        for (RuntimeException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
+
+    private static Object[] elements(Builtin builtin, Object collection) {
+        if (collection instanceof PersistentVector) {
+            PersistentVector vector = (PersistentVector) collection;
+            Object[] elements = new Object[vector.size()];
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = vector.get(i);
+            }
+            return elements;
+        } else if (Cons.EMPTY.equals(collection)) {
+            return new Object[0];
+        } else if (collection instanceof Cons && ((Cons) collection).isList()) {
+            int count = 0;
+            for (Object rest = collection; rest instanceof Cons; rest = ((Cons) rest).getCdr()) {
+                count++;
+            }
+            Object[] elements = new Object[count];
+            Object rest = collection;
+            for (int i = 0; i < count; i++) {
+                elements[i] = ((Cons) rest).getCar();
+                rest = ((Cons) rest).getCdr();
+            }
+            return elements;
+        }
+        throw new RuntimeException(builtin.getName() + " function requires a list or vector");
+    }
+
+    // Results come back as the same kind of collection the elements came from
+    private static Object rebuild(Object collection, Object[] values) {
+        if (collection instanceof PersistentVector) {
+            return PersistentVector.of(values);
+        }
+        return Cons.list(values);
+    }
+}
@@ -1,127 +1,84 @@
 package lispinterpreter;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.io.Reader;
 import java.util.List;
 import java.util.ArrayList;
 
 public class Parser {
-    private String input;
+    private final Lexer lexer;
+    private final int symbolLimit;
+    private int newSymbols;
 
-    public Parser(String input) {
-        this.input = input;
+    public Parser(CharSequence input) {
+        this(input, Integer.MAX_VALUE);
+    }
+
+    // Symbols are interned for the life of the process, so input from elsewhere can
+    // be limited in how many names it adds to the symbol table
+    public Parser(CharSequence input, int symbolLimit) {
+        this.lexer = new Lexer(input);
+        this.symbolLimit = symbolLimit;
+    }
+
+    public Parser(Reader input) {
+        this.lexer = new Lexer(input);
+        this.symbolLimit = Integer.MAX_VALUE;
     }
 
     // Method to parse the LISP expression
     public List<SExpr> parse() throws Exception {
-        Queue<String> tokens = tokenize(this.input);
         List<SExpr> statements = new ArrayList<>();
-        while (!tokens.isEmpty()) {
-            statements.add(parseTokens(tokens));
+        SExpr statement;
+        while ((statement = next()) != null) {
+            statements.add(statement);
         }
         return statements;
     }
 
-    private Queue<String> tokenize(String input) {
-        Queue<String> tokens = new LinkedList<>();
-        StringBuilder token = new StringBuilder();
-        boolean inString = false;
-
-        for (int i = 0; i < input.length(); i++) {
-            char c = input.charAt(i);
-
-            // Handle string literals
-            if (c == '"') {
-                if (inString) {
-                    // End of string
-                    token.append(c);
-                    tokens.add(token.toString());
-                    token.setLength(0);
-                    inString = false;
-                } else {
-                    // Start of string
-                    if (token.length() > 0) {
-                        tokens.add(token.toString());
-                        token.setLength(0);
-                    }
-                    token.append(c);
-                    inString = true;
-                }
-                continue;
-            }
-
-            // If we are in a string, just keep appending characters
-            if (inString) {
-                token.append(c);
-                continue;
-            }
-
-            // Handle parentheses
-            if (c == '(' || c == ')' || c == ',') {
-                if (token.length() > 0) {
-                    tokens.add(token.toString());
-                    token.setLength(0);
-                }
-                tokens.add(String.valueOf(c)); // Add '(' or ')' or ','
-            } else if (Character.isWhitespace(c)) {
-                if (token.length() > 0) {
-                    tokens.add(token.toString());
-                    token.setLength(0);
-                }
-            } else {
-                token.append(c); // Build atom or function name
-            }
-        }
-
-        // Add any remaining token at the end
-        if (token.length() > 0) {
-            tokens.add(token.toString());
+    // Parses the next top-level expression, or returns null at the end of the input
+    public SExpr next() throws Exception {
+        if (lexer.peek() == Lexer.END) {
+            return null;
         }
-
-        return tokens;
+        return parseExpression();
     }
 
-    // Recursive method to parse tokens into an SExpr
-    private SExpr parseTokens(Queue<String> tokens) throws Exception {
-        if (tokens.isEmpty()) {
-            throw new Exception("Unexpected end of input");
-        }
-
-        String token = tokens.poll();
+    // Recursive method to parse the next tokens into an SExpr
+    private SExpr parseExpression() throws Exception {
+        int token = lexer.next();
 
-        if (token.equals("(")) {
+        if (token == Lexer.END) {
+            throw new Exception("Unexpected end of input");
+        } else if (token == Lexer.OPEN) {
             // Make sure it's not an empty or invalid list
-            if (tokens.isEmpty()) {
+            if (lexer.peek() == Lexer.END) {
                 throw new Exception("Unexpected end of input");
             }
-            if (tokens.peek().equals(")")) {
-                tokens.poll(); // Remove the closing ')'
+            if (lexer.peek() == Lexer.CLOSE) {
+                lexer.next(); // Remove the closing ')'
                 return new SExprList();
             }
 
-            // Check if it's a function or a list
-            SExpr first = parseTokens(tokens);
-            if (first instanceof Symbol) {
-                return parseFunction(first, tokens);
+            // Check if it's a function or a list; a list headed by a call, such as
+            // ((a b) (c d)), is a list
+            SExpr first = parseExpression();
+            if (first instanceof Symbol && !(first instanceof Function)) {
+                return parseFunction(first);
             } else {
-                return parseList(first, tokens);
+                return parseList(first);
             }
-        } else if (token.equals(")")) {
+        } else if (token == Lexer.CLOSE) {
             throw new Exception("Unexpected closing parenthesis");
+        } else if (token == Lexer.STRING) {
+            return new Atom(lexer.text());
         } else {
-            // Create an atom (number, symbol, or string)
-            return parseAtom(token);
+            // Create an atom (number or symbol)
+            return parseAtom(lexer.text());
         }
     }
 
     // Helper method to create an Atom or handle function calls
     private SExpr parseAtom(String token) throws Exception {
-        // If the token is enclosed in quotes, treat it as a string
-        if (token.startsWith("\"") && token.endsWith("\"") && token.length() > 1) {
-            String stringValue = token.substring(1, token.length() - 1);
-            return new Atom(stringValue);
-        }
-
         if (token.equals("nil")) {
             return new Nil();
         }
@@ -134,40 +91,35 @@ public class Parser {
             if (token.contains(".")) {
                 return new Atom(Double.parseDouble(token)); // Floating point number
             } else {
-                return new Atom(Integer.parseInt(token)); // Integer
+                return new Atom(Numbers.parse(token)); // Integer or ratio
             }
         } catch (NumberFormatException e) {
             // If it's not a number, treat it as a symbol
-            return new Symbol(token);
+            if (symbolLimit != Integer.MAX_VALUE && !Symbol.isInterned(token) && ++newSymbols > symbolLimit) {
+                throw new Exception("input has more than " + symbolLimit + " new symbols");
+            }
+            return Symbol.intern(token);
         }
     }
 
-    private SExpr parseFunction(SExpr first, Queue<String> tokens) throws Exception {
+    private SExpr parseFunction(SExpr first) throws Exception {
         // Parse the arguments of the function
         SExprList arguments = new SExprList();
         while (true) {
-            if (tokens.isEmpty()) {
+            if (lexer.peek() == Lexer.END) {
                 throw new Exception("Unexpected end of input");
             }
-            if (tokens.peek().equals(")")) {
+            if (lexer.peek() == Lexer.CLOSE) {
                 break; // End of list
             }
-            arguments.add(parseTokens(tokens));
+            arguments.add(parseExpression());
         }
 
-        tokens.poll(); // Remove the closing ')'
+        lexer.next(); // Remove the closing ')'
         String functionName = first.toString();
 
         // Check if it's a global function
-        List<String> globalFunctions = List.of(
-            "+", "-", "*", "/", "%", "<", ">", "<=", ">=", "=", // Arithmetic and comparison functions
-            "cons", "car", "cdr", // List manipulation functions
-            "print", "quote", "'", "eval", // Utility functions
-            "not", "cond", "and?", "or?", "if", "eq", // Logic functions
-            "nil?", "number?", "list?", "symbol?", // Type checking functions
-            "set", "define" // Assignment functions
-        );
-        if (globalFunctions.contains(functionName.toLowerCase())) {
+        if (Builtin.of(functionName) != null) {
             return new GlobalFunction(functionName, arguments);
         }
 
@@ -175,19 +127,19 @@ public class Parser {
         return new Function(functionName, arguments);
     }
 
-    private SExpr parseList(SExpr first, Queue<String> tokens) throws Exception {
+    private SExpr parseList(SExpr first) throws Exception {
         SExprList list = new SExprList();
         list.add(first);
         while (true) {
-            if (tokens.isEmpty()) {
+            if (lexer.peek() == Lexer.END) {
                 throw new Exception("Unexpected end of input");
             }
-            if (tokens.peek().equals(")")) {
+            if (lexer.peek() == Lexer.CLOSE) {
                 break; // End of list
             }
-            list.add(parseTokens(tokens)); // Recursively parse each element in the list or function call
+            list.add(parseExpression()); // Recursively parse each element in the list or function call
         }
-        tokens.poll(); // Remove the closing ')'
+        lexer.next(); // Remove the closing ')'
         return list;
     }
 }
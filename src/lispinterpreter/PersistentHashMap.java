@@ -0,0 +1,256 @@
+package lispinterpreter;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+// An immutable hash map stored as a hash array mapped trie. Each level consumes
+// five bits of the key's hash; a node keeps a bitmap of the slots in use and a
+// packed array holding only those slots, either a key and its value or a child
+// node. Keys whose whole hashes collide share a collision node. Like the vector,
+// assoc copies only the path to the changed entry.
+public final class PersistentHashMap {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    // Marks a slot whose value is a child node rather than an entry
+    private static final Object CHILD = new Object();
+
+    public static final PersistentHashMap EMPTY = new PersistentHashMap(0, new BitmapNode(0, new Object[0]));
+
+    private final int count;
+    private final Node root;
+
+    private PersistentHashMap(int count, Node root) {
+        this.count = count;
+        this.root = root;
+    }
+
+    // Builds a map from alternating keys and values
+    public static PersistentHashMap of(Object[] keysAndValues) {
+        if (keysAndValues.length % 2 != 0) {
+            throw new RuntimeException("hash-map function must have an even number of parameters");
+        }
+        PersistentHashMap map = EMPTY;
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map = map.assoc(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return map;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public Object get(Object key, Object notFound) {
+        return root.find(0, hash(key), key, notFound);
+    }
+
+    public PersistentHashMap assoc(Object key, Object value) {
+        boolean[] added = new boolean[1];
+        Node newRoot = root.assoc(0, hash(key), key, value, added);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap(added[0] ? count + 1 : count, newRoot);
+    }
+
+    public void forEach(BiConsumer<Object, Object> action) {
+        root.forEach(action);
+    }
+
+    private static int hash(Object key) {
+        int hash = Objects.hashCode(key);
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private interface Node {
+        Object find(int shift, int hash, Object key, Object notFound);
+
+        Node assoc(int shift, int hash, Object key, Object value, boolean[] added);
+
+        void forEach(BiConsumer<Object, Object> action);
+    }
+
+    private static final class BitmapNode implements Node {
+        private final int bitmap;
+        private final Object[] array;
+
+        BitmapNode(int bitmap, Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        public Object find(int shift, int hash, Object key, Object notFound) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return notFound;
+            }
+            int index = 2 * index(bit);
+            Object existing = array[index];
+            if (existing == CHILD) {
+                return ((Node) array[index + 1]).find(shift + BITS, hash, key, notFound);
+            } else if (Objects.equals(key, existing)) {
+                return array[index + 1];
+            }
+            return notFound;
+        }
+
+        @Override
+        public Node assoc(int shift, int hash, Object key, Object value, boolean[] added) {
+            int bit = bit(hash, shift);
+            int index = 2 * index(bit);
+            if ((bitmap & bit) == 0) {
+                added[0] = true;
+                Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, index);
+                newArray[index] = key;
+                newArray[index + 1] = value;
+                System.arraycopy(array, index, newArray, index + 2, array.length - index);
+                return new BitmapNode(bitmap | bit, newArray);
+            }
+            Object existing = array[index];
+            Object existingValue = array[index + 1];
+            if (existing == CHILD) {
+                Node child = ((Node) existingValue).assoc(shift + BITS, hash, key, value, added);
+                return child == existingValue ? this : replace(index + 1, child);
+            } else if (Objects.equals(key, existing)) {
+                return existingValue == value ? this : replace(index + 1, value);
+            }
+            added[0] = true;
+            Node child = createNode(shift + BITS, existing, existingValue, hash, key, value);
+            Object[] newArray = array.clone();
+            newArray[index] = CHILD;
+            newArray[index + 1] = child;
+            return new BitmapNode(bitmap, newArray);
+        }
+
+        private Node replace(int index, Object value) {
+            Object[] newArray = array.clone();
+            newArray[index] = value;
+            return new BitmapNode(bitmap, newArray);
+        }
+
+        @Override
+        public void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (array[i] == CHILD) {
+                    ((Node) array[i + 1]).forEach(action);
+                } else {
+                    action.accept(array[i], array[i + 1]);
+                }
+            }
+        }
+    }
+
+    private static Node createNode(int shift, Object key1, Object value1, int hash2, Object key2, Object value2) {
+        int hash1 = hash(key1);
+        if (hash1 == hash2) {
+            return new CollisionNode(hash1, new Object[] {key1, value1, key2, value2});
+        }
+        boolean[] added = new boolean[1];
+        return new BitmapNode(0, new Object[0])
+                .assoc(shift, hash1, key1, value1, added)
+                .assoc(shift, hash2, key2, value2, added);
+    }
+
+    private static final class CollisionNode implements Node {
+        private final int hash;
+        private final Object[] array;
+
+        CollisionNode(int hash, Object[] array) {
+            this.hash = hash;
+            this.array = array;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (Objects.equals(key, array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Object find(int shift, int hash, Object key, Object notFound) {
+            int index = indexOf(key);
+            return index < 0 ? notFound : array[index + 1];
+        }
+
+        @Override
+        public Node assoc(int shift, int hash, Object key, Object value, boolean[] added) {
+            if (hash != this.hash) {
+                // Push this node one level down, beside the new key
+                Node node = new BitmapNode(bit(this.hash, shift), new Object[] {CHILD, this});
+                return node.assoc(shift, hash, key, value, added);
+            }
+            int index = indexOf(key);
+            if (index >= 0) {
+                if (array[index + 1] == value) {
+                    return this;
+                }
+                Object[] newArray = array.clone();
+                newArray[index + 1] = value;
+                return new CollisionNode(hash, newArray);
+            }
+            added[0] = true;
+            Object[] newArray = Arrays.copyOf(array, array.length + 2);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            return new CollisionNode(hash, newArray);
+        }
+
+        @Override
+        public void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                action.accept(array[i], array[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof PersistentHashMap) || ((PersistentHashMap) other).count != count) {
+            return false;
+        }
+        PersistentHashMap map = (PersistentHashMap) other;
+        boolean[] equal = {true};
+        forEach((key, value) -> {
+            if (equal[0] && !Objects.equals(value, map.get(key, CHILD))) {
+                equal[0] = false;
+            }
+        });
+        return equal[0];
+    }
+
+    @Override
+    public int hashCode() {
+        int[] hash = {0};
+        forEach((key, value) -> hash[0] += Objects.hashCode(key) ^ Objects.hashCode(value));
+        return hash[0];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(Printer.formatElement(key)).append(" ").append(Printer.formatElement(value));
+        });
+        sb.append("}");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,185 @@
+package lispinterpreter;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+// An immutable vector stored as a 32-way trie, with the last (up to) 32 elements
+// kept in a separate tail array. Lookups and updates touch one node per level, so
+// they are effectively constant time, and an update copies only the path to the
+// changed element: every other node is shared with the original vector.
+// Vectors and hash maps are values, like Cons, rather than SExprs: an SExpr is
+// code, which the engines evaluate when a variable holding it is read.
+public final class PersistentVector {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    public static final PersistentVector EMPTY = new PersistentVector(0, BITS, new Object[WIDTH], new Object[0]);
+
+    private final int count;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentVector(int count, int shift, Object[] root, Object[] tail) {
+        this.count = count;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    public static PersistentVector of(Object[] values) {
+        PersistentVector vector = EMPTY;
+        for (Object value : values) {
+            vector = vector.append(value);
+        }
+        return vector;
+    }
+
+    // (vector-ref vector index)
+    public static Object ref(Object vector, Object index) {
+        if (!(vector instanceof PersistentVector)) {
+            throw new RuntimeException("vector-ref function requires a vector");
+        } else if (!(index instanceof Long)) {
+            throw new RuntimeException("vector-ref index must be an integer");
+        }
+        long i = (Long) index;
+        if (i < 0 || i >= ((PersistentVector) vector).count) {
+            throw new RuntimeException("vector index " + i + " is out of range");
+        }
+        return ((PersistentVector) vector).get((int) i);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public Object get(int index) {
+        if (index < 0 || index >= count) {
+            throw new RuntimeException("vector index " + index + " is out of range");
+        }
+        return leafFor(index)[index & MASK];
+    }
+
+    // Index count appends, as in Clojure's assoc
+    public PersistentVector set(int index, Object value) {
+        if (index == count) {
+            return append(value);
+        } else if (index < 0 || index > count) {
+            throw new RuntimeException("vector index " + index + " is out of range");
+        }
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = value;
+            return new PersistentVector(count, shift, root, newTail);
+        }
+        return new PersistentVector(count, shift, set(shift, root, index, value), tail);
+    }
+
+    public PersistentVector append(Object value) {
+        if (count - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = value;
+            return new PersistentVector(count + 1, shift, root, newTail);
+        }
+        // The tail is full: move it into the trie, adding a level when the root is full too
+        Object[] newRoot;
+        int newShift = shift;
+        if ((count >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector(count + 1, newShift, newRoot, new Object[] {value});
+    }
+
+    private int tailOffset() {
+        if (count < WIDTH) {
+            return 0;
+        }
+        return ((count - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] leaf) {
+        int child = ((count - 1) >>> level) & MASK;
+        Object[] result = parent.clone();
+        if (level == BITS) {
+            result[child] = leaf;
+        } else if (parent[child] != null) {
+            result[child] = pushTail(level - BITS, (Object[]) parent[child], leaf);
+        } else {
+            result[child] = newPath(level - BITS, leaf);
+        }
+        return result;
+    }
+
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    private static Object[] set(int level, Object[] node, int index, Object value) {
+        Object[] result = node.clone();
+        if (level == 0) {
+            result[index & MASK] = value;
+        } else {
+            int child = (index >>> level) & MASK;
+            result[child] = set(level - BITS, (Object[]) node[child], index, value);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof PersistentVector) || ((PersistentVector) other).count != count) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            if (!Objects.equals(get(i), ((PersistentVector) other).get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < count; i++) {
+            hash = 31 * hash + Objects.hashCode(get(i));
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(" ");
+            }
+            sb.append(Printer.formatElement(get(i)));
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
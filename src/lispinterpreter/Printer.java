@@ -0,0 +1,23 @@
+package lispinterpreter;
+
+public class Printer {
+
+    public static String format(Object value) {
+        if (value.equals(true)) {
+            return "TRUTH";
+        } else if (value.equals(false)) {
+            return "NIL";
+        }
+        return value.toString();
+    }
+
+    // Strings inside a list are quoted, the same way Atom prints them
+    public static String formatElement(Object value) {
+        if (value == null) {
+            return "NIL";
+        } else if (value instanceof String) {
+            return "'" + value + "'";
+        }
+        return format(value);
+    }
+}
@@ -0,0 +1,76 @@
+package lispinterpreter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+// The value of (future expr) and (promise). A future evaluates its expression on
+// another thread; a promise is given its value by deliver. deref (or await) waits
+// for the value, and rethrows the error if the future's expression failed.
+public final class Promise {
+    private static final ExecutorService EXECUTOR = Threads.newExecutor();
+
+    private final CompletableFuture<Object> value = new CompletableFuture<>();
+    private final String kind;
+
+    private Promise(String kind) {
+        this.kind = kind;
+    }
+
+    public static Promise promise() {
+        return new Promise("promise");
+    }
+
+    // The task must not share mutable state with the caller, such as a frame that
+    // a tail call could reuse
+    public static Promise future(Supplier<Object> task) {
+        Promise future = new Promise("future");
+        EXECUTOR.execute(() -> {
+            try {
+                future.value.complete(task.get());
+            } catch (Throwable e) {
+                // Whatever went wrong, deref must not wait forever; an Error other
+                // than running out of stack is still reported by the thread
+                future.value.completeExceptionally(e);
+                if (e instanceof Error && !(e instanceof StackOverflowError)) {
+                    throw (Error) e;
+                }
+            }
+        });
+        return future;
+    }
+
+    // (deref promise); an interrupt ends the wait, so that a thread waiting on a
+    // promise nobody delivers can still be stopped
+    public static Object deref(Object promise) {
+        if (!(promise instanceof Promise)) {
+            throw new RuntimeException("deref function requires a future or promise");
+        }
+        try {
+            return ((Promise) promise).value.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause().toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("interrupted while waiting for a " + ((Promise) promise).kind);
+        }
+    }
+
+    // (deliver promise value); only the first delivery counts
+    public static Object deliver(Object promise, Object value) {
+        if (!(promise instanceof Promise) || ((Promise) promise).kind.equals("future")) {
+            throw new RuntimeException("deliver function requires a promise");
+        }
+        ((Promise) promise).value.complete(value);
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "<" + kind + ">";
+    }
+}
@@ -0,0 +1,139 @@
+package lispinterpreter;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+// Decides whether calling a function could have an effect other than its result:
+// printing, changing a global with set or define, delivering a promise, or running
+// code with eval, unless the code is quoted in the eval itself. Each function body
+// is summarized once, when it is defined, into whether it has such an effect itself,
+// the user functions it calls, and the globals it reads; the engines keep the
+// summary rather than the body. isPure follows the calls through the summaries of
+// the functions defined at the time of the check (a name that defines no function
+// counts as impure, since the call would fail), and checks the globals read as
+// well, since a global holding a quoted symbol reads the global it names. Reading a
+// parameter never runs code: quoted code is a cons list until it is given to eval.
+public final class Purity {
+
+    // What a function body does, as far as purity is concerned
+    public static final class Summary {
+        private final boolean effects;
+        private final int[] functions;
+        private final int[] globals;
+
+        private Summary(boolean effects, Set<Integer> functions, Set<Integer> globals) {
+            this.effects = effects;
+            this.functions = functions.stream().mapToInt(Integer::intValue).toArray();
+            this.globals = globals.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    private Purity() {
+    }
+
+    public static Summary summarize(List<SExpr> body) {
+        Set<Integer> functions = new LinkedHashSet<>();
+        Set<Integer> globals = new LinkedHashSet<>();
+        boolean effects = !collect(body, functions, globals);
+        return new Summary(effects, functions, globals);
+    }
+
+    // functionOf gives the summary of the function a symbol id names, or null when it
+    // names none; globalOf gives the current value of a global
+    public static boolean isPure(Summary summary, IntFunction<Summary> functionOf, IntFunction<Object> globalOf) {
+        return isPure(summary, functionOf, globalOf, new HashSet<>(), new HashSet<>());
+    }
+
+    private static boolean isPure(Summary summary, IntFunction<Summary> functionOf, IntFunction<Object> globalOf,
+            Set<Integer> visitedFunctions, Set<Integer> visitedGlobals) {
+        if (summary.effects) {
+            return false;
+        }
+        for (int id : summary.functions) {
+            if (visitedFunctions.add(id)) {
+                Summary callee = functionOf.apply(id);
+                if (callee == null || !isPure(callee, functionOf, globalOf, visitedFunctions, visitedGlobals)) {
+                    return false;
+                }
+            }
+        }
+        for (int id : summary.globals) {
+            Object value = globalOf.apply(id);
+            if (value instanceof SExpr && visitedGlobals.add(id)
+                    && !isPure(summarize(List.of((SExpr) value)), functionOf, globalOf, visitedFunctions, visitedGlobals)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Records the calls and global reads of the expressions, and returns false as
+    // soon as one has an effect of its own
+    private static boolean collect(List<SExpr> expressions, Set<Integer> functions, Set<Integer> globals) {
+        for (SExpr expr : expressions) {
+            if (!collect(expr, functions, globals)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean collect(SExpr expr, Set<Integer> functions, Set<Integer> globals) {
+        if (expr instanceof GlobalFunction) {
+            List<SExpr> parameters = ((GlobalFunction) expr).getParameters().getList();
+            switch (((GlobalFunction) expr).getBuiltin()) {
+                case PRINT:
+                case SET:
+                case DEFINE:
+                case DELIVER:
+                    return false;
+                case EVAL:
+                    // Only code quoted right here is known; anything else, such as
+                    // code passed in a parameter, could do anything when it runs
+                    if (parameters.size() == 1 && isQuote(parameters.get(0))) {
+                        return collect(((GlobalFunction) parameters.get(0)).getParameters().getList(), functions, globals);
+                    }
+                    return false;
+                case QUOTE:
+                    return true;
+                case PMAP:
+                case PFILTER:
+                case PREDUCE:
+                    // The function is passed by name, so it has to be checked like a call
+                    if (parameters.isEmpty() || !collectFunction(parameters.get(0), functions)) {
+                        return false;
+                    }
+                    return collect(parameters.subList(1, parameters.size()), functions, globals);
+                default:
+                    return collect(parameters, functions, globals);
+            }
+        } else if (expr instanceof Function) {
+            Function function = (Function) expr;
+            return collectFunction(function, functions) && collect(function.getParameters().getList(), functions, globals);
+        } else if (expr instanceof SExprList) {
+            return collect(((SExprList) expr).getList(), functions, globals);
+        } else if (expr instanceof Atom && ((Atom) expr).getValue() instanceof Symbol) {
+            return collect((Symbol) ((Atom) expr).getValue(), functions, globals);
+        } else if (expr instanceof Symbol && !(expr instanceof LocalSymbol)) {
+            globals.add(((Symbol) expr).getId());
+        }
+        return true;
+    }
+
+    private static boolean isQuote(SExpr expr) {
+        return expr instanceof GlobalFunction && ((GlobalFunction) expr).getBuiltin() == Builtin.QUOTE
+                && ((GlobalFunction) expr).getParameters().getList().size() == 1;
+    }
+
+    // A function passed around in a parameter could be anything
+    private static boolean collectFunction(SExpr name, Set<Integer> functions) {
+        if (!(name instanceof Symbol) || name instanceof LocalSymbol) {
+            return false;
+        }
+        functions.add(((Symbol) name).getId());
+        return true;
+    }
+}
@@ -0,0 +1,83 @@
+package lispinterpreter;
+
+import java.util.List;
+
+// Quoted code is data. The resolver turns it into the same cons lists that cons, car
+// and cdr work on, once, and eval turns such a list back into code before running it.
+public final class Quotation {
+
+    private Quotation() {
+    }
+
+    // The value a quoted expression stands for: calls and lists become cons lists
+    // headed by their elements, nil and truth become booleans, numbers and strings
+    // their values, and symbols stay symbols
+    public static Object data(SExpr expr) {
+        if (expr instanceof Function) {
+            Object arguments = data(((Function) expr).getParameters().getList());
+            return new Cons(Symbol.intern(((Function) expr).getValue()), arguments);
+        } else if (expr instanceof SExprList) {
+            return data(((SExprList) expr).getList());
+        } else if (expr instanceof Nil) {
+            return Cons.EMPTY;
+        } else if (expr instanceof Truth) {
+            return true;
+        } else if (expr instanceof Atom) {
+            return ((Atom) expr).getValue();
+        }
+        return expr;
+    }
+
+    private static Object data(List<SExpr> expressions) {
+        Object list = Cons.EMPTY;
+        for (int i = expressions.size() - 1; i >= 0; i--) {
+            list = new Cons(data(expressions.get(i)), list);
+        }
+        return list;
+    }
+
+    // The code a list stands for, read the way the parser reads a list headed by
+    // a symbol as a call and any other list as a list
+    public static SExpr code(Cons list) {
+        SExprList arguments = new SExprList();
+        Object rest = list.getCdr();
+        while (rest instanceof Cons) {
+            arguments.add(code(((Cons) rest).getCar()));
+            rest = ((Cons) rest).getCdr();
+        }
+        if (!Cons.EMPTY.equals(rest)) {
+            throw new RuntimeException("eval function requires a proper list");
+        }
+        Object first = list.getCar();
+        if (first instanceof Symbol && !(first instanceof Function)) {
+            String name = ((Symbol) first).getValue();
+            if (Builtin.of(name) != null) {
+                return new GlobalFunction(name, arguments);
+            }
+            return new Function(name, arguments);
+        }
+        SExprList elements = new SExprList();
+        elements.add(code(first));
+        for (SExpr argument : arguments.getList()) {
+            elements.add(argument);
+        }
+        return elements;
+    }
+
+    private static SExpr code(Object value) {
+        if (value instanceof Cons) {
+            return code((Cons) value);
+        } else if (value instanceof SExpr) {
+            return (SExpr) value;
+        } else if (Boolean.FALSE.equals(value)) {
+            return Nil.INSTANCE;
+        } else if (Boolean.TRUE.equals(value)) {
+            return Truth.INSTANCE;
+        } else if (value instanceof Number) {
+            return new Atom((Number) value);
+        } else if (value instanceof String) {
+            return new Atom((String) value);
+        }
+        throw new RuntimeException("eval function cannot run " + Printer.formatElement(value));
+    }
+}
@@ -0,0 +1,137 @@
+package lispinterpreter;
+
+import java.math.BigInteger;
+
+// An exact fraction, always kept in lowest terms with a positive denominator.
+// Whole results never stay a Ratio: valueOf hands them back as integers.
+public final class Ratio extends Number implements Comparable<Ratio> {
+    private static final long serialVersionUID = 1L;
+
+    private final BigInteger numerator;
+    private final BigInteger denominator;
+
+    private Ratio(BigInteger numerator, BigInteger denominator) {
+        this.numerator = numerator;
+        this.denominator = denominator;
+    }
+
+    // The denominator must not be zero
+    public static Number valueOf(BigInteger numerator, BigInteger denominator) {
+        if (denominator.signum() < 0) {
+            numerator = numerator.negate();
+            denominator = denominator.negate();
+        }
+        BigInteger gcd = numerator.gcd(denominator);
+        if (!gcd.equals(BigInteger.ONE)) {
+            numerator = numerator.divide(gcd);
+            denominator = denominator.divide(gcd);
+        }
+        if (denominator.equals(BigInteger.ONE)) {
+            return Numbers.valueOf(numerator);
+        }
+        return new Ratio(numerator, denominator);
+    }
+
+    public static Ratio toRatio(Number value) {
+        if (value instanceof Ratio) {
+            return (Ratio) value;
+        }
+        return new Ratio(Numbers.toBigInteger(value), BigInteger.ONE);
+    }
+
+    public BigInteger getNumerator() {
+        return numerator;
+    }
+
+    public BigInteger getDenominator() {
+        return denominator;
+    }
+
+    public Number add(Ratio other) {
+        return valueOf(numerator.multiply(other.denominator).add(other.numerator.multiply(denominator)),
+                denominator.multiply(other.denominator));
+    }
+
+    public Number subtract(Ratio other) {
+        return valueOf(numerator.multiply(other.denominator).subtract(other.numerator.multiply(denominator)),
+                denominator.multiply(other.denominator));
+    }
+
+    public Number multiply(Ratio other) {
+        return valueOf(numerator.multiply(other.numerator), denominator.multiply(other.denominator));
+    }
+
+    public Number divide(Ratio other) {
+        return valueOf(numerator.multiply(other.denominator), denominator.multiply(other.numerator));
+    }
+
+    // The remainder of truncating division, matching % on integers
+    public Number remainder(Ratio other) {
+        BigInteger quotient = numerator.multiply(other.denominator).divide(denominator.multiply(other.numerator));
+        BigInteger scaled = quotient.multiply(other.numerator).multiply(denominator);
+        return valueOf(numerator.multiply(other.denominator).subtract(scaled), denominator.multiply(other.denominator));
+    }
+
+    @Override
+    public int compareTo(Ratio other) {
+        return numerator.multiply(other.denominator).compareTo(other.numerator.multiply(denominator));
+    }
+
+    @Override
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    @Override
+    public long longValue() {
+        return numerator.divide(denominator).longValue();
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    // The nearest double, rounded once. The quotient is taken to 55 or 56 bits, with
+    // the lowest bit set if the division left a remainder, so that it can be rounded
+    // to the 53 bits of a double (fewer for a subnormal result), ties to even,
+    // without a second rounding.
+    @Override
+    public double doubleValue() {
+        BigInteger magnitude = numerator.abs();
+        int shift = Math.min(55 - (magnitude.bitLength() - denominator.bitLength()), 1076);
+        BigInteger[] division = shift >= 0
+                ? magnitude.shiftLeft(shift).divideAndRemainder(denominator)
+                : magnitude.divideAndRemainder(denominator.shiftLeft(-shift));
+        long quotient = division[0].longValueExact();
+        if (division[1].signum() != 0) {
+            quotient |= 1;
+        }
+        // Bits below the last one a double keeps; subnormals keep none below 2^-1074
+        int drop = Math.max(64 - Long.numberOfLeadingZeros(quotient) - 53, shift - 1074);
+        long half = 1L << (drop - 1);
+        long rest = quotient & ((half << 1) - 1);
+        long rounded = quotient >> drop;
+        if (rest > half || (rest == half && (rounded & 1) == 1)) {
+            rounded++;
+        }
+        double value = Math.scalb((double) rounded, drop - shift);
+        return numerator.signum() < 0 ? -value : value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Ratio && numerator.equals(((Ratio) other).numerator)
+                && denominator.equals(((Ratio) other).denominator);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * numerator.hashCode() + denominator.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return numerator + "/" + denominator;
+    }
+}
@@ -0,0 +1,100 @@
+package lispinterpreter;
+
+import java.util.List;
+
+// Rewrites references to function parameters into frame slot lookups, so that
+// calls can bind arguments into an Object[] instead of a map keyed by name.
+// Functions only see their own parameters and the global environment, so a
+// slot index within the current frame is enough to address a local variable.
+public class Resolver {
+
+    public List<SExpr> resolve(List<SExpr> statements) {
+        for (int i = 0; i < statements.size(); i++) {
+            statements.set(i, resolve(statements.get(i), List.of()));
+        }
+        return statements;
+    }
+
+    public SExpr resolve(SExpr statement) {
+        return resolve(statement, List.of());
+    }
+
+    // Resolves a copy of code that eval is about to run in a frame laid out by the
+    // scope, leaving the quoted original as it was written
+    public SExpr resolveCopy(SExpr code, List<String> scope) {
+        return resolve(copy(code), scope);
+    }
+
+    private static SExpr copy(SExpr expr) {
+        if (expr instanceof Function) {
+            SExprList parameters = copy(((Function) expr).getParameters());
+            String name = ((Function) expr).getValue();
+            return expr instanceof GlobalFunction ? new GlobalFunction(name, parameters) : new Function(name, parameters);
+        } else if (expr instanceof SExprList) {
+            return copy((SExprList) expr);
+        }
+        return expr;
+    }
+
+    private static SExprList copy(SExprList list) {
+        SExprList copy = new SExprList();
+        for (SExpr expr : list.getList()) {
+            copy.add(copy(expr));
+        }
+        return copy;
+    }
+
+    private SExpr resolve(SExpr expr, List<String> scope) {
+        if (expr instanceof GlobalFunction) {
+            resolveGlobalFunction((GlobalFunction) expr, scope);
+        } else if (expr instanceof Function) {
+            resolveList(((Function) expr).getParameters(), 0, scope);
+        } else if (expr instanceof SExprList) {
+            resolveList((SExprList) expr, 0, scope);
+        } else if (expr instanceof Symbol && !(expr instanceof LocalSymbol)) {
+            String name = ((Symbol) expr).getValue();
+            int slot = scope.lastIndexOf(name);
+            if (slot >= 0) {
+                return new LocalSymbol(name, slot);
+            }
+        }
+        return expr;
+    }
+
+    private void resolveGlobalFunction(GlobalFunction function, List<String> scope) {
+        SExprList parameters = function.getParameters();
+        switch (function.getBuiltin()) {
+            case QUOTE:
+                // Quoted data never refers to a frame; it is converted to its value
+                // once here rather than each time the quote runs
+                if (parameters.getList().size() == 1) {
+                    function.setQuoted(Quotation.data(parameters.getList().get(0)));
+                }
+                return;
+            case EVAL:
+                // The code is only known when eval runs, so it is resolved then,
+                // against the parameters in scope here
+                function.setScope(scope);
+                resolveList(parameters, 0, scope);
+                return;
+            case SET:
+                // The target of set always names a global variable
+                resolveList(parameters, 1, scope);
+                return;
+            case DEFINE:
+                if (parameters.getList().size() >= 3) {
+                    resolveList(parameters, 2, Closure.parameterNames(parameters.getList().get(1)));
+                }
+                return;
+            default:
+                resolveList(parameters, 0, scope);
+        }
+    }
+
+    private void resolveList(SExprList list, int start, List<String> scope) {
+        List<SExpr> expressions = list.getList();
+        for (int i = start; i < expressions.size(); i++) {
+            list.set(i, resolve(expressions.get(i), scope));
+        }
+    }
+}
@@ -2,7 +2,6 @@ package lispinterpreter;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 public class SExprList extends SExpr {
     private List<SExpr> expressions;
@@ -15,8 +14,8 @@ public class SExprList extends SExpr {
         expressions.add(expr);
     }
 
-    public void prepend(SExpr expr) {
-        expressions.add(0, expr);
+    public void set(int index, SExpr expr) {
+        expressions.set(index, expr);
     }
 
     public List<SExpr> getList() {
@@ -24,8 +23,8 @@ public class SExprList extends SExpr {
     }
 
     @Override
-    public Object accept(Interpreter visitor, Map<String, Object> localEnvironment) {
-        return visitor.visitSExprList(this, localEnvironment);
+    public Object accept(Interpreter visitor, Object[] frame) {
+        return visitor.visitSExprList(this, frame);
     }
 
     @Override
@@ -0,0 +1,108 @@
+package lispinterpreter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sun.net.httpserver.HttpServer;
+
+// Runs a LispServer on a free port and checks its answers to requests: that
+// sessions are isolated, that they share the prelude, and the status of each kind
+// of error. Reports the same way the test harness does.
+class ServerTests {
+    private static final String PRELUDE = "(define square (x) (* x x))";
+    private static final long TIMEOUT = 500;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final URI uri;
+
+    private int successes = 0;
+    private int fails = 0;
+
+    private ServerTests(URI uri) {
+        this.uri = uri;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Environment prelude = LispServer.loadPrelude(PRELUDE);
+        HttpServer server = LispServer.start(new LispServer(prelude, TIMEOUT), 0);
+        try {
+            ServerTests tests = new ServerTests(URI.create("http://localhost:" + server.getAddress().getPort() + "/eval"));
+            tests.run();
+        } finally {
+            server.stop(0);
+        }
+        // The worker threads of a timed out request may still be finishing
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        long startTime = System.nanoTime();
+        System.out.println("\nRunning server tests...\n");
+
+        check("server_output", post("(print (+ 1 2))"), 200, "3");
+        post("(set x 1) (define square (x) x)");
+        check("server_isolation", post("(print x) (print (square 3))"), 200, "x\n9");
+        check("server_prelude", post("(print (square 4))"), 200, "16");
+        check("server_get", get(), 405, "");
+        check("server_parse_error", post("(print 1"), 400, "Error: Unexpected end of input");
+        check("server_runtime_error", post("(print 1) (car 5)"), 422, "1\nError on line 2: car function requires a list");
+        check("server_symbol_limit", post(unknownSymbols(LispServer.SYMBOL_LIMIT + 1)), 400,
+                "Error: input has more than " + LispServer.SYMBOL_LIMIT + " new symbols");
+        String timedOut = "Error: request ran for more than " + TIMEOUT + " ms";
+        check("server_timeout", post("(define spin (n) (spin (+ n 1))) (spin 0)"), 503, timedOut);
+        check("server_timeout_deref", post("(deref (promise))"), 503, timedOut);
+        check("server_after_timeout", post("(print (square 5))"), 200, "25");
+
+        double duration = Math.round((System.nanoTime() - startTime) / 10_000_000.0) / 100.0;
+        String testResult = fails > 0 ? TestHarness.RED + "FAILURE" : TestHarness.GREEN + "SUCCESS";
+        System.out.println("\nServer tests completed with result: " + testResult + TestHarness.RESET);
+        System.out.println("Successes: " + successes);
+        System.out.println("Failures: " + fails);
+        System.out.println("Duration: " + duration + "s");
+    }
+
+    // A quoted list of names no other test uses
+    private static String unknownSymbols(int count) {
+        StringBuilder source = new StringBuilder("(quote (");
+        String prefix = "unknown-" + System.nanoTime() + "-";
+        for (int i = 0; i < count; i++) {
+            source.append(prefix).append(i).append(' ');
+        }
+        return source.append("))").toString();
+    }
+
+    private HttpResponse<String> post(String source) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.ofString(source)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get() throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private void check(String testName, HttpResponse<String> response, int status, String body) {
+        List<String> problems = new ArrayList<>();
+        if (response.statusCode() != status) {
+            problems.add("Expected status " + status + ", but got " + response.statusCode());
+        }
+        if (!response.body().trim().equals(body)) {
+            problems.add("Expected: " + body.replace("\n", "\\n") + "\n  Actual:   "
+                    + response.body().trim().replace("\n", "\\n"));
+        }
+        if (problems.isEmpty()) {
+            System.out.println("Test '" + testName + "' ... " + TestHarness.GREEN + "PASSED" + TestHarness.RESET);
+            successes++;
+        } else {
+            System.out.println("Test '" + testName + "' ... " + TestHarness.RED + "FAILED" + TestHarness.RESET);
+            for (String problem : problems) {
+                System.out.println("  " + problem);
+            }
+            fails++;
+        }
+    }
+}
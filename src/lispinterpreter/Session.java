@@ -0,0 +1,105 @@
+package lispinterpreter;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import lispinterpreter.compiler.CompiledInterpreter;
+import lispinterpreter.vm.VirtualMachine;
+
+// Keeps one engine alive across inputs, so that definitions and global variables
+// made by earlier inputs stay visible, along with everything already compiled for
+// them: JIT-compiled closures, compiled functions and bytecode prototypes all live
+// in the engine's global environment. Each input only has its own forms resolved
+// and compiled. Symbols are interned process-wide, so the symbol table is shared.
+public class Session {
+    private final Consumer<SExpr> executor;
+    private final Resolver resolver = new Resolver();
+    private final Output output;
+
+    public Session(String engine, Output output) {
+        this(engine, output, null);
+    }
+
+    // A profiler can only be given to the tree-walking engine
+    public Session(String engine, Output output, Profiler profiler) {
+        this.output = output;
+        if (profiler != null && !engine.equals("interpret")) {
+            throw new RuntimeException("only the interpret engine can be profiled");
+        } else if (engine.equals("compile")) {
+            executor = new CompiledInterpreter(List.of(), output)::execute;
+        } else if (engine.equals("vm")) {
+            executor = new VirtualMachine(List.of(), output)::execute;
+        } else if (engine.equals("interpret")) {
+            executor = new Interpreter(List.of(), output, new Environment(), profiler)::execute;
+        } else {
+            throw new RuntimeException("unknown engine '" + engine + "'");
+        }
+    }
+
+    // A tree-walking session whose global environment starts out as a copy of the
+    // given one, and whose code fails once System.nanoTime() passes the deadline
+    public Session(Environment globals, Output output, long deadline) {
+        this.output = output;
+        Interpreter interpreter = new Interpreter(List.of(), output, new Environment(globals));
+        interpreter.setDeadline(deadline);
+        executor = interpreter::execute;
+    }
+
+    // Parses the whole input before running any of it, so a syntax error anywhere
+    // in the input means none of it runs
+    public void run(CharSequence input) {
+        run(new Parser(input));
+    }
+
+    public void run(Parser parser) {
+        List<SExpr> statements;
+        try {
+            statements = parser.parse();
+        } catch (Exception e) {
+            output.println("Error: " + e.getMessage());
+            return;
+        }
+        run(statements);
+    }
+
+    // Runs parsed statements in order, and returns false if one of them failed
+    public boolean run(List<SExpr> statements) {
+        int lineNumber = 1;
+        for (SExpr statement : statements) {
+            if (!execute(statement, lineNumber++)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Runs each form as soon as the parser has read it
+    public void stream(Parser parser) {
+        try {
+            int lineNumber = 1;
+            SExpr statement;
+            while ((statement = parser.next()) != null) {
+                if (!execute(statement, lineNumber++)) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            output.println("Error: " + e.getMessage());
+        }
+    }
+
+    // Writes out anything print has buffered
+    public void flush() {
+        output.flush();
+    }
+
+    private boolean execute(SExpr statement, int lineNumber) {
+        try {
+            executor.accept(resolver.resolve(statement));
+            return true;
+        } catch (RuntimeException e) {
+            output.println("Error on line " + lineNumber + ": " + e.getMessage());
+            return false;
+        }
+    }
+}
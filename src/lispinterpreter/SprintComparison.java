@@ -0,0 +1,263 @@
+package lispinterpreter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+// Runs the benchmark programs through every snapshot in ../sprints and through the
+// current build with each engine, and prints the throughput and allocation of each.
+// A snapshot is compiled from its sources into a temporary directory and loaded with
+// a class loader of its own, whose parent is the platform class loader, so none of
+// its classes can resolve to the current build's. Each snapshot is driven through its
+// Lisp.main, with System.out swapped out while it runs, since the older snapshots
+// print straight to it. A version is only timed if it prints what the current
+// tree-walking interpreter does, apart from the older snapshots printing whole
+// numbers as 6.0 and strings in double quotes, so every number measures the same work.
+// The current build's tree-walker runs with the JIT setting of this JVM, which the
+// report names, and is only measured once its JIT has compiled what the warm-up
+// made hot; its loaded copy of JitCompiler is reached through reflection.
+class SprintComparison {
+    private static final String SPRINTS = "../sprints";
+
+    private String workloads = "../benchmarks";
+    private int warmups = 3;
+    private int runs = 10;
+
+    // One version of the interpreter: a loaded snapshot, or the current build with an engine
+    private static final class Version {
+        final String name;
+        final Method main;
+        final String[] options;
+        final String error;
+        Method awaitJit;
+
+        Version(String name, Method main, String[] options, String error) {
+            this.name = name;
+            this.main = main;
+            this.options = options;
+            this.error = error;
+        }
+
+        // Waits for the version's JIT, if it has one, to compile what is waiting
+        void settle() {
+            if (awaitJit == null) {
+                return;
+            }
+            try {
+                awaitJit.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    // Reads --workloads=, --warmup= and --runs=
+    public void configure(List<String> options) {
+        for (String option : options) {
+            if (option.startsWith("--workloads=")) {
+                workloads = option.substring("--workloads=".length());
+            } else if (option.startsWith("--warmup=")) {
+                warmups = Integer.parseInt(option.substring("--warmup=".length()));
+            } else if (option.startsWith("--runs=")) {
+                runs = Integer.parseInt(option.substring("--runs=".length()));
+            } else {
+                throw new IllegalArgumentException("unknown comparison option '" + option + "'");
+            }
+        }
+        if (runs < 1 || warmups < 0) {
+            throw new IllegalArgumentException("comparison options must not be negative, and runs at least 1");
+        }
+    }
+
+    public void run() {
+        List<File> files = BenchmarkRunner.programs(workloads);
+        File[] sprints = new File(SPRINTS).listFiles(File::isDirectory);
+        if (files.isEmpty() || sprints == null) {
+            System.out.println("Error: no programs in " + workloads + " or no snapshots in " + SPRINTS);
+            return;
+        }
+        Arrays.sort(sprints, Comparator.comparing(File::getName, SprintComparison::compareNames));
+
+        List<Path> builds = new ArrayList<>();
+        try {
+            List<Version> versions = new ArrayList<>();
+            for (File sprint : sprints) {
+                versions.add(load(sprint, builds));
+            }
+            URL current = Lisp.class.getProtectionDomain().getCodeSource().getLocation();
+            for (String engine : Lisp.ENGINES) {
+                versions.add(version("current " + engine, current, new String[] { "--engine=" + engine }));
+            }
+            Version reference = versions.get(sprints.length);
+            String jit = jit(reference);
+
+            System.out.println("Comparing " + versions.size() + " versions on " + files.size() + " programs, "
+                    + warmups + " warm-up and " + runs + " measured runs each"
+                    + (jit == null ? "" : ", current interpret with the " + jit) + "...\n");
+            System.out.println(String.format("%-18s %-18s %10s %10s %12s", "benchmark", "version", "runs/s", "median ms", "alloc KB"));
+            for (File file : files) {
+                String name = BenchmarkRunner.name(workloads, file);
+                String expected = reference.error == null ? output(reference, arguments(reference, file)) : null;
+                for (Version version : versions) {
+                    System.out.println(String.format("%-18s %-18s ", name, version.name) + measure(version, file, expected));
+                }
+                System.out.println();
+            }
+        } finally {
+            for (Path build : builds) {
+                delete(build);
+            }
+        }
+    }
+
+    private Version load(File sprint, List<Path> builds) {
+        String name = "sprint " + sprint.getName();
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        if (javac == null) {
+            return new Version(name, null, null, "needs a JDK to compile the snapshot");
+        }
+        try (Stream<Path> paths = Files.walk(sprint.toPath())) {
+            Path build = Files.createTempDirectory("lisp-sprint-" + sprint.getName());
+            builds.add(build);
+            List<String> arguments = new ArrayList<>(List.of("-d", build.toString(), "-nowarn", "-proc:none"));
+            paths.filter(path -> path.toString().endsWith(".java")).forEach(path -> arguments.add(path.toString()));
+            ByteArrayOutputStream errors = new ByteArrayOutputStream();
+            if (javac.run(null, errors, errors, arguments.toArray(new String[0])) != 0) {
+                return new Version(name, null, null, "did not compile");
+            }
+            return version(name, build.toUri().toURL(), new String[0]);
+        } catch (IOException e) {
+            return new Version(name, null, null, "could not be built: " + e.getMessage());
+        }
+    }
+
+    private static Version version(String name, URL classes, String[] options) {
+        try {
+            ClassLoader loader = new URLClassLoader(new URL[] { classes }, ClassLoader.getPlatformClassLoader());
+            return new Version(name, loader.loadClass("lispinterpreter.Lisp").getMethod("main", String[].class), options, null);
+        } catch (ReflectiveOperationException e) {
+            return new Version(name, null, null, "could not be loaded: " + e);
+        }
+    }
+
+    // Finds the JIT of a loaded current build, and returns its setting
+    private static String jit(Version version) {
+        if (version.error != null) {
+            return null;
+        }
+        try {
+            Class<?> jit = version.main.getDeclaringClass().getClassLoader().loadClass("lispinterpreter.jit.JitCompiler");
+            version.awaitJit = jit.getMethod("awaitIdle");
+            return (String) jit.getMethod("describe").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private String measure(Version version, File file, String expected) {
+        if (version.error != null) {
+            return version.error;
+        }
+        String[] arguments = arguments(version, file);
+        PrintStream standard = System.out;
+        try {
+            // A version that cannot run the program is reported rather than timed
+            String output = output(version, arguments);
+            for (String line : output.split("\n")) {
+                if (line.startsWith("Error")) {
+                    return "unsupported: " + shorten(line);
+                }
+            }
+            if (expected == null || !normalize(output).equals(normalize(expected))) {
+                return "unsupported: different output";
+            }
+
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            for (int i = 0; i < warmups; i++) {
+                invoke(version, arguments);
+            }
+            version.settle();
+            BenchmarkRunner.Result result = BenchmarkRunner.measure(file.getName(), () -> invoke(version, arguments),
+                    0, runs);
+            return String.format(Locale.ROOT, "%10.1f %10.2f %12d", 1000 / result.median, result.median,
+                    result.allocated / 1024);
+        } catch (RuntimeException | StackOverflowError e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return "unsupported: " + cause.getClass().getSimpleName();
+        } finally {
+            System.setOut(standard);
+        }
+    }
+
+    private static String[] arguments(Version version, File file) {
+        String[] arguments = Arrays.copyOf(version.options, version.options.length + 1);
+        arguments[arguments.length - 1] = file.getPath();
+        return arguments;
+    }
+
+    // Runs the program once and returns what it printed
+    private static String output(Version version, String[] arguments) {
+        PrintStream standard = System.out;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            System.setOut(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+            invoke(version, arguments);
+            System.out.flush();
+        } finally {
+            System.setOut(standard);
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String normalize(String output) {
+        return output.replaceAll("(?<![\\w.])(-?\\d+)\\.0(?![\\w.])", "$1").replace('"', '\'');
+    }
+
+    private static String shorten(String line) {
+        return line.length() <= 60 ? line : line.substring(0, 57) + "...";
+    }
+
+    private static void invoke(Version version, String[] arguments) {
+        try {
+            version.main.invoke(null, (Object) arguments);
+        } catch (InvocationTargetException e) {
+            throw new RuntimeException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Sprint directories are numbered, so "10" sorts after "9"
+    private static int compareNames(String left, String right) {
+        if (left.matches("\\d+") && right.matches("\\d+")) {
+            return Integer.compare(Integer.parseInt(left), Integer.parseInt(right));
+        }
+        return left.compareTo(right);
+    }
+
+    private static void delete(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            // Leave it for the system to clean up
+        }
+    }
+}
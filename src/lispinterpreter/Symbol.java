@@ -1,21 +1,60 @@
 package lispinterpreter;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+// Symbols are interned: each distinct name has one canonical Symbol, and every
+// symbol carries that name's id, a small integer the environments index by.
+// Subclasses such as Function share the id of the name they use.
 public class Symbol extends SExpr {
-    private String value;
+    private static final Map<String, Symbol> TABLE = new HashMap<>();
+    private static final List<String> NAMES = new ArrayList<>();
 
-    public Symbol(String value) {
+    private final String value;
+    private final int id;
+
+    private Symbol(String value, int id) {
         this.value = value;
+        this.id = id;
+    }
+
+    protected Symbol(String value) {
+        Symbol canonical = intern(value);
+        this.value = canonical.value;
+        this.id = canonical.id;
+    }
+
+    public static synchronized Symbol intern(String name) {
+        Symbol symbol = TABLE.get(name);
+        if (symbol == null) {
+            symbol = new Symbol(name, NAMES.size());
+            TABLE.put(name, symbol);
+            NAMES.add(name);
+        }
+        return symbol;
+    }
+
+    public static synchronized boolean isInterned(String name) {
+        return TABLE.containsKey(name);
+    }
+
+    public static synchronized String nameOf(int id) {
+        return NAMES.get(id);
     }
 
     public String getValue() {
         return value;
     }
 
+    public int getId() {
+        return id;
+    }
+
     @Override
-    public Object accept(Interpreter visitor, Map<String, Object> localEnvironment) {
-        return visitor.visitSymbol(this, localEnvironment);
+    public Object accept(Interpreter visitor, Object[] frame) {
+        return visitor.visitSymbol(this, frame);
     }
 
     @Override
@@ -27,4 +66,4 @@ public class Symbol extends SExpr {
     public boolean toBoolean() {
         return true;
     }
-}
\ No newline at end of file
+}
@@ -4,13 +4,21 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.io.File;
-import java.io.PrintStream;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Arrays;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Runs every test in ../tests on a pool with a thread per core. Each test writes
+// to its own output file through an Output handed to the file runner, so nothing
+// depends on System.out, and its report is collected rather than printed, so the
+// reports still come out in the order the tests were listed in.
 class TestHarness {
-    public static final PrintStream out = System.out;
     private FileRunner fileRunner;
 
     private int successes = 0;
@@ -24,6 +32,15 @@ class TestHarness {
     private static final String FAILED = RED + "FAILED" + RESET;
     private static final String PASSED = GREEN + "PASSED" + RESET;
 
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+
+    // What running one test produced, to be reported by the main thread
+    private static final class Result {
+        boolean passed;
+        String time = "";
+        StringBuilder report = new StringBuilder();
+    }
+
     public TestHarness(FileRunner fileRunner) {
         this.fileRunner = fileRunner;
     }
@@ -83,10 +100,28 @@ class TestHarness {
                 }
             }
 
-            System.out.println("Running " + testList.size() + " tests...\n");
+            System.out.println("Running " + testList.size() + " tests on " + THREADS + (THREADS == 1 ? " thread" : " threads")
+                    + "...\n");
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            List<Future<Result>> results = new ArrayList<>();
             for (File file : testList) {
-                runTest(file);
+                results.add(executor.submit(() -> runTest(file)));
+            }
+            for (Future<Result> future : results) {
+                try {
+                    Result result = future.get();
+                    System.out.print(result.report);
+                    if (result.passed) {
+                        successes++;
+                    } else {
+                        fails++;
+                    }
+                } catch (InterruptedException | ExecutionException e) {
+                    System.out.println("Error: " + e.getCause());
+                    errors++;
+                }
             }
+            executor.shutdown();
         } else {
             System.out.println("Error: the tests directory is empty");
             errors++;
@@ -105,7 +140,8 @@ class TestHarness {
         }
     }
 
-    private void runTest(File file) {
+    private Result runTest(File file) {
+        Result result = new Result();
         String folder = file.getParentFile().getName();
         String testName = file.getName().replace(".lisp", "");
         String outputFilePath = "../output/actual/" + folder + "/" + testName + ".txt";
@@ -115,38 +151,34 @@ class TestHarness {
         // Check if expected output file exists
         File expectedFile = new File(expectedFilePath);
         if (!expectedFile.exists()) {
-            printResult(testName, FAILED + " unexpectedly: expected output file not found");
-            fails++;
-            return;
+            printResult(result, testName, FAILED + " unexpectedly: expected output file not found");
+            return result;
         }
 
         // Run the test
-        try {
-            File outputFile = new File(outputFilePath);
-            PrintStream fileStream = new PrintStream(outputFile);
-            System.setOut(fileStream);
-            fileRunner.run(file.getPath());
-            System.setOut(out);
-            fileStream.close();
+        long startTime = System.nanoTime();
+        try (OutputStream fileStream = new FileOutputStream(outputFilePath)) {
+            Output output = new Output(fileStream, Output.Flush.BATCH);
+            fileRunner.run(file.getPath(), output);
+            output.flush();
         } catch (Exception e) {
-            logError(testName, "Runtime Exception: " + e.getMessage());
-            fails++;
-            return;
+            logError(result, testName, "Runtime Exception: " + e.getMessage());
+            return result;
         }
+        result.time = " (" + (System.nanoTime() - startTime) / 1_000_000 + " ms)";
 
         // Compare actual output with expected output
         try {
             String actualOutput = Files.readString(Paths.get(outputFilePath)).trim();
             String expectedOutput = Files.readString(Paths.get(expectedFilePath)).trim();
             if (actualOutput.equals(expectedOutput)) {
-                printResult(testName, PASSED);
-                successes++;
+                printResult(result, testName, PASSED);
+                result.passed = true;
             } else {
-                fails++;
                 String[] actualLines = actualOutput.split("\n");
                 String[] expectedLines = expectedOutput.split("\n");
                 if (actualLines.length != expectedLines.length) {
-                    logError(testName, "Expected " + expectedLines.length + " lines, but got " + actualLines.length);
+                    logError(result, testName, "Expected " + expectedLines.length + " lines, but got " + actualLines.length);
                 } else {
                     for (int i = 0; i < actualLines.length; i++) {
                         if (!actualLines[i].equals(expectedLines[i])) {
@@ -154,23 +186,23 @@ class TestHarness {
                             error.append("Mismatch at line ").append(i + 1).append("\n");
                             error.append("  Expected: ").append(expectedLines[i]).append("\n");
                             error.append("  Actual:   ").append(actualLines[i]);
-                            logError(testName, error.toString());
+                            logError(result, testName, error.toString());
                         }
                     }
                 }
             }
         } catch (IOException e) {
-            logError(testName, "IOException: " + e.getMessage());
-            fails++;
+            logError(result, testName, "IOException: " + e.getMessage());
         }
+        return result;
     }
 
-    private void printResult(String testName, String result) {
-        System.out.println("Test '" + testName + "' ... " + result);
+    private void printResult(Result result, String testName, String message) {
+        result.report.append("Test '").append(testName).append("' ... ").append(message).append(result.time).append("\n");
     }
 
-    private void logError(String testName, String message) {
-        printResult(testName, FAILED);
-        System.out.println("  " + message);
+    private void logError(Result result, String testName, String message) {
+        printResult(result, testName, FAILED);
+        result.report.append("  ").append(message).append("\n");
     }
-}
\ No newline at end of file
+}
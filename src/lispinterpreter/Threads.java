@@ -0,0 +1,26 @@
+package lispinterpreter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Threads for work that runs alongside the caller: virtual threads when the JVM
+// has them, looked up reflectively so this still builds on JDKs without them, and
+// otherwise an unbounded pool of daemon threads. The pool is unbounded because
+// tasks may block waiting on each other.
+final class Threads {
+
+    private Threads() {
+    }
+
+    static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
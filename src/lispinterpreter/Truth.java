@@ -1,7 +1,5 @@
 package lispinterpreter;
 
-import java.util.Map;
-
 public class Truth extends Atom {
 
     public static final Truth INSTANCE = new Truth();
@@ -10,7 +8,7 @@ public class Truth extends Atom {
     }
 
     @Override
-    public Object accept(Interpreter visitor, Map<String, Object> localEnvironment) {
+    public Object accept(Interpreter visitor, Object[] frame) {
         return visitor.visitTruth();
     }
 
@@ -0,0 +1,15 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Numbers;
+
+final class AddNode extends ArithmeticNode {
+
+    AddNode(Node[] operands) {
+        super(operands);
+    }
+
+    @Override
+    protected Object apply(Object left, Object right) {
+        return Numbers.add(left, right);
+    }
+}
@@ -0,0 +1,19 @@
+package lispinterpreter.compiler;
+
+final class AndNode extends Node {
+    private final Node first;
+    private final Node second;
+
+    AndNode(Node first, Node second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        if (!(Boolean) first.execute(frame)) {
+            return false;
+        }
+        return second.execute(frame);
+    }
+}
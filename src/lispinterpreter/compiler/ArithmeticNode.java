@@ -0,0 +1,39 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Numbers;
+
+// Calls with exactly two operands, by far the most common, go straight to the
+// two-argument operation; longer ones evaluate every operand before any of
+// them is rejected, matching the tree-walker
+abstract class ArithmeticNode extends Node {
+    protected final Node[] operands;
+
+    ArithmeticNode(Node[] operands) {
+        this.operands = operands;
+    }
+
+    protected abstract Object apply(Object left, Object right);
+
+    @Override
+    public Object execute(Frame frame) {
+        if (operands.length == 2) {
+            Object left = operands[0].execute(frame);
+            return apply(left, operands[1].execute(frame));
+        }
+        Object[] values = values(frame);
+        Object result = values[0];
+        for (int i = 1; i < values.length; i++) {
+            result = apply(result, values[i]);
+        }
+        return result;
+    }
+
+    protected Object[] values(Frame frame) {
+        Object[] values = new Object[operands.length];
+        for (int i = 0; i < operands.length; i++) {
+            values[i] = operands[i].execute(frame);
+        }
+        Numbers.checkNumbers(values);
+        return values;
+    }
+}
@@ -0,0 +1,20 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Associative;
+
+final class AssocNode extends Node {
+    private final Node collection;
+    private final Node key;
+    private final Node value;
+
+    AssocNode(Node collection, Node key, Node value) {
+        this.collection = collection;
+        this.key = key;
+        this.value = value;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        return Associative.assoc(collection.execute(frame), key.execute(frame), value.execute(frame));
+    }
+}
@@ -0,0 +1,20 @@
+package lispinterpreter.compiler;
+
+// Operations that only accept two operands; more are rejected once evaluated
+abstract class BinaryNode extends ArithmeticNode {
+    private final String operator;
+
+    BinaryNode(String operator, Node[] operands) {
+        super(operands);
+        this.operator = operator;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        if (operands.length != 2) {
+            values(frame);
+            throw new RuntimeException(operator + " function must have exactly two parameters");
+        }
+        return super.execute(frame);
+    }
+}
@@ -0,0 +1,25 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Environment;
+
+final class CallNode extends Node {
+    private final Compiler compiler;
+    private final Environment.Cell cell;
+    private final Node[] arguments;
+
+    CallNode(Compiler compiler, int id, Node[] arguments) {
+        this.compiler = compiler;
+        this.cell = compiler.environment.cell(id);
+        this.arguments = arguments;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        CompiledFunction function = compiler.lookupFunction(cell, arguments.length);
+        Object[] locals = new Object[arguments.length];
+        for (int i = 0; i < locals.length; i++) {
+            locals[i] = arguments[i].execute(frame);
+        }
+        return compiler.call(function, new Frame(locals));
+    }
+}
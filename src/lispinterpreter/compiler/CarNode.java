@@ -0,0 +1,16 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Cons;
+
+final class CarNode extends Node {
+    private final Node value;
+
+    CarNode(Node value) {
+        this.value = value;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        return Cons.car(value.execute(frame));
+    }
+}
@@ -0,0 +1,16 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Cons;
+
+final class CdrNode extends Node {
+    private final Node value;
+
+    CdrNode(Node value) {
+        this.value = value;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        return Cons.cdr(value.execute(frame));
+    }
+}
@@ -0,0 +1,43 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Purity;
+
+public final class CompiledFunction {
+    private final String name;
+    private final int arity;
+    private final Node[] body;
+    private final Purity.Summary purity;
+
+    CompiledFunction(String name, int arity, Node[] body, Purity.Summary purity) {
+        this.name = name;
+        this.arity = arity;
+        this.body = body;
+        this.purity = purity;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getArity() {
+        return arity;
+    }
+
+    // What the body does, for checking whether the function is pure
+    public Purity.Summary getPurity() {
+        return purity;
+    }
+
+    Object invoke(Frame frame) {
+        Object result = null;
+        for (Node statement : body) {
+            result = statement.execute(frame);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "<function " + name + ">";
+    }
+}
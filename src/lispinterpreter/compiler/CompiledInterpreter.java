@@ -0,0 +1,38 @@
+package lispinterpreter.compiler;
+
+import java.util.List;
+
+import lispinterpreter.Output;
+import lispinterpreter.SExpr;
+
+public class CompiledInterpreter {
+
+    List<SExpr> statements;
+    Compiler compiler;
+
+    public CompiledInterpreter(List<SExpr> statements) {
+        this(statements, Output.standard(Output.Flush.LINE));
+    }
+
+    public CompiledInterpreter(List<SExpr> statements, Output output) {
+        this.statements = statements;
+        this.compiler = new Compiler(output);
+    }
+
+    public void interpret() {
+        int lineNumber = 1;
+        try {
+            for (SExpr statement : statements) {
+                execute(statement);
+                lineNumber++;
+            }
+        } catch (Exception e) {
+            compiler.output.println("Error on line " + lineNumber + ": " + e.getMessage());
+        }
+    }
+
+    // Runs a single top-level statement
+    public void execute(SExpr statement) {
+        compiler.compile(statement).execute(Frame.EMPTY);
+    }
+}
@@ -0,0 +1,353 @@
+package lispinterpreter.compiler;
+
+import java.util.List;
+
+import lispinterpreter.Atom;
+import lispinterpreter.Builtin;
+import lispinterpreter.Closure;
+import lispinterpreter.Environment;
+import lispinterpreter.Function;
+import lispinterpreter.GlobalFunction;
+import lispinterpreter.LocalSymbol;
+import lispinterpreter.Nil;
+import lispinterpreter.Output;
+import lispinterpreter.Purity;
+import lispinterpreter.SExpr;
+import lispinterpreter.SExprList;
+import lispinterpreter.Symbol;
+import lispinterpreter.Truth;
+
+// Turns resolved SExpr trees into Node trees. Everything the tree-walker decides by
+// looking at the shape of an expression (which builtin is called, how a condition
+// is tested, arity errors) is decided here once instead of on every evaluation.
+public class Compiler {
+    final Environment environment = new Environment();
+    final Output output;
+
+    public Compiler(Output output) {
+        this.output = output;
+    }
+
+    public Node compile(SExpr expr) {
+        if (expr instanceof LocalSymbol) {
+            return new LocalRefNode(this, ((LocalSymbol) expr).getSlot());
+        } else if (expr instanceof GlobalFunction) {
+            return compileGlobalFunction((GlobalFunction) expr);
+        } else if (expr instanceof Function) {
+            Function function = (Function) expr;
+            return new CallNode(this, function.getId(), compileAll(function.getParameters().getList()));
+        } else if (expr instanceof Symbol) {
+            return new GlobalRefNode(this, (Symbol) expr);
+        } else if (expr instanceof SExprList) {
+            return new ListNode(compileAll(((SExprList) expr).getList()));
+        } else if (expr instanceof Atom) {
+            return compileAtom((Atom) expr);
+        }
+        return new ConstantNode(expr);
+    }
+
+    private Node compileAtom(Atom atom) {
+        if (atom instanceof Nil) {
+            return new ConstantNode(false);
+        } else if (atom instanceof Truth) {
+            return new ConstantNode(true);
+        } else if (atom.isSymbol()) {
+            return new GlobalRefNode(this, (Symbol) atom.getValue());
+        }
+        return new ConstantNode(atom.getValue());
+    }
+
+    CompiledFunction lookupFunction(Environment.Cell cell, int argumentCount) {
+        int id = cell.getId();
+        Object definition = cell.get();
+        if (!(definition instanceof CompiledFunction)) {
+            throw new RuntimeException("called undefined function '" + Symbol.nameOf(id) + "'");
+        }
+        CompiledFunction function = (CompiledFunction) definition;
+        if (function.getArity() != argumentCount) {
+            throw new RuntimeException("function '" + Symbol.nameOf(id) + "' expects " + function.getArity()
+                    + " parameters, but " + argumentCount + " were given");
+        }
+        return function;
+    }
+
+    // Runs a function and then any tail calls it hands back. Once one function
+    // has tail called another, the caller's frame is reused for the next call.
+    Object call(CompiledFunction function, Frame frame) {
+        Frame spare = null;
+        while (true) {
+            Object result = function.invoke(frame);
+            if (result != TailCallNode.PENDING) {
+                return result;
+            }
+            CompiledFunction next = frame.pendingFunction;
+            TailCallNode call = frame.pendingCall;
+            Frame nextFrame = spare != null && spare.locals.length == next.getArity() ? spare
+                    : new Frame(new Object[next.getArity()]);
+            call.evaluateArguments(frame, nextFrame.locals);
+            spare = frame;
+            frame = nextFrame;
+            function = next;
+        }
+    }
+
+    Object evaluate(SExpr expr, Frame frame) {
+        return compile(expr).execute(frame);
+    }
+
+    // Calls reached through if and cond branches of a body's last statement are tail calls
+    private Node compileTail(SExpr expr) {
+        if (expr instanceof GlobalFunction) {
+            List<SExpr> parameters = ((GlobalFunction) expr).getParameters().getList();
+            Builtin builtin = ((GlobalFunction) expr).getBuiltin();
+            if (builtin == Builtin.IF && parameters.size() == 3) {
+                return new IfNode(compileCondition(parameters.get(0)), compileTail(parameters.get(1)),
+                        compileTail(parameters.get(2)));
+            } else if (builtin == Builtin.COND && parameters.size() % 2 == 0) {
+                return compileCondStatement(parameters, true);
+            }
+        } else if (expr instanceof Function) {
+            Function function = (Function) expr;
+            return new TailCallNode(this, function.getId(), compileAll(function.getParameters().getList()));
+        }
+        return compile(expr);
+    }
+
+    private Node[] compileAll(List<SExpr> expressions) {
+        Node[] nodes = new Node[expressions.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = compile(expressions.get(i));
+        }
+        return nodes;
+    }
+
+    private Node compileCondition(SExpr param) {
+        if (param instanceof Atom) {
+            return new ConstantNode(param.toBoolean());
+        } else if (param instanceof Function) {
+            return new TruthTestNode(compile(param));
+        } else if (param instanceof Symbol || param instanceof SExprList) {
+            return new ConstantNode(true);
+        }
+        return new ConstantNode(false);
+    }
+
+    private Node compileGlobalFunction(GlobalFunction globalFunction) {
+        List<SExpr> parameters = globalFunction.getParameters().getList();
+        Builtin builtin = globalFunction.getBuiltin();
+        switch (builtin) {
+            case ADD:
+            case SUBTRACT:
+            case MULTIPLY:
+            case DIVIDE:
+            case MOD:
+            case LESS:
+            case GREATER:
+            case LESS_EQUAL:
+            case GREATER_EQUAL:
+                return compileArithmeticOperation(builtin, parameters);
+            case IS_NIL:
+            case IS_NUMBER:
+            case IS_LIST:
+            case IS_SYMBOL:
+                return compileTypeCheckingFunction(builtin, parameters);
+            case EQUAL:
+                if (parameters.size() != 2) {
+                    return new ErrorNode(globalFunction.getName() + " function must have exactly two parameters");
+                }
+                return new EqualNode(compile(parameters.get(0)), compile(parameters.get(1)));
+            case CONS:
+                return compileConsStatement(parameters);
+            case CAR:
+                if (parameters.size() != 1) {
+                    return new ErrorNode("car function must have exactly one parameter");
+                }
+                return new CarNode(compile(parameters.get(0)));
+            case CDR:
+                if (parameters.size() != 1) {
+                    return new ErrorNode("cdr function must have exactly one parameter");
+                }
+                return new CdrNode(compile(parameters.get(0)));
+            case VECTOR:
+                return new VectorNode(compileAll(parameters));
+            case HASH_MAP:
+                return new HashMapNode(compileAll(parameters));
+            case VECTOR_REF:
+                if (parameters.size() != 2) {
+                    return new ErrorNode("vector-ref function must have exactly two parameters");
+                }
+                return new VectorRefNode(compile(parameters.get(0)), compile(parameters.get(1)));
+            case ASSOC:
+                if (parameters.size() != 3) {
+                    return new ErrorNode("assoc function must have exactly three parameters");
+                }
+                return new AssocNode(compile(parameters.get(0)), compile(parameters.get(1)), compile(parameters.get(2)));
+            case GET:
+                if (parameters.size() != 2) {
+                    return new ErrorNode("get function must have exactly two parameters");
+                }
+                return new GetNode(compile(parameters.get(0)), compile(parameters.get(1)));
+            case PMAP:
+            case PFILTER:
+                if (parameters.size() != 2) {
+                    return new ErrorNode(builtin.getName() + " function must have exactly two parameters");
+                }
+                return new ParallelNode(this, builtin, compileAll(parameters));
+            case PREDUCE:
+                if (parameters.size() != 3) {
+                    return new ErrorNode("preduce function must have exactly three parameters");
+                }
+                return new ParallelNode(this, builtin, compileAll(parameters));
+            case FUTURE:
+                if (parameters.size() != 1) {
+                    return new ErrorNode("future function must have exactly one parameter");
+                }
+                return new FutureNode(compile(parameters.get(0)));
+            case DEREF:
+                if (parameters.size() != 1) {
+                    return new ErrorNode(globalFunction.getName() + " function must have exactly one parameter");
+                }
+                return new DerefNode(compile(parameters.get(0)));
+            case PROMISE:
+                if (parameters.size() != 0) {
+                    return new ErrorNode("promise function must have no parameters");
+                }
+                return new PromiseNode();
+            case DELIVER:
+                if (parameters.size() != 2) {
+                    return new ErrorNode("deliver function must have exactly two parameters");
+                }
+                return new DeliverNode(compile(parameters.get(0)), compile(parameters.get(1)));
+            case PRINT:
+                if (parameters.size() == 0) {
+                    return new ErrorNode("print function must have at least one parameter");
+                }
+                return new PrintNode(output, compileAll(parameters));
+            case QUOTE:
+                if (parameters.size() != 1) {
+                    return new ErrorNode("quote function must have exactly one parameter");
+                }
+                return new ConstantNode(globalFunction.getQuoted());
+            case EVAL:
+                if (parameters.size() != 1) {
+                    return new ErrorNode("eval function must have exactly one parameter");
+                }
+                return new EvalNode(this, compile(parameters.get(0)), globalFunction.getScope());
+            case NOT:
+                if (parameters.size() != 1) {
+                    return new ErrorNode("not function must have exactly one parameter");
+                }
+                return new NotNode(compileCondition(parameters.get(0)));
+            case COND:
+                return compileCondStatement(parameters, false);
+            case AND:
+            case OR:
+                if (parameters.size() != 2) {
+                    return new ErrorNode("conditional function must have exactly two parameters");
+                }
+                Node first = compileCondition(parameters.get(0));
+                Node second = compileCondition(parameters.get(1));
+                return builtin == Builtin.AND ? new AndNode(first, second) : new OrNode(first, second);
+            case IF:
+                if (parameters.size() != 3) {
+                    return new ErrorNode("if function must have exactly three parameters");
+                }
+                return new IfNode(compileCondition(parameters.get(0)), compile(parameters.get(1)),
+                        compile(parameters.get(2)));
+            case SET:
+                if (parameters.size() != 2) {
+                    return new ErrorNode("set function must have exactly two parameters");
+                }
+                if (!(parameters.get(0) instanceof Symbol)) {
+                    return new ErrorNode("First parameter of set function must be a symbol");
+                }
+                return new SetNode(this, ((Symbol) parameters.get(0)).getId(), compile(parameters.get(1)));
+            case DEFINE:
+                return compileDefine(parameters);
+            default:
+                return new ErrorNode("Unknown global function: " + globalFunction.getName());
+        }
+    }
+
+    private Node compileArithmeticOperation(Builtin operation, List<SExpr> parameters) {
+        if (parameters.size() < 2) {
+            return new ErrorNode("Arithmetic operations must have at least two parameters");
+        }
+        Node[] operands = compileAll(parameters);
+        switch (operation) {
+            case ADD:
+                return new AddNode(operands);
+            case SUBTRACT:
+                return new SubtractNode(operands);
+            case MULTIPLY:
+                return new MultiplyNode(operands);
+            case DIVIDE:
+                return new DivideNode(operands);
+            case MOD:
+                return new ModNode(operands);
+            case LESS:
+                return new LessThanNode(operands);
+            case GREATER:
+                return new GreaterThanNode(operands);
+            case LESS_EQUAL:
+                return new LessEqualNode(operands);
+            default:
+                return new GreaterEqualNode(operands);
+        }
+    }
+
+    // Type checks look at the unevaluated parameter, so their result is known now
+    private Node compileTypeCheckingFunction(Builtin check, List<SExpr> parameters) {
+        if (parameters.size() != 1) {
+            return new ErrorNode(check.getName() + " function must have exactly one parameter");
+        }
+        SExpr param = parameters.get(0);
+        switch (check) {
+            case IS_NIL:
+                return new ConstantNode(param instanceof Nil);
+            case IS_NUMBER:
+                return new ConstantNode(param instanceof Atom && ((Atom) param).isNumber());
+            case IS_LIST:
+                return new ConstantNode(param instanceof SExprList);
+            default:
+                return new ConstantNode(param instanceof Symbol);
+        }
+    }
+
+    private Node compileCondStatement(List<SExpr> parameters, boolean tail) {
+        if (parameters.size() % 2 != 0) {
+            return new ErrorNode("cond statement must have an even number of parameters");
+        }
+        Node[] conditions = new Node[parameters.size() / 2];
+        Node[] results = new Node[conditions.length];
+        for (int i = 0; i < conditions.length; i++) {
+            // A bare symbol such as else always counts as true
+            conditions[i] = compileCondition(parameters.get(2 * i));
+            SExpr result = parameters.get(2 * i + 1);
+            results[i] = tail ? compileTail(result) : compile(result);
+        }
+        return new CondNode(conditions, results);
+    }
+
+    private Node compileConsStatement(List<SExpr> parameters) {
+        if (parameters.size() != 2) {
+            return new ErrorNode("cons function must have exactly two parameters");
+        }
+        return new ConsNode(compile(parameters.get(0)), compile(parameters.get(1)));
+    }
+
+    private Node compileDefine(List<SExpr> parameters) {
+        if (parameters.size() < 3) {
+            return new ErrorNode("define function must have at least three parameters");
+        }
+        String name = parameters.get(0).toString();
+        int arity = Closure.parameterNames(parameters.get(1)).size();
+        List<SExpr> statements = parameters.subList(2, parameters.size());
+        Node[] body = new Node[statements.size()];
+        for (int i = 0; i < body.length - 1; i++) {
+            body[i] = compile(statements.get(i));
+        }
+        body[body.length - 1] = compileTail(statements.get(body.length - 1));
+        return new DefineNode(this, new CompiledFunction(name, arity, body, Purity.summarize(statements)));
+    }
+}
@@ -0,0 +1,23 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Nil;
+
+final class CondNode extends Node {
+    private final Node[] conditions;
+    private final Node[] results;
+
+    CondNode(Node[] conditions, Node[] results) {
+        this.conditions = conditions;
+        this.results = results;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        for (int i = 0; i < conditions.length; i++) {
+            if ((Boolean) conditions[i].execute(frame)) {
+                return results[i].execute(frame);
+            }
+        }
+        return Nil.INSTANCE;
+    }
+}
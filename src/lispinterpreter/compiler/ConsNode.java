@@ -0,0 +1,19 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Cons;
+
+final class ConsNode extends Node {
+    private final Node first;
+    private final Node second;
+
+    ConsNode(Node first, Node second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        Object car = first.execute(frame);
+        return new Cons(car, second.execute(frame));
+    }
+}
@@ -0,0 +1,14 @@
+package lispinterpreter.compiler;
+
+final class ConstantNode extends Node {
+    private final Object value;
+
+    ConstantNode(Object value) {
+        this.value = value;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        return value;
+    }
+}
@@ -0,0 +1,20 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Environment;
+import lispinterpreter.Symbol;
+
+final class DefineNode extends Node {
+    private final CompiledFunction function;
+    private final Environment.Cell cell;
+
+    DefineNode(Compiler compiler, CompiledFunction function) {
+        this.function = function;
+        this.cell = compiler.environment.cell(Symbol.intern(function.getName()).getId());
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        cell.set(function);
+        return null;
+    }
+}
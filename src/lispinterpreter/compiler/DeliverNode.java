@@ -0,0 +1,18 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Promise;
+
+final class DeliverNode extends Node {
+    private final Node promise;
+    private final Node value;
+
+    DeliverNode(Node promise, Node value) {
+        this.promise = promise;
+        this.value = value;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        return Promise.deliver(promise.execute(frame), value.execute(frame));
+    }
+}
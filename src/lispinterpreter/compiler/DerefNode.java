@@ -0,0 +1,16 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Promise;
+
+final class DerefNode extends Node {
+    private final Node promise;
+
+    DerefNode(Node promise) {
+        this.promise = promise;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        return Promise.deref(promise.execute(frame));
+    }
+}
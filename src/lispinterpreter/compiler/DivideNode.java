@@ -0,0 +1,15 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Numbers;
+
+final class DivideNode extends ArithmeticNode {
+
+    DivideNode(Node[] operands) {
+        super(operands);
+    }
+
+    @Override
+    protected Object apply(Object left, Object right) {
+        return Numbers.divide(left, right);
+    }
+}
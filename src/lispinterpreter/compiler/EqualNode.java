@@ -0,0 +1,18 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Numbers;
+
+final class EqualNode extends Node {
+    private final Node left;
+    private final Node right;
+
+    EqualNode(Node left, Node right) {
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        return Numbers.isEqual(left.execute(frame), right.execute(frame));
+    }
+}
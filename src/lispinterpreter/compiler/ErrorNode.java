@@ -0,0 +1,15 @@
+package lispinterpreter.compiler;
+
+// Malformed calls are only reported when they are reached, as in the tree-walker
+final class ErrorNode extends Node {
+    private final String message;
+
+    ErrorNode(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        throw new RuntimeException(message);
+    }
+}
@@ -0,0 +1,34 @@
+package lispinterpreter.compiler;
+
+import java.util.List;
+
+import lispinterpreter.Cons;
+import lispinterpreter.Quotation;
+import lispinterpreter.Resolver;
+import lispinterpreter.SExpr;
+
+final class EvalNode extends Node {
+    private static final Resolver RESOLVER = new Resolver();
+
+    private final Compiler compiler;
+    private final Node expression;
+    private final List<String> scope;
+
+    EvalNode(Compiler compiler, Node expression, List<String> scope) {
+        this.compiler = compiler;
+        this.expression = expression;
+        this.scope = scope;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        Object result = expression.execute(frame);
+        if (result instanceof Cons) {
+            result = Quotation.code((Cons) result);
+        }
+        while (result instanceof SExpr) {
+            result = compiler.evaluate(RESOLVER.resolveCopy((SExpr) result, scope), frame);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,17 @@
+package lispinterpreter.compiler;
+
+public final class Frame {
+    static final Frame EMPTY = new Frame(new Object[0]);
+
+    final Object[] locals;
+
+    // Set by a TailCallNode in this frame's function for Compiler.call to pick up.
+    // Keeping them here rather than on the compiler lets several threads run
+    // compiled code at once.
+    CompiledFunction pendingFunction;
+    TailCallNode pendingCall;
+
+    Frame(Object[] locals) {
+        this.locals = locals;
+    }
+}
@@ -0,0 +1,20 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Promise;
+
+// Runs the expression on another thread in a copy of the frame, since a tail call
+// may reuse this one. Compiler.call keeps no state of its own, so the compiled
+// expression can run there as it is.
+final class FutureNode extends Node {
+    private final Node expression;
+
+    FutureNode(Node expression) {
+        this.expression = expression;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        Frame copy = new Frame(frame.locals.clone());
+        return Promise.future(() -> expression.execute(copy));
+    }
+}
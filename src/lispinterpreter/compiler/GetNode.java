@@ -0,0 +1,18 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Associative;
+
+final class GetNode extends Node {
+    private final Node collection;
+    private final Node key;
+
+    GetNode(Node collection, Node key) {
+        this.collection = collection;
+        this.key = key;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        return Associative.get(collection.execute(frame), key.execute(frame));
+    }
+}
@@ -0,0 +1,29 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Environment;
+import lispinterpreter.SExpr;
+import lispinterpreter.Symbol;
+
+final class GlobalRefNode extends Node {
+    private final Compiler compiler;
+    private final Symbol symbol;
+    private final Environment.Cell cell;
+
+    GlobalRefNode(Compiler compiler, Symbol symbol) {
+        this.compiler = compiler;
+        this.symbol = symbol;
+        this.cell = compiler.environment.cell(symbol.getId());
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        Object value = cell.get();
+        if (value == Environment.UNBOUND) {
+            return symbol.getValue();
+        }
+        if (value instanceof SExpr) {
+            return compiler.evaluate((SExpr) value, frame);
+        }
+        return value;
+    }
+}
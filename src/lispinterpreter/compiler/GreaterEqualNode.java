@@ -0,0 +1,15 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Numbers;
+
+final class GreaterEqualNode extends BinaryNode {
+
+    GreaterEqualNode(Node[] operands) {
+        super(">=", operands);
+    }
+
+    @Override
+    protected Object apply(Object left, Object right) {
+        return Numbers.greaterEqual(left, right);
+    }
+}
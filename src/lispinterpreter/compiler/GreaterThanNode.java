@@ -0,0 +1,15 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Numbers;
+
+final class GreaterThanNode extends BinaryNode {
+
+    GreaterThanNode(Node[] operands) {
+        super(">", operands);
+    }
+
+    @Override
+    protected Object apply(Object left, Object right) {
+        return Numbers.greaterThan(left, right);
+    }
+}
@@ -0,0 +1,20 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.PersistentHashMap;
+
+final class HashMapNode extends Node {
+    private final Node[] keysAndValues;
+
+    HashMapNode(Node[] keysAndValues) {
+        this.keysAndValues = keysAndValues;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        Object[] values = new Object[keysAndValues.length];
+        for (int i = 0; i < keysAndValues.length; i++) {
+            values[i] = keysAndValues[i].execute(frame);
+        }
+        return PersistentHashMap.of(values);
+    }
+}
@@ -0,0 +1,21 @@
+package lispinterpreter.compiler;
+
+final class IfNode extends Node {
+    private final Node condition;
+    private final Node thenBranch;
+    private final Node elseBranch;
+
+    IfNode(Node condition, Node thenBranch, Node elseBranch) {
+        this.condition = condition;
+        this.thenBranch = thenBranch;
+        this.elseBranch = elseBranch;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        if ((Boolean) condition.execute(frame)) {
+            return thenBranch.execute(frame);
+        }
+        return elseBranch.execute(frame);
+    }
+}
@@ -0,0 +1,15 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Numbers;
+
+final class LessEqualNode extends BinaryNode {
+
+    LessEqualNode(Node[] operands) {
+        super("<=", operands);
+    }
+
+    @Override
+    protected Object apply(Object left, Object right) {
+        return Numbers.lessEqual(left, right);
+    }
+}
@@ -0,0 +1,15 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Numbers;
+
+final class LessThanNode extends BinaryNode {
+
+    LessThanNode(Node[] operands) {
+        super("<", operands);
+    }
+
+    @Override
+    protected Object apply(Object left, Object right) {
+        return Numbers.lessThan(left, right);
+    }
+}
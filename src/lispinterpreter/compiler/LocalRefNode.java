@@ -0,0 +1,22 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.SExpr;
+
+final class LocalRefNode extends Node {
+    private final Compiler compiler;
+    private final int slot;
+
+    LocalRefNode(Compiler compiler, int slot) {
+        this.compiler = compiler;
+        this.slot = slot;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        Object value = frame.locals[slot];
+        if (value instanceof SExpr) {
+            return compiler.evaluate((SExpr) value, frame);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,15 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Numbers;
+
+final class ModNode extends BinaryNode {
+
+    ModNode(Node[] operands) {
+        super("%", operands);
+    }
+
+    @Override
+    protected Object apply(Object left, Object right) {
+        return Numbers.mod(left, right);
+    }
+}
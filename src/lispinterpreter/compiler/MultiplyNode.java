@@ -0,0 +1,15 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Numbers;
+
+final class MultiplyNode extends ArithmeticNode {
+
+    MultiplyNode(Node[] operands) {
+        super(operands);
+    }
+
+    @Override
+    protected Object apply(Object left, Object right) {
+        return Numbers.multiply(left, right);
+    }
+}
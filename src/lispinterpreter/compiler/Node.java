@@ -0,0 +1,5 @@
+package lispinterpreter.compiler;
+
+public abstract class Node {
+    public abstract Object execute(Frame frame);
+}
@@ -0,0 +1,14 @@
+package lispinterpreter.compiler;
+
+final class NotNode extends Node {
+    private final Node condition;
+
+    NotNode(Node condition) {
+        this.condition = condition;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        return !(Boolean) condition.execute(frame);
+    }
+}
@@ -0,0 +1,19 @@
+package lispinterpreter.compiler;
+
+final class OrNode extends Node {
+    private final Node first;
+    private final Node second;
+
+    OrNode(Node first, Node second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        if ((Boolean) first.execute(frame)) {
+            return true;
+        }
+        return second.execute(frame);
+    }
+}
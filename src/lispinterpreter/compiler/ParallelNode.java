@@ -0,0 +1,45 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Builtin;
+import lispinterpreter.Parallel;
+import lispinterpreter.Purity;
+
+// pmap, pfilter and preduce. Compiler.call keeps no state of its own, so every
+// thread can call the function through the same compiler.
+final class ParallelNode extends Node {
+    private final Compiler compiler;
+    private final Builtin builtin;
+    private final Node[] arguments;
+
+    ParallelNode(Compiler compiler, Builtin builtin, Node[] arguments) {
+        this.compiler = compiler;
+        this.builtin = builtin;
+        this.arguments = arguments;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        Object[] values = new Object[arguments.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = arguments[i].execute(frame);
+        }
+        if (!(values[0] instanceof CompiledFunction)) {
+            throw new RuntimeException(builtin.getName() + " function requires a function");
+        }
+        CompiledFunction function = (CompiledFunction) values[0];
+        return Parallel.apply(builtin, new Parallel.Callee(function.getName(), function.getArity()) {
+            @Override
+            protected boolean isPure() {
+                return Purity.isPure(function.getPurity(), id -> {
+                    Object definition = compiler.environment.get(id);
+                    return definition instanceof CompiledFunction ? ((CompiledFunction) definition).getPurity() : null;
+                }, compiler.environment::get);
+            }
+
+            @Override
+            protected Parallel.Invoker newInvoker() {
+                return locals -> compiler.call(function, new Frame(locals));
+            }
+        }, values);
+    }
+}
@@ -0,0 +1,30 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Cons;
+import lispinterpreter.Output;
+import lispinterpreter.Printer;
+
+final class PrintNode extends Node {
+    private final Output output;
+    private final Node[] values;
+
+    PrintNode(Output output, Node[] values) {
+        this.output = output;
+        this.values = values;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        for (Node node : values) {
+            Object value = node.execute(frame);
+            if (value == null) {
+                return null;
+            }
+            output.println(Printer.format(value));
+            if (value instanceof Cons && !((Cons) value).isList()) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
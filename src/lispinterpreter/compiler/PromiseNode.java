@@ -0,0 +1,11 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Promise;
+
+final class PromiseNode extends Node {
+
+    @Override
+    public Object execute(Frame frame) {
+        return Promise.promise();
+    }
+}
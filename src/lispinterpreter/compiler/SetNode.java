@@ -0,0 +1,19 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Environment;
+
+final class SetNode extends Node {
+    private final Environment.Cell cell;
+    private final Node value;
+
+    SetNode(Compiler compiler, int id, Node value) {
+        this.cell = compiler.environment.cell(id);
+        this.value = value;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        cell.set(value.execute(frame));
+        return null;
+    }
+}
@@ -0,0 +1,15 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Numbers;
+
+final class SubtractNode extends ArithmeticNode {
+
+    SubtractNode(Node[] operands) {
+        super(operands);
+    }
+
+    @Override
+    protected Object apply(Object left, Object right) {
+        return Numbers.subtract(left, right);
+    }
+}
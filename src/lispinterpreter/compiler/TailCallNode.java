@@ -0,0 +1,33 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.Environment;
+
+// A call in tail position of a function body. Instead of calling, it records the
+// callee in the frame and returns PENDING; Compiler.call then evaluates the
+// arguments and runs the callee in a loop, without growing the Java stack.
+final class TailCallNode extends Node {
+    static final Object PENDING = new Object();
+
+    private final Compiler compiler;
+    private final Environment.Cell cell;
+    private final Node[] arguments;
+
+    TailCallNode(Compiler compiler, int id, Node[] arguments) {
+        this.compiler = compiler;
+        this.cell = compiler.environment.cell(id);
+        this.arguments = arguments;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        frame.pendingFunction = compiler.lookupFunction(cell, arguments.length);
+        frame.pendingCall = this;
+        return PENDING;
+    }
+
+    void evaluateArguments(Frame frame, Object[] locals) {
+        for (int i = 0; i < locals.length; i++) {
+            locals[i] = arguments[i].execute(frame);
+        }
+    }
+}
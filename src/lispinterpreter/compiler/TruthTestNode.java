@@ -0,0 +1,16 @@
+package lispinterpreter.compiler;
+
+// Conditions that are calls are true only when the call returns TRUTH
+final class TruthTestNode extends Node {
+    private final Node call;
+
+    TruthTestNode(Node call) {
+        this.call = call;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        Object value = call.execute(frame);
+        return value != null && value.equals(true);
+    }
+}
@@ -0,0 +1,20 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.PersistentVector;
+
+final class VectorNode extends Node {
+    private final Node[] elements;
+
+    VectorNode(Node[] elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        Object[] values = new Object[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            values[i] = elements[i].execute(frame);
+        }
+        return PersistentVector.of(values);
+    }
+}
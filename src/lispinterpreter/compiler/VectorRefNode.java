@@ -0,0 +1,18 @@
+package lispinterpreter.compiler;
+
+import lispinterpreter.PersistentVector;
+
+final class VectorRefNode extends Node {
+    private final Node vector;
+    private final Node index;
+
+    VectorRefNode(Node vector, Node index) {
+        this.vector = vector;
+        this.index = index;
+    }
+
+    @Override
+    public Object execute(Frame frame) {
+        return PersistentVector.ref(vector.execute(frame), index.execute(frame));
+    }
+}
@@ -0,0 +1,210 @@
+package lispinterpreter.jit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lispinterpreter.Atom;
+import lispinterpreter.Builtin;
+import lispinterpreter.Closure;
+import lispinterpreter.Function;
+import lispinterpreter.GlobalFunction;
+import lispinterpreter.LocalSymbol;
+import lispinterpreter.Nil;
+import lispinterpreter.SExpr;
+import lispinterpreter.SExprList;
+import lispinterpreter.Symbol;
+import lispinterpreter.Truth;
+
+// Generates the Java source of a class whose static invoke method runs a function
+// body. Arithmetic, comparisons, conditionals, parameter reads and calls to other
+// user functions become straight-line Java; anything else is left to the
+// tree-walker by calling accept on the original expression, kept in the constants.
+final class CodeGenerator {
+    private final List<Object> constants = new ArrayList<>();
+
+    // The statements of the invoke method. Literals and expressions left to the
+    // tree-walker are read from the constants, so functions whose bodies have the
+    // same shape get the same code and differ only in their constants.
+    String generate(Closure closure) {
+        StringBuilder code = new StringBuilder();
+        code.append("        Object result = null;\n");
+        SExpr[] body = closure.getBody();
+        for (int i = 0; i < body.length - 1; i++) {
+            code.append("        result = ").append(expression(body[i])).append(";\n");
+        }
+        code.append("        result = ").append(tailExpression(body[body.length - 1])).append(";\n");
+        code.append("        return result;\n");
+        return code.toString();
+    }
+
+    static String source(String packageName, String className, String body) {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(packageName).append(";\n\n");
+        source.append("import lispinterpreter.*;\n");
+        source.append("import lispinterpreter.jit.JitSupport;\n\n");
+        source.append("public final class ").append(className).append(" {\n");
+        source.append("    public static Object invoke(Object[] constants, Interpreter interpreter, Object[] frame) {\n");
+        source.append(body);
+        source.append("    }\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    Object[] getConstants() {
+        return constants.toArray();
+    }
+
+    private String constant(Object value) {
+        constants.add(value);
+        return "constants[" + (constants.size() - 1) + "]";
+    }
+
+    private String interpreted(SExpr expr) {
+        return "((SExpr) " + constant(expr) + ").accept(interpreter, frame)";
+    }
+
+    private String expression(SExpr expr) {
+        if (expr instanceof LocalSymbol) {
+            return "JitSupport.local(interpreter, frame, " + ((LocalSymbol) expr).getSlot() + ")";
+        } else if (expr instanceof GlobalFunction) {
+            return globalFunction((GlobalFunction) expr);
+        } else if (expr instanceof Function) {
+            return call((Function) expr, "call");
+        } else if (expr instanceof Nil) {
+            return "Boolean.FALSE";
+        } else if (expr instanceof Truth) {
+            return "Boolean.TRUE";
+        } else if (expr instanceof Atom && !((Atom) expr).isSymbol()) {
+            return constant(((Atom) expr).getValue());
+        }
+        return interpreted(expr);
+    }
+
+    // Calls reached through if and cond branches of the last statement are tail calls
+    private String tailExpression(SExpr expr) {
+        if (expr instanceof GlobalFunction) {
+            List<SExpr> parameters = ((GlobalFunction) expr).getParameters().getList();
+            Builtin builtin = ((GlobalFunction) expr).getBuiltin();
+            if (builtin == Builtin.IF && parameters.size() == 3) {
+                return "(" + condition(parameters.get(0)) + " ? " + tailExpression(parameters.get(1)) + " : "
+                        + tailExpression(parameters.get(2)) + ")";
+            } else if (builtin == Builtin.COND && parameters.size() % 2 == 0) {
+                return cond(parameters, 0, true);
+            }
+        } else if (expr instanceof Function) {
+            return call((Function) expr, "tailCall");
+        }
+        return expression(expr);
+    }
+
+    private String expressions(List<SExpr> expressions) {
+        StringBuilder code = new StringBuilder();
+        for (int i = 0; i < expressions.size(); i++) {
+            if (i > 0) {
+                code.append(", ");
+            }
+            code.append(expression(expressions.get(i)));
+        }
+        return code.toString();
+    }
+
+    // The function is looked up and its arity checked before the arguments are evaluated
+    private String call(Function function, String method) {
+        List<SExpr> arguments = function.getParameters().getList();
+        return "JitSupport." + method + "(interpreter, interpreter.lookupFunction(" + function.getId() + ", "
+                + arguments.size() + "), new Object[] {" + expressions(arguments) + "})";
+    }
+
+    // Mirrors the tree-walker's paramToBoolean as a Java boolean expression
+    private String condition(SExpr param) {
+        if (param instanceof Atom) {
+            return String.valueOf(param.toBoolean());
+        } else if (param instanceof Function) {
+            return "JitSupport.isTrue(" + expression(param) + ")";
+        }
+        return String.valueOf(param instanceof Symbol || param instanceof SExprList);
+    }
+
+    private String globalFunction(GlobalFunction globalFunction) {
+        List<SExpr> parameters = globalFunction.getParameters().getList();
+        switch (globalFunction.getBuiltin()) {
+            case ADD:
+                return arithmetic("add", globalFunction, true);
+            case SUBTRACT:
+                return arithmetic("subtract", globalFunction, true);
+            case MULTIPLY:
+                return arithmetic("multiply", globalFunction, true);
+            case DIVIDE:
+                return arithmetic("divide", globalFunction, true);
+            case MOD:
+                return arithmetic("mod", globalFunction, false);
+            case LESS:
+                return arithmetic("lessThan", globalFunction, false);
+            case GREATER:
+                return arithmetic("greaterThan", globalFunction, false);
+            case LESS_EQUAL:
+                return arithmetic("lessEqual", globalFunction, false);
+            case GREATER_EQUAL:
+                return arithmetic("greaterEqual", globalFunction, false);
+            case EQUAL:
+                if (parameters.size() != 2) {
+                    break;
+                }
+                return "JitSupport.equal(" + expressions(parameters) + ")";
+            case IF:
+                if (parameters.size() != 3) {
+                    break;
+                }
+                return "(" + condition(parameters.get(0)) + " ? " + expression(parameters.get(1)) + " : "
+                        + expression(parameters.get(2)) + ")";
+            case COND:
+                if (parameters.size() % 2 != 0) {
+                    break;
+                }
+                return cond(parameters, 0, false);
+            case AND:
+                if (parameters.size() != 2) {
+                    break;
+                }
+                return "(Object) (" + condition(parameters.get(0)) + " && " + condition(parameters.get(1)) + ")";
+            case OR:
+                if (parameters.size() != 2) {
+                    break;
+                }
+                return "(Object) (" + condition(parameters.get(0)) + " || " + condition(parameters.get(1)) + ")";
+            case QUOTE:
+                if (parameters.size() != 1) {
+                    break;
+                }
+                return constant(globalFunction.getQuoted());
+            case NOT:
+                if (parameters.size() != 1) {
+                    break;
+                }
+                return "(Object) !" + condition(parameters.get(0));
+            default:
+                break;
+        }
+        // Builtins without a fast path, and malformed calls whose errors the tree-walker reports
+        return interpreted(globalFunction);
+    }
+
+    private String arithmetic(String operation, GlobalFunction globalFunction, boolean variadic) {
+        List<SExpr> parameters = globalFunction.getParameters().getList();
+        if (parameters.size() == 2) {
+            return "JitSupport." + operation + "(" + expressions(parameters) + ")";
+        } else if (parameters.size() > 2 && variadic) {
+            return "JitSupport." + operation + "(new Object[] {" + expressions(parameters) + "})";
+        }
+        return interpreted(globalFunction);
+    }
+
+    private String cond(List<SExpr> parameters, int index, boolean tail) {
+        if (index == parameters.size()) {
+            return "(Object) Nil.INSTANCE";
+        }
+        SExpr result = parameters.get(index + 1);
+        return "(" + condition(parameters.get(index)) + " ? " + (tail ? tailExpression(result) : expression(result))
+                + " : " + cond(parameters, index + 2, tail) + ")";
+    }
+}
@@ -0,0 +1,16 @@
+package lispinterpreter.jit;
+
+import lispinterpreter.Interpreter;
+
+// Each generated class gets its own loader, so a redefined function's old code
+// can be unloaded once nothing refers to it
+final class JitClassLoader extends ClassLoader {
+
+    JitClassLoader() {
+        super(Interpreter.class.getClassLoader());
+    }
+
+    Class<?> define(String name, byte[] bytecode) {
+        return defineClass(name, bytecode, 0, bytecode.length);
+    }
+}
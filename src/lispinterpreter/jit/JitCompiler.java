@@ -0,0 +1,236 @@
+package lispinterpreter.jit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.URI;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import lispinterpreter.Closure;
+import lispinterpreter.Interpreter;
+
+// Second tier for user functions: once a function has been interpreted THRESHOLD
+// times its body is translated to Java, compiled in memory with the system Java
+// compiler and loaded as a real class, and the closure switches to calling it.
+// Compilation happens on a background thread while the interpreter keeps going.
+// Without a JDK compiler available (a plain JRE), functions stay interpreted.
+//
+// Generated classes are cached by the code of their body, so a function defined
+// again, or by a fresh interpreter, reuses the class instead of compiling it once
+// more. While a body is being compiled, later requests for it wait on the same
+// compilation. Only QUEUE_LIMIT bodies wait for the compiler at once; a request
+// beyond that is dropped and the function stays interpreted. Waiting closures are
+// held weakly, so a body whose closures have all gone, with the interpreter that
+// defined them, is not compiled at all. If loading generated code fails with a
+// LinkageError the JIT turns itself off.
+public final class JitCompiler {
+    public static final int THRESHOLD = Integer.getInteger("lisp.jit.threshold", 1000);
+
+    private static final String PACKAGE = "lispinterpreter.jit.generated";
+    private static final boolean BACKGROUND = !Boolean.getBoolean("lisp.jit.foreground");
+    private static final int QUEUE_LIMIT = 16;
+    private static final int CACHE_LIMIT = 256;
+    private static final JavaCompiler JAVAC = ToolProvider.getSystemJavaCompiler();
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_LIMIT), task -> {
+                Thread thread = new Thread(task, "lisp-jit");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    // The invoke handle of each compiled body, least recently used first
+    private static final Map<String, MethodHandle> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, MethodHandle> eldest) {
+            return size() > CACHE_LIMIT;
+        }
+    };
+    // The closures waiting for each body that is being compiled
+    private static final Map<String, List<Request>> PENDING = new HashMap<>();
+
+    private static StandardJavaFileManager fileManager;
+    private static volatile boolean disabled = JAVAC == null;
+
+    // A closure waiting for its body, with the constants its generated code reads
+    private static final class Request {
+        final WeakReference<Closure> closure;
+        final Object[] constants;
+
+        Request(Closure closure, Object[] constants) {
+            this.closure = new WeakReference<>(closure);
+            this.constants = constants;
+        }
+
+        void install(MethodHandle invoke) {
+            Closure target = closure.get();
+            if (target != null) {
+                target.setCompiled(invoke, constants);
+            }
+        }
+    }
+
+    private JitCompiler() {
+    }
+
+    public static void compile(Closure closure) {
+        if (disabled) {
+            return;
+        }
+        CodeGenerator generator = new CodeGenerator();
+        String body = generator.generate(closure);
+        Request request = new Request(closure, generator.getConstants());
+        synchronized (JitCompiler.class) {
+            MethodHandle cached = CACHE.get(body);
+            if (cached != null) {
+                request.install(cached);
+                return;
+            }
+            List<Request> waiting = PENDING.get(body);
+            if (waiting != null) {
+                waiting.add(request);
+                return;
+            }
+            PENDING.put(body, new ArrayList<>(List.of(request)));
+        }
+        if (!BACKGROUND) {
+            install(body);
+            return;
+        }
+        try {
+            EXECUTOR.execute(() -> install(body));
+        } catch (RejectedExecutionException e) {
+            synchronized (JitCompiler.class) {
+                PENDING.remove(body);
+            }
+        }
+    }
+
+    private static void install(String body) {
+        MethodHandle invoke = null;
+        try {
+            if (isWanted(body)) {
+                invoke = generate(body);
+            }
+        } catch (Exception e) {
+            // Leave the functions interpreted
+        } catch (LinkageError e) {
+            disabled = true;
+        } finally {
+            finish(body, invoke);
+        }
+    }
+
+    // Hands the compiled body, or null if it was not compiled, to the closures waiting for it
+    private static void finish(String body, MethodHandle invoke) {
+        List<Request> waiting;
+        synchronized (JitCompiler.class) {
+            waiting = PENDING.remove(body);
+            if (invoke != null) {
+                CACHE.put(body, invoke);
+            }
+        }
+        if (invoke != null) {
+            for (Request request : waiting) {
+                request.install(invoke);
+            }
+        }
+        synchronized (JitCompiler.class) {
+            JitCompiler.class.notifyAll();
+        }
+    }
+
+    // Waits until no body is waiting for the compiler, so that a measurement taken
+    // afterwards does not include compilation running in the background
+    public static synchronized void awaitIdle() throws InterruptedException {
+        while (!PENDING.isEmpty()) {
+            JitCompiler.class.wait();
+        }
+    }
+
+    // The JIT setting, for reports
+    public static String describe() {
+        if (THRESHOLD <= 0 || disabled) {
+            return "JIT off";
+        }
+        return "JIT after " + THRESHOLD + " calls" + (BACKGROUND ? "" : ", in the foreground");
+    }
+
+    // Whether any closure waiting for the body is still alive
+    private static synchronized boolean isWanted(String body) {
+        for (Request request : PENDING.get(body)) {
+            if (request.closure.get() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Compiles one body at a time, since the file manager is shared
+    private static MethodHandle generate(String body) throws Exception {
+        String className = "Function" + COUNTER.incrementAndGet();
+        byte[] bytecode;
+        synchronized (JAVAC) {
+            bytecode = javac(PACKAGE + "." + className, CodeGenerator.source(PACKAGE, className, body));
+        }
+        Class<?> generated = new JitClassLoader().define(PACKAGE + "." + className, bytecode);
+        return MethodHandles.publicLookup().findStatic(generated, "invoke",
+                MethodType.methodType(Object.class, Object[].class, Interpreter.class, Object[].class));
+    }
+
+    private static byte[] javac(String className, String source) {
+        if (fileManager == null) {
+            fileManager = JAVAC.getStandardFileManager(null, null, null);
+        }
+        ByteArrayOutputStream bytecode = new ByteArrayOutputStream();
+        JavaFileObject sourceFile = new SimpleJavaFileObject(
+                URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        JavaFileManager output = new ForwardingJavaFileManager<JavaFileManager>(fileManager) {
+            @Override
+            public JavaFileObject getJavaFileForOutput(Location location, String name, JavaFileObject.Kind kind,
+                    FileObject sibling) {
+                return new SimpleJavaFileObject(URI.create("bytes:///" + name.replace('.', '/') + kind.extension),
+                        kind) {
+                    @Override
+                    public OutputStream openOutputStream() {
+                        return bytecode;
+                    }
+                };
+            }
+        };
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<String> options = List.of("-classpath", System.getProperty("java.class.path"), "-proc:none");
+        if (!JAVAC.getTask(null, output, diagnostics, options, null, List.of(sourceFile)).call()) {
+            throw new IllegalStateException("could not compile " + className + ": " + diagnostics.getDiagnostics());
+        }
+        return bytecode.toByteArray();
+    }
+}
@@ -0,0 +1,114 @@
+package lispinterpreter.jit;
+
+import lispinterpreter.Closure;
+import lispinterpreter.Interpreter;
+import lispinterpreter.Numbers;
+import lispinterpreter.SExpr;
+
+// Runtime helpers called from generated code. They are small static methods so
+// that HotSpot inlines them into the generated function bodies.
+public final class JitSupport {
+
+    private JitSupport() {
+    }
+
+    public static Object local(Interpreter interpreter, Object[] frame, int slot) {
+        Object value = frame[slot];
+        if (value instanceof SExpr) {
+            return ((SExpr) value).accept(interpreter, frame);
+        }
+        return value;
+    }
+
+    public static Object call(Interpreter interpreter, Closure closure, Object[] frame) {
+        return interpreter.call(closure, frame);
+    }
+
+    public static Object tailCall(Interpreter interpreter, Closure closure, Object[] frame) {
+        return interpreter.tailCall(closure, frame);
+    }
+
+    public static boolean isTrue(Object value) {
+        return value != null && value.equals(true);
+    }
+
+    public static Object equal(Object left, Object right) {
+        return Numbers.isEqual(left, right);
+    }
+
+    public static Object fail(String message) {
+        throw new RuntimeException(message);
+    }
+
+    public static Object add(Object left, Object right) {
+        return Numbers.add(left, right);
+    }
+
+    public static Object subtract(Object left, Object right) {
+        return Numbers.subtract(left, right);
+    }
+
+    public static Object multiply(Object left, Object right) {
+        return Numbers.multiply(left, right);
+    }
+
+    public static Object divide(Object left, Object right) {
+        return Numbers.divide(left, right);
+    }
+
+    public static Object mod(Object left, Object right) {
+        return Numbers.mod(left, right);
+    }
+
+    public static Object lessThan(Object left, Object right) {
+        return Numbers.lessThan(left, right);
+    }
+
+    public static Object greaterThan(Object left, Object right) {
+        return Numbers.greaterThan(left, right);
+    }
+
+    public static Object lessEqual(Object left, Object right) {
+        return Numbers.lessEqual(left, right);
+    }
+
+    public static Object greaterEqual(Object left, Object right) {
+        return Numbers.greaterEqual(left, right);
+    }
+
+    public static Object add(Object... values) {
+        Numbers.checkNumbers(values);
+        Object result = values[0];
+        for (int i = 1; i < values.length; i++) {
+            result = Numbers.add(result, values[i]);
+        }
+        return result;
+    }
+
+    public static Object subtract(Object... values) {
+        Numbers.checkNumbers(values);
+        Object result = values[0];
+        for (int i = 1; i < values.length; i++) {
+            result = Numbers.subtract(result, values[i]);
+        }
+        return result;
+    }
+
+    public static Object multiply(Object... values) {
+        Numbers.checkNumbers(values);
+        Object result = values[0];
+        for (int i = 1; i < values.length; i++) {
+            result = Numbers.multiply(result, values[i]);
+        }
+        return result;
+    }
+
+    public static Object divide(Object... values) {
+        Numbers.checkNumbers(values);
+        Object result = values[0];
+        for (int i = 1; i < values.length; i++) {
+            result = Numbers.divide(result, values[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,516 @@
+package lispinterpreter.vm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import lispinterpreter.Atom;
+import lispinterpreter.Builtin;
+import lispinterpreter.Closure;
+import lispinterpreter.Function;
+import lispinterpreter.GlobalFunction;
+import lispinterpreter.LocalSymbol;
+import lispinterpreter.Nil;
+import lispinterpreter.Purity;
+import lispinterpreter.SExpr;
+import lispinterpreter.SExprList;
+import lispinterpreter.Symbol;
+import lispinterpreter.Truth;
+
+// Compiles resolved SExpr trees into bytecode. Each expression leaves exactly one
+// value on the operand stack; malformed calls compile to THROW so that they are
+// only reported if they are reached, as in the tree-walker.
+final class BytecodeCompiler {
+    private int[] code = new int[32];
+    private int length = 0;
+    private final List<Object> constants = new ArrayList<>();
+    private int depth = 0;
+    private int maxDepth = 0;
+
+    static Chunk compile(SExpr expression) {
+        BytecodeCompiler compiler = new BytecodeCompiler();
+        compiler.compileExpression(expression);
+        compiler.emit(Opcode.RETURN, -1);
+        return compiler.finish();
+    }
+
+    static Prototype compileFunction(String name, int arity, List<SExpr> body) {
+        BytecodeCompiler compiler = new BytecodeCompiler();
+        for (int i = 0; i < body.size() - 1; i++) {
+            compiler.compileExpression(body.get(i));
+            compiler.emit(Opcode.POP, -1);
+        }
+        compiler.compileTail(body.get(body.size() - 1));
+        compiler.emit(Opcode.RETURN, -1);
+        return new Prototype(name, arity, compiler.finish(), Purity.summarize(body));
+    }
+
+    private Chunk finish() {
+        return new Chunk(Arrays.copyOf(code, length), constants.toArray(), maxDepth);
+    }
+
+    private void emit(int opcode, int stackEffect) {
+        write(opcode);
+        depth += stackEffect;
+        maxDepth = Math.max(maxDepth, depth);
+    }
+
+    private void write(int value) {
+        if (length == code.length) {
+            code = Arrays.copyOf(code, length * 2);
+        }
+        code[length++] = value;
+    }
+
+    private int constant(Object value) {
+        constants.add(value);
+        return constants.size() - 1;
+    }
+
+    private void emitConstant(Object value) {
+        emit(Opcode.CONSTANT, 1);
+        write(constant(value));
+    }
+
+    private void emitThrow(String message) {
+        emit(Opcode.THROW, 1);
+        write(constant(message));
+    }
+
+    // Emits a jump and returns the position of its target, to be patched later
+    private int emitJump(int opcode) {
+        emit(opcode, opcode == Opcode.JUMP_IF_FALSE ? -1 : 0);
+        write(-1);
+        return length - 1;
+    }
+
+    private void patch(int position) {
+        code[position] = length;
+    }
+
+    private void compileExpression(SExpr expr) {
+        if (expr instanceof LocalSymbol) {
+            emit(Opcode.LOAD_LOCAL, 1);
+            write(((LocalSymbol) expr).getSlot());
+        } else if (expr instanceof GlobalFunction) {
+            compileGlobalFunction((GlobalFunction) expr);
+        } else if (expr instanceof Function) {
+            compileCall((Function) expr, Opcode.CALL);
+        } else if (expr instanceof Symbol) {
+            emit(Opcode.LOAD_GLOBAL, 1);
+            write(((Symbol) expr).getId());
+        } else if (expr instanceof SExprList) {
+            List<SExpr> elements = ((SExprList) expr).getList();
+            compileAll(elements);
+            emitList(elements.size());
+        } else if (expr instanceof Nil) {
+            emitConstant(false);
+        } else if (expr instanceof Truth) {
+            emitConstant(true);
+        } else if (expr instanceof Atom && ((Atom) expr).isSymbol()) {
+            emit(Opcode.LOAD_GLOBAL, 1);
+            write(((Symbol) ((Atom) expr).getValue()).getId());
+        } else if (expr instanceof Atom) {
+            emitConstant(((Atom) expr).getValue());
+        } else {
+            emitConstant(expr);
+        }
+    }
+
+    // Calls reached through if and cond branches of a body's last statement are tail calls
+    private void compileTail(SExpr expr) {
+        if (expr instanceof GlobalFunction) {
+            List<SExpr> parameters = ((GlobalFunction) expr).getParameters().getList();
+            Builtin builtin = ((GlobalFunction) expr).getBuiltin();
+            if (builtin == Builtin.IF) {
+                compileIfStatement(parameters, true);
+                return;
+            } else if (builtin == Builtin.COND) {
+                compileCondStatement(parameters, true);
+                return;
+            }
+        } else if (expr instanceof Function) {
+            compileCall((Function) expr, Opcode.TAIL_CALL);
+            return;
+        }
+        compileExpression(expr);
+    }
+
+    private void compileBranch(SExpr expr, boolean tail) {
+        if (tail) {
+            compileTail(expr);
+        } else {
+            compileExpression(expr);
+        }
+    }
+
+    private void compileAll(List<SExpr> expressions) {
+        for (SExpr expression : expressions) {
+            compileExpression(expression);
+        }
+    }
+
+    private void emitList(int count) {
+        emit(Opcode.LIST, 1 - count);
+        write(count);
+    }
+
+    private void compileCall(Function function, int opcode) {
+        List<SExpr> arguments = function.getParameters().getList();
+        emit(Opcode.FUNCTION, 1);
+        write(function.getId());
+        write(arguments.size());
+        compileAll(arguments);
+        emit(opcode, -arguments.size());
+        write(arguments.size());
+    }
+
+    // Leaves a boolean on the stack, following the tree-walker's paramToBoolean
+    private void compileCondition(SExpr param) {
+        if (param instanceof Atom) {
+            emitConstant(param.toBoolean());
+        } else if (param instanceof Function) {
+            compileExpression(param);
+            emit(Opcode.TRUTH_TEST, 0);
+        } else {
+            emitConstant(param instanceof Symbol || param instanceof SExprList);
+        }
+    }
+
+    private void compileGlobalFunction(GlobalFunction globalFunction) {
+        List<SExpr> parameters = globalFunction.getParameters().getList();
+        Builtin builtin = globalFunction.getBuiltin();
+        switch (builtin) {
+            case ADD:
+                compileArithmeticOperation(Opcode.ADD, parameters);
+                break;
+            case SUBTRACT:
+                compileArithmeticOperation(Opcode.SUBTRACT, parameters);
+                break;
+            case MULTIPLY:
+                compileArithmeticOperation(Opcode.MULTIPLY, parameters);
+                break;
+            case DIVIDE:
+                compileArithmeticOperation(Opcode.DIVIDE, parameters);
+                break;
+            case MOD:
+                compileArithmeticOperation(Opcode.MOD, parameters);
+                break;
+            case LESS:
+                compileArithmeticOperation(Opcode.LESS, parameters);
+                break;
+            case GREATER:
+                compileArithmeticOperation(Opcode.GREATER, parameters);
+                break;
+            case LESS_EQUAL:
+                compileArithmeticOperation(Opcode.LESS_EQUAL, parameters);
+                break;
+            case GREATER_EQUAL:
+                compileArithmeticOperation(Opcode.GREATER_EQUAL, parameters);
+                break;
+            case IS_NIL:
+            case IS_NUMBER:
+            case IS_LIST:
+            case IS_SYMBOL:
+                compileTypeCheckingFunction(builtin, parameters);
+                break;
+            case EQUAL:
+                if (parameters.size() != 2) {
+                    emitThrow(globalFunction.getName() + " function must have exactly two parameters");
+                    break;
+                }
+                compileAll(parameters);
+                emit(Opcode.EQUAL, -1);
+                break;
+            case CONS:
+                compileConsStatement(parameters);
+                break;
+            case CAR:
+                if (parameters.size() != 1) {
+                    emitThrow("car function must have exactly one parameter");
+                    break;
+                }
+                compileExpression(parameters.get(0));
+                emit(Opcode.CAR, 0);
+                break;
+            case CDR:
+                if (parameters.size() != 1) {
+                    emitThrow("cdr function must have exactly one parameter");
+                    break;
+                }
+                compileExpression(parameters.get(0));
+                emit(Opcode.CDR, 0);
+                break;
+            case VECTOR:
+                compileAll(parameters);
+                emit(Opcode.VECTOR, 1 - parameters.size());
+                write(parameters.size());
+                break;
+            case HASH_MAP:
+                compileAll(parameters);
+                emit(Opcode.HASH_MAP, 1 - parameters.size());
+                write(parameters.size());
+                break;
+            case VECTOR_REF:
+                if (parameters.size() != 2) {
+                    emitThrow("vector-ref function must have exactly two parameters");
+                    break;
+                }
+                compileAll(parameters);
+                emit(Opcode.VECTOR_REF, -1);
+                break;
+            case ASSOC:
+                if (parameters.size() != 3) {
+                    emitThrow("assoc function must have exactly three parameters");
+                    break;
+                }
+                compileAll(parameters);
+                emit(Opcode.ASSOC, -2);
+                break;
+            case GET:
+                if (parameters.size() != 2) {
+                    emitThrow("get function must have exactly two parameters");
+                    break;
+                }
+                compileAll(parameters);
+                emit(Opcode.GET, -1);
+                break;
+            case PMAP:
+            case PFILTER:
+                if (parameters.size() != 2) {
+                    emitThrow(builtin.getName() + " function must have exactly two parameters");
+                    break;
+                }
+                compileAll(parameters);
+                emit(builtin == Builtin.PMAP ? Opcode.PMAP : Opcode.PFILTER, -1);
+                break;
+            case PREDUCE:
+                if (parameters.size() != 3) {
+                    emitThrow("preduce function must have exactly three parameters");
+                    break;
+                }
+                compileAll(parameters);
+                emit(Opcode.PREDUCE, -2);
+                break;
+            case FUTURE:
+                if (parameters.size() != 1) {
+                    emitThrow("future function must have exactly one parameter");
+                    break;
+                }
+                // The expression gets a chunk of its own, run on another thread
+                emit(Opcode.FUTURE, 1);
+                write(constant(compile(parameters.get(0))));
+                break;
+            case DEREF:
+                if (parameters.size() != 1) {
+                    emitThrow(globalFunction.getName() + " function must have exactly one parameter");
+                    break;
+                }
+                compileAll(parameters);
+                emit(Opcode.DEREF, 0);
+                break;
+            case PROMISE:
+                if (parameters.size() != 0) {
+                    emitThrow("promise function must have no parameters");
+                    break;
+                }
+                emit(Opcode.PROMISE, 1);
+                break;
+            case DELIVER:
+                if (parameters.size() != 2) {
+                    emitThrow("deliver function must have exactly two parameters");
+                    break;
+                }
+                compileAll(parameters);
+                emit(Opcode.DELIVER, -1);
+                break;
+            case PRINT:
+                compilePrintStatement(parameters);
+                break;
+            case QUOTE:
+                if (parameters.size() != 1) {
+                    emitThrow("quote function must have exactly one parameter");
+                    break;
+                }
+                emitConstant(globalFunction.getQuoted());
+                break;
+            case EVAL:
+                if (parameters.size() != 1) {
+                    emitThrow("eval function must have exactly one parameter");
+                    break;
+                }
+                compileExpression(parameters.get(0));
+                emit(Opcode.EVAL, 0);
+                write(constant(globalFunction.getScope()));
+                break;
+            case NOT:
+                if (parameters.size() != 1) {
+                    emitThrow("not function must have exactly one parameter");
+                    break;
+                }
+                compileCondition(parameters.get(0));
+                emit(Opcode.NOT, 0);
+                break;
+            case COND:
+                compileCondStatement(parameters, false);
+                break;
+            case AND:
+            case OR:
+                compileConditionalStatement(builtin, parameters);
+                break;
+            case IF:
+                compileIfStatement(parameters, false);
+                break;
+            case SET:
+                compileSetStatement(parameters);
+                break;
+            case DEFINE:
+                compileDefine(parameters);
+                break;
+            default:
+                emitThrow("Unknown global function: " + globalFunction.getName());
+        }
+    }
+
+    private void compileArithmeticOperation(int opcode, List<SExpr> parameters) {
+        if (parameters.size() < 2) {
+            emitThrow("Arithmetic operations must have at least two parameters");
+            return;
+        }
+        compileAll(parameters);
+        emit(opcode, 1 - parameters.size());
+        write(parameters.size());
+    }
+
+    // Type checks look at the unevaluated parameter, so their result is known now
+    private void compileTypeCheckingFunction(Builtin check, List<SExpr> parameters) {
+        if (parameters.size() != 1) {
+            emitThrow(check.getName() + " function must have exactly one parameter");
+            return;
+        }
+        SExpr param = parameters.get(0);
+        switch (check) {
+            case IS_NIL:
+                emitConstant(param instanceof Nil);
+                break;
+            case IS_NUMBER:
+                emitConstant(param instanceof Atom && ((Atom) param).isNumber());
+                break;
+            case IS_LIST:
+                emitConstant(param instanceof SExprList);
+                break;
+            default:
+                emitConstant(param instanceof Symbol);
+        }
+    }
+
+    private void compileConsStatement(List<SExpr> parameters) {
+        if (parameters.size() != 2) {
+            emitThrow("cons function must have exactly two parameters");
+            return;
+        }
+        compileAll(parameters);
+        emit(Opcode.CONS, -1);
+    }
+
+    // Printing stops at the first argument that yields no value or a dotted pair
+    private void compilePrintStatement(List<SExpr> parameters) {
+        if (parameters.size() == 0) {
+            emitThrow("print function must have at least one parameter");
+            return;
+        }
+        List<Integer> exits = new ArrayList<>();
+        for (SExpr parameter : parameters) {
+            compileExpression(parameter);
+            emit(Opcode.PRINT, -1);
+            write(-1);
+            exits.add(length - 1);
+        }
+        exits.forEach(this::patch);
+        emitConstant(null);
+    }
+
+    private void compileCondStatement(List<SExpr> parameters, boolean tail) {
+        if (parameters.size() % 2 != 0) {
+            emitThrow("cond statement must have an even number of parameters");
+            return;
+        }
+        List<Integer> exits = new ArrayList<>();
+        for (int i = 0; i < parameters.size(); i += 2) {
+            // A bare symbol such as else always counts as true
+            compileCondition(parameters.get(i));
+            int next = emitJump(Opcode.JUMP_IF_FALSE);
+            compileBranch(parameters.get(i + 1), tail);
+            exits.add(emitJump(Opcode.JUMP));
+            depth--;
+            patch(next);
+        }
+        emitConstant(Nil.INSTANCE);
+        exits.forEach(this::patch);
+    }
+
+    private void compileConditionalStatement(Builtin conditional, List<SExpr> parameters) {
+        if (parameters.size() != 2) {
+            emitThrow("conditional function must have exactly two parameters");
+            return;
+        }
+        compileCondition(parameters.get(0));
+        int second = emitJump(Opcode.JUMP_IF_FALSE);
+        if (conditional == Builtin.AND) {
+            compileCondition(parameters.get(1));
+            int end = emitJump(Opcode.JUMP);
+            depth--;
+            patch(second);
+            emitConstant(false);
+            patch(end);
+        } else {
+            emitConstant(true);
+            int end = emitJump(Opcode.JUMP);
+            depth--;
+            patch(second);
+            compileCondition(parameters.get(1));
+            patch(end);
+        }
+    }
+
+    private void compileIfStatement(List<SExpr> parameters, boolean tail) {
+        if (parameters.size() != 3) {
+            emitThrow("if function must have exactly three parameters");
+            return;
+        }
+        compileCondition(parameters.get(0));
+        int otherwise = emitJump(Opcode.JUMP_IF_FALSE);
+        compileBranch(parameters.get(1), tail);
+        int end = emitJump(Opcode.JUMP);
+        depth--;
+        patch(otherwise);
+        compileBranch(parameters.get(2), tail);
+        patch(end);
+    }
+
+    private void compileSetStatement(List<SExpr> parameters) {
+        if (parameters.size() != 2) {
+            emitThrow("set function must have exactly two parameters");
+            return;
+        }
+        if (!(parameters.get(0) instanceof Symbol)) {
+            emitThrow("First parameter of set function must be a symbol");
+            return;
+        }
+        compileExpression(parameters.get(1));
+        emit(Opcode.STORE_GLOBAL, 0);
+        write(((Symbol) parameters.get(0)).getId());
+    }
+
+    private void compileDefine(List<SExpr> parameters) {
+        if (parameters.size() < 3) {
+            emitThrow("define function must have at least three parameters");
+            return;
+        }
+        String name = parameters.get(0).toString();
+        int arity = Closure.parameterNames(parameters.get(1)).size();
+        Prototype prototype = compileFunction(name, arity, parameters.subList(2, parameters.size()));
+        emit(Opcode.DEFINE, 1);
+        write(constant(prototype));
+    }
+}
@@ -0,0 +1,15 @@
+package lispinterpreter.vm;
+
+// A unit of compiled code: the instructions, the constants they refer to, and
+// the deepest the operand stack can get while running them.
+final class Chunk {
+    final int[] code;
+    final Object[] constants;
+    final int maxStack;
+
+    Chunk(int[] code, Object[] constants, int maxStack) {
+        this.code = code;
+        this.constants = constants;
+        this.maxStack = maxStack;
+    }
+}
@@ -0,0 +1,52 @@
+package lispinterpreter.vm;
+
+// Instruction set of the virtual machine. Operands follow their opcode in the
+// code array; the comment after each opcode lists them and the stack effect.
+final class Opcode {
+    static final int CONSTANT = 0;       // index            -> value
+    static final int LOAD_LOCAL = 1;     // slot             -> value
+    static final int LOAD_GLOBAL = 2;    // symbol id        -> value
+    static final int STORE_GLOBAL = 3;   // symbol id        value -> null
+    static final int DEFINE = 4;         // prototype index  -> null
+    static final int POP = 5;            //                  value ->
+    static final int JUMP = 6;           // target
+    static final int JUMP_IF_FALSE = 7;  // target           condition ->
+    static final int ADD = 8;            // count            numbers... -> number
+    static final int SUBTRACT = 9;       // count            numbers... -> number
+    static final int MULTIPLY = 10;      // count            numbers... -> number
+    static final int DIVIDE = 11;        // count            numbers... -> number
+    static final int MOD = 12;           // count            numbers... -> number
+    static final int LESS = 13;          // count            numbers... -> boolean
+    static final int GREATER = 14;       // count            numbers... -> boolean
+    static final int LESS_EQUAL = 15;    // count            numbers... -> boolean
+    static final int GREATER_EQUAL = 16; // count            numbers... -> boolean
+    static final int EQUAL = 17;         //                  left right -> boolean
+    static final int TRUTH_TEST = 18;    //                  value -> boolean
+    static final int NOT = 19;           //                  boolean -> boolean
+    static final int LIST = 20;          // count            values... -> list
+    static final int CAR = 21;           //                  list -> value
+    static final int CDR = 22;           //                  list -> value
+    static final int EVAL = 23;          // scope index      value -> value
+    static final int PRINT = 24;         // end target       value ->
+    static final int FUNCTION = 25;      // symbol id, argc  -> prototype
+    static final int CALL = 26;          // argc             prototype arguments... -> value
+    static final int THROW = 27;         // message index
+    static final int RETURN = 28;        //                  value ->
+    static final int TAIL_CALL = 29;     // argc             prototype arguments... -> (replaces the frame)
+    static final int CONS = 30;          //                  car cdr -> pair
+    static final int VECTOR = 31;        // count            values... -> vector
+    static final int HASH_MAP = 32;      // count            keys and values... -> map
+    static final int VECTOR_REF = 33;    //                  vector index -> value
+    static final int ASSOC = 34;         //                  collection key value -> collection
+    static final int GET = 35;           //                  collection key -> value
+    static final int PMAP = 36;          //                  function collection -> collection
+    static final int PFILTER = 37;       //                  function collection -> collection
+    static final int PREDUCE = 38;       //                  function initial collection -> value
+    static final int FUTURE = 39;        // chunk index      -> future
+    static final int DEREF = 40;         //                  future -> value
+    static final int PROMISE = 41;       //                  -> promise
+    static final int DELIVER = 42;       //                  promise value -> nil
+
+    private Opcode() {
+    }
+}
@@ -0,0 +1,42 @@
+package lispinterpreter.vm;
+
+import lispinterpreter.Purity;
+import lispinterpreter.Symbol;
+
+public final class Prototype {
+    private final String name;
+    private final int id;
+    private final int arity;
+    final Chunk chunk;
+    private final Purity.Summary purity;
+
+    Prototype(String name, int arity, Chunk chunk, Purity.Summary purity) {
+        this.name = name;
+        this.id = Symbol.intern(name).getId();
+        this.arity = arity;
+        this.chunk = chunk;
+        this.purity = purity;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getArity() {
+        return arity;
+    }
+
+    // What the body does, for checking whether the function is pure
+    public Purity.Summary getPurity() {
+        return purity;
+    }
+
+    @Override
+    public String toString() {
+        return "<function " + name + ">";
+    }
+}
@@ -0,0 +1,379 @@
+package lispinterpreter.vm;
+
+import java.util.Arrays;
+import java.util.List;
+
+import lispinterpreter.Associative;
+import lispinterpreter.Builtin;
+import lispinterpreter.Cons;
+import lispinterpreter.Environment;
+import lispinterpreter.Numbers;
+import lispinterpreter.Output;
+import lispinterpreter.Parallel;
+import lispinterpreter.PersistentHashMap;
+import lispinterpreter.PersistentVector;
+import lispinterpreter.Printer;
+import lispinterpreter.Promise;
+import lispinterpreter.Purity;
+import lispinterpreter.Quotation;
+import lispinterpreter.Resolver;
+import lispinterpreter.SExpr;
+import lispinterpreter.Symbol;
+
+public class VirtualMachine {
+    private static final Object[] NO_LOCALS = new Object[0];
+    private static final Resolver RESOLVER = new Resolver();
+
+    List<SExpr> statements;
+    Environment globals = new Environment();
+    Output output;
+
+    public VirtualMachine(List<SExpr> statements) {
+        this(statements, Output.standard(Output.Flush.LINE));
+    }
+
+    public VirtualMachine(List<SExpr> statements, Output output) {
+        this.statements = statements;
+        this.output = output;
+    }
+
+    public void interpret() {
+        int lineNumber = 1;
+        try {
+            for (SExpr statement : statements) {
+                execute(statement);
+                lineNumber++;
+            }
+        } catch (Exception e) {
+            output.println("Error on line " + lineNumber + ": " + e.getMessage());
+        }
+    }
+
+    // Runs a single top-level statement
+    public void execute(SExpr statement) {
+        execute(BytecodeCompiler.compile(statement), NO_LOCALS);
+    }
+
+    private Object evaluate(SExpr expr, Object[] locals) {
+        return execute(BytecodeCompiler.compile(expr), locals);
+    }
+
+    private Object execute(Chunk chunk, Object[] locals) {
+        int[] code = chunk.code;
+        Object[] constants = chunk.constants;
+        Object[] stack = new Object[chunk.maxStack];
+        int sp = 0;
+        int pc = 0;
+        while (true) {
+            int opcode = code[pc++];
+            switch (opcode) {
+                case Opcode.CONSTANT:
+                    stack[sp++] = constants[code[pc++]];
+                    break;
+                case Opcode.LOAD_LOCAL: {
+                    Object value = locals[code[pc++]];
+                    if (value instanceof SExpr) {
+                        value = evaluate((SExpr) value, locals);
+                    }
+                    stack[sp++] = value;
+                    break;
+                }
+                case Opcode.LOAD_GLOBAL: {
+                    int id = code[pc++];
+                    Object value = globals.get(id);
+                    if (value == Environment.UNBOUND) {
+                        value = Symbol.nameOf(id);
+                    } else if (value instanceof SExpr) {
+                        value = evaluate((SExpr) value, locals);
+                    }
+                    stack[sp++] = value;
+                    break;
+                }
+                case Opcode.STORE_GLOBAL:
+                    globals.set(code[pc++], stack[sp - 1]);
+                    stack[sp - 1] = null;
+                    break;
+                case Opcode.DEFINE: {
+                    Prototype prototype = (Prototype) constants[code[pc++]];
+                    globals.set(prototype.getId(), prototype);
+                    stack[sp++] = null;
+                    break;
+                }
+                case Opcode.POP:
+                    sp--;
+                    break;
+                case Opcode.JUMP:
+                    pc = code[pc];
+                    break;
+                case Opcode.JUMP_IF_FALSE: {
+                    int target = code[pc++];
+                    if (!(Boolean) stack[--sp]) {
+                        pc = target;
+                    }
+                    break;
+                }
+                case Opcode.ADD:
+                case Opcode.SUBTRACT:
+                case Opcode.MULTIPLY:
+                case Opcode.DIVIDE:
+                case Opcode.MOD:
+                case Opcode.LESS:
+                case Opcode.GREATER:
+                case Opcode.LESS_EQUAL:
+                case Opcode.GREATER_EQUAL: {
+                    int count = code[pc++];
+                    sp -= count;
+                    if (count == 2) {
+                        stack[sp] = binaryOperation(opcode, stack[sp], stack[sp + 1]);
+                    } else {
+                        stack[sp] = arithmetic(opcode, Arrays.copyOfRange(stack, sp, sp + count));
+                    }
+                    sp++;
+                    break;
+                }
+                case Opcode.EQUAL: {
+                    Object right = stack[--sp];
+                    stack[sp - 1] = Numbers.isEqual(stack[sp - 1], right);
+                    break;
+                }
+                case Opcode.TRUTH_TEST: {
+                    Object value = stack[sp - 1];
+                    stack[sp - 1] = value != null && value.equals(true);
+                    break;
+                }
+                case Opcode.NOT:
+                    stack[sp - 1] = !(Boolean) stack[sp - 1];
+                    break;
+                case Opcode.LIST: {
+                    int count = code[pc++];
+                    sp -= count;
+                    stack[sp] = Cons.list(Arrays.copyOfRange(stack, sp, sp + count));
+                    sp++;
+                    break;
+                }
+                case Opcode.CONS: {
+                    Object cdr = stack[--sp];
+                    stack[sp - 1] = new Cons(stack[sp - 1], cdr);
+                    break;
+                }
+                case Opcode.VECTOR: {
+                    int count = code[pc++];
+                    sp -= count;
+                    stack[sp] = PersistentVector.of(Arrays.copyOfRange(stack, sp, sp + count));
+                    sp++;
+                    break;
+                }
+                case Opcode.HASH_MAP: {
+                    int count = code[pc++];
+                    sp -= count;
+                    stack[sp] = PersistentHashMap.of(Arrays.copyOfRange(stack, sp, sp + count));
+                    sp++;
+                    break;
+                }
+                case Opcode.VECTOR_REF: {
+                    Object index = stack[--sp];
+                    stack[sp - 1] = PersistentVector.ref(stack[sp - 1], index);
+                    break;
+                }
+                case Opcode.ASSOC: {
+                    sp -= 2;
+                    stack[sp - 1] = Associative.assoc(stack[sp - 1], stack[sp], stack[sp + 1]);
+                    break;
+                }
+                case Opcode.GET: {
+                    Object key = stack[--sp];
+                    stack[sp - 1] = Associative.get(stack[sp - 1], key);
+                    break;
+                }
+                case Opcode.PMAP:
+                case Opcode.PFILTER: {
+                    sp -= 1;
+                    Builtin builtin = opcode == Opcode.PMAP ? Builtin.PMAP : Builtin.PFILTER;
+                    stack[sp - 1] = parallel(builtin, Arrays.copyOfRange(stack, sp - 1, sp + 1));
+                    break;
+                }
+                case Opcode.PREDUCE:
+                    sp -= 2;
+                    stack[sp - 1] = parallel(Builtin.PREDUCE, Arrays.copyOfRange(stack, sp - 1, sp + 2));
+                    break;
+                case Opcode.FUTURE: {
+                    // A copy of the locals, since a tail call may overwrite them
+                    Chunk future = (Chunk) constants[code[pc++]];
+                    Object[] copy = locals.clone();
+                    stack[sp++] = Promise.future(() -> execute(future, copy));
+                    break;
+                }
+                case Opcode.DEREF:
+                    stack[sp - 1] = Promise.deref(stack[sp - 1]);
+                    break;
+                case Opcode.PROMISE:
+                    stack[sp++] = Promise.promise();
+                    break;
+                case Opcode.DELIVER: {
+                    Object value = stack[--sp];
+                    stack[sp - 1] = Promise.deliver(stack[sp - 1], value);
+                    break;
+                }
+                case Opcode.CAR:
+                    stack[sp - 1] = Cons.car(stack[sp - 1]);
+                    break;
+                case Opcode.CDR:
+                    stack[sp - 1] = Cons.cdr(stack[sp - 1]);
+                    break;
+                case Opcode.EVAL: {
+                    @SuppressWarnings("unchecked")
+                    List<String> scope = (List<String>) constants[code[pc++]];
+                    Object value = stack[sp - 1];
+                    if (value instanceof Cons) {
+                        value = Quotation.code((Cons) value);
+                    }
+                    while (value instanceof SExpr) {
+                        value = evaluate(RESOLVER.resolveCopy((SExpr) value, scope), locals);
+                    }
+                    stack[sp - 1] = value;
+                    break;
+                }
+                case Opcode.PRINT: {
+                    int end = code[pc++];
+                    Object value = stack[--sp];
+                    if (value == null) {
+                        pc = end;
+                        break;
+                    }
+                    output.println(Printer.format(value));
+                    if (value instanceof Cons && !((Cons) value).isList()) {
+                        pc = end;
+                    }
+                    break;
+                }
+                case Opcode.FUNCTION:
+                    stack[sp++] = lookup(code[pc++], code[pc++]);
+                    break;
+                case Opcode.CALL: {
+                    int count = code[pc++];
+                    sp -= count;
+                    Object[] arguments = Arrays.copyOfRange(stack, sp, sp + count);
+                    stack[sp - 1] = execute(((Prototype) stack[sp - 1]).chunk, arguments);
+                    break;
+                }
+                case Opcode.TAIL_CALL: {
+                    // The arguments are already on the stack, so the current
+                    // locals can be overwritten when the callee has as many
+                    int count = code[pc++];
+                    sp -= count;
+                    Prototype prototype = (Prototype) stack[sp - 1];
+                    if (locals.length == count) {
+                        System.arraycopy(stack, sp, locals, 0, count);
+                    } else {
+                        locals = Arrays.copyOfRange(stack, sp, sp + count);
+                    }
+                    chunk = prototype.chunk;
+                    code = chunk.code;
+                    constants = chunk.constants;
+                    if (stack.length < chunk.maxStack) {
+                        stack = new Object[chunk.maxStack];
+                    }
+                    sp = 0;
+                    pc = 0;
+                    break;
+                }
+                case Opcode.THROW:
+                    throw new RuntimeException((String) constants[code[pc++]]);
+                case Opcode.RETURN:
+                    return stack[sp - 1];
+                default:
+                    throw new IllegalStateException("Unknown opcode " + opcode);
+            }
+        }
+    }
+
+    // execute() keeps all of its state in locals, so any thread can call the function
+    private Object parallel(Builtin builtin, Object[] arguments) {
+        if (!(arguments[0] instanceof Prototype)) {
+            throw new RuntimeException(builtin.getName() + " function requires a function");
+        }
+        Prototype prototype = (Prototype) arguments[0];
+        return Parallel.apply(builtin, new Parallel.Callee(prototype.getName(), prototype.getArity()) {
+            @Override
+            protected boolean isPure() {
+                return Purity.isPure(prototype.getPurity(), id -> {
+                    Object definition = globals.get(id);
+                    return definition instanceof Prototype ? ((Prototype) definition).getPurity() : null;
+                }, globals::get);
+            }
+
+            @Override
+            protected Parallel.Invoker newInvoker() {
+                return locals -> execute(prototype.chunk, locals);
+            }
+        }, arguments);
+    }
+
+    private Prototype lookup(int id, int argumentCount) {
+        Object definition = globals.get(id);
+        if (!(definition instanceof Prototype)) {
+            throw new RuntimeException("called undefined function '" + Symbol.nameOf(id) + "'");
+        }
+        Prototype prototype = (Prototype) definition;
+        if (prototype.getArity() != argumentCount) {
+            throw new RuntimeException("function '" + Symbol.nameOf(id) + "' expects " + prototype.getArity()
+                    + " parameters, but " + argumentCount + " were given");
+        }
+        return prototype;
+    }
+
+    private static Object arithmetic(int opcode, Object[] values) {
+        Numbers.checkNumbers(values);
+        switch (opcode) {
+            case Opcode.ADD:
+            case Opcode.SUBTRACT:
+            case Opcode.MULTIPLY:
+            case Opcode.DIVIDE:
+                Object result = values[0];
+                for (int i = 1; i < values.length; i++) {
+                    result = binaryOperation(opcode, result, values[i]);
+                }
+                return result;
+            default:
+                throw new RuntimeException(operator(opcode) + " function must have exactly two parameters");
+        }
+    }
+
+    private static Object binaryOperation(int opcode, Object left, Object right) {
+        switch (opcode) {
+            case Opcode.ADD:
+                return Numbers.add(left, right);
+            case Opcode.SUBTRACT:
+                return Numbers.subtract(left, right);
+            case Opcode.MULTIPLY:
+                return Numbers.multiply(left, right);
+            case Opcode.DIVIDE:
+                return Numbers.divide(left, right);
+            case Opcode.MOD:
+                return Numbers.mod(left, right);
+            case Opcode.LESS:
+                return Numbers.lessThan(left, right);
+            case Opcode.GREATER:
+                return Numbers.greaterThan(left, right);
+            case Opcode.LESS_EQUAL:
+                return Numbers.lessEqual(left, right);
+            default:
+                return Numbers.greaterEqual(left, right);
+        }
+    }
+
+    private static String operator(int opcode) {
+        switch (opcode) {
+            case Opcode.MOD:
+                return "%";
+            case Opcode.LESS:
+                return "<";
+            case Opcode.GREATER:
+                return ">";
+            case Opcode.LESS_EQUAL:
+                return "<=";
+            default:
+                return ">=";
+        }
+    }
+}
@@ -0,0 +1,15 @@
+(print (+ 1 2.5))
+(print (* 2 1.5))
+(print (- 10 2 3))
+(print (/ 12 2 3))
+(print (/ 12 2 4))
+(print (* 9223372036854775807 2))
+(print (= 2 2.0))
+(print (< 1 1.5))
+(print (- (* 9223372036854775807 2) 9223372036854775807))
+(print (+ 1/3 1/6))
+(print (* 2/3 3/2))
+(print (< 1/3 1/2))
+(print (% 7/2 1))
+
+(print (+ 0.0 1152921504606847105/1152921504606846976))
\ No newline at end of file
@@ -17,4 +17,6 @@
 (print (> (+ 1 2) (- 5 3)))
 (print (< (* 2 2) (/ 8 2)))
 (print (>= (+ (* 2 2) 1) 5))
-(print (<= (% 10 3) (* 2 1)))
\ No newline at end of file
+(print (<= (% 10 3) (* 2 1)))
+(print (eq? 2 2))
+(print (eq "a" "b"))
\ No newline at end of file
@@ -0,0 +1,3 @@
+(define five () 5)
+(print (five))
+(print (five 1))
@@ -0,0 +1,9 @@
+(define count-down (n) (if (= n 0) 0 (count-down (- n 1))))
+(print (count-down 100000))
+
+(define sum-to (n acc) (cond (= n 0) acc else (sum-to (- n 1) (+ acc n))))
+(print (sum-to 100000 0))
+
+(define even (n) (if (= n 0) truth (odd (- n 1))))
+(define odd (n) (if (= n 0) nil (even (- n 1))))
+(print (even 100001))
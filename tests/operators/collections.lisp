@@ -0,0 +1,20 @@
+(set v (vector 1 2 3))
+(print v)
+(print (vector-ref v 1))
+(print (assoc v 1 "two"))
+(print v)
+(print (assoc v 3 4))
+(print (get v 5))
+(set m (hash-map "a" 1 "b" 2))
+(print (get m "a"))
+(print (get (assoc m "c" 3) "c"))
+(print (get m "c"))
+(print (get (hash-map "Aa" 1 "BB" 2) "BB") (get (hash-map "Aa" 1 "BB" 2) "Aa"))
+(print (= (assoc m "a" 1) m))
+(define fill (i n v) (if (> i n) v (fill (+ i 1) n (assoc v i (* i i)))))
+(define index (n m) (if (= n 0) m (index (- n 1) (assoc m n (* n n)))))
+(set big (fill 0 100000 (vector)))
+(print (vector-ref big 1000) (vector-ref big 100000))
+(set table (index 100000 (hash-map)))
+(print (get table 99999) (get table 100001))
+(print (vector-ref v 3))
@@ -12,4 +12,22 @@
 
 (print (eval (quote (+ 2 3))))
 
-(print (eval (' nil)))   
\ No newline at end of file
+(print (eval (' nil)))   
+
+(define add-one (x) (eval (quote (+ x 1))))
+(print (add-one 41))
+
+(define scale (x y) (eval (' (* x (+ y 1)))))
+(print (scale 6 6))
+
+
+(define quoted-q (q) (quote q))
+(print (quoted-q 3))
+(print (eval (quoted-q 3)))
+
+(set x 100)
+(define code (x) (quote (+ x 1)))
+(define run (y) (eval (code y)))
+(print (run 5))
+(define run-with-x (x) (eval (code 7)))
+(print (run-with-x 5))
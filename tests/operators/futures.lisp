@@ -0,0 +1,18 @@
+(define fib (n) (if (< n 2) n (+ (fib (- n 1)) (fib (- n 2)))))
+(define spawn (n) (future (* n n)))
+(define later (n) (deref (future (+ n 1))))
+(define wait (n f) (if (= n 0) (deref f) (wait (- n 1) f)))
+(set a (future (fib 15)))
+(set b (future (fib 16)))
+(print (+ (deref a) (await b)))
+(print (deref (spawn 12)))
+(print (later 41))
+(print (wait 1000 (spawn 3)))
+(set p (promise))
+(set waiter (future (+ (deref p) 1)))
+(deliver p 9)
+(print (deref waiter))
+(deliver p 20)
+(print (deref p))
+(print p (spawn 1))
+(print (deref (future (car 5))))
\ No newline at end of file
@@ -0,0 +1,12 @@
+(define len (l) (if (= l ()) 0 (+ 1 (len (cdr l)))))
+(define sum (l) (cond (= l ()) 0 else (+ (car l) (sum (cdr l)))))
+(define build (n acc) (if (= n 0) acc (build (- n 1) (cons n acc))))
+(define count (l n) (if (= l ()) n (count (cdr l) (+ n 1))))
+(set xs (cons 1 (cons 2 (cons 3 nil))))
+(print xs)
+(print (len xs) (sum xs))
+(print (cons 0 xs))
+(print xs)
+(print (cdr (cdr (cdr xs))))
+(print (= (cdr (cons 0 xs)) xs))
+(print (count (build 100000 ()) 0))
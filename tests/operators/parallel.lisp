@@ -0,0 +1,22 @@
+(define square (x) (* x x))
+(define small (x) (< x 4))
+(define add (a b) (+ a b))
+(define build (n acc) (if (= n 0) acc (build (- n 1) (cons n acc))))
+(define noisy (x) (print x) x)
+(set xs (cons 1 (cons 2 (cons 3 (cons 4 nil)))))
+(print (pmap square xs))
+(print (pfilter small xs))
+(print (preduce add 0 xs))
+(print (pmap square (vector 1 2 3)))
+(print (pfilter small (vector 5 1 6 2)))
+(print (pmap square ()))
+(print (preduce add 10 ()))
+(set big (build 5000 ()))
+(print (preduce add 0 (pmap square big)))
+(print (preduce add 0 (pfilter small big)))
+(print (pmap noisy (cons 7 (cons 8 nil))))
+(define twice (x) (eval (quote (* 2 x))))
+(define run (code) (eval code))
+(print (pmap twice xs))
+(print (pmap run (cons (quote (print 1)) (cons (quote (print 2)) nil))))
+(print (pmap add xs))
\ No newline at end of file
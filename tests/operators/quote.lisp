@@ -17,4 +17,13 @@
 
 (print (quote nil))
 
-(print (quote truth))
\ No newline at end of file
+(print (quote truth))
+
+(print (car (quote (1 2 3))))
+(print (cdr (quote (1 2 3))))
+(print (cons 1 (quote (2 3))))
+(print (car (quote ((a b) (c d)))))
+
+(set letters (quote (x y z)))
+(print (car (cdr letters)))
+(print (eval (cons (quote +) (quote (1 2)))))
\ No newline at end of file